@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * Accepts the same command line options as {@link org.openjdk.jmh.Main}, e.g. a regular expression
+ * selecting the benchmarks to run. Other than the default JMH runner, results are written as JSON
+ * to {@value #DEFAULT_RESULT_FILE} unless a result format ({@code -rf}) or result file
+ * ({@code -rff}) is given, so that runs can be compared to track regressions.
+ *
+ * Example: {@code java -jar gradoop-benchmarks/target/benchmarks.jar PropertyValue -rff pv.json}
+ */
+public class BenchmarkRunner {
+
+  /**
+   * Default file the results are written to.
+   */
+  public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Runs the benchmarks selected by the given command line options.
+   *
+   * @param args JMH command line options
+   * @throws CommandLineOptionException if the command line options are invalid
+   * @throws RunnerException if running the benchmarks fails
+   * @throws IOException if printing the help fails
+   */
+  public static void main(String[] args)
+    throws CommandLineOptionException, RunnerException, IOException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    Runner runner = new Runner(options.build());
+    if (commandLineOptions.shouldList()) {
+      runner.list();
+    } else {
+      runner.run();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Creates the values used by the benchmarks. Values are derived from a seed, thus each benchmark
+ * run uses the same data.
+ */
+final class BenchmarkValues {
+
+  /**
+   * Number of elements of generated lists, maps and sets.
+   */
+  private static final int CONTAINER_SIZE = 10;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private BenchmarkValues() {
+  }
+
+  /**
+   * Creates a property value of the given type.
+   *
+   * @param type value type
+   * @param seed seed of the value
+   * @return property value
+   */
+  static PropertyValue createPropertyValue(Type type, long seed) {
+    Random random = new Random(seed);
+    switch (type) {
+    case NULL:
+      return PropertyValue.NULL_VALUE.copy();
+    case BOOLEAN:
+      return PropertyValue.create(random.nextBoolean());
+    case SHORT:
+      return PropertyValue.create((short) random.nextInt());
+    case INTEGER:
+      return PropertyValue.create(random.nextInt());
+    case LONG:
+      return PropertyValue.create(random.nextLong());
+    case FLOAT:
+      return PropertyValue.create(random.nextFloat());
+    case DOUBLE:
+      return PropertyValue.create(random.nextDouble());
+    case STRING:
+      return PropertyValue.create(createString(random, 32));
+    case BIG_DECIMAL:
+      return PropertyValue.create(BigDecimal.valueOf(random.nextLong(), 4));
+    case GRADOOP_ID:
+      return PropertyValue.create(createGradoopId(random));
+    case MAP:
+      Map<PropertyValue, PropertyValue> map = new HashMap<>();
+      for (int i = 0; i < CONTAINER_SIZE; i++) {
+        map.put(PropertyValue.create(createString(random, 8)), PropertyValue.create(random.nextLong()));
+      }
+      return PropertyValue.create(map);
+    case LIST:
+      List<PropertyValue> list = new ArrayList<>();
+      for (int i = 0; i < CONTAINER_SIZE; i++) {
+        list.add(PropertyValue.create(random.nextLong()));
+      }
+      return PropertyValue.create(list);
+    case DATE:
+      return PropertyValue.create(LocalDate.ofEpochDay(random.nextInt(50000)));
+    case TIME:
+      return PropertyValue.create(LocalTime.ofSecondOfDay(random.nextInt(86400)));
+    case DATE_TIME:
+      return PropertyValue.create(LocalDateTime.of(LocalDate.ofEpochDay(random.nextInt(50000)),
+        LocalTime.ofSecondOfDay(random.nextInt(86400))));
+    case SET:
+      Set<PropertyValue> set = new HashSet<>();
+      for (int i = 0; i < CONTAINER_SIZE; i++) {
+        set.add(PropertyValue.create(random.nextLong()));
+      }
+      return PropertyValue.create(set);
+    default:
+      throw new IllegalArgumentException("Unsupported type " + type);
+    }
+  }
+
+  /**
+   * Creates the given number of distinct ids.
+   *
+   * @param count number of ids
+   * @param seed seed of the ids
+   * @return ids
+   */
+  static GradoopId[] createGradoopIds(int count, long seed) {
+    Random random = new Random(seed);
+    Set<GradoopId> ids = new HashSet<>();
+    while (ids.size() < count) {
+      ids.add(createGradoopId(random));
+    }
+    return ids.toArray(new GradoopId[0]);
+  }
+
+  /**
+   * Creates a random id.
+   *
+   * @param random random number generator
+   * @return id
+   */
+  static GradoopId createGradoopId(Random random) {
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    random.nextBytes(bytes);
+    return GradoopId.fromByteArray(bytes);
+  }
+
+  /**
+   * Creates a random string of lower case letters.
+   *
+   * @param random random number generator
+   * @param length string length
+   * @return string
+   */
+  static String createString(Random random, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Serializes the given value.
+   *
+   * @param value value
+   * @return serialized value
+   */
+  static byte[] serialize(Value value) {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    try {
+      value.write(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.getCopyOfBuffer();
+  }
+}
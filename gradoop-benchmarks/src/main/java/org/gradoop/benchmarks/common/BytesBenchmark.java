@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions of {@link Bytes} used by the byte representation of property values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BytesBenchmark {
+
+  /**
+   * Size of the compared byte arrays.
+   */
+  private static final int ARRAY_SIZE = 32;
+
+  /**
+   * Buffer values are written to and read from.
+   */
+  private byte[] buffer;
+
+  /**
+   * A {@code long} value.
+   */
+  private long longValue;
+
+  /**
+   * An {@code int} value.
+   */
+  private int intValue;
+
+  /**
+   * A {@code double} value.
+   */
+  private double doubleValue;
+
+  /**
+   * A string value.
+   */
+  private String stringValue;
+
+  /**
+   * Byte representation of {@link #stringValue}.
+   */
+  private byte[] stringBytes;
+
+  /**
+   * A {@code BigDecimal} value.
+   */
+  private BigDecimal bigDecimalValue;
+
+  /**
+   * Byte representation of {@link #bigDecimalValue}.
+   */
+  private byte[] bigDecimalBytes;
+
+  /**
+   * First compared array.
+   */
+  private byte[] left;
+
+  /**
+   * Second compared array, equal to {@link #left} except for the last byte.
+   */
+  private byte[] right;
+
+  /**
+   * Creates the benchmarked values.
+   */
+  @Setup
+  public void setup() {
+    Random random = new Random(42L);
+    buffer = new byte[Long.BYTES];
+    longValue = random.nextLong();
+    intValue = random.nextInt();
+    doubleValue = random.nextDouble();
+    stringValue = BenchmarkValues.createString(random, 32);
+    stringBytes = Bytes.toBytes(stringValue);
+    bigDecimalValue = BigDecimal.valueOf(random.nextLong(), 4);
+    bigDecimalBytes = Bytes.toBytes(bigDecimalValue);
+    left = new byte[ARRAY_SIZE];
+    random.nextBytes(left);
+    right = left.clone();
+    right[ARRAY_SIZE - 1]++;
+  }
+
+  /**
+   * Writes and reads a {@code long} value.
+   *
+   * @return read value
+   */
+  @Benchmark
+  public long putAndGetLong() {
+    Bytes.putLong(buffer, 0, longValue);
+    return Bytes.toLong(buffer, 0);
+  }
+
+  /**
+   * Writes and reads an {@code int} value.
+   *
+   * @return read value
+   */
+  @Benchmark
+  public int putAndGetInt() {
+    Bytes.putInt(buffer, 0, intValue);
+    return Bytes.toInt(buffer, 0);
+  }
+
+  /**
+   * Writes and reads a {@code double} value.
+   *
+   * @return read value
+   */
+  @Benchmark
+  public double putAndGetDouble() {
+    Bytes.putDouble(buffer, 0, doubleValue);
+    return Bytes.toDouble(buffer, 0);
+  }
+
+  /**
+   * Converts a string to bytes.
+   *
+   * @return byte representation
+   */
+  @Benchmark
+  public byte[] stringToBytes() {
+    return Bytes.toBytes(stringValue);
+  }
+
+  /**
+   * Converts bytes to a string.
+   *
+   * @return string
+   */
+  @Benchmark
+  public String bytesToString() {
+    return Bytes.toString(stringBytes);
+  }
+
+  /**
+   * Converts a {@code BigDecimal} to bytes.
+   *
+   * @return byte representation
+   */
+  @Benchmark
+  public byte[] bigDecimalToBytes() {
+    return Bytes.toBytes(bigDecimalValue);
+  }
+
+  /**
+   * Converts bytes to a {@code BigDecimal}.
+   *
+   * @return {@code BigDecimal}
+   */
+  @Benchmark
+  public BigDecimal bytesToBigDecimal() {
+    return Bytes.toBigDecimal(bigDecimalBytes);
+  }
+
+  /**
+   * Compares two byte arrays differing in the last byte.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return Bytes.compareTo(left, right);
+  }
+
+  /**
+   * Calculates the hash code of a byte array.
+   *
+   * @return hash code
+   */
+  @Benchmark
+  public int hash() {
+    return Bytes.hashCode(left, 0, ARRAY_SIZE);
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.typeutils.GradoopIdComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks hashing, comparison, normalized keys and serialization of {@link GradoopId}. Each
+ * invocation processes {@link #COUNT} distinct ids, results are reported per id.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdBenchmark {
+
+  /**
+   * Number of ids processed per invocation.
+   */
+  private static final int COUNT = 1024;
+
+  /**
+   * Benchmarked ids.
+   */
+  private GradoopId[] ids;
+
+  /**
+   * Copies of {@link #ids}.
+   */
+  private GradoopId[] copies;
+
+  /**
+   * Serialized ids.
+   */
+  private byte[] serialized;
+
+  /**
+   * Target of normalized keys.
+   */
+  private MemorySegment segment;
+
+  /**
+   * Output the ids are written to.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * First input ids are read from.
+   */
+  private DataInputDeserializer firstInput;
+
+  /**
+   * Second input ids are read from.
+   */
+  private DataInputDeserializer secondInput;
+
+  /**
+   * Id that is read into.
+   */
+  private GradoopId reuse;
+
+  /**
+   * Comparator used by Flink to compare ids.
+   */
+  private GradoopIdComparator comparator;
+
+  /**
+   * Creates the benchmarked ids.
+   *
+   * @throws IOException if serialization fails
+   */
+  @Setup
+  public void setup() throws IOException {
+    ids = BenchmarkValues.createGradoopIds(COUNT, 42L);
+    copies = new GradoopId[COUNT];
+    output = new DataOutputSerializer(COUNT * GradoopId.ID_SIZE);
+    for (int i = 0; i < COUNT; i++) {
+      copies[i] = ids[i].copy();
+      ids[i].write(output);
+    }
+    serialized = output.getCopyOfBuffer();
+    segment = MemorySegmentFactory.allocateUnpooledSegment(COUNT * GradoopId.ID_SIZE);
+    firstInput = new DataInputDeserializer(serialized);
+    secondInput = new DataInputDeserializer(serialized);
+    reuse = new GradoopId();
+    comparator = new GradoopIdComparator(true);
+  }
+
+  /**
+   * Calculates hash codes.
+   *
+   * @return sum of hash codes
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public int hash() {
+    int result = 0;
+    for (GradoopId id : ids) {
+      result += id.hashCode();
+    }
+    return result;
+  }
+
+  /**
+   * Compares ids to equal ids.
+   *
+   * @return number of equal ids
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public int isEqual() {
+    int result = 0;
+    for (int i = 0; i < COUNT; i++) {
+      if (ids[i].equals(copies[i])) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Compares neighbouring ids.
+   *
+   * @return sum of comparison results
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public int compareTo() {
+    int result = 0;
+    for (int i = 1; i < COUNT; i++) {
+      result += ids[i - 1].compareTo(ids[i]);
+    }
+    return result + ids[COUNT - 1].compareTo(ids[0]);
+  }
+
+  /**
+   * Compares neighbouring serialized ids.
+   *
+   * @return sum of comparison results
+   * @throws IOException if reading fails
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public int compareSerialized() throws IOException {
+    firstInput.setBuffer(serialized, 0, serialized.length - GradoopId.ID_SIZE);
+    secondInput.setBuffer(serialized, GradoopId.ID_SIZE, serialized.length - GradoopId.ID_SIZE);
+    int result = 0;
+    for (int i = 1; i < COUNT; i++) {
+      result += comparator.compareSerialized(firstInput, secondInput);
+    }
+    return result;
+  }
+
+  /**
+   * Writes normalized keys to a memory segment.
+   *
+   * @return memory segment
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public MemorySegment copyNormalizedKey() {
+    for (int i = 0; i < COUNT; i++) {
+      ids[i].copyNormalizedKey(segment, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    }
+    return segment;
+  }
+
+  /**
+   * Serializes ids.
+   *
+   * @return number of written bytes
+   * @throws IOException if writing fails
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public int write() throws IOException {
+    output.clear();
+    for (GradoopId id : ids) {
+      id.write(output);
+    }
+    return output.length();
+  }
+
+  /**
+   * Deserializes ids.
+   *
+   * @return last deserialized id
+   * @throws IOException if reading fails
+   */
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public GradoopId read() throws IOException {
+    firstInput.setBuffer(serialized);
+    for (int i = 0; i < COUNT; i++) {
+      reuse.read(firstInput);
+    }
+    return reuse;
+  }
+}
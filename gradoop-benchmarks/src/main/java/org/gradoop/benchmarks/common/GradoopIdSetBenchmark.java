@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the operations of {@link GradoopIdSet} used for graph membership of elements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdSetBenchmark {
+
+  /**
+   * Number of ids in the benchmarked set.
+   */
+  @Param({"1", "16", "256"})
+  protected int size;
+
+  /**
+   * The benchmarked set.
+   */
+  private GradoopIdSet set;
+
+  /**
+   * Set containing every other id of {@link #set}.
+   */
+  private GradoopIdSet subset;
+
+  /**
+   * Set containing ids that are not contained in {@link #set}.
+   */
+  private GradoopIdSet disjointSet;
+
+  /**
+   * An id contained in the set.
+   */
+  private GradoopId containedId;
+
+  /**
+   * An id not contained in the set.
+   */
+  private GradoopId missingId;
+
+  /**
+   * Serialized set.
+   */
+  private byte[] serialized;
+
+  /**
+   * Output the set is written to.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Input the set is read from.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Set that is read into.
+   */
+  private GradoopIdSet reuse;
+
+  /**
+   * Creates the benchmarked sets.
+   */
+  @Setup
+  public void setup() {
+    GradoopId[] ids = BenchmarkValues.createGradoopIds(2 * size + 1, 42L);
+    set = GradoopIdSet.fromExisting(Arrays.copyOfRange(ids, 0, size));
+    subset = new GradoopIdSet();
+    for (int i = 0; i < size; i += 2) {
+      subset.add(ids[i]);
+    }
+    disjointSet = GradoopIdSet.fromExisting(Arrays.copyOfRange(ids, size, 2 * size));
+    containedId = ids[size / 2];
+    missingId = ids[2 * size];
+    serialized = BenchmarkValues.serialize(set);
+    output = new DataOutputSerializer(serialized.length);
+    input = new DataInputDeserializer(serialized);
+    reuse = new GradoopIdSet();
+  }
+
+  /**
+   * Looks up a contained id.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean containsHit() {
+    return set.contains(containedId);
+  }
+
+  /**
+   * Looks up an id that is not contained.
+   *
+   * @return false
+   */
+  @Benchmark
+  public boolean containsMiss() {
+    return set.contains(missingId);
+  }
+
+  /**
+   * Checks if all ids of a subset are contained.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean containsAll() {
+    return set.containsAll(subset);
+  }
+
+  /**
+   * Checks if any id of a disjoint set is contained.
+   *
+   * @return false
+   */
+  @Benchmark
+  public boolean containsAny() {
+    return set.containsAny(disjointSet);
+  }
+
+  /**
+   * Copies the set and adds an id.
+   *
+   * @return copy containing the added id
+   */
+  @Benchmark
+  public GradoopIdSet copyAndAdd() {
+    GradoopIdSet copy = GradoopIdSet.fromExisting(set);
+    copy.add(missingId);
+    return copy;
+  }
+
+  /**
+   * Creates the union of two disjoint sets.
+   *
+   * @return union
+   */
+  @Benchmark
+  public GradoopIdSet union() {
+    GradoopIdSet union = GradoopIdSet.fromExisting(set);
+    union.addAll(disjointSet);
+    return union;
+  }
+
+  /**
+   * Iterates over all ids.
+   *
+   * @return sum of the hash codes
+   */
+  @Benchmark
+  public int iterate() {
+    int result = 0;
+    for (GradoopId id : set) {
+      result += id.hashCode();
+    }
+    return result;
+  }
+
+  /**
+   * Serializes the set.
+   *
+   * @return number of written bytes
+   * @throws IOException if writing fails
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    set.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the set.
+   *
+   * @return deserialized set
+   * @throws IOException if reading fails
+   */
+  @Benchmark
+  public GradoopIdSet read() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse;
+  }
+}
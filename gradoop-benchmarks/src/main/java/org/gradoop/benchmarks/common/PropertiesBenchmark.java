@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks access and serialization of {@link Properties} in the map based and the compact
+ * representation. Properties alternately contain {@code long}, {@code double} and string values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+
+  /**
+   * True, if the compact representation is used.
+   */
+  @Param({"false", "true"})
+  protected boolean compact;
+
+  /**
+   * Number of properties.
+   */
+  @Param({"4", "16"})
+  protected int size;
+
+  /**
+   * Compact representation setting before the benchmark.
+   */
+  private boolean previousCompact;
+
+  /**
+   * The benchmarked properties.
+   */
+  private Properties properties;
+
+  /**
+   * Key of a {@code long} property in the middle of the properties.
+   */
+  private String longKey;
+
+  /**
+   * Key of a {@code double} property in the middle of the properties.
+   */
+  private String doubleKey;
+
+  /**
+   * Value replacing the value of {@link #longKey}.
+   */
+  private PropertyValue newValue;
+
+  /**
+   * Serialized properties.
+   */
+  private byte[] serialized;
+
+  /**
+   * Output the properties are written to.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Input the properties are read from.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Properties that are read into.
+   */
+  private Properties reuse;
+
+  /**
+   * Creates the benchmarked properties.
+   */
+  @Setup
+  public void setup() {
+    previousCompact = Properties.isCompactRepresentation();
+    Properties.setCompactRepresentation(compact);
+    Random random = new Random(42L);
+    properties = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      String key = "key" + i;
+      switch (i % 3) {
+      case 0:
+        properties.set(key, random.nextLong());
+        break;
+      case 1:
+        properties.set(key, random.nextDouble());
+        break;
+      default:
+        properties.set(key, BenchmarkValues.createString(random, 16));
+      }
+    }
+    int middle = size / 2 - size / 2 % 3;
+    longKey = "key" + middle;
+    doubleKey = "key" + (middle + 1);
+    newValue = PropertyValue.create(random.nextLong());
+    serialized = BenchmarkValues.serialize(properties);
+    output = new DataOutputSerializer(serialized.length);
+    input = new DataInputDeserializer(serialized);
+    reuse = Properties.create();
+  }
+
+  /**
+   * Restores the compact representation setting.
+   */
+  @TearDown
+  public void tearDown() {
+    Properties.setCompactRepresentation(previousCompact);
+  }
+
+  /**
+   * Gets a property value.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue get() {
+    return properties.get(longKey);
+  }
+
+  /**
+   * Checks if a key is contained.
+   *
+   * @return true, if the key is contained
+   */
+  @Benchmark
+  public boolean containsKey() {
+    return properties.containsKey(doubleKey);
+  }
+
+  /**
+   * Gets a {@code long} value without creating a property value.
+   *
+   * @return {@code long} value
+   */
+  @Benchmark
+  public long getLong() {
+    return properties.getLong(longKey);
+  }
+
+  /**
+   * Gets a {@code double} value without creating a property value.
+   *
+   * @return {@code double} value
+   */
+  @Benchmark
+  public double getDouble() {
+    return properties.getDouble(doubleKey);
+  }
+
+  /**
+   * Replaces a property value.
+   *
+   * @return properties
+   */
+  @Benchmark
+  public Properties set() {
+    properties.set(longKey, newValue);
+    return properties;
+  }
+
+  /**
+   * Serializes the properties.
+   *
+   * @return number of written bytes
+   * @throws IOException if writing fails
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    properties.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the properties.
+   *
+   * @return deserialized properties
+   * @throws IOException if reading fails
+   */
+  @Benchmark
+  public Properties read() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse;
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serialization, comparison and hashing of {@link PropertyValue} for each supported
+ * type, i.e. for each {@link org.gradoop.common.model.api.strategies.PropertyValueStrategy}, with
+ * and without lazy deserialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueBenchmark {
+
+  /**
+   * Name of the {@link Type} of the benchmarked value.
+   */
+  @Param({"NULL", "BOOLEAN", "SHORT", "INTEGER", "LONG", "FLOAT", "DOUBLE", "STRING",
+    "BIG_DECIMAL", "GRADOOP_ID", "MAP", "LIST", "DATE", "TIME", "DATE_TIME", "SET"})
+  protected String type;
+
+  /**
+   * True, if lazy deserialization is enabled.
+   */
+  @Param({"false", "true"})
+  protected boolean lazy;
+
+  /**
+   * Lazy deserialization setting before the benchmark.
+   */
+  private boolean previousLazy;
+
+  /**
+   * The benchmarked value.
+   */
+  private PropertyValue value;
+
+  /**
+   * A deserialized value equal to {@link #value}.
+   */
+  private PropertyValue equalValue;
+
+  /**
+   * Serialized form of {@link #value}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Output the value is written to.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Input the value is read from.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Value that is read into.
+   */
+  private PropertyValue reuse;
+
+  /**
+   * Creates the benchmarked values.
+   *
+   * @throws IOException if deserialization fails
+   */
+  @Setup
+  public void setup() throws IOException {
+    previousLazy = PropertyValue.isLazyDeserialization();
+    PropertyValue.setLazyDeserialization(lazy);
+    value = BenchmarkValues.createPropertyValue(Type.valueOf(type), 42L);
+    serialized = BenchmarkValues.serialize(value);
+    input = new DataInputDeserializer(serialized);
+    value = new PropertyValue();
+    value.read(input);
+    input.setBuffer(serialized);
+    equalValue = new PropertyValue();
+    equalValue.read(input);
+    output = new DataOutputSerializer(serialized.length);
+    reuse = new PropertyValue();
+  }
+
+  /**
+   * Restores the lazy deserialization setting.
+   */
+  @TearDown
+  public void tearDown() {
+    PropertyValue.setLazyDeserialization(previousLazy);
+  }
+
+  /**
+   * Serializes the value.
+   *
+   * @return number of written bytes
+   * @throws IOException if writing fails
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    value.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the value without accessing it.
+   *
+   * @return deserialized value
+   * @throws IOException if reading fails
+   */
+  @Benchmark
+  public PropertyValue read() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Deserializes the value and accesses the wrapped object.
+   *
+   * @return wrapped object
+   * @throws IOException if reading fails
+   */
+  @Benchmark
+  public Object readAndGet() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse.getObject();
+  }
+
+  /**
+   * Compares the value to an equal value.
+   *
+   * @return true, if both values are equal
+   */
+  @Benchmark
+  public boolean isEqual() {
+    return value.equals(equalValue);
+  }
+
+  /**
+   * Calculates the hash code of the value.
+   *
+   * @return hash code
+   */
+  @Benchmark
+  public int hash() {
+    return value.hashCode();
+  }
+
+  /**
+   * Copies the value.
+   *
+   * @return copy
+   */
+  @Benchmark
+  public PropertyValue copy() {
+    return value.copy();
+  }
+}
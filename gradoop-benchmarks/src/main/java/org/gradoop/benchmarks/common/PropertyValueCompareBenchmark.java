@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link PropertyValue#compareTo(PropertyValue)} for each comparable type. Lists, maps
+ * and sets are not comparable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueCompareBenchmark {
+
+  /**
+   * Name of the {@link Type} of the compared values.
+   */
+  @Param({"NULL", "BOOLEAN", "SHORT", "INTEGER", "LONG", "FLOAT", "DOUBLE", "STRING",
+    "BIG_DECIMAL", "GRADOOP_ID", "DATE", "TIME", "DATE_TIME"})
+  protected String type;
+
+  /**
+   * True, if lazy deserialization is enabled.
+   */
+  @Param({"false", "true"})
+  protected boolean lazy;
+
+  /**
+   * Lazy deserialization setting before the benchmark.
+   */
+  private boolean previousLazy;
+
+  /**
+   * First compared value.
+   */
+  private PropertyValue left;
+
+  /**
+   * Second compared value.
+   */
+  private PropertyValue right;
+
+  /**
+   * Creates the compared values.
+   *
+   * @throws IOException if deserialization fails
+   */
+  @Setup
+  public void setup() throws IOException {
+    previousLazy = PropertyValue.isLazyDeserialization();
+    PropertyValue.setLazyDeserialization(lazy);
+    left = read(BenchmarkValues.createPropertyValue(Type.valueOf(type), 1L));
+    right = read(BenchmarkValues.createPropertyValue(Type.valueOf(type), 2L));
+  }
+
+  /**
+   * Restores the lazy deserialization setting.
+   */
+  @TearDown
+  public void tearDown() {
+    PropertyValue.setLazyDeserialization(previousLazy);
+  }
+
+  /**
+   * Compares two values of the same type.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return left.compareTo(right);
+  }
+
+  /**
+   * Deserializes a serialized copy of the given value, using the current lazy deserialization
+   * setting.
+   *
+   * @param value value
+   * @return deserialized value
+   * @throws IOException if reading fails
+   */
+  private static PropertyValue read(PropertyValue value) throws IOException {
+    PropertyValue result = new PropertyValue();
+    result.read(new DataInputDeserializer(BenchmarkValues.serialize(value)));
+    return result;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.grouping;
+
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link GroupingStrategy strategies} of the {@link Grouping} operator on the same
+ * generated graph. Vertices are grouped by a property and edges by label, with count and sum aggregates.
+ * Each invocation runs a complete Flink job in a local environment, so the results include the job
+ * startup time, which is the same for all strategies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GroupingStrategyBenchmark {
+
+  /**
+   * Number of edges starting at each vertex.
+   */
+  private static final int EDGES_PER_VERTEX = 4;
+
+  /**
+   * Parallelism of the local environment.
+   */
+  private static final int PARALLELISM = 4;
+
+  /**
+   * The benchmarked grouping strategy.
+   */
+  @Param({"GROUP_REDUCE", "GROUP_COMBINE", "GROUP_WITH_KEYFUNCTIONS", "GROUP_WITH_HASH_AGGREGATION"})
+  protected GroupingStrategy strategy;
+
+  /**
+   * Number of vertices of the generated graph.
+   */
+  @Param({"100000"})
+  protected int vertexCount;
+
+  /**
+   * Number of vertex groups, i.e. distinct values of the grouping property.
+   */
+  @Param({"10", "10000"})
+  protected int groupCount;
+
+  /**
+   * The execution environment the grouping is run in.
+   */
+  private ExecutionEnvironment environment;
+
+  /**
+   * Factory of the grouped graph.
+   */
+  private LogicalGraphFactory graphFactory;
+
+  /**
+   * Vertices of the generated graph.
+   */
+  private List<EPGMVertex> vertices;
+
+  /**
+   * Edges of the generated graph.
+   */
+  private List<EPGMEdge> edges;
+
+  /**
+   * The benchmarked grouping operator.
+   */
+  private UnaryBaseGraphToBaseGraphOperator<LogicalGraph> grouping;
+
+  /**
+   * Creates the execution environment, the grouping operator and the graph.
+   */
+  @Setup
+  public void setup() {
+    environment = ExecutionEnvironment.createLocalEnvironment(PARALLELISM);
+    environment.getConfig().disableSysoutLogging();
+    graphFactory = GradoopFlinkConfig.createConfig(environment).getLogicalGraphFactory();
+    grouping = new Grouping.GroupingBuilder()
+      .setStrategy(strategy)
+      .addVertexGroupingKey("group")
+      .addVertexAggregateFunction(new VertexCount())
+      .addVertexAggregateFunction(new SumVertexProperty("value"))
+      .useEdgeLabel(true)
+      .addEdgeAggregateFunction(new EdgeCount())
+      .build();
+
+    EPGMVertexFactory vertexFactory = new EPGMVertexFactory();
+    EPGMEdgeFactory edgeFactory = new EPGMEdgeFactory();
+    Random random = new Random(42L);
+    vertices = new ArrayList<>(vertexCount);
+    for (int i = 0; i < vertexCount; i++) {
+      EPGMVertex vertex = vertexFactory.createVertex("Vertex");
+      vertex.setProperty("group", (long) random.nextInt(groupCount));
+      vertex.setProperty("value", random.nextLong());
+      vertices.add(vertex);
+    }
+    edges = new ArrayList<>(vertexCount * EDGES_PER_VERTEX);
+    for (EPGMVertex source : vertices) {
+      for (int i = 0; i < EDGES_PER_VERTEX; i++) {
+        EPGMVertex target = vertices.get(random.nextInt(vertexCount));
+        edges.add(edgeFactory.createEdge("edge" + i, source.getId(), target.getId()));
+      }
+    }
+  }
+
+  /**
+   * Groups the graph and discards the result.
+   *
+   * @return result of the executed job
+   * @throws Exception if the execution of the job fails
+   */
+  @Benchmark
+  public JobExecutionResult group() throws Exception {
+    LogicalGraph result = graphFactory.fromCollections(vertices, edges).callForGraph(grouping);
+    result.getVertices().output(new DiscardingOutputFormat<>());
+    result.getEdges().output(new DiscardingOutputFormat<>());
+    return environment.execute();
+  }
+}
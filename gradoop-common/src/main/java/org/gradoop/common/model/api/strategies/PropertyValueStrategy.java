@@ -101,4 +101,31 @@ public interface PropertyValueStrategy<T> {
    * @throws IOException on failure
    */
   byte[] getRawBytes(T value) throws IOException;
+
+  /**
+   * Reads a serialized value from the given {@link DataInputView} and returns its byte
+   * representation according to the {@link PropertyValue} standard (i.e. type byte followed by the
+   * value bytes), preferably without deserializing the contained object.
+   *
+   * @param inputView containing serialized object.
+   * @param typeByte  byte needed to indicate whether serialized object has a variable length.
+   * @return byte array representation of the serialized object.
+   * @throws IOException when reading the object fails.
+   */
+  default byte[] readRawBytes(DataInputView inputView, byte typeByte) throws IOException {
+    return getRawBytes(read(inputView, typeByte));
+  }
+
+  /**
+   * Writes a value, given by its byte representation according to the {@link PropertyValue}
+   * standard, to the provided {@link DataOutputView}. The output is identical to
+   * {@link #write(Object, DataOutputView)} for the represented object.
+   *
+   * @param rawBytes   byte array representation of the value to be written.
+   * @param outputView that the value is written to.
+   * @throws IOException if write process fails.
+   */
+  default void writeRawBytes(byte[] rawBytes, DataOutputView outputView) throws IOException {
+    write(get(rawBytes), outputView);
+  }
 }
@@ -0,0 +1,420 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.dictionary;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.metadata.MetaData;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An immutable dictionary which maps labels and property keys to small integer ids.
+ *
+ * A dictionary can be installed as the global dictionary of a JVM (see
+ * {@link #setGlobal(ElementDictionary)}). Once installed, labels and property keys contained in the
+ * dictionary are serialized as ids instead of strings (see {@link #writeString(String,
+ * DataOutputView)}). Strings that are not contained in the dictionary are still serialized as
+ * strings.
+ *
+ * Ids are only meaningful in combination with the dictionary that created them. Since ids are
+ * assigned in lexicographical order, adding a single string changes the ids of all following ones.
+ * Encoded data therefore carries the 64 bit {@link #getFingerprint() fingerprint} of that
+ * dictionary, and reading it fails with an {@link IllegalStateException} if no global dictionary or
+ * one with a different fingerprint is installed. Standalone properties carry the fingerprint
+ * themselves, elements serialized by Flink carry it once in the configuration of their
+ * serializer. This applies to every reader of encoded data: the task managers of the job that
+ * wrote it (network shuffles, spilled data) as well as later jobs and clients reading data
+ * persisted with the Flink serialization of elements or properties.
+ *
+ * The global dictionary is a static field, i.e. it is shared by all jobs running in a JVM and is
+ * not built per job. Jobs using different dictionaries can therefore not run on the same task
+ * managers, e.g. in a session cluster, since the fingerprint check of one job fails for the
+ * dictionary installed by another one. Such jobs require separate clusters (e.g. one cluster per
+ * job) or have to share one dictionary containing the labels and property keys of all of them.
+ *
+ * The dictionary is not shipped with a job, it has to be installed in each JVM:
+ * <ul>
+ *   <li>in a cluster, write it to a file (see {@link #write(Path)}), make the file available on
+ *   every task manager and on the client and point the system property
+ *   {@value #DICTIONARY_FILE_PROPERTY} to it (e.g. via {@code env.java.opts}), the dictionary is
+ *   then installed when this class is loaded;</li>
+ *   <li>in a local environment, where client and task managers share one JVM, calling
+ *   {@link #setGlobal(ElementDictionary)} before the job is created is sufficient.</li>
+ * </ul>
+ */
+public class ElementDictionary implements Serializable {
+
+  /**
+   * Name of the system property containing the path of a dictionary file that is installed as the
+   * global dictionary on first access.
+   */
+  public static final String DICTIONARY_FILE_PROPERTY = "gradoop.dictionary.file";
+
+  /**
+   * Maximum number of strings in a dictionary.
+   */
+  public static final int MAX_SIZE = 0xFFFF;
+
+  /**
+   * Id written instead of a dictionary id if a string is not contained in the dictionary. The
+   * string itself follows.
+   */
+  public static final int NO_ID = 0xFFFF;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The global dictionary or {@code null}.
+   */
+  private static volatile ElementDictionary GLOBAL = readFromSystemProperty();
+
+  /**
+   * Strings by id.
+   */
+  private final String[] strings;
+
+  /**
+   * Ids by string.
+   */
+  private final Map<String, Integer> ids;
+
+  /**
+   * Fingerprint of the dictionary, see {@link #getFingerprint()}.
+   */
+  private final long fingerprint;
+
+  /**
+   * Creates a new dictionary.
+   *
+   * @param strings distinct strings, the position of a string is its id
+   */
+  private ElementDictionary(String[] strings) {
+    if (strings.length > MAX_SIZE) {
+      throw new IllegalArgumentException("Dictionary size " + strings.length +
+        " exceeds maximum size of " + MAX_SIZE);
+    }
+    this.strings = strings;
+    this.ids = new HashMap<>(strings.length * 2);
+    for (int i = 0; i < strings.length; i++) {
+      ids.put(strings[i], i);
+    }
+    this.fingerprint = fingerprint(strings);
+  }
+
+  /**
+   * Calculates the fingerprint of a dictionary, the 64 bit murmur3 hash of its strings in id order.
+   * Each string is prefixed by its length, so that the boundaries of the strings are part of the
+   * hash.
+   *
+   * @param strings strings of the dictionary, the position of a string is its id
+   * @return fingerprint
+   */
+  private static long fingerprint(String[] strings) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    for (String string : strings) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      hasher.putInt(bytes.length).putBytes(bytes);
+    }
+    return hasher.hash().asLong();
+  }
+
+  /**
+   * Creates a dictionary containing the given strings. Ids are assigned in lexicographical order,
+   * i.e. the same strings always result in the same dictionary.
+   *
+   * @param strings labels and property keys
+   * @return dictionary
+   */
+  public static ElementDictionary create(Collection<String> strings) {
+    return new ElementDictionary(new TreeSet<>(strings).toArray(new String[0]));
+  }
+
+  /**
+   * Creates a dictionary containing all labels and property keys of the given meta data.
+   *
+   * @param metaData meta data
+   * @return dictionary
+   */
+  public static ElementDictionary fromMetaData(MetaData metaData) {
+    Set<String> strings = new TreeSet<>();
+    for (String label : metaData.getGraphLabels()) {
+      strings.add(label);
+      addKeys(strings, metaData.getGraphPropertyMetaData(label));
+    }
+    for (String label : metaData.getVertexLabels()) {
+      strings.add(label);
+      addKeys(strings, metaData.getVertexPropertyMetaData(label));
+    }
+    for (String label : metaData.getEdgeLabels()) {
+      strings.add(label);
+      addKeys(strings, metaData.getEdgePropertyMetaData(label));
+    }
+    return create(strings);
+  }
+
+  /**
+   * Reads a dictionary from a file containing one string per line.
+   *
+   * @param path dictionary file
+   * @return dictionary
+   * @throws IOException if reading the file fails
+   */
+  public static ElementDictionary read(Path path) throws IOException {
+    List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    return new ElementDictionary(lines.toArray(new String[0]));
+  }
+
+  /**
+   * Writes the dictionary to a file containing one string per line, in id order.
+   *
+   * @param path dictionary file
+   * @throws IOException if writing the file fails
+   */
+  public void write(Path path) throws IOException {
+    for (String string : strings) {
+      if (string.indexOf('\n') >= 0 || string.indexOf('\r') >= 0) {
+        throw new IOException("Unable to write string containing a line break: " + string);
+      }
+    }
+    Files.write(path, Arrays.asList(strings), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Installs the given dictionary as the global dictionary of the current JVM. Passing
+   * {@code null} removes the global dictionary.
+   *
+   * @param dictionary dictionary or {@code null}
+   */
+  public static void setGlobal(ElementDictionary dictionary) {
+    GLOBAL = dictionary;
+  }
+
+  /**
+   * Returns the global dictionary of the current JVM.
+   *
+   * @return global dictionary or {@code null} if no dictionary is installed
+   */
+  public static ElementDictionary getGlobal() {
+    return GLOBAL;
+  }
+
+  /**
+   * Returns the id of the given string.
+   *
+   * @param string label or property key
+   * @return id or {@link #NO_ID} if the string is not contained in the dictionary
+   */
+  public int getId(String string) {
+    Integer id = ids.get(string);
+    return id == null ? NO_ID : id;
+  }
+
+  /**
+   * Returns the string for the given id.
+   *
+   * @param id dictionary id
+   * @return label or property key
+   * @throws IllegalArgumentException if the id is not contained in the dictionary
+   */
+  public String getString(int id) {
+    if (id < 0 || id >= strings.length) {
+      throw new IllegalArgumentException("Id " + id + " is not contained in the dictionary");
+    }
+    return strings[id];
+  }
+
+  /**
+   * Returns the number of strings in the dictionary.
+   *
+   * @return dictionary size
+   */
+  public int size() {
+    return strings.length;
+  }
+
+  /**
+   * Returns a 64 bit fingerprint of the dictionary, which is derived from its strings and their
+   * ids. Equal dictionaries have the same fingerprint in every JVM.
+   *
+   * @return fingerprint
+   */
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Writes the fingerprint of the global dictionary. Records containing dictionary ids start with
+   * the fingerprint, so that readers can check them using {@link #checkFingerprint(long)}.
+   *
+   * @param outputView output view
+   * @throws IOException if writing fails
+   * @throws IllegalStateException if there is no global dictionary
+   */
+  public static void writeFingerprint(DataOutputView outputView) throws IOException {
+    outputView.writeLong(requireGlobal().fingerprint);
+  }
+
+  /**
+   * Returns the global dictionary if it has the given fingerprint.
+   *
+   * @param fingerprint fingerprint of the dictionary used to encode a record
+   * @return global dictionary
+   * @throws IllegalStateException if there is no global dictionary or if its fingerprint differs
+   */
+  public static ElementDictionary checkFingerprint(long fingerprint) {
+    ElementDictionary dictionary = requireGlobal();
+    if (dictionary.fingerprint != fingerprint) {
+      throw new IllegalStateException("Data was encoded with dictionary " +
+        Long.toHexString(fingerprint) + ", but dictionary " +
+        Long.toHexString(dictionary.fingerprint) + " is installed");
+    }
+    return dictionary;
+  }
+
+  /**
+   * Writes a label or property key using the global dictionary. The string is written as an
+   * unsigned {@code short} id if it is contained in the global dictionary. Otherwise,
+   * {@link #NO_ID} followed by the string (see {@link DataOutputView#writeUTF(String)}) is written.
+   *
+   * @param string label or property key
+   * @param outputView output view
+   * @throws IOException if writing fails
+   */
+  public static void writeString(String string, DataOutputView outputView) throws IOException {
+    ElementDictionary dictionary = GLOBAL;
+    int id = dictionary == null ? NO_ID : dictionary.getId(string);
+    outputView.writeShort(id);
+    if (id == NO_ID) {
+      outputView.writeUTF(string);
+    }
+  }
+
+  /**
+   * Reads a label or property key written by {@link #writeString(String, DataOutputView)}.
+   *
+   * The id is resolved without checking the dictionary, the caller has to check the fingerprint of
+   * the dictionary used to write the string first (see {@link #checkFingerprint(long)}).
+   *
+   * @param inputView input view
+   * @return label or property key
+   * @throws IOException if reading fails
+   */
+  public static String readString(DataInputView inputView) throws IOException {
+    int id = inputView.readUnsignedShort();
+    return id == NO_ID ? inputView.readUTF() : resolve(id);
+  }
+
+  /**
+   * Resolves an id using the global dictionary.
+   *
+   * @param id dictionary id
+   * @return label or property key
+   * @throws IllegalStateException if there is no global dictionary
+   */
+  public static String resolve(int id) {
+    ElementDictionary dictionary = GLOBAL;
+    if (dictionary == null) {
+      throw new IllegalStateException("Unable to resolve dictionary id " + id +
+        ", no global dictionary installed");
+    }
+    return dictionary.getString(id);
+  }
+
+  /**
+   * Returns the global dictionary.
+   *
+   * @return global dictionary
+   * @throws IllegalStateException if there is no global dictionary
+   */
+  public static ElementDictionary requireGlobal() {
+    ElementDictionary dictionary = GLOBAL;
+    if (dictionary == null) {
+      throw new IllegalStateException(
+        "Unable to read dictionary encoded data, no global dictionary installed");
+    }
+    return dictionary;
+  }
+
+  /**
+   * Adds the property keys of the given meta data to a set of strings.
+   *
+   * @param strings set of strings
+   * @param propertyMetaData property meta data
+   */
+  private static void addKeys(Set<String> strings, List<PropertyMetaData> propertyMetaData) {
+    for (PropertyMetaData metaData : propertyMetaData) {
+      strings.add(metaData.getKey());
+    }
+  }
+
+  /**
+   * Reads the dictionary referenced by the system property {@value #DICTIONARY_FILE_PROPERTY}.
+   *
+   * @return dictionary or {@code null} if the property is not set
+   */
+  private static ElementDictionary readFromSystemProperty() {
+    String file = System.getProperty(DICTIONARY_FILE_PROPERTY);
+    if (file == null) {
+      return null;
+    }
+    try {
+      return read(Paths.get(file));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read dictionary file " + file, e);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(strings, ((ElementDictionary) o).strings);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(strings);
+  }
+
+  @Override
+  public String toString() {
+    return "ElementDictionary{size=" + strings.length + "}";
+  }
+}
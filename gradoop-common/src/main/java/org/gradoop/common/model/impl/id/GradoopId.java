@@ -15,12 +15,14 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.MemorySegment;
 import org.apache.flink.types.CopyableValue;
 import org.apache.flink.types.NormalizableKey;
 import org.gradoop.common.model.api.entities.Identifiable;
+import org.gradoop.common.model.impl.typeutils.GradoopIdTypeInfoFactory;
 
 import java.io.IOException;
 import java.net.NetworkInterface;
@@ -28,7 +30,6 @@ import java.net.SocketException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -36,6 +37,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Primary key for an EPGM element.
  * <p>
+ * The 12 bytes of an id are stored in two primitive fields, a {@code long} containing the first
+ * eight bytes and an {@code int} containing the last four bytes (both big-endian). Comparisons,
+ * hashing and (de-)serialization thus work on these fields without a separate byte array.
+ * <p>
  * This implementation reuses much of the code of BSON's ObjectId
  * (org.bson.types.ObjectId) to guarantee uniqueness. Much of the code is copied directly or
  * has only small changes.
@@ -44,6 +49,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * references to: org.bson.types.ObjectId
  */
+@TypeInfo(GradoopIdTypeInfoFactory.class)
 public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<GradoopId> {
 
   /**
@@ -90,9 +96,14 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
 
   /**
-   * Internal byte representation
+   * The first eight bytes of the id.
    */
-  private byte[] bytes;
+  private long upper;
+
+  /**
+   * The last four bytes of the id.
+   */
+  private int lower;
 
   static {
     MACHINE_IDENTIFIER = createMachineIdentifier();
@@ -103,16 +114,17 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopId() {
-    bytes = new byte[ID_SIZE];
   }
 
   /**
-   * Creates a GradoopId from a given byte representation
+   * Creates a GradoopId from its two components.
    *
-   * @param bytes the GradoopId represented by the byte array
+   * @param upper the first eight bytes of the id
+   * @param lower the last four bytes of the id
    */
-  private GradoopId(byte[] bytes) {
-    this.bytes = bytes;
+  private GradoopId(long upper, int lower) {
+    this.upper = upper;
+    this.lower = lower;
   }
 
   /**
@@ -156,25 +168,9 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         " and 16777215 (it must fit in three bytes).");
     }
 
-    ByteBuffer buffer = ByteBuffer.allocate(12);
-
-    buffer.put((byte) (timestamp >> 24));
-    buffer.put((byte) (timestamp >> 16));
-    buffer.put((byte) (timestamp >> 8));
-    buffer.put((byte) timestamp);
-
-    buffer.put((byte) (machineIdentifier >> 16));
-    buffer.put((byte) (machineIdentifier >> 8));
-    buffer.put((byte) machineIdentifier);
-
-    buffer.put((byte) (processIdentifier >> 8));
-    buffer.put((byte) processIdentifier);
-
-    buffer.put((byte) (counter >> 16));
-    buffer.put((byte) (counter >> 8));
-    buffer.put((byte) counter);
-
-    this.bytes = buffer.array();
+    this.upper = ((long) timestamp << 32) | ((machineIdentifier & 0xffffffL) << 8) |
+      ((processIdentifier >> 8) & 0xff);
+    this.lower = ((processIdentifier & 0xff) << 24) | (counter & LOW_ORDER_THREE_BYTES);
   }
 
   /**
@@ -267,11 +263,46 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         "invalid hexadecimal representation of a GradoopId: [" + string + "]");
     }
 
-    byte[] b = new byte[12];
-    for (int i = 0; i < b.length; i++) {
-      b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
+    return new GradoopId(Long.parseUnsignedLong(string.substring(0, 16), 16),
+      Integer.parseUnsignedInt(string.substring(16), 16));
+  }
+
+  /**
+   * Returns the Gradoop ID represented by the 24 hexadecimal ASCII characters stored at the given
+   * offset of a byte array, e.g. a line of a text file. No intermediate string is created.
+   *
+   * @param hexBytes byte array containing the hexadecimal representation
+   * @param offset   offset of the first character
+   * @return GradoopId
+   * @throws IllegalArgumentException if the bytes are not a valid hexadecimal representation
+   */
+  public static GradoopId fromHexBytes(byte[] hexBytes, int offset) {
+    if (offset < 0 || hexBytes.length - offset < 2 * ID_SIZE) {
+      throw new IllegalArgumentException(
+        "not enough bytes for a hexadecimal representation of a GradoopId");
     }
-    return new GradoopId(b);
+    return new GradoopId(parseHex(hexBytes, offset, 16), (int) parseHex(hexBytes, offset + 16, 8));
+  }
+
+  /**
+   * Parses hexadecimal ASCII characters as unsigned number.
+   *
+   * @param hexBytes byte array containing the characters
+   * @param offset   offset of the first character
+   * @param length   number of characters
+   * @return parsed number
+   */
+  private static long parseHex(byte[] hexBytes, int offset, int length) {
+    long value = 0L;
+    for (int i = offset; i < offset + length; i++) {
+      int digit = Character.digit((char) (hexBytes[i] & 0xff), 16);
+      if (digit < 0) {
+        throw new IllegalArgumentException(
+          "invalid hexadecimal representation of a GradoopId at offset " + offset);
+      }
+      value = (value << 4) | digit;
+    }
+    return value;
   }
 
   /**
@@ -318,18 +349,47 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return Gradoop ID
    */
   public static GradoopId fromByteArray(byte[] bytes) {
-    return new GradoopId(bytes);
+    return fromByteArray(bytes, 0);
+  }
+
+  /**
+   * Returns the Gradoop ID stored at the given offset of a byte array.
+   *
+   * @param bytes byte array containing the id
+   * @param offset offset of the id
+   * @return Gradoop ID
+   */
+  public static GradoopId fromByteArray(byte[] bytes, int offset) {
+    return new GradoopId(getUpper(bytes, offset), getLower(bytes, offset));
   }
 
   /**
-   * Returns byte representation of a GradoopId
+   * Returns byte representation of a GradoopId. Each call creates a new array, use
+   * {@link #writeTo(byte[], int)} to write the id to an existing array.
    *
    * @return Byte representation
    */
   public byte[] toByteArray() {
+    byte[] bytes = new byte[ID_SIZE];
+    writeTo(bytes, 0);
     return bytes;
   }
 
+  /**
+   * Writes the byte representation of a GradoopId to the given offset of a byte array.
+   *
+   * @param target byte array
+   * @param offset offset to write the id to
+   */
+  public void writeTo(byte[] target, int offset) {
+    for (int i = 0; i < Long.BYTES; i++) {
+      target[offset + i] = (byte) (upper >>> (56 - 8 * i));
+    }
+    for (int i = 0; i < Integer.BYTES; i++) {
+      target[offset + Long.BYTES + i] = (byte) (lower >>> (24 - 8 * i));
+    }
+  }
+
   /**
    * Checks if the specified object is equal to the current id.
    *
@@ -345,14 +405,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
       return false;
     }
 
-    byte[] firstBytes = this.bytes;
-    byte[] secondBytes = ((GradoopId) o).bytes;
-    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
-      if (firstBytes[i] != secondBytes[i]) {
-        return false;
-      }
-    }
-    return true;
+    GradoopId other = (GradoopId) o;
+    return this.upper == other.upper && this.lower == other.lower;
   }
 
   /**
@@ -364,11 +418,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int hashCode() {
-    int result = getTimeStamp();
-    result = 31 * result + getMachineIdentifier();
-    result = 31 * result + (int) getProcessIdentifier();
-    result = 31 * result + getCounter();
-    return result;
+    return hashCode(upper, lower);
   }
 
   /**
@@ -380,13 +430,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int compareTo(GradoopId other) {
-
-    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
-      if (this.bytes[i] != other.bytes[i]) {
-        return ((this.bytes[i] & 0xff) < (other.bytes[i] & 0xff)) ? -1 : 1;
-      }
-    }
-    return 0;
+    int comparison = Long.compareUnsigned(this.upper, other.upper);
+    return comparison != 0 ? comparison : Integer.compareUnsigned(this.lower, other.lower);
   }
 
   /**
@@ -399,10 +444,11 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   @Override
   public String toString() {
     char[] chars = new char[24];
-    int i = 0;
-    for (byte b : bytes) {
-      chars[i++] = HEX_CHARS[b >> 4 & 0xF];
-      chars[i++] = HEX_CHARS[b & 0xF];
+    for (int i = 0; i < 16; i++) {
+      chars[i] = HEX_CHARS[(int) (upper >>> (60 - 4 * i)) & 0xF];
+    }
+    for (int i = 0; i < 8; i++) {
+      chars[16 + i] = HEX_CHARS[(lower >>> (28 - 4 * i)) & 0xF];
     }
     return String.valueOf(chars);
   }
@@ -418,17 +464,27 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyNormalizedKey(MemorySegment target, int offset, int len) {
-    target.put(offset, bytes, 0, len);
+    if (len == ID_SIZE) {
+      target.putLongBigEndian(offset, upper);
+      target.putIntBigEndian(offset + Long.BYTES, lower);
+    } else {
+      for (int i = 0; i < len; i++) {
+        target.put(offset + i, (byte) (i < Long.BYTES ? upper >>> (56 - 8 * i) :
+          lower >>> (88 - 8 * i)));
+      }
+    }
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.write(bytes);
+    out.writeLong(upper);
+    out.writeInt(lower);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    in.readFully(bytes);
+    upper = in.readLong();
+    lower = in.readInt();
   }
 
   //------------------------------------------------------------------------------------------------
@@ -442,12 +498,13 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyTo(GradoopId target) {
-    System.arraycopy(bytes, 0, target.bytes, 0, ID_SIZE);
+    target.upper = upper;
+    target.lower = lower;
   }
 
   @Override
   public GradoopId copy() {
-    return new GradoopId(Arrays.copyOf(bytes, ID_SIZE));
+    return new GradoopId(upper, lower);
   }
 
   @Override
@@ -460,41 +517,91 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   //------------------------------------------------------------------------------------------------
 
   /**
-   * Returns the timestamp component of the id.
+   * Returns the hash code of an id given by its components.
+   * <p>
+   * Note: Implementation taken from org.bson.types.ObjectId
+   *
+   * @param upper the first eight bytes of the id
+   * @param lower the last four bytes of the id
+   * @return hash code
+   */
+  private static int hashCode(long upper, int lower) {
+    int result = (int) (upper >>> 32);
+    result = 31 * result + ((int) (upper >>> 8) & LOW_ORDER_THREE_BYTES);
+    result = 31 * result + (short) (((int) upper & 0xff) << 8 | (lower >>> 24));
+    result = 31 * result + (lower & LOW_ORDER_THREE_BYTES);
+    return result;
+  }
+
+  /**
+   * Returns the hash code of the id stored at the given offset of a byte array. The hash code is
+   * equal to {@link #hashCode()} of that id.
    *
-   * @return the timestamp
+   * @param bytes  byte array containing the id
+   * @param offset offset of the id
+   * @return hash code
    */
-  private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
+  static int hashCode(byte[] bytes, int offset) {
+    return hashCode(getUpper(bytes, offset), getLower(bytes, offset));
   }
 
   /**
-   * Returns the machine identifier component of the id.
+   * Compares the id stored at the given offset of a byte array to an id.
    *
-   * @return the machine identifier
+   * @param bytes  byte array containing the first id
+   * @param offset offset of the first id
+   * @param other  the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   * to, or greater than the second id
    */
-  private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
+  static int compare(byte[] bytes, int offset, GradoopId other) {
+    int comparison = Long.compareUnsigned(getUpper(bytes, offset), other.upper);
+    return comparison != 0 ? comparison :
+      Integer.compareUnsigned(getLower(bytes, offset), other.lower);
   }
 
   /**
-   * Returns the process identifier component of the id.
+   * Performs a byte-wise comparison of two ids stored in byte arrays.
    *
-   * @return the process identifier
+   * @param first        byte array containing the first id
+   * @param firstOffset  offset of the first id
+   * @param second       byte array containing the second id
+   * @param secondOffset offset of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   * to, or greater than the second id
    */
-  private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
+  static int compare(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+    for (int i = 0; i < ID_SIZE; i++) {
+      if (first[firstOffset + i] != second[secondOffset + i]) {
+        return ((first[firstOffset + i] & 0xff) < (second[secondOffset + i] & 0xff)) ? -1 : 1;
+      }
+    }
+    return 0;
   }
 
   /**
-   * Returns the counter component of the id.
+   * Returns the first eight bytes of the id stored at the given offset of a byte array.
    *
-   * @return the counter
+   * @param bytes  byte array containing the id
+   * @param offset offset of the id
+   * @return the first eight bytes as long
    */
-  private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
+  private static long getUpper(byte[] bytes, int offset) {
+    long high = makeInt(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]);
+    int low = makeInt(bytes[offset + 4], bytes[offset + 5], bytes[offset + 6], bytes[offset + 7]);
+    return (high << 32) | (low & 0xffffffffL);
   }
 
+  /**
+   * Returns the last four bytes of the id stored at the given offset of a byte array.
+   *
+   * @param bytes  byte array containing the id
+   * @param offset offset of the id
+   * @return the last four bytes as int
+   */
+  private static int getLower(byte[] bytes, int offset) {
+    return makeInt(bytes[offset + 8], bytes[offset + 9], bytes[offset + 10], bytes[offset + 11]);
+  }
 
   //------------------------------------------------------------------------------------------------
   // static helper functions
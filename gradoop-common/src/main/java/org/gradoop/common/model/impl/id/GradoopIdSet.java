@@ -23,79 +23,54 @@ import java.io.IOException;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * Represents a set of {@link GradoopId} instances, ignoring any duplicates.
  *
- * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
- * (de-)serializing the list.
+ * The ids are stored as a sorted byte array using {@link GradoopId#ID_SIZE} bytes per id, i.e.
+ * the set does not hold a {@link GradoopId} instance per member. Membership tests are binary
+ * searches, operations on two sets (e.g. {@link #containsAll(GradoopIdSet)},
+ * {@link #containsAny(GradoopIdSet)}, {@link #addAll(GradoopIdSet)} and
+ * {@link #retainAll(Collection)}) are merge passes over both arrays. Ids are only instantiated
+ * when iterating the set.
  *
  * @see GradoopId
  */
 public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
   /**
-   * Contains the set of gradoop ids.
+   * Empty byte array used by empty sets.
    */
-  private Set<GradoopId> ids;
+  private static final byte[] EMPTY = new byte[0];
 
   /**
-   * Required default constructor for instantiation by serialization logic.
+   * Sorted ids, the array may contain unused capacity at its end.
    */
-  public GradoopIdSet() {
-    this.ids = new HashSet<>();
-  }
+  private byte[] ids;
 
   /**
-   * Initializes the set with the given byte array.
-   *
-   * @param bytes bytes representing multiple gradoop ids
+   * Number of ids in the set.
    */
-  private GradoopIdSet(byte[] bytes) {
-    this.ids = readIds(bytes);
-  }
+  private int size;
 
   /**
-   * Initializes the set with the given ids.
-   *
-   * @param ids a collection of {@link GradoopId}s
-   */
-  private GradoopIdSet(Collection<GradoopId> ids) {
-    this.ids = new HashSet<>(ids);
-  }
-
-  /**
-   * Since we will need to do operations on individual ids we need
-   * to reconstruct the {@link GradoopId} instances.
-   * @param bytes serialized sequence of {@link GradoopId}s
-   * @return a set representation
+   * Required default constructor for instantiation by serialization logic.
    */
-  private Set<GradoopId> readIds(byte[] bytes) {
-    ids = new HashSet<>();
-    for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      byte[] idBytes = new byte[GradoopId.ID_SIZE];
-      System.arraycopy(bytes, i * GradoopId.ID_SIZE, idBytes, 0, GradoopId.ID_SIZE);
-      ids.add(GradoopId.fromByteArray(idBytes));
-    }
-    return ids;
+  public GradoopIdSet() {
+    this.ids = EMPTY;
   }
 
   /**
-   * Serialize all ids into a byte array.
-   * @param ids sequence of {@link GradoopId}s
-   * @return a binary representation
+   * Initializes the set with the given sorted ids.
+   *
+   * @param ids sorted ids without duplicates
+   * @param size number of ids
    */
-  private byte[] writeIds(Set<GradoopId> ids) {
-    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
-
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    return bytes;
+  private GradoopIdSet(byte[] ids, int size) {
+    this.ids = ids;
+    this.size = size;
   }
 
   /**
@@ -115,7 +90,20 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromExisting(Collection<GradoopId> ids) {
-    return new GradoopIdSet(ids);
+    if (ids instanceof GradoopIdSet) {
+      GradoopIdSet other = (GradoopIdSet) ids;
+      return new GradoopIdSet(Arrays.copyOf(other.ids, other.size * GradoopId.ID_SIZE),
+        other.size);
+    }
+    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
+    int offset = 0;
+    for (GradoopId id : ids) {
+      id.writeTo(bytes, offset);
+      offset += GradoopId.ID_SIZE;
+    }
+    GradoopIdSet set = new GradoopIdSet(bytes, ids.size());
+    set.sort();
+    return set;
   }
 
   /**
@@ -125,7 +113,10 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromByteArray(byte[] bytes) {
-    return new GradoopIdSet(bytes);
+    GradoopIdSet set = new GradoopIdSet(Arrays.copyOf(bytes, bytes.length),
+      bytes.length / GradoopId.ID_SIZE);
+    set.sort();
+    return set;
   }
 
   /**
@@ -135,7 +126,18 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean add(GradoopId id) {
-    return this.ids.add(id);
+    int index = indexOf(id);
+    if (index >= 0) {
+      return false;
+    }
+    index = -(index + 1);
+    ensureCapacity(size + 1);
+    int offset = index * GradoopId.ID_SIZE;
+    System.arraycopy(ids, offset, ids, offset + GradoopId.ID_SIZE,
+      (size - index) * GradoopId.ID_SIZE);
+    id.writeTo(ids, offset);
+    size++;
+    return true;
   }
 
   /**
@@ -144,7 +146,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids the ids to add
    */
   public void addAll(GradoopIdSet ids) {
-    this.ids.addAll(ids.ids);
+    union(ids);
   }
 
   /**
@@ -154,7 +156,71 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean addAll(Collection<? extends GradoopId> ids) {
-    return this.ids.addAll(ids);
+    if (ids instanceof GradoopIdSet) {
+      return union((GradoopIdSet) ids);
+    }
+    if (ids.size() == 1) {
+      return add(ids.iterator().next());
+    }
+    @SuppressWarnings("unchecked")
+    Collection<GradoopId> other = (Collection<GradoopId>) ids;
+    return union(fromExisting(other));
+  }
+
+  /**
+   * Removes the given gradoop id from the set.
+   *
+   * @param identifier the id to remove
+   * @return true, iff the set contained the id
+   */
+  @Override
+  public boolean remove(Object identifier) {
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    int index = indexOf((GradoopId) identifier);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  /**
+   * Retains only the ids contained in the specified collection.
+   *
+   * @param other the ids to retain
+   * @return true, iff the set changed
+   */
+  @Override
+  public boolean retainAll(Collection<?> other) {
+    int newSize = 0;
+    if (other instanceof GradoopIdSet) {
+      GradoopIdSet that = (GradoopIdSet) other;
+      int i = 0;
+      int j = 0;
+      while (i < size && j < that.size) {
+        int comparison = GradoopId.compare(ids, i * GradoopId.ID_SIZE, that.ids,
+          j * GradoopId.ID_SIZE);
+        if (comparison < 0) {
+          i++;
+        } else if (comparison > 0) {
+          j++;
+        } else {
+          moveTo(i++, newSize++);
+          j++;
+        }
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        if (other.contains(get(i))) {
+          moveTo(i, newSize++);
+        }
+      }
+    }
+    boolean changed = newSize != size;
+    size = newSize;
+    return changed;
   }
 
   /**
@@ -165,7 +231,8 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean contains(Object identifier) {
-    return this.ids.contains(identifier);
+    return identifier instanceof GradoopId &&
+      indexOf((GradoopId) identifier) >= 0;
   }
 
   /**
@@ -175,13 +242,24 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff all specified ids are contained in the set
    */
   public boolean containsAll(GradoopIdSet other) {
-    if (other.size() > this.size()) {
+    if (other.size > this.size) {
       return false;
     }
-    for (GradoopId id : other) {
-      if (!this.contains(id)) {
+    int i = 0;
+    for (int j = 0; j < other.size; j++) {
+      int otherOffset = j * GradoopId.ID_SIZE;
+      int comparison = 1;
+      while (i < size) {
+        comparison = GradoopId.compare(ids, i * GradoopId.ID_SIZE, other.ids, otherOffset);
+        if (comparison >= 0) {
+          break;
+        }
+        i++;
+      }
+      if (comparison != 0) {
         return false;
       }
+      i++;
     }
     return true;
   }
@@ -194,6 +272,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean containsAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return containsAll((GradoopIdSet) other);
+    }
     if (other instanceof Set && other.size() > this.size()) {
       return false;
     }
@@ -212,21 +293,17 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(GradoopIdSet other) {
-    // Algorithm: the sizes of both lists might be vastly different
-    // to prevent the case of iterating multiple times over large collections
-    // we make sure to always iterate over the smaller one
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other.ids;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other.ids;
-      contains = this.ids;
-    }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      int comparison = GradoopId.compare(ids, i * GradoopId.ID_SIZE, other.ids,
+        j * GradoopId.ID_SIZE);
+      if (comparison == 0) {
         return true;
+      } else if (comparison < 0) {
+        i++;
+      } else {
+        j++;
       }
     }
     return false;
@@ -239,17 +316,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(Set<GradoopId> other) {
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other;
-      contains = this.ids;
+    if (other instanceof GradoopIdSet) {
+      return containsAny((GradoopIdSet) other);
     }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    for (GradoopId id : other) {
+      if (contains(id)) {
         return true;
       }
     }
@@ -262,19 +333,59 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff the set contains no elements
    */
   public boolean isEmpty() {
-    return ids.isEmpty();
+    return size == 0;
   }
 
+  /**
+   * Returns an iterator over the ids in ascending order. A new {@link GradoopId} is created for
+   * each returned id.
+   *
+   * @return iterator
+   */
   @Override
   public Iterator<GradoopId> iterator() {
-    return ids.iterator();
+    return new Iterator<GradoopId>() {
+      /**
+       * Index of the next id.
+       */
+      private int next;
+
+      /**
+       * Index of the last returned id or -1.
+       */
+      private int last = -1;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public GradoopId next() {
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        last = next;
+        return get(next++);
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        removeAt(last);
+        next = last;
+        last = -1;
+      }
+    };
   }
 
   /**
    * Clears the set.
    */
   public void clear() {
-    ids.clear();
+    size = 0;
   }
 
   /**
@@ -283,7 +394,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return number of elements in the set
    */
   public int size() {
-    return ids.size();
+    return size;
   }
 
   /**
@@ -292,48 +403,65 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return byte array representation
    */
   public byte[] toByteArray() {
-    return writeIds(ids);
+    return Arrays.copyOf(ids, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (isEmpty()) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(size());
-      out.write(writeIds(ids));
-    }
+    out.writeInt(size);
+    out.write(ids, 0, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    int n = in.readInt();
-    byte[] bytes = new byte[n * GradoopId.ID_SIZE];
-    in.readFully(bytes);
-    this.ids = readIds(bytes);
+    read(in, in.readInt());
+  }
+
+  /**
+   * Reads the given number of ids, i.e. the serialized set without its size.
+   *
+   * @param in input view
+   * @param count number of ids
+   * @throws IOException if reading fails
+   */
+  public void read(DataInputView in, int count) throws IOException {
+    int length = count * GradoopId.ID_SIZE;
+    if (ids.length < length) {
+      ids = new byte[length];
+    }
+    in.readFully(ids, 0, length);
+    size = count;
+    sort();
   }
 
   @Override
   public boolean equals(Object o) {
-    boolean equal = this == o;
-
-    if (!equal && o instanceof GradoopIdSet) {
-      GradoopIdSet that = (GradoopIdSet) o;
-      // same number of ids
-      equal = this.size() == that.size();
-
-      if (equal) {
-        // same ids
-        equal = this.ids.equals(that.ids);
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GradoopIdSet)) {
+      return false;
+    }
+    GradoopIdSet that = (GradoopIdSet) o;
+    if (this.size != that.size) {
+      return false;
+    }
+    int length = size * GradoopId.ID_SIZE;
+    for (int i = 0; i < length; i++) {
+      if (this.ids[i] != that.ids[i]) {
+        return false;
       }
     }
-
-    return equal;
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return ids.hashCode();
+    int hash = 0;
+    for (int i = 0; i < size; i++) {
+      hash += GradoopId.hashCode(ids, i * GradoopId.ID_SIZE);
+    }
+    return hash;
   }
 
   @Override
@@ -355,4 +483,143 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       sb.append(',').append(' ');
     }
   }
+
+  //------------------------------------------------------------------------------------------------
+  // private little helpers
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Returns a new instance of the id at the given index.
+   *
+   * @param index index of the id
+   * @return id
+   */
+  private GradoopId get(int index) {
+    return GradoopId.fromByteArray(ids, index * GradoopId.ID_SIZE);
+  }
+
+  /**
+   * Searches the given id.
+   *
+   * @param key the id
+   * @return index of the id, if it is contained in the set, otherwise
+   * {@code -(insertion point) - 1}
+   */
+  private int indexOf(GradoopId key) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = GradoopId.compare(ids, mid * GradoopId.ID_SIZE, key);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Adds all ids of the given set by merging both sorted arrays.
+   *
+   * @param other set to add
+   * @return true, iff the set changed
+   */
+  private boolean union(GradoopIdSet other) {
+    if (other.size == 0) {
+      return false;
+    }
+    byte[] merged = new byte[(size + other.size) * GradoopId.ID_SIZE];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < size || j < other.size) {
+      int comparison = i == size ? 1 : j == other.size ? -1 :
+        GradoopId.compare(ids, i * GradoopId.ID_SIZE, other.ids, j * GradoopId.ID_SIZE);
+      if (comparison <= 0) {
+        System.arraycopy(ids, i * GradoopId.ID_SIZE, merged, count * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        i++;
+        if (comparison == 0) {
+          j++;
+        }
+      } else {
+        System.arraycopy(other.ids, j * GradoopId.ID_SIZE, merged, count * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        j++;
+      }
+      count++;
+    }
+    boolean changed = count != size;
+    ids = merged;
+    size = count;
+    return changed;
+  }
+
+  /**
+   * Removes the id at the given index.
+   *
+   * @param index index of the id
+   */
+  private void removeAt(int index) {
+    int offset = index * GradoopId.ID_SIZE;
+    System.arraycopy(ids, offset + GradoopId.ID_SIZE, ids, offset,
+      (size - index - 1) * GradoopId.ID_SIZE);
+    size--;
+  }
+
+  /**
+   * Moves the id at the given index to a lower index.
+   *
+   * @param from current index of the id
+   * @param to new index of the id
+   */
+  private void moveTo(int from, int to) {
+    if (from != to) {
+      System.arraycopy(ids, from * GradoopId.ID_SIZE, ids, to * GradoopId.ID_SIZE,
+        GradoopId.ID_SIZE);
+    }
+  }
+
+  /**
+   * Makes sure the array can hold the given number of ids.
+   *
+   * @param capacity required number of ids
+   */
+  private void ensureCapacity(int capacity) {
+    if (ids.length < capacity * GradoopId.ID_SIZE) {
+      int newCapacity = Math.max(capacity, size + (size >> 1));
+      ids = Arrays.copyOf(ids, newCapacity * GradoopId.ID_SIZE);
+    }
+  }
+
+  /**
+   * Sorts the ids and removes duplicates. Ids written by this class are already sorted, thus the
+   * ids are only sorted if necessary.
+   */
+  private void sort() {
+    boolean sorted = true;
+    for (int i = 1; i < size && sorted; i++) {
+      sorted = GradoopId.compare(ids, (i - 1) * GradoopId.ID_SIZE, ids, i * GradoopId.ID_SIZE) < 0;
+    }
+    if (sorted) {
+      return;
+    }
+    GradoopId[] sortedIds = new GradoopId[size];
+    for (int i = 0; i < size; i++) {
+      sortedIds[i] = get(i);
+    }
+    Arrays.sort(sortedIds);
+    int count = 0;
+    for (int i = 0; i < sortedIds.length; i++) {
+      if (i == 0 || !sortedIds[i].equals(sortedIds[i - 1])) {
+        sortedIds[i].writeTo(ids, count * GradoopId.ID_SIZE);
+        count++;
+      }
+    }
+    size = count;
+  }
 }
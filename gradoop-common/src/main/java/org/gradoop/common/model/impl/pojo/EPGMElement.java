@@ -16,11 +16,13 @@
 package org.gradoop.common.model.impl.pojo;
 
 import com.google.common.base.Preconditions;
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.typeutils.ElementTypeInfoFactory;
 
 import javax.annotation.Nullable;
 import java.util.Objects;
@@ -28,6 +30,7 @@ import java.util.Objects;
 /**
  * Abstract base class for EPGM elements.
  */
+@TypeInfo(ElementTypeInfoFactory.class)
 public abstract class EPGMElement implements Element {
   /**
    * Entity identifier.
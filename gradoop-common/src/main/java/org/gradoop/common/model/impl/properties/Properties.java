@@ -18,6 +18,7 @@ package org.gradoop.common.model.impl.properties;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
 import org.gradoop.common.model.impl.pojo.EPGMElement;
 
 import java.io.IOException;
@@ -26,29 +27,69 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Represents the properties of an {@link EPGMElement}.
+ *
+ * If the compact representation is enabled (see {@link #setCompactRepresentation(boolean)}), the
+ * properties are not stored in a {@link HashMap} but in a single byte array containing all keys and
+ * serialized values. The serialized form is the same for both representations. In both
+ * representations, the instance given to {@link #set(String, PropertyValue)} is stored, and
+ * {@link #get(String)}, {@link #remove(String)}, {@link #iterator()} and {@link #toList()} return
+ * the stored instances, i.e. changes to a returned value are reflected in the properties. The
+ * compact representation only keeps values in their serialized form until they are set or
+ * requested.
+ *
+ * If a global {@link ElementDictionary} is installed, property keys are serialized as dictionary
+ * ids. This is marked by a negative property count (see {@link #encodeCount(int)}), followed by
+ * the fingerprint of the dictionary. Plain properties can be read regardless of the installed
+ * dictionary, encoded ones only with the same dictionary installed, reading them fails otherwise.
+ * Serializers that check the dictionary once per stream omit the fingerprint (see
+ * {@link #writeUnchecked(DataOutputView)}).
  */
 public class Properties implements Iterable<Property>, Value, Serializable {
 
+  /**
+   * Name of the system property used to enable the compact representation by default.
+   *
+   * @see #setCompactRepresentation(boolean)
+   */
+  public static final String COMPACT_REPRESENTATION_PROPERTY = "gradoop.properties.compact";
+
   /**
    * Default capacity for new property lists.
    */
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * True, if new properties use the compact representation.
+   */
+  private static volatile boolean COMPACT_REPRESENTATION =
+    Boolean.getBoolean(COMPACT_REPRESENTATION_PROPERTY);
+
+  /**
+   * Internal representation, {@code null} if the compact representation is used.
    */
   private Map<String, PropertyValue> properties;
 
+  /**
+   * Compact internal representation, {@code null} if the map representation is used.
+   */
+  private PropertyBuffer buffer;
+
   /**
    * Default constructor
    */
   public Properties() {
-    properties = new HashMap<>(DEFAULT_CAPACITY);
+    this(DEFAULT_CAPACITY);
   }
 
   /**
@@ -57,7 +98,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @param capacity initial capacity
    */
   private Properties(int capacity) {
-    properties = new HashMap<>(capacity);
+    init(capacity);
   }
 
   /**
@@ -103,13 +144,54 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     return properties;
   }
 
+  /**
+   * Enables or disables the compact representation for properties created or deserialized
+   * afterwards in the current JVM.
+   *
+   * The default is taken from the system property {@value #COMPACT_REPRESENTATION_PROPERTY}, which
+   * allows enabling the representation on all task managers of a cluster (e.g. via
+   * {@code env.java.opts}). The setting is a static one, it applies to all jobs running in a JVM
+   * and can not be chosen per job. It only affects the in-memory representation, the serialized
+   * form is the same, so JVMs using different representations can exchange properties.
+   *
+   * @param enabled true, to enable the compact representation
+   */
+  public static void setCompactRepresentation(boolean enabled) {
+    COMPACT_REPRESENTATION = enabled;
+  }
+
+  /**
+   * True, if the compact representation is enabled.
+   *
+   * @return true, if the compact representation is enabled
+   * @see #setCompactRepresentation(boolean)
+   */
+  public static boolean isCompactRepresentation() {
+    return COMPACT_REPRESENTATION;
+  }
+
+  /**
+   * Initializes the internal representation according to the current mode.
+   *
+   * @param capacity initial capacity
+   */
+  private void init(int capacity) {
+    if (COMPACT_REPRESENTATION) {
+      properties = null;
+      buffer = new PropertyBuffer(capacity);
+    } else {
+      properties = new HashMap<>(capacity);
+      buffer = null;
+    }
+  }
+
   /**
    * Returns property keys in insertion order.
    *
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    return buffer != null ? buffer.getKeys() : properties.keySet();
   }
 
   /**
@@ -119,19 +201,99 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return true, if there is a property with the given key
    */
   public boolean containsKey(String key) {
+    if (buffer != null) {
+      Objects.requireNonNull(key);
+      return buffer.containsKey(key);
+    }
     return get(key) != null;
   }
 
   /**
    * Returns the value to the given key of {@code null} if the value does not
-   * exist.
+   * exist. The stored instance is returned, i.e. changes to it are reflected in the properties.
    *
    * @param key property key
    * @return property value or {@code null} if key does not exist
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    return buffer != null ? buffer.get(key) : properties.get(key);
+  }
+
+  /**
+   * Checks if the value to the given key is a number.
+   *
+   * @param key property key
+   * @return true, if there is a property with the given key and a numeric value
+   */
+  public boolean isNumber(String key) {
+    Objects.requireNonNull(key);
+    if (buffer != null) {
+      return buffer.isNumber(key);
+    }
+    PropertyValue value = properties.get(key);
+    return value != null && value.isNumber();
+  }
+
+  /**
+   * Checks if the value to the given key is a {@code short}, {@code int} or {@code long} value,
+   * i.e. if it can be read by {@link #getLong(String)}.
+   *
+   * @param key property key
+   * @return true, if there is a property with the given key and an integral value
+   */
+  public boolean isIntegral(String key) {
+    Objects.requireNonNull(key);
+    if (buffer != null) {
+      return buffer.isIntegral(key);
+    }
+    PropertyValue value = properties.get(key);
+    return value != null && (value.isLong() || value.isInt() || value.isShort());
+  }
+
+  /**
+   * Returns the value to the given key as {@code long}. {@code short} and {@code int} values are
+   * widened. Other than {@code get(key).getLong()}, no {@link PropertyValue} or boxed value is
+   * created, neither in the compact representation nor for lazily deserialized values.
+   *
+   * @param key property key
+   * @return {@code long} value
+   * @throws NoSuchElementException if there is no property with the given key
+   * @throws UnsupportedOperationException if the value is not an integral number
+   */
+  public long getLong(String key) {
+    Objects.requireNonNull(key);
+    return buffer != null ? buffer.getLong(key) : getExisting(key).longValue();
+  }
+
+  /**
+   * Returns the numeric value to the given key as {@code double}. Other than
+   * {@code get(key).getDouble()}, values of all numeric types are accepted and, except for
+   * {@link java.math.BigDecimal} values, no object is created.
+   *
+   * @param key property key
+   * @return {@code double} value
+   * @throws NoSuchElementException if there is no property with the given key
+   * @throws UnsupportedOperationException if the value is not a number
+   */
+  public double getDouble(String key) {
+    Objects.requireNonNull(key);
+    return buffer != null ? buffer.getDouble(key) : getExisting(key).doubleValue();
+  }
+
+  /**
+   * Returns the value to the given key from the map representation.
+   *
+   * @param key property key
+   * @return property value
+   * @throws NoSuchElementException if there is no property with the given key
+   */
+  private PropertyValue getExisting(String key) {
+    PropertyValue value = properties.get(key);
+    if (value == null) {
+      throw new NoSuchElementException("No property with key " + key);
+    }
+    return value;
   }
 
   /**
@@ -154,7 +316,11 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    if (buffer != null) {
+      buffer.set(key, value);
+    } else {
+      properties.put(key, value);
+    }
   }
 
   /**
@@ -177,7 +343,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   }
 
   /**
-   * Removes the property of the given key from the list.
+   * Removes the property of the given key from the list. The stored instance is returned.
    *
    * @param key property key
    * @return the previous value associated with <tt>key</tt>, or
@@ -185,7 +351,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    return buffer != null ? buffer.remove(key) : properties.remove(key);
   }
 
   /**
@@ -204,7 +370,11 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
-    this.properties.clear();
+    if (buffer != null) {
+      buffer.clear();
+    } else {
+      this.properties.clear();
+    }
   }
 
   /**
@@ -213,7 +383,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    return buffer != null ? buffer.size() : properties.size();
   }
 
   /**
@@ -244,7 +414,23 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return Objects.equals(properties, that.properties);
+    if (buffer == null && that.buffer == null) {
+      return Objects.equals(properties, that.properties);
+    }
+    if (buffer != null && that.buffer != null) {
+      return buffer.contentEquals(that.buffer);
+    }
+    if (size() != that.size()) {
+      return false;
+    }
+    PropertyBuffer compact = buffer != null ? buffer : that.buffer;
+    Map<String, PropertyValue> map = buffer != null ? that.properties : properties;
+    for (Map.Entry<String, PropertyValue> entry : map.entrySet()) {
+      if (!compact.valueEquals(entry.getKey(), entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -255,9 +441,18 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public int hashCode() {
+    if (buffer != null) {
+      return buffer.contentHashCode();
+    }
     return properties != null ? properties.hashCode() : 0;
   }
 
+  /**
+   * Returns an iterator over all properties. The values are the stored instances, as the ones
+   * returned by {@link #get(String)}.
+   *
+   * @return property iterator
+   */
   @Override
   public Iterator<Property> iterator() {
     return toList().iterator();
@@ -269,6 +464,9 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return List of properties
    */
   public List<Property> toList() {
+    if (buffer != null) {
+      return buffer.toList();
+    }
     return  properties.entrySet().stream()
             .map(e -> Property.create(e.getKey(), e.getValue()))
             .collect(Collectors.toList());
@@ -276,30 +474,127 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    outputView.writeInt(properties.size());
+    write(outputView, true);
+  }
+
+  /**
+   * Writes the properties like {@link #write(DataOutputView)}, but omits the fingerprint of the
+   * global dictionary. This is meant for serializers which check the dictionary once per stream
+   * instead of once per record. The result can only be read by
+   * {@link #readUnchecked(DataInputView)}.
+   *
+   * @param outputView output view
+   * @throws IOException if writing fails
+   */
+  public void writeUnchecked(DataOutputView outputView) throws IOException {
+    write(outputView, false);
+  }
+
+  /**
+   * Writes the properties.
+   *
+   * @param outputView output view
+   * @param withFingerprint true, to write the fingerprint of the dictionary used to encode the keys
+   * @throws IOException if writing fails
+   */
+  private void write(DataOutputView outputView, boolean withFingerprint) throws IOException {
+    if (buffer != null) {
+      buffer.write(outputView, withFingerprint);
+      return;
+    }
+    boolean encoded = ElementDictionary.getGlobal() != null;
+    outputView.writeInt(encoded ? encodeCount(properties.size()) : properties.size());
+    if (encoded && withFingerprint) {
+      ElementDictionary.writeFingerprint(outputView);
+    }
 
     for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
-      outputView.writeUTF(entry.getKey());
+      if (encoded) {
+        ElementDictionary.writeString(entry.getKey(), outputView);
+      } else {
+        outputView.writeUTF(entry.getKey());
+      }
       entry.getValue().write(outputView);
     }
   }
 
   @Override
   public void read(DataInputView inputView) throws IOException {
+    read(inputView, true);
+  }
+
+  /**
+   * Reads properties written by {@link #writeUnchecked(DataOutputView)}. Keys are decoded using the
+   * global dictionary, the caller has to make sure that it is the one used to encode them.
+   *
+   * @param inputView input view
+   * @throws IOException if reading fails
+   * @throws IllegalStateException if the keys are encoded, but no global dictionary is installed
+   */
+  public void readUnchecked(DataInputView inputView) throws IOException {
+    read(inputView, false);
+  }
+
+  /**
+   * Reads the properties.
+   *
+   * @param inputView input view
+   * @param withFingerprint true, if encoded keys are preceded by the dictionary fingerprint
+   * @throws IOException if reading fails
+   */
+  private void read(DataInputView inputView, boolean withFingerprint) throws IOException {
+    if (COMPACT_REPRESENTATION) {
+      if (buffer == null) {
+        init(DEFAULT_CAPACITY);
+      }
+      buffer.read(inputView, withFingerprint);
+      return;
+    }
     int propertyCount = inputView.readInt();
+    boolean encoded = propertyCount < 0;
+    if (encoded) {
+      propertyCount = decodeCount(propertyCount);
+      if (withFingerprint) {
+        ElementDictionary.checkFingerprint(inputView.readLong());
+      } else {
+        ElementDictionary.requireGlobal();
+      }
+    }
     this.properties = new HashMap<>(propertyCount);
+    this.buffer = null;
 
     String key;
     PropertyValue value;
 
     for (int i = 0; i < propertyCount; i++) {
-      key = inputView.readUTF();
+      key = encoded ? ElementDictionary.readString(inputView) : inputView.readUTF();
       value = new PropertyValue();
       value.read(inputView);
       properties.put(key, value);
     }
   }
 
+  /**
+   * Encodes the property count of a serialized property list whose keys are encoded using the
+   * global {@link ElementDictionary}.
+   *
+   * @param count property count
+   * @return negative count marking dictionary encoded keys
+   */
+  static int encodeCount(int count) {
+    return -count - 1;
+  }
+
+  /**
+   * Decodes a property count encoded by {@link #encodeCount(int)}.
+   *
+   * @param encodedCount negative count
+   * @return property count
+   */
+  static int decodeCount(int encodedCount) {
+    return -encodedCount - 1;
+  }
+
   @Override
   public String toString() {
     return toList().stream()
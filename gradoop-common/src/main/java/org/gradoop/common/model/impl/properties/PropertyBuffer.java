@@ -0,0 +1,1050 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.strategies.PropertyValueStrategy;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
+import org.gradoop.common.model.impl.properties.storage.LargeValue;
+import org.gradoop.common.model.impl.properties.storage.LargeValueStore;
+import org.gradoop.common.model.impl.properties.strategies.AbstractFixSizedPropertyValueStrategy;
+import org.gradoop.common.model.impl.properties.strategies.PropertyValueStrategyFactory;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Flat representation of a set of properties used by {@link Properties} in compact mode.
+ *
+ * All properties are stored in a single byte array, using the same layout as the serialized form
+ * of {@link Properties}: each entry consists of the property key (as written by
+ * {@link DataOutputView#writeUTF(String)}) followed by the serialized {@link PropertyValue}. An
+ * offset table stores the start of each entry. Thus, the buffer is written and read as a single
+ * blob and no per-property objects are kept in memory.
+ *
+ * If a global {@link ElementDictionary} is installed when the buffer is created, or if the buffer
+ * is read from dictionary encoded input, keys are stored as dictionary ids (see
+ * {@link ElementDictionary#writeString(String, DataOutputView)}). The buffer keeps the fingerprint of
+ * that dictionary and fails to access its keys if another dictionary is installed later.
+ *
+ * Values kept in a {@link LargeValueStore} are not copied into the buffer. Instead, the entry
+ * contains the type byte with {@link PropertyValue#FLAG_LARGE} set, followed by a negative
+ * {@code int} referencing the handle in {@link #largeValues}. Such entries are expanded when the
+ * buffer is written.
+ *
+ * Values passed to {@link #set(String, PropertyValue)} or returned by {@link #get(String)} and
+ * {@link #toList()} stay linked to their entry, as the values of a map do: changes to them (e.g.
+ * {@code get(key).setLong(1L)} or adding to a returned list) are visible to later reads and are
+ * written with the buffer. The entry of a linked value holds a placeholder, the value is serialized
+ * when the buffer is written. Values read with the buffer are only kept in their serialized form
+ * until they are requested, {@link #getLong(String)}, {@link #getDouble(String)} and the type
+ * checks read them without linking. Equality and hash codes are computed on the serialized entries
+ * of values which are not linked.
+ */
+class PropertyBuffer implements Serializable {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Number of bytes used to store the length of a property key.
+   */
+  private static final int KEY_LENGTH_SIZE = Bytes.SIZEOF_SHORT;
+
+  /**
+   * Number of bytes used to store the dictionary id of a property key.
+   */
+  private static final int KEY_ID_SIZE = Bytes.SIZEOF_SHORT;
+
+  /**
+   * Number of bytes used to reference a value kept in a {@link LargeValueStore}.
+   */
+  private static final int LARGE_VALUE_REFERENCE_SIZE = 1 + Bytes.SIZEOF_INT;
+
+  /**
+   * Initial size of the buffer used to serialize a single entry.
+   */
+  private static final int INITIAL_ENTRY_SIZE = 64;
+
+  /**
+   * Serialized entries, only the first {@link #length} bytes are valid.
+   */
+  private byte[] data;
+
+  /**
+   * Number of valid bytes in {@link #data}.
+   */
+  private int length;
+
+  /**
+   * Start offsets of the entries, only the first {@link #count} offsets are valid.
+   */
+  private int[] offsets;
+
+  /**
+   * Number of entries.
+   */
+  private int count;
+
+  /**
+   * True, if keys are encoded using the global {@link ElementDictionary}.
+   */
+  private boolean encoded;
+
+  /**
+   * Fingerprint of the dictionary used to encode the keys, only valid if {@link #encoded} is set.
+   */
+  private long fingerprint;
+
+  /**
+   * Handles of values kept in a {@link LargeValueStore}, only the first {@link #largeCount}
+   * handles are valid. Handles of replaced entries are set to {@code null}.
+   */
+  private LargeValue[] largeValues;
+
+  /**
+   * Number of referenced handles.
+   */
+  private int largeCount;
+
+  /**
+   * Values set or returned by entry index, {@code null} for entries whose value was neither set nor
+   * requested since the buffer was read. A linked value may have been modified by the caller and
+   * replaces the placeholder of its entry. The array is created on the first link and may be
+   * shorter than {@link #offsets}.
+   */
+  private PropertyValue[] linkedValues;
+
+  /**
+   * Index of the entry found by the last lookup. Callers often look up the same key repeatedly,
+   * e.g. to check the type of a value before reading it, thus this entry is compared first.
+   */
+  private transient int lastIndex;
+
+  /**
+   * Creates an empty buffer with the given initial capacity (number of properties).
+   *
+   * @param capacity initial capacity
+   */
+  PropertyBuffer(int capacity) {
+    this.data = new byte[0];
+    this.offsets = new int[capacity];
+    initEncoding();
+  }
+
+  /**
+   * Returns the number of properties.
+   *
+   * @return number of properties
+   */
+  int size() {
+    return count;
+  }
+
+  /**
+   * Returns the value to the given key or {@code null} if the key does not exist. The returned
+   * value is linked to the entry, i.e. changes to it are reflected in the buffer and the same
+   * instance is returned by subsequent calls.
+   *
+   * @param key property key
+   * @return property value or {@code null}
+   */
+  PropertyValue get(String key) {
+    int index = indexOf(key);
+    return index < 0 ? null : linkedValueAt(index);
+  }
+
+  /**
+   * Checks if the value to the given key is a number.
+   *
+   * @param key property key
+   * @return true, if there is a property with the given key and a numeric value
+   */
+  boolean isNumber(String key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return false;
+    }
+    PropertyValue value = linkedValue(index);
+    if (value != null) {
+      return value.isNumber();
+    }
+    byte typeByte = data[keyEnd(offsets[index])];
+    return PropertyValue.isFixedSizeNumber(typeByte) || typeByte == Type.BIG_DECIMAL.getTypeByte();
+  }
+
+  /**
+   * Checks if the value to the given key is a {@code short}, {@code int} or {@code long} value.
+   *
+   * @param key property key
+   * @return true, if there is a property with the given key and an integral value
+   */
+  boolean isIntegral(String key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return false;
+    }
+    PropertyValue value = linkedValue(index);
+    if (value != null) {
+      return value.isLong() || value.isInt() || value.isShort();
+    }
+    return PropertyValue.isIntegral(data[keyEnd(offsets[index])]);
+  }
+
+  /**
+   * Returns the integral value to the given key as {@code long}. The value is read from the buffer
+   * without deserializing it.
+   *
+   * @param key property key
+   * @return {@code long} value
+   * @throws NoSuchElementException if there is no property with the given key
+   * @throws UnsupportedOperationException if the value is not an integral number
+   */
+  long getLong(String key) {
+    int index = existingIndexOf(key);
+    PropertyValue value = linkedValue(index);
+    if (value != null) {
+      return value.longValue();
+    }
+    int offset = keyEnd(offsets[index]);
+    if (PropertyValue.isIntegral(data[offset])) {
+      return PropertyValue.longValue(data, offset);
+    }
+    return valueAt(index).longValue();
+  }
+
+  /**
+   * Returns the numeric value to the given key as {@code double}. Values of a fixed size type are
+   * read from the buffer without deserializing them.
+   *
+   * @param key property key
+   * @return {@code double} value
+   * @throws NoSuchElementException if there is no property with the given key
+   * @throws UnsupportedOperationException if the value is not a number
+   */
+  double getDouble(String key) {
+    int index = existingIndexOf(key);
+    PropertyValue value = linkedValue(index);
+    if (value != null) {
+      return value.doubleValue();
+    }
+    int offset = keyEnd(offsets[index]);
+    if (PropertyValue.isFixedSizeNumber(data[offset])) {
+      return PropertyValue.doubleValue(data, offset);
+    }
+    return valueAt(index).doubleValue();
+  }
+
+  /**
+   * Checks if a property with the given key is contained in the buffer.
+   *
+   * @param key property key
+   * @return true, if there is a property with the given key
+   */
+  boolean containsKey(String key) {
+    return indexOf(key) >= 0;
+  }
+
+  /**
+   * Sets the given property, an existing property with the same key is replaced. The given instance
+   * is linked to the entry, i.e. later changes to it are reflected in the buffer, and is only
+   * serialized when the buffer is written.
+   *
+   * @param key property key
+   * @param value property value
+   */
+  void set(String key, PropertyValue value) {
+    DataOutputSerializer out = new DataOutputSerializer(INITIAL_ENTRY_SIZE);
+    try {
+      if (encoded) {
+        // fails if the dictionary was replaced since the buffer was created
+        dictionary();
+        ElementDictionary.writeString(key, out);
+      } else {
+        out.writeUTF(key);
+      }
+      // placeholder, the linked value is serialized when the buffer is written
+      out.writeByte(Type.NULL.getTypeByte());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while serializing property " + key, e);
+    }
+    int index = indexOf(key);
+    if (index < 0) {
+      ensureCapacity(length + out.length());
+      System.arraycopy(out.getSharedBuffer(), 0, data, length, out.length());
+      appendOffset(length);
+      length += out.length();
+      index = count - 1;
+    } else {
+      replace(index, out.getSharedBuffer(), out.length());
+    }
+    link(index, value);
+  }
+
+  /**
+   * Removes the property with the given key.
+   *
+   * @param key property key
+   * @return the removed value or {@code null} if there was no property with that key
+   */
+  PropertyValue remove(String key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    PropertyValue value = currentValue(index);
+    replace(index, data, 0);
+    System.arraycopy(offsets, index + 1, offsets, index, count - index - 1);
+    if (linkedValues != null && index < linkedValues.length) {
+      int end = Math.min(count, linkedValues.length);
+      System.arraycopy(linkedValues, index + 1, linkedValues, index, end - index - 1);
+      linkedValues[end - 1] = null;
+    }
+    count--;
+    return value;
+  }
+
+  /**
+   * Removes all properties.
+   */
+  void clear() {
+    length = 0;
+    count = 0;
+    initEncoding();
+    clearLargeValues();
+    clearLinkedValues();
+  }
+
+  /**
+   * Returns the property keys in insertion order.
+   *
+   * @return property keys
+   */
+  List<String> getKeys() {
+    List<String> keys = new ArrayList<>(count);
+    DataInputDeserializer in = new DataInputDeserializer();
+    try {
+      for (int i = 0; i < count; i++) {
+        in.setBuffer(data, offsets[i], length - offsets[i]);
+        keys.add(readKey(in));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while deserializing property key", e);
+    }
+    return keys;
+  }
+
+  /**
+   * Returns all properties in insertion order. The values are linked to their entries, as the ones
+   * returned by {@link #get(String)}.
+   *
+   * @return list of properties
+   */
+  List<Property> toList() {
+    List<Property> properties = new ArrayList<>(count);
+    DataInputDeserializer in = new DataInputDeserializer(data, 0, length);
+    try {
+      for (int i = 0; i < count; i++) {
+        String key = readKey(in);
+        in.skipBytesToRead(entryEnd(i) - keyEnd(offsets[i]));
+        properties.add(Property.create(key, linkedValueAt(i)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while deserializing properties", e);
+    }
+    return properties;
+  }
+
+  /**
+   * Checks if the given buffer contains the same properties. Keys and values are compared on their
+   * serialized form, only linked, large and container values are deserialized for comparison.
+   *
+   * @param other other buffer
+   * @return true, if both buffers contain the same properties
+   */
+  boolean contentEquals(PropertyBuffer other) {
+    if (count != other.count) {
+      return false;
+    }
+    boolean sameEncoding = encoded == other.encoded && fingerprint == other.fingerprint;
+    for (int i = 0; i < count; i++) {
+      int otherIndex = sameEncoding ?
+        other.indexOfKey(data, offsets[i], keyEnd(offsets[i])) : other.indexOf(keyAt(i));
+      if (otherIndex < 0 || !valueEquals(i, other, otherIndex)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the value to the given key equals the given value.
+   *
+   * @param key property key
+   * @param value property value
+   * @return true, if there is a property with the given key and an equal value
+   */
+  boolean valueEquals(String key, PropertyValue value) {
+    int index = indexOf(key);
+    return index >= 0 && currentValue(index).equals(value);
+  }
+
+  /**
+   * Computes the hash code of the properties on the serialized entries. The hash code is the same
+   * as the one of a map containing the same properties.
+   *
+   * @return hash code
+   */
+  int contentHashCode() {
+    int hashCode = 0;
+    for (int i = 0; i < count; i++) {
+      hashCode += keyHashCode(offsets[i]) ^ valueHashCode(i);
+    }
+    return hashCode;
+  }
+
+  /**
+   * Writes the buffer to the given output view, using the serialized form of {@link Properties}.
+   *
+   * @param outputView output view
+   * @param withFingerprint true, to write the fingerprint of the dictionary used to encode the keys
+   * @throws IOException if writing fails
+   * @throws IllegalStateException if the fingerprint is omitted and the keys were encoded by another
+   * than the global dictionary
+   */
+  void write(DataOutputView outputView, boolean withFingerprint) throws IOException {
+    outputView.writeInt(encoded ? Properties.encodeCount(count) : count);
+    if (encoded) {
+      if (withFingerprint) {
+        outputView.writeLong(fingerprint);
+      } else {
+        // the reader decodes the keys with its global dictionary
+        dictionary();
+      }
+    }
+    if (largeCount == 0 && linkedValues == null) {
+      outputView.write(data, 0, length);
+      return;
+    }
+    for (int i = 0; i < count; i++) {
+      int start = offsets[i];
+      int end = entryEnd(i);
+      int valueOffset = keyEnd(start);
+      LargeValue largeValue = largeValueAt(valueOffset);
+      PropertyValue linkedValue = linkedValue(i);
+      if (linkedValue != null) {
+        outputView.write(data, start, valueOffset - start);
+        linkedValue.write(outputView);
+      } else if (largeValue != null) {
+        outputView.write(data, start, valueOffset - start);
+        largeValue.write(outputView);
+      } else {
+        outputView.write(data, start, end - start);
+      }
+    }
+  }
+
+  /**
+   * Reads the serialized form of {@link Properties} into the buffer. Entries are copied as they
+   * are, neither keys nor values are deserialized. If a global {@link LargeValueStore} is
+   * installed, large values are copied into the store instead.
+   *
+   * @param inputView input view
+   * @param withFingerprint true, if encoded keys are preceded by the dictionary fingerprint,
+   *                        otherwise they are assumed to be encoded by the global dictionary
+   * @throws IOException if reading fails
+   */
+  void read(DataInputView inputView, boolean withFingerprint) throws IOException {
+    int propertyCount = inputView.readInt();
+    encoded = propertyCount < 0;
+    if (encoded) {
+      propertyCount = Properties.decodeCount(propertyCount);
+      fingerprint = withFingerprint ?
+        inputView.readLong() : ElementDictionary.requireGlobal().getFingerprint();
+      // fail fast instead of on the first access
+      dictionary();
+    }
+    length = 0;
+    count = 0;
+    clearLargeValues();
+    clearLinkedValues();
+    LargeValueStore store = LargeValueStore.getGlobal();
+    if (offsets.length < propertyCount) {
+      offsets = new int[propertyCount];
+    }
+    for (int i = 0; i < propertyCount; i++) {
+      appendOffset(length);
+      // key
+      if (encoded) {
+        int id = inputView.readUnsignedShort();
+        ensureCapacity(length + KEY_ID_SIZE);
+        length = Bytes.putShort(data, length, (short) id);
+        if (id == ElementDictionary.NO_ID) {
+          copyKey(inputView);
+        }
+      } else {
+        copyKey(inputView);
+      }
+      // value
+      byte typeByte = inputView.readByte();
+      ensureCapacity(length + 1);
+      data[length++] = typeByte;
+      int valueLength;
+      PropertyValueStrategy strategy =
+        PropertyValueStrategyFactory.get((byte) (~PropertyValue.FLAG_LARGE & typeByte));
+      if (strategy instanceof AbstractFixSizedPropertyValueStrategy) {
+        valueLength = ((AbstractFixSizedPropertyValueStrategy) strategy).getValueSize();
+      } else if (strategy.getType() == null) {
+        valueLength = 0;
+      } else if ((typeByte & PropertyValue.FLAG_LARGE) == PropertyValue.FLAG_LARGE) {
+        valueLength = inputView.readInt();
+        ensureCapacity(length + Bytes.SIZEOF_INT);
+        if (store != null) {
+          LargeValue largeValue = store.store(strategy.getRawType(), inputView, valueLength);
+          length = Bytes.putInt(data, length, addLargeValue(largeValue));
+          valueLength = 0;
+        } else {
+          length = Bytes.putInt(data, length, valueLength);
+        }
+      } else {
+        valueLength = inputView.readShort();
+        ensureCapacity(length + Bytes.SIZEOF_SHORT);
+        length = Bytes.putShort(data, length, (short) valueLength);
+      }
+      ensureCapacity(length + valueLength);
+      inputView.readFully(data, length, valueLength);
+      length += valueLength;
+    }
+  }
+
+  /**
+   * Copies a property key written by {@link DataOutputView#writeUTF(String)} from the given input
+   * view to the end of the buffer.
+   *
+   * @param inputView input view
+   * @throws IOException if reading fails
+   */
+  private void copyKey(DataInputView inputView) throws IOException {
+    int keyLength = inputView.readUnsignedShort();
+    ensureCapacity(length + KEY_LENGTH_SIZE + keyLength);
+    length = Bytes.putShort(data, length, (short) keyLength);
+    inputView.readFully(data, length, keyLength);
+    length += keyLength;
+  }
+
+  /**
+   * Reads a property key, depending on the key encoding of the buffer.
+   *
+   * @param in input positioned at the start of a key
+   * @return property key
+   * @throws IOException if reading fails
+   */
+  private String readKey(DataInputView in) throws IOException {
+    if (!encoded) {
+      return in.readUTF();
+    }
+    int id = in.readUnsignedShort();
+    return id == ElementDictionary.NO_ID ? in.readUTF() : dictionary().getString(id);
+  }
+
+  /**
+   * Deserializes the key of the entry at the given index.
+   *
+   * @param index entry index
+   * @return property key
+   */
+  private String keyAt(int index) {
+    try {
+      return readKey(new DataInputDeserializer(data, offsets[index], length - offsets[index]));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while deserializing property key", e);
+    }
+  }
+
+  /**
+   * Computes the hash code of the key of the entry starting at the given offset, which is the hash
+   * code of the key string. ASCII keys are not deserialized.
+   *
+   * @param offset entry offset
+   * @return hash code of the key
+   */
+  private int keyHashCode(int offset) {
+    int start = offset;
+    if (encoded) {
+      int id = Bytes.toShort(data, start) & 0xFFFF;
+      if (id != ElementDictionary.NO_ID) {
+        return dictionary().getString(id).hashCode();
+      }
+      start += KEY_ID_SIZE;
+    }
+    int keyLength = Bytes.toShort(data, start) & 0xFFFF;
+    start += KEY_LENGTH_SIZE;
+    int hashCode = 0;
+    for (int i = start; i < start + keyLength; i++) {
+      if (data[i] <= 0) {
+        DataInputDeserializer in = new DataInputDeserializer(data, offset, length - offset);
+        try {
+          return readKey(in).hashCode();
+        } catch (IOException e) {
+          throw new UncheckedIOException("Error while deserializing property key", e);
+        }
+      }
+      hashCode = 31 * hashCode + data[i];
+    }
+    return hashCode;
+  }
+
+  /**
+   * Initializes the key encoding of an empty buffer according to the global dictionary.
+   */
+  private void initEncoding() {
+    ElementDictionary dictionary = ElementDictionary.getGlobal();
+    encoded = dictionary != null;
+    fingerprint = encoded ? dictionary.getFingerprint() : 0;
+  }
+
+  /**
+   * Returns the dictionary used to encode the keys.
+   *
+   * @return global dictionary
+   * @throws IllegalStateException if the global dictionary is not the one used to encode the keys
+   */
+  private ElementDictionary dictionary() {
+    return ElementDictionary.checkFingerprint(fingerprint);
+  }
+
+  /**
+   * Returns the index of the entry with the given key or {@code -1}.
+   *
+   * @param key property key
+   * @return entry index or {@code -1}
+   */
+  private int indexOf(String key) {
+    int id = encoded ? dictionary().getId(key) : ElementDictionary.NO_ID;
+    int hint = lastIndex;
+    if (hint < count && hasKey(hint, key, id)) {
+      return hint;
+    }
+    for (int i = 0; i < count; i++) {
+      if (i != hint && hasKey(i, key, id)) {
+        lastIndex = i;
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks if the entry at the given index has the given key.
+   *
+   * @param index entry index
+   * @param key property key
+   * @param id dictionary id of the key, only used if keys are encoded
+   * @return true, if the entry has the given key
+   */
+  private boolean hasKey(int index, String key, int id) {
+    int offset = offsets[index];
+    if (!encoded) {
+      return keyEquals(offset, key);
+    }
+    int storedId = Bytes.toShort(data, offset) & 0xFFFF;
+    return storedId == ElementDictionary.NO_ID ?
+      keyEquals(offset + KEY_ID_SIZE, key) : storedId == id;
+  }
+
+  /**
+   * Returns the index of the entry whose serialized key equals the given bytes or {@code -1}.
+   *
+   * @param key array containing the serialized key
+   * @param from start of the serialized key
+   * @param to end of the serialized key (exclusive)
+   * @return entry index or {@code -1}
+   */
+  private int indexOfKey(byte[] key, int from, int to) {
+    for (int i = 0; i < count; i++) {
+      if (rangeEquals(data, offsets[i], keyEnd(offsets[i]), key, from, to)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the entry with the given key.
+   *
+   * @param key property key
+   * @return entry index
+   * @throws NoSuchElementException if there is no entry with the given key
+   */
+  private int existingIndexOf(String key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      throw new NoSuchElementException("No property with key " + key);
+    }
+    return index;
+  }
+
+  /**
+   * Compares the key stored at the given offset with the given key without deserializing it.
+   * Keys containing non-ASCII characters are deserialized for comparison.
+   *
+   * @param offset offset of the key length
+   * @param key property key
+   * @return true, if both keys are equal
+   */
+  private boolean keyEquals(int offset, String key) {
+    int keyLength = Bytes.toShort(data, offset) & 0xFFFF;
+    int start = offset + KEY_LENGTH_SIZE;
+    if (keyLength == key.length()) {
+      boolean ascii = true;
+      for (int i = 0; i < keyLength && ascii; i++) {
+        char c = key.charAt(i);
+        if (c == 0 || c > 0x7F) {
+          ascii = false;
+        } else if (data[start + i] != c) {
+          return false;
+        }
+      }
+      if (ascii) {
+        return true;
+      }
+    } else if (keyLength < key.length()) {
+      // modified UTF-8 needs at least one byte per char
+      return false;
+    }
+    DataInputDeserializer in = new DataInputDeserializer(data, offset, length - offset);
+    try {
+      return key.equals(in.readUTF());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while deserializing property key", e);
+    }
+  }
+
+  /**
+   * Deserializes the value of the entry at the given index.
+   *
+   * @param index entry index
+   * @return property value
+   */
+  private PropertyValue valueAt(int index) {
+    int offset = keyEnd(offsets[index]);
+    LargeValue largeValue = largeValueAt(offset);
+    if (largeValue != null) {
+      return PropertyValue.fromLargeValue(largeValue);
+    }
+    PropertyValue value = new PropertyValue();
+    try {
+      value.read(new DataInputDeserializer(data, offset, length - offset));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while deserializing property value", e);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the value of the entry at the given index. A deserialized value is linked to the entry.
+   *
+   * @param index entry index
+   * @return linked value
+   */
+  private PropertyValue linkedValueAt(int index) {
+    PropertyValue value = linkedValue(index);
+    if (value == null) {
+      value = valueAt(index);
+      link(index, value);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the value of the entry at the given index without linking it.
+   *
+   * @param index entry index
+   * @return linked or deserialized value
+   */
+  private PropertyValue currentValue(int index) {
+    PropertyValue value = linkedValue(index);
+    return value != null ? value : valueAt(index);
+  }
+
+  /**
+   * Checks if the value at the given index equals the value of an entry of another buffer. Values
+   * are compared on their serialized form unless one of them is linked, large or a container.
+   *
+   * @param index entry index
+   * @param other other buffer
+   * @param otherIndex entry index in the other buffer
+   * @return true, if both values are equal
+   */
+  private boolean valueEquals(int index, PropertyBuffer other, int otherIndex) {
+    int offset = keyEnd(offsets[index]);
+    int otherOffset = other.keyEnd(other.offsets[otherIndex]);
+    if (!isSerialized(index, offset) || !other.isSerialized(otherIndex, otherOffset)) {
+      return currentValue(index).equals(other.currentValue(otherIndex));
+    }
+    return rangeEquals(data, offset, entryEnd(index),
+      other.data, otherOffset, other.entryEnd(otherIndex));
+  }
+
+  /**
+   * Computes the hash code of the value at the given index, which is the hash code of its raw bytes
+   * (see {@link PropertyValue#hashCode()}). Values which are serialized in the buffer are not
+   * deserialized.
+   *
+   * @param index entry index
+   * @return hash code of the value
+   */
+  private int valueHashCode(int index) {
+    int offset = keyEnd(offsets[index]);
+    if (!isSerialized(index, offset)) {
+      return currentValue(index).hashCode();
+    }
+    // raw bytes consist of the type byte and the value, without the length of the value
+    int hashCode = 31 + typeAt(offset);
+    for (int i = payloadOffset(offset); i < entryEnd(index); i++) {
+      hashCode = 31 * hashCode + data[i];
+    }
+    return hashCode;
+  }
+
+  /**
+   * Checks if the value at the given index is completely serialized in the buffer, i.e. it is
+   * neither linked nor large nor a container, whose serialized form is not canonical.
+   *
+   * @param index entry index
+   * @param offset offset of the serialized value
+   * @return true, if the value can be compared on its serialized form
+   */
+  private boolean isSerialized(int index, int offset) {
+    return linkedValue(index) == null && largeValueAt(offset) == null &&
+      !PropertyValue.isContainerType(typeAt(offset));
+  }
+
+  /**
+   * Returns the type byte of the value at the given offset without the large flag.
+   *
+   * @param offset offset of the serialized value
+   * @return type byte
+   */
+  private byte typeAt(int offset) {
+    return (byte) (~PropertyValue.FLAG_LARGE & data[offset]);
+  }
+
+  /**
+   * Returns the offset of the value bytes of the serialized value at the given offset, skipping the
+   * type byte and the length of variable sized values.
+   *
+   * @param offset offset of the serialized value
+   * @return offset of the value bytes
+   */
+  private int payloadOffset(int offset) {
+    PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(typeAt(offset));
+    if (strategy instanceof AbstractFixSizedPropertyValueStrategy || strategy.getType() == null) {
+      return offset + 1;
+    }
+    return (data[offset] & PropertyValue.FLAG_LARGE) == PropertyValue.FLAG_LARGE ?
+      offset + 1 + Bytes.SIZEOF_INT : offset + 1 + Bytes.SIZEOF_SHORT;
+  }
+
+  /**
+   * Returns the offset of the first byte after the entry at the given index.
+   *
+   * @param index entry index
+   * @return end of the entry
+   */
+  private int entryEnd(int index) {
+    return index + 1 < count ? offsets[index + 1] : length;
+  }
+
+  /**
+   * Compares two byte ranges.
+   *
+   * @param a first array
+   * @param aFrom start of the first range
+   * @param aTo end of the first range (exclusive)
+   * @param b second array
+   * @param bFrom start of the second range
+   * @param bTo end of the second range (exclusive)
+   * @return true, if both ranges contain the same bytes
+   */
+  private static boolean rangeEquals(byte[] a, int aFrom, int aTo, byte[] b, int bFrom, int bTo) {
+    if (aTo - aFrom != bTo - bFrom) {
+      return false;
+    }
+    for (int i = 0; i < aTo - aFrom; i++) {
+      if (a[aFrom + i] != b[bFrom + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the offset of the first byte after the key of the entry starting at the given offset.
+   *
+   * @param offset entry offset
+   * @return offset of the serialized value
+   */
+  private int keyEnd(int offset) {
+    if (encoded) {
+      if ((Bytes.toShort(data, offset) & 0xFFFF) != ElementDictionary.NO_ID) {
+        return offset + KEY_ID_SIZE;
+      }
+      offset += KEY_ID_SIZE;
+    }
+    return offset + KEY_LENGTH_SIZE + (Bytes.toShort(data, offset) & 0xFFFF);
+  }
+
+  /**
+   * Replaces the entry at the given index by the given bytes.
+   *
+   * @param index entry index
+   * @param entry serialized entry
+   * @param entryLength number of valid bytes in the entry
+   */
+  private void replace(int index, byte[] entry, int entryLength) {
+    int start = offsets[index];
+    releaseLargeValue(keyEnd(start));
+    int end = entryEnd(index);
+    int delta = entryLength - (end - start);
+    ensureCapacity(length + delta);
+    System.arraycopy(data, end, data, end + delta, length - end);
+    System.arraycopy(entry, 0, data, start, entryLength);
+    length += delta;
+    for (int i = index + 1; i < count; i++) {
+      offsets[i] += delta;
+    }
+  }
+
+  /**
+   * Returns the handle referenced by the value at the given offset.
+   *
+   * @param offset offset of the serialized value
+   * @return handle or {@code null} if the value is stored in the buffer
+   */
+  private LargeValue largeValueAt(int offset) {
+    if (largeCount == 0 || (data[offset] & PropertyValue.FLAG_LARGE) != PropertyValue.FLAG_LARGE) {
+      return null;
+    }
+    int reference = Bytes.toInt(data, offset + 1);
+    return reference < 0 ? largeValues[-reference - 1] : null;
+  }
+
+  /**
+   * Adds a handle to the referenced handles.
+   *
+   * @param largeValue handle
+   * @return negative reference to be stored instead of the value length
+   */
+  private int addLargeValue(LargeValue largeValue) {
+    if (largeValues == null) {
+      largeValues = new LargeValue[4];
+    } else if (largeCount == largeValues.length) {
+      largeValues = Arrays.copyOf(largeValues, largeCount * 2);
+    }
+    largeValues[largeCount++] = largeValue;
+    return -largeCount;
+  }
+
+  /**
+   * Drops the reference to the handle referenced by the value at the given offset, if any.
+   *
+   * @param offset offset of the serialized value
+   */
+  private void releaseLargeValue(int offset) {
+    if (largeValueAt(offset) != null) {
+      largeValues[-Bytes.toInt(data, offset + 1) - 1] = null;
+    }
+  }
+
+  /**
+   * Drops all references to handles.
+   */
+  private void clearLargeValues() {
+    if (largeValues != null) {
+      Arrays.fill(largeValues, 0, largeCount, null);
+    }
+    largeCount = 0;
+  }
+
+  /**
+   * Returns the value linked to the entry at the given index.
+   *
+   * @param index entry index
+   * @return linked value or {@code null}
+   */
+  private PropertyValue linkedValue(int index) {
+    return linkedValues != null && index < linkedValues.length ? linkedValues[index] : null;
+  }
+
+  /**
+   * Links a value to the entry at the given index.
+   *
+   * @param index entry index
+   * @param value value to link or {@code null} to drop the link
+   */
+  private void link(int index, PropertyValue value) {
+    if (linkedValues == null || linkedValues.length <= index) {
+      if (value == null) {
+        return;
+      }
+      linkedValues = linkedValues == null ? new PropertyValue[offsets.length] :
+        Arrays.copyOf(linkedValues, offsets.length);
+    }
+    linkedValues[index] = value;
+  }
+
+  /**
+   * Drops all linked values.
+   */
+  private void clearLinkedValues() {
+    linkedValues = null;
+  }
+
+  /**
+   * Appends an entry offset to the offset table.
+   *
+   * @param offset entry offset
+   */
+  private void appendOffset(int offset) {
+    if (count == offsets.length) {
+      offsets = Arrays.copyOf(offsets, Math.max(4, count * 2));
+    }
+    offsets[count++] = offset;
+  }
+
+  /**
+   * Makes sure that the data array can hold the given number of bytes.
+   *
+   * @param capacity required capacity in bytes
+   */
+  private void ensureCapacity(int capacity) {
+    if (data.length < capacity) {
+      data = Arrays.copyOf(data, Math.max(capacity, data.length + (data.length >> 1)));
+    }
+  }
+}
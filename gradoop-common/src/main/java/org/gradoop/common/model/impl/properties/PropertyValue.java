@@ -21,6 +21,9 @@ import org.apache.flink.types.Value;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.api.strategies.PropertyValueStrategy;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
+import org.gradoop.common.model.impl.properties.storage.LargeValue;
+import org.gradoop.common.model.impl.properties.storage.LargeValueStore;
 import org.gradoop.common.model.impl.properties.strategies.PropertyValueStrategyFactory;
 import org.gradoop.common.util.GradoopConstants;
 import java.io.IOException;
@@ -39,6 +42,16 @@ import java.util.Set;
  * Represents a single property value in the EPGM.
  *
  * A property value wraps a value that implements a supported data type.
+ *
+ * If lazy deserialization is enabled (see {@link #setLazyDeserialization(boolean)}), a property
+ * value that is read from a {@link DataInputView} or created from raw bytes keeps its byte
+ * representation and deserializes the wrapped object only on first typed access. Comparing,
+ * hashing, copying and serializing such a value works directly on the bytes.
+ *
+ * If a global {@link LargeValueStore} is installed, large values (see {@link #FLAG_LARGE}) read
+ * from a {@link DataInputView} are kept in the store and the property value only holds a
+ * {@link LargeValue} handle, independent of lazy deserialization. Copying such a value shares the
+ * handle, the wrapped object is deserialized only on typed access.
  */
 public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
 
@@ -68,15 +81,52 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public static final transient int LARGE_PROPERTY_THRESHOLD = Short.MAX_VALUE;
 
+  /**
+   * Name of the system property used to enable lazy deserialization by default.
+   *
+   * @see #setLazyDeserialization(boolean)
+   */
+  public static final String LAZY_DESERIALIZATION_PROPERTY = "gradoop.propertyvalue.lazy";
+
   /**
    * Class version for serialization.
    */
   private static final long serialVersionUID = 1L;
 
   /**
-   * Stores the object representation of the value
+   * True, if deserialized property values keep their byte representation and materialize the
+   * wrapped object on demand.
+   */
+  private static volatile boolean LAZY_DESERIALIZATION =
+    Boolean.getBoolean(LAZY_DESERIALIZATION_PROPERTY);
+
+  /**
+   * Stores the object representation of the value, may be {@code null} if the value has not been
+   * materialized from {@link #rawBytes} yet. Volatile, since reading a lazily deserialized value
+   * publishes the materialized object, possibly while other threads read the same instance
+   * (e.g. a broadcast variable).
+   */
+  private volatile Object value;
+
+  /**
+   * Stores the byte representation of a lazily deserialized value, {@code null} if the value is
+   * only represented by {@link #value}. The array is never modified. Once a container value is
+   * materialized, the bytes are outdated and ignored, see {@link #currentRawBytes()}.
+   */
+  private byte[] rawBytes;
+
+  /**
+   * Handle of a value kept in a {@link LargeValueStore}, {@code null} if the value is not stored
+   * there. If set, {@link #rawBytes} is {@code null}.
    */
-  private Object value;
+  private LargeValue largeValue;
+
+  /**
+   * Strategy of the wrapped value, cached whenever the value is set to avoid repeated lookups by
+   * class. May be {@code null} if it has not been determined yet (e.g. after Java serialization),
+   * use {@link #strategy()} to access it.
+   */
+  private transient PropertyValueStrategy strategy;
 
   /**
    * Default constructor.
@@ -133,9 +183,162 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return property value
    */
   public PropertyValue copy() {
+    byte[] bytes = currentRawBytes();
+    LargeValue large = currentLargeValue();
+    if (bytes != null || large != null) {
+      // the byte representation is immutable and can be shared
+      PropertyValue copy = new PropertyValue();
+      copy.rawBytes = bytes;
+      copy.largeValue = large;
+      copy.strategy = strategy;
+      return copy;
+    }
     return new PropertyValue(getRawBytes());
   }
 
+  //----------------------------------------------------------------------------
+  // Lazy deserialization
+  //----------------------------------------------------------------------------
+
+  /**
+   * Enables or disables lazy deserialization of property values in the current JVM.
+   *
+   * If enabled, {@link #read(DataInputView)}, {@link #setBytes(byte[])} and
+   * {@link #fromRawBytes(byte[])} only keep the byte representation of the value. The wrapped
+   * object is deserialized on first typed access, while {@link #equals(Object)},
+   * {@link #hashCode()}, {@link #compareTo(PropertyValue)}, {@link #copy()} and
+   * {@link #write(DataOutputView)} work on the bytes.
+   *
+   * The default is taken from the system property {@value #LAZY_DESERIALIZATION_PROPERTY}, which
+   * allows enabling the mode on all task managers of a cluster (e.g. via {@code env.java.opts}).
+   *
+   * @param enabled true, to enable lazy deserialization
+   */
+  public static void setLazyDeserialization(boolean enabled) {
+    LAZY_DESERIALIZATION = enabled;
+  }
+
+  /**
+   * True, if lazy deserialization of property values is enabled.
+   *
+   * @return true, if lazy deserialization is enabled
+   * @see #setLazyDeserialization(boolean)
+   */
+  public static boolean isLazyDeserialization() {
+    return LAZY_DESERIALIZATION;
+  }
+
+  /**
+   * Returns the wrapped object and deserializes it from the byte representation if necessary.
+   *
+   * The materialized object is built in a local variable and published by a single write of the
+   * volatile {@link #value}, the byte representation is left untouched. Concurrent readers of a
+   * shared instance therefore either see the fully built object or still use the bytes. Mutable
+   * container values (i.e. {@link List}, {@link Map} and {@link Set}) may be modified through the
+   * returned object, their bytes are therefore ignored once the object is materialized.
+   *
+   * @return wrapped object or {@code null}
+   */
+  private Object materialize() {
+    Object object = value;
+    if (object == null) {
+      byte[] bytes = rawBytes;
+      LargeValue large = largeValue;
+      if (bytes != null) {
+        object = PropertyValueStrategyFactory.fromRawBytes(bytes);
+        value = object;
+      } else if (large != null) {
+        object = PropertyValueStrategyFactory.fromRawBytes(large.getRawBytes());
+        value = object;
+      }
+    }
+    return object;
+  }
+
+  /**
+   * Returns the kept byte representation if it still represents the value, i.e. unless the value
+   * is a container that was materialized and may have been modified since.
+   *
+   * @return byte representation or {@code null}
+   */
+  private byte[] currentRawBytes() {
+    byte[] bytes = rawBytes;
+    return bytes != null && (!isContainerType(bytes[0]) || value == null) ? bytes : null;
+  }
+
+  /**
+   * Returns the handle of the value kept in a {@link LargeValueStore} if it still represents the
+   * value, see {@link #currentRawBytes()}.
+   *
+   * @return handle or {@code null}
+   */
+  private LargeValue currentLargeValue() {
+    LargeValue large = largeValue;
+    return large != null && (!isContainerType(large.getTypeByte()) || value == null) ?
+      large : null;
+  }
+
+  /**
+   * Returns the strategy of the wrapped value and determines it if it is not cached yet.
+   *
+   * @return strategy of the wrapped value
+   */
+  private PropertyValueStrategy strategy() {
+    if (strategy == null) {
+      if (rawBytes != null) {
+        strategy = PropertyValueStrategyFactory.get(rawBytes[0]);
+      } else if (largeValue != null) {
+        strategy = PropertyValueStrategyFactory.get(largeValue.getTypeByte());
+      } else {
+        strategy = PropertyValueStrategyFactory.get(value);
+      }
+    }
+    return strategy;
+  }
+
+  /**
+   * Returns the type byte of the wrapped value without deserializing it.
+   *
+   * @return type byte, see {@link Type#getTypeByte()}
+   */
+  public byte getTypeByte() {
+    return strategy().getRawType();
+  }
+
+  /**
+   * Creates a property value holding the given handle of a value kept in a
+   * {@link LargeValueStore}.
+   *
+   * @param largeValue handle
+   * @return property value
+   */
+  static PropertyValue fromLargeValue(LargeValue largeValue) {
+    PropertyValue propertyValue = new PropertyValue();
+    propertyValue.largeValue = Objects.requireNonNull(largeValue);
+    return propertyValue;
+  }
+
+  /**
+   * Returns the handle of the value if it is kept in a {@link LargeValueStore}.
+   *
+   * @return handle or {@code null}
+   */
+  LargeValue getLargeValue() {
+    return currentLargeValue();
+  }
+
+  /**
+   * True, if the given type byte represents a container type whose byte representation does not
+   * determine equality (e.g. because of the iteration order of the elements).
+   *
+   * @param typeByte type byte
+   * @return true, if the type is a {@link List}, {@link Map} or {@link Set}
+   */
+  static boolean isContainerType(byte typeByte) {
+    return typeByte == Type.LIST.getTypeByte() || typeByte == Type.MAP.getTypeByte() ||
+      typeByte == Type.SET.getTypeByte();
+  }
+
   //----------------------------------------------------------------------------
   // Type checking
   //----------------------------------------------------------------------------
@@ -148,7 +351,17 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * otherwise
    */
   public boolean is(Class clazz) {
-    return PropertyValueStrategyFactory.get(clazz).is(value);
+    return PropertyValueStrategyFactory.get(clazz).getRawType() == getTypeByte();
+  }
+
+  /**
+   * Check if the property value is of the given type.
+   *
+   * @param type type to check against
+   * @return true, if the value is of the given type
+   */
+  private boolean is(Type type) {
+    return type.getTypeByte() == getTypeByte();
   }
 
   /**
@@ -157,7 +370,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code null} value
    */
   public boolean isNull() {
-    return getRawBytes()[0] == Type.NULL.getTypeByte();
+    return value == null && rawBytes == null && largeValue == null;
   }
 
   /**
@@ -166,7 +379,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code boolean} value
    */
   public boolean isBoolean() {
-    return is(Boolean.class);
+    return is(Type.BOOLEAN);
   }
 
   /**
@@ -175,7 +388,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code short} value
    */
   public boolean isShort() {
-    return is(Short.class);
+    return is(Type.SHORT);
   }
 
   /**
@@ -184,7 +397,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code int} value
    */
   public boolean isInt() {
-    return is(Integer.class);
+    return is(Type.INTEGER);
   }
 
   /**
@@ -193,7 +406,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code long} value
    */
   public boolean isLong() {
-    return is(Long.class);
+    return is(Type.LONG);
   }
 
   /**
@@ -202,7 +415,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code float} value
    */
   public boolean isFloat() {
-    return is(Float.class);
+    return is(Type.FLOAT);
   }
 
   /**
@@ -211,7 +424,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code double} value
    */
   public boolean isDouble() {
-    return is(Double.class);
+    return is(Type.DOUBLE);
   }
 
   /**
@@ -220,7 +433,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link String} value
    */
   public boolean isString() {
-    return is(String.class);
+    return is(Type.STRING);
   }
 
   /**
@@ -230,7 +443,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @see BigDecimal
    */
   public boolean isBigDecimal() {
-    return is(BigDecimal.class);
+    return is(Type.BIG_DECIMAL);
   }
 
   /**
@@ -239,7 +452,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link GradoopId} value
    */
   public boolean isGradoopId() {
-    return is(GradoopId.class);
+    return is(Type.GRADOOP_ID);
   }
 
   /**
@@ -248,7 +461,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link Map} value
    */
   public boolean isMap() {
-    return is(Map.class);
+    return is(Type.MAP);
   }
 
   /**
@@ -257,7 +470,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link List} value
    */
   public boolean isList() {
-    return is(List.class);
+    return is(Type.LIST);
   }
 
   /**
@@ -266,7 +479,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link LocalDate} value
    */
   public boolean isDate() {
-    return is(LocalDate.class);
+    return is(Type.DATE);
   }
 
   /**
@@ -275,7 +488,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link LocalTime} value
    */
   public boolean isTime() {
-    return is(LocalTime.class);
+    return is(Type.TIME);
   }
 
   /**
@@ -284,7 +497,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link LocalDateTime} value
    */
   public boolean isDateTime() {
-    return is(LocalDateTime.class);
+    return is(Type.DATE_TIME);
   }
 
   /**
@@ -293,7 +506,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link Set} value
    */
   public boolean isSet() {
-    return is(Set.class);
+    return is(Type.SET);
   }
 
   /**
@@ -320,12 +533,13 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @SuppressWarnings("unchecked")
   public <T> T get(Class<T> clazz) throws UnsupportedOperationException {
-    PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(clazz);
-    if (strategy.is(value)) {
-      return (T) value;
+    PropertyValueStrategy classStrategy = PropertyValueStrategyFactory.get(clazz);
+    Object object = materialize();
+    if (classStrategy.is(object)) {
+      return (T) object;
     }
-    String type = value == null ? "null" : value.getClass().getSimpleName();
-    throw new UnsupportedOperationException("Value '" + value + "' of type " + type +
+    String type = object == null ? "null" : object.getClass().getSimpleName();
+    throw new UnsupportedOperationException("Value '" + object + "' of type " + type +
       ", cannot be accessed as " + clazz.getSimpleName());
   }
 
@@ -335,9 +549,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return value or {@code null} if the value is empty
    */
   public Object getObject() {
+    Object object = materialize();
     Object obj = null;
-    if (value != null) {
-      obj = get(value.getClass());
+    if (object != null) {
+      obj = get(object.getClass());
     }
     return obj;
   }
@@ -478,6 +693,106 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return get(Set.class);
   }
 
+  //----------------------------------------------------------------------------
+  // Primitive numeric access
+  //----------------------------------------------------------------------------
+
+  /**
+   * Returns the wrapped {@code short}, {@code int} or {@code long} value as {@code long}. Lazily
+   * deserialized values are read from their byte representation, thus no object is created.
+   *
+   * @return {@code long} value
+   * @throws UnsupportedOperationException if the value is not an integral number
+   */
+  long longValue() {
+    byte[] bytes = rawBytes;
+    if (value == null && bytes != null && isIntegral(bytes[0])) {
+      return longValue(bytes, 0);
+    }
+    Object object = materialize();
+    if (object instanceof Long || object instanceof Integer || object instanceof Short) {
+      return ((Number) object).longValue();
+    }
+    throw new UnsupportedOperationException("Value '" + object + "' cannot be accessed as long");
+  }
+
+  /**
+   * Returns the wrapped number as {@code double}. Lazily deserialized values of a fixed size type
+   * are read from their byte representation, thus no object is created.
+   *
+   * @return {@code double} value
+   * @throws UnsupportedOperationException if the value is not a number
+   */
+  double doubleValue() {
+    byte[] bytes = rawBytes;
+    if (value == null && bytes != null && isFixedSizeNumber(bytes[0])) {
+      return doubleValue(bytes, 0);
+    }
+    Object object = materialize();
+    if (object instanceof Number) {
+      return ((Number) object).doubleValue();
+    }
+    throw new UnsupportedOperationException("Value '" + object + "' cannot be accessed as double");
+  }
+
+  /**
+   * True, if the given type byte represents a {@code short}, {@code int} or {@code long} value.
+   *
+   * @param typeByte type byte
+   * @return true, if the type is an integral number
+   */
+  static boolean isIntegral(byte typeByte) {
+    return typeByte == Type.SHORT.getTypeByte() || typeByte == Type.INTEGER.getTypeByte() ||
+      typeByte == Type.LONG.getTypeByte();
+  }
+
+  /**
+   * True, if the given type byte represents a number of fixed size, i.e. any number except
+   * {@link BigDecimal}.
+   *
+   * @param typeByte type byte
+   * @return true, if the type is a fixed size number
+   */
+  static boolean isFixedSizeNumber(byte typeByte) {
+    return isIntegral(typeByte) || typeByte == Type.FLOAT.getTypeByte() ||
+      typeByte == Type.DOUBLE.getTypeByte();
+  }
+
+  /**
+   * Reads a serialized integral number (see {@link #isIntegral(byte)}) as {@code long}.
+   *
+   * @param bytes byte array containing the serialized value
+   * @param offset offset of the type byte
+   * @return {@code long} value
+   */
+  static long longValue(byte[] bytes, int offset) {
+    byte typeByte = bytes[offset];
+    if (typeByte == Type.LONG.getTypeByte()) {
+      return Bytes.toLong(bytes, offset + OFFSET);
+    } else if (typeByte == Type.INTEGER.getTypeByte()) {
+      return Bytes.toInt(bytes, offset + OFFSET);
+    }
+    return Bytes.toShort(bytes, offset + OFFSET);
+  }
+
+  /**
+   * Reads a serialized fixed size number (see {@link #isFixedSizeNumber(byte)}) as
+   * {@code double}.
+   *
+   * @param bytes byte array containing the serialized value
+   * @param offset offset of the type byte
+   * @return {@code double} value
+   */
+  static double doubleValue(byte[] bytes, int offset) {
+    byte typeByte = bytes[offset];
+    if (typeByte == Type.DOUBLE.getTypeByte()) {
+      return Bytes.toDouble(bytes, offset + OFFSET);
+    } else if (typeByte == Type.FLOAT.getTypeByte()) {
+      return Bytes.toFloat(bytes, offset + OFFSET);
+    }
+    return longValue(bytes, offset);
+  }
+
   //----------------------------------------------------------------------------
   // Setter
   //----------------------------------------------------------------------------
@@ -489,10 +804,14 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @throws UnsupportedTypeException if the type of the Object is not supported
    */
   public void setObject(Object value) {
-    if (value != null && !PropertyValueStrategyFactory.get(value.getClass()).is(value)) {
+    PropertyValueStrategy valueStrategy = PropertyValueStrategyFactory.get(value);
+    if (value != null && !valueStrategy.is(value)) {
       throw new UnsupportedTypeException(value.getClass());
     }
     this.value = value;
+    this.rawBytes = null;
+    this.largeValue = null;
+    this.strategy = valueStrategy;
   }
 
   /**
@@ -640,39 +959,90 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return Class object
    */
   public Class<?> getType() {
-    Class<?> clazz = null;
-    if (value != null) {
-      clazz = PropertyValueStrategyFactory.get(value.getClass()).getType();
-    }
-
-    return clazz;
+    return isNull() ? null : strategy().getType();
   }
 
   public int getByteSize() {
-    return getRawBytes().length;
+    return byteSize();
   }
 
+  /**
+   * Returns the byte representation of the value. The returned array must not be modified.
+   *
+   * For values kept in a {@link LargeValueStore}, a copy of the stored bytes is returned.
+   *
+   * @return byte representation
+   */
   public byte[] getRawBytes() {
-    return PropertyValueStrategyFactory.getRawBytes(value);
+    byte[] bytes = currentRawBytes();
+    LargeValue large = currentLargeValue();
+    if (bytes != null) {
+      return bytes;
+    } else if (large != null) {
+      return large.getRawBytes();
+    }
+    try {
+      return strategy().getRawBytes(value);
+    } catch (IOException e) {
+      throw new RuntimeException("Error while serializing object.", e);
+    }
   }
 
   /**
    * Set internal byte representation.
    *
+   * If lazy deserialization is enabled, the given array is kept and must not be modified
+   * afterwards.
+   *
    * @param bytes array
    */
   public void setBytes(byte[] bytes) {
-    value = PropertyValueStrategyFactory.fromRawBytes(bytes);
+    if (LAZY_DESERIALIZATION) {
+      setLazyBytes(bytes);
+    } else {
+      value = PropertyValueStrategyFactory.fromRawBytes(bytes);
+      rawBytes = null;
+      largeValue = null;
+      strategy = PropertyValueStrategyFactory.get(bytes[0]);
+    }
+  }
+
+  /**
+   * Sets the internal byte representation without deserializing the wrapped object.
+   *
+   * @param bytes array
+   */
+  private void setLazyBytes(byte[] bytes) {
+    // fail early on unknown types
+    strategy = PropertyValueStrategyFactory.get(bytes[0]);
+    value = null;
+    rawBytes = bytes[0] == Type.NULL.getTypeByte() ? null : bytes;
+    largeValue = null;
   }
 
   @Override
   public boolean equals(Object object) {
-    return object instanceof PropertyValue && Objects.equals(value, ((PropertyValue) object).value);
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof PropertyValue)) {
+      return false;
+    }
+    PropertyValue other = (PropertyValue) object;
+    if (rawBytes != null && other.rawBytes != null && !isContainerType(rawBytes[0])) {
+      return Arrays.equals(rawBytes, other.rawBytes);
+    }
+    if (largeValue != null && other.largeValue != null &&
+      !isContainerType(largeValue.getTypeByte())) {
+      return largeValue.equals(other.largeValue);
+    }
+    return Objects.equals(materialize(), other.materialize());
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(PropertyValueStrategyFactory.getRawBytes(value));
+    LargeValue large = currentLargeValue();
+    return large != null ? large.hashCode() : Arrays.hashCode(getRawBytes());
   }
 
   /**
@@ -685,7 +1055,16 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public int compareTo(PropertyValue other) {
-    return PropertyValueStrategyFactory.compare(value, other.value);
+    byte[] bytes = currentRawBytes();
+    byte[] otherBytes = other.currentRawBytes();
+    if (bytes != null && otherBytes != null) {
+      return PropertyValueStrategyFactory.compareRawBytes(bytes, otherBytes);
+    }
+    byte type = getTypeByte();
+    if (type == other.getTypeByte()) {
+      return PropertyValueStrategyFactory.compareSameType(type, materialize(), other.materialize());
+    }
+    return PropertyValueStrategyFactory.compare(materialize(), other.materialize());
   }
 
   /**
@@ -694,8 +1073,8 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return byte size
    */
   public int byteSize() {
-    byte[] rawBytes = PropertyValueStrategyFactory.getRawBytes(value);
-    return rawBytes.length;
+    LargeValue large = currentLargeValue();
+    return large != null ? large.size() : getRawBytes().length;
   }
 
   /**
@@ -726,7 +1105,15 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    PropertyValueStrategyFactory.get(value).write(value, outputView);
+    byte[] bytes = currentRawBytes();
+    LargeValue large = currentLargeValue();
+    if (bytes != null) {
+      strategy().writeRawBytes(bytes, outputView);
+    } else if (large != null) {
+      large.write(outputView);
+    } else {
+      strategy().write(value, outputView);
+    }
   }
 
   @Override
@@ -736,18 +1123,32 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     // Apply bitmask to get the actual type.
     byte type = (byte) (~PropertyValue.FLAG_LARGE & typeByte);
 
-    PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(type);
+    PropertyValueStrategy typeStrategy = PropertyValueStrategyFactory.get(type);
 
-    if (strategy == null) {
+    LargeValueStore store = LargeValueStore.getGlobal();
+
+    if (typeStrategy == null) {
       throw new UnsupportedTypeException("No strategy for type byte from input view found");
+    } else if (store != null && (typeByte & FLAG_LARGE) == FLAG_LARGE) {
+      value = null;
+      rawBytes = null;
+      largeValue = store.store(type, inputView, inputView.readInt());
+    } else if (LAZY_DESERIALIZATION) {
+      value = null;
+      rawBytes = type == Type.NULL.getTypeByte() ?
+        null : typeStrategy.readRawBytes(inputView, typeByte);
+      largeValue = null;
     } else {
-      value = strategy.read(inputView, typeByte);
+      value = typeStrategy.read(inputView, typeByte);
+      rawBytes = null;
+      largeValue = null;
     }
+    strategy = typeStrategy;
   }
 
   @Override
   public String toString() {
-    return getObject() != null ?
+    return materialize() != null ?
       getObject().toString() :
       GradoopConstants.NULL_STRING;
   }
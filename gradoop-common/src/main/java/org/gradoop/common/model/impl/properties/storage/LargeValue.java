@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties.storage;
+
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * Handle of a property value kept in a {@link LargeValueStore}.
+ *
+ * The handle refers to the byte representation of the value (see
+ * {@link PropertyValue#getRawBytes()}), which is never modified. Thus, a handle can be shared by
+ * any number of property values. Equality and hash code are based on the byte representation,
+ * the hash code is the same as {@link java.util.Arrays#hashCode(byte[])} of the byte
+ * representation.
+ */
+public final class LargeValue implements Serializable {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Size of the chunks used to copy bytes to an output view.
+   */
+  private static final int CHUNK_SIZE = 8192;
+
+  /**
+   * Read-only buffer containing the byte representation, from position {@code 0} to its limit.
+   * Only absolute or duplicated access is allowed, as handles may be shared between threads.
+   */
+  private transient ByteBuffer buffer;
+
+  /**
+   * Cached hash code, {@code 0} if not computed yet.
+   */
+  private transient int hashCode;
+
+  /**
+   * Creates a new handle.
+   *
+   * @param buffer buffer containing the byte representation
+   */
+  LargeValue(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Returns the type byte of the value.
+   *
+   * @return type byte
+   */
+  public byte getTypeByte() {
+    return buffer.get(0);
+  }
+
+  /**
+   * Returns the size of the byte representation, including the type byte.
+   *
+   * @return size in bytes
+   */
+  public int size() {
+    return buffer.limit();
+  }
+
+  /**
+   * Returns a copy of the byte representation.
+   *
+   * @return byte representation
+   */
+  public byte[] getRawBytes() {
+    byte[] rawBytes = new byte[size()];
+    buffer.duplicate().get(rawBytes);
+    return rawBytes;
+  }
+
+  /**
+   * Writes the value in the serialized form of a {@link PropertyValue} without copying it to the
+   * heap as a whole.
+   *
+   * @param outputView output view
+   * @throws IOException if writing fails
+   * @see PropertyValue#write(DataOutputView)
+   */
+  public void write(DataOutputView outputView) throws IOException {
+    int length = size() - PropertyValue.OFFSET;
+    if (size() > PropertyValue.LARGE_PROPERTY_THRESHOLD) {
+      outputView.writeByte(getTypeByte() | PropertyValue.FLAG_LARGE);
+      outputView.writeInt(length);
+    } else {
+      outputView.writeByte(getTypeByte());
+      outputView.writeShort(length);
+    }
+    ByteBuffer source = buffer.duplicate();
+    source.position(PropertyValue.OFFSET);
+    byte[] chunk = new byte[Math.min(length, CHUNK_SIZE)];
+    while (source.hasRemaining()) {
+      int chunkLength = Math.min(source.remaining(), chunk.length);
+      source.get(chunk, 0, chunkLength);
+      outputView.write(chunk, 0, chunkLength);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    LargeValue that = (LargeValue) o;
+    return size() == that.size() && hashCode() == that.hashCode() && buffer.equals(that.buffer);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hashCode;
+    if (result == 0) {
+      result = 1;
+      for (int i = 0; i < buffer.limit(); i++) {
+        result = 31 * result + buffer.get(i);
+      }
+      hashCode = result;
+    }
+    return result;
+  }
+
+  /**
+   * Writes the byte representation for Java serialization.
+   *
+   * @param out object output stream
+   * @throws IOException if writing fails
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    byte[] rawBytes = getRawBytes();
+    out.writeInt(rawBytes.length);
+    out.write(rawBytes);
+  }
+
+  /**
+   * Reads the byte representation for Java serialization. The value is kept on the heap.
+   *
+   * @param in object input stream
+   * @throws IOException if reading fails
+   * @throws ClassNotFoundException if a class of the serialized object can not be found
+   */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    byte[] rawBytes = new byte[in.readInt()];
+    in.readFully(rawBytes);
+    buffer = ByteBuffer.wrap(rawBytes).asReadOnlyBuffer();
+  }
+}
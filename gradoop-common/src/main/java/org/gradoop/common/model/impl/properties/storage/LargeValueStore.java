@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties.storage;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+/**
+ * A store for the byte representation of large property values, i.e. values whose serialized
+ * form has the {@link PropertyValue#FLAG_LARGE} bit set.
+ *
+ * If a store is installed as the global store of a JVM (see {@link #setGlobal(LargeValueStore)}),
+ * large property values read from a {@link DataInputView} are copied into the store once and the
+ * {@link PropertyValue} only keeps a {@link LargeValue} handle. Copying such a property value
+ * shares the handle, serializing it copies the stored bytes to the output without creating a
+ * {@code String} or {@code List}. The wrapped object is only deserialized on typed access.
+ *
+ * Stored values are released by the garbage collector once no handle refers to them anymore.
+ * The global store can be set via the system property {@value #STORE_PROPERTY}, which allows
+ * enabling it on all task managers of a cluster (e.g. via {@code env.java.opts}).
+ */
+public abstract class LargeValueStore {
+
+  /**
+   * Name of the system property used to install a global store. Supported values are
+   * {@value #DIRECT} and {@value #MAPPED}.
+   */
+  public static final String STORE_PROPERTY = "gradoop.propertyvalue.largestore";
+
+  /**
+   * Name of the system property containing the directory used by a memory-mapped global store.
+   * Defaults to {@code java.io.tmpdir}.
+   */
+  public static final String DIRECTORY_PROPERTY = "gradoop.propertyvalue.largestore.dir";
+
+  /**
+   * Name of the system property containing the maximum number of bytes mapped by a
+   * memory-mapped global store. Defaults to
+   * {@link MappedLargeValueStore#DEFAULT_MAX_MAPPED_BYTES}.
+   */
+  public static final String MAX_MAPPED_BYTES_PROPERTY =
+    "gradoop.propertyvalue.largestore.maxmapped";
+
+  /**
+   * Value of {@value #STORE_PROPERTY} to install a {@link DirectLargeValueStore}.
+   */
+  public static final String DIRECT = "direct";
+
+  /**
+   * Value of {@value #STORE_PROPERTY} to install a {@link MappedLargeValueStore}.
+   */
+  public static final String MAPPED = "mapped";
+
+  /**
+   * Size of the chunks used to copy bytes from an input view.
+   */
+  private static final int CHUNK_SIZE = 8192;
+
+  /**
+   * The global store or {@code null}.
+   */
+  private static volatile LargeValueStore GLOBAL = createFromSystemProperty();
+
+  /**
+   * Installs the given store as the global store of the current JVM. Passing {@code null}
+   * removes the global store, values already stored remain valid.
+   *
+   * @param store store or {@code null}
+   */
+  public static void setGlobal(LargeValueStore store) {
+    GLOBAL = store;
+  }
+
+  /**
+   * Returns the global store of the current JVM.
+   *
+   * @return global store or {@code null} if no store is installed
+   */
+  public static LargeValueStore getGlobal() {
+    return GLOBAL;
+  }
+
+  /**
+   * Copies the value bytes of a serialized property value from the given input view into the
+   * store.
+   *
+   * @param typeByte type byte of the value, without {@link PropertyValue#FLAG_LARGE}
+   * @param inputView input view positioned at the value bytes
+   * @param length number of value bytes
+   * @return handle of the stored value
+   * @throws IOException if reading fails or the store is unable to allocate memory
+   */
+  public LargeValue store(byte typeByte, DataInputView inputView, int length) throws IOException {
+    ByteBuffer buffer = allocate(PropertyValue.OFFSET + length);
+    buffer.put(typeByte);
+    byte[] chunk = new byte[Math.min(length, CHUNK_SIZE)];
+    int remaining = length;
+    while (remaining > 0) {
+      int chunkLength = Math.min(remaining, chunk.length);
+      inputView.readFully(chunk, 0, chunkLength);
+      buffer.put(chunk, 0, chunkLength);
+      remaining -= chunkLength;
+    }
+    buffer.flip();
+    return new LargeValue(buffer.asReadOnlyBuffer());
+  }
+
+  /**
+   * Allocates a buffer with the given capacity. The position of the returned buffer is {@code 0},
+   * its limit is the capacity. Implementations have to be thread-safe.
+   *
+   * @param capacity capacity in bytes
+   * @return buffer
+   * @throws IOException if the store is unable to allocate memory
+   */
+  protected abstract ByteBuffer allocate(int capacity) throws IOException;
+
+  /**
+   * Creates the store configured by the system property {@value #STORE_PROPERTY}.
+   *
+   * @return store or {@code null} if the property is not set
+   * @throws IllegalArgumentException if the property has an unsupported value
+   */
+  private static LargeValueStore createFromSystemProperty() {
+    String store = System.getProperty(STORE_PROPERTY);
+    if (store == null || store.isEmpty()) {
+      return null;
+    } else if (DIRECT.equals(store)) {
+      return new DirectLargeValueStore();
+    } else if (MAPPED.equals(store)) {
+      return new MappedLargeValueStore(
+        Paths.get(System.getProperty(DIRECTORY_PROPERTY, System.getProperty("java.io.tmpdir"))),
+        MappedLargeValueStore.DEFAULT_REGION_SIZE,
+        Long.getLong(MAX_MAPPED_BYTES_PROPERTY, MappedLargeValueStore.DEFAULT_MAX_MAPPED_BYTES));
+    }
+    throw new IllegalArgumentException("Unsupported value '" + store + "' of system property " +
+      STORE_PROPERTY + ", expected " + DIRECT + " or " + MAPPED);
+  }
+}
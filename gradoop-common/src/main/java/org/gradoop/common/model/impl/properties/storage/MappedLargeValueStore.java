@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties.storage;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link LargeValueStore} keeping values in memory-mapped temporary files.
+ *
+ * Values are appended to regions of {@link #regionSize} bytes, each backed by its own file.
+ * Values larger than a region are mapped separately. The files are deleted right after mapping
+ * them, the operating system releases the disk space once a region is no longer referenced and
+ * unmapped by the garbage collector.
+ *
+ * Regions are never reused, as handles of stored values may be shared arbitrarily. Instead, the
+ * store tracks which regions are still referenced by a handle and limits the number of bytes
+ * mapped by these live regions to {@link #maxMappedBytes}. If a new mapping would exceed the
+ * limit, the value is kept on the heap until the garbage collector released enough regions.
+ */
+public class MappedLargeValueStore extends LargeValueStore {
+
+  /**
+   * Default size of a region in bytes.
+   */
+  public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+  /**
+   * Default limit of the mapped bytes, i.e. 16 regions of {@link #DEFAULT_REGION_SIZE} bytes.
+   */
+  public static final long DEFAULT_MAX_MAPPED_BYTES = 16L * DEFAULT_REGION_SIZE;
+
+  /**
+   * Directory used for the temporary files.
+   */
+  private final Path directory;
+
+  /**
+   * Size of a region in bytes.
+   */
+  private final int regionSize;
+
+  /**
+   * Maximum number of bytes mapped by live regions.
+   */
+  private final long maxMappedBytes;
+
+  /**
+   * Size of each live region, including values mapped separately.
+   */
+  private final Map<Reference<ByteBuffer>, Integer> liveRegions = new HashMap<>();
+
+  /**
+   * Queue of regions which are no longer referenced by any handle.
+   */
+  private final ReferenceQueue<ByteBuffer> releasedRegions = new ReferenceQueue<>();
+
+  /**
+   * Number of bytes mapped by live regions.
+   */
+  private long mappedBytes;
+
+  /**
+   * The region values are currently appended to, {@code null} if no region is mapped.
+   */
+  private ByteBuffer region;
+
+  /**
+   * Creates a new store using regions of {@link #DEFAULT_REGION_SIZE} bytes.
+   *
+   * @param directory directory used for the temporary files
+   */
+  public MappedLargeValueStore(Path directory) {
+    this(directory, DEFAULT_REGION_SIZE);
+  }
+
+  /**
+   * Creates a new store.
+   *
+   * @param directory directory used for the temporary files
+   * @param regionSize size of a region in bytes
+   */
+  public MappedLargeValueStore(Path directory, int regionSize) {
+    this(directory, regionSize, Math.max(DEFAULT_MAX_MAPPED_BYTES, regionSize));
+  }
+
+  /**
+   * Creates a new store.
+   *
+   * @param directory directory used for the temporary files
+   * @param regionSize size of a region in bytes
+   * @param maxMappedBytes maximum number of bytes mapped by live regions
+   */
+  public MappedLargeValueStore(Path directory, int regionSize, long maxMappedBytes) {
+    if (regionSize <= 0) {
+      throw new IllegalArgumentException("Region size must be positive, was " + regionSize);
+    }
+    if (maxMappedBytes < regionSize) {
+      throw new IllegalArgumentException("Maximum number of mapped bytes must not be less " +
+        "than the region size, was " + maxMappedBytes);
+    }
+    this.directory = Objects.requireNonNull(directory);
+    this.regionSize = regionSize;
+    this.maxMappedBytes = maxMappedBytes;
+  }
+
+  /**
+   * Returns the number of bytes mapped by regions which are still referenced by a handle or used
+   * for new values.
+   *
+   * @return number of mapped bytes
+   */
+  public synchronized long getMappedBytes() {
+    expungeReleasedRegions();
+    return mappedBytes;
+  }
+
+  @Override
+  protected synchronized ByteBuffer allocate(int capacity) throws IOException {
+    if (capacity > regionSize) {
+      ByteBuffer buffer = mapIfAvailable(capacity);
+      return buffer != null ? buffer : ByteBuffer.allocate(capacity);
+    }
+    if (region == null || region.remaining() < capacity) {
+      // drop the exhausted region, it is released once all of its values are
+      region = mapIfAvailable(regionSize);
+      if (region == null) {
+        return ByteBuffer.allocate(capacity);
+      }
+    }
+    ByteBuffer buffer = region.slice();
+    buffer.limit(capacity);
+    region.position(region.position() + capacity);
+    return buffer;
+  }
+
+  /**
+   * Maps a new temporary file of the given size, if the mapped bytes stay within
+   * {@link #maxMappedBytes}.
+   *
+   * @param size file size in bytes
+   * @return mapped buffer or {@code null} if the limit would be exceeded
+   * @throws IOException if the file can not be created or mapped
+   */
+  private ByteBuffer mapIfAvailable(int size) throws IOException {
+    expungeReleasedRegions();
+    if (mappedBytes + size > maxMappedBytes) {
+      return null;
+    }
+    ByteBuffer buffer = map(size);
+    // slices keep a reference to the buffer they were created from
+    liveRegions.put(new WeakReference<>(buffer, releasedRegions), size);
+    mappedBytes += size;
+    return buffer;
+  }
+
+  /**
+   * Removes the regions collected by the garbage collector from the live regions.
+   */
+  private void expungeReleasedRegions() {
+    Reference<? extends ByteBuffer> released = releasedRegions.poll();
+    while (released != null) {
+      Integer size = liveRegions.remove(released);
+      if (size != null) {
+        mappedBytes -= size;
+      }
+      released = releasedRegions.poll();
+    }
+  }
+
+  /**
+   * Maps a new temporary file of the given size.
+   *
+   * @param size file size in bytes
+   * @return mapped buffer
+   * @throws IOException if the file can not be created or mapped
+   */
+  private ByteBuffer map(int size) throws IOException {
+    Path file = Files.createTempFile(directory, "gradoop-large-values-", ".bin");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+      StandardOpenOption.WRITE)) {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    } finally {
+      try {
+        Files.delete(file);
+      } catch (IOException e) {
+        // some platforms do not allow deleting mapped files
+        file.toFile().deleteOnExit();
+      }
+    }
+  }
+}
@@ -15,8 +15,10 @@
  */
 package org.gradoop.common.model.impl.properties.strategies;
 
+import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.gradoop.common.model.api.strategies.PropertyValueStrategy;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.io.IOException;
 
@@ -32,4 +34,25 @@ public abstract class AbstractFixSizedPropertyValueStrategy<T> implements Proper
   public void write(T value, DataOutputView outputView) throws IOException {
     outputView.write(getRawBytes(value));
   }
+
+  @Override
+  public byte[] readRawBytes(DataInputView inputView, byte typeByte) throws IOException {
+    byte[] rawBytes = new byte[PropertyValue.OFFSET + getValueSize()];
+    rawBytes[0] = typeByte;
+    inputView.readFully(rawBytes, PropertyValue.OFFSET, getValueSize());
+    return rawBytes;
+  }
+
+  @Override
+  public void writeRawBytes(byte[] rawBytes, DataOutputView outputView) throws IOException {
+    outputView.write(rawBytes);
+  }
+
+  /**
+   * Returns the number of bytes needed to store a value of the handled type, excluding the type
+   * byte.
+   *
+   * @return size of the serialized value in bytes.
+   */
+  public abstract int getValueSize();
 }
@@ -35,7 +35,11 @@ public abstract class AbstractVariableSizedPropertyValueStrategy<T> implements P
 
   @Override
   public void write(T value, DataOutputView outputView) throws IOException {
-    byte[] rawBytes = getRawBytes(value);
+    writeRawBytes(getRawBytes(value), outputView);
+  }
+
+  @Override
+  public void writeRawBytes(byte[] rawBytes, DataOutputView outputView) throws IOException {
     byte type = rawBytes[0];
 
     if (rawBytes.length > PropertyValue.LARGE_PROPERTY_THRESHOLD) {
@@ -53,6 +57,15 @@ public abstract class AbstractVariableSizedPropertyValueStrategy<T> implements P
     outputView.write(rawBytes, PropertyValue.OFFSET, rawBytes.length - PropertyValue.OFFSET);
   }
 
+  @Override
+  public byte[] readRawBytes(DataInputView inputView, byte typeByte) throws IOException {
+    int length = readLength(inputView, typeByte);
+    byte[] rawBytes = new byte[PropertyValue.OFFSET + length];
+    rawBytes[0] = (byte) (~PropertyValue.FLAG_LARGE & typeByte);
+    inputView.readFully(rawBytes, PropertyValue.OFFSET, length);
+    return rawBytes;
+  }
+
   /**
    * Reads data of variable size from a data input view. The size of the data is determined by the
    * type byte and {@see org.gradoop.common.model.impl.properties.PropertyValue#FLAG_LARGE}.
@@ -63,23 +76,30 @@ public abstract class AbstractVariableSizedPropertyValueStrategy<T> implements P
    * @throws IOException when reading a byte goes wrong
    */
   byte[] readVariableSizedData(DataInputView inputView, byte typeByte) throws IOException {
-    int length;
-    // read length
-    if ((typeByte & PropertyValue.FLAG_LARGE) == PropertyValue.FLAG_LARGE) {
-      length = inputView.readInt();
-    } else {
-      length = inputView.readShort();
-    }
     // init new array
-    byte[] rawBytes = new byte[length];
-
-    for (int i = 0; i < rawBytes.length; i++) {
-      rawBytes[i] = inputView.readByte();
-    }
+    byte[] rawBytes = new byte[readLength(inputView, typeByte)];
+    inputView.readFully(rawBytes);
 
     return rawBytes;
   }
 
+  /**
+   * Reads the length of variable sized data from a data input view. The length is stored as an
+   * {@code int} if the {@see org.gradoop.common.model.impl.properties.PropertyValue#FLAG_LARGE}
+   * bit is set in the type byte and as a {@code short} otherwise.
+   *
+   * @param inputView Data input view to read from
+   * @param typeByte Byte indicating the type of the serialized data
+   * @return length of the serialized data
+   * @throws IOException when reading the length fails
+   */
+  private int readLength(DataInputView inputView, byte typeByte) throws IOException {
+    if ((typeByte & PropertyValue.FLAG_LARGE) == PropertyValue.FLAG_LARGE) {
+      return inputView.readInt();
+    }
+    return inputView.readShort();
+  }
+
   /**
    * Creates an instance of {@link DataInputViewStreamWrapper} from a byte array.
    *
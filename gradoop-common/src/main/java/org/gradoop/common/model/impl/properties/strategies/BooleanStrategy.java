@@ -57,6 +57,11 @@ public class BooleanStrategy extends AbstractFixSizedPropertyValueStrategy<Boole
     return bytes[1] == -1;
   }
 
+  @Override
+  public int getValueSize() {
+    return Bytes.SIZEOF_BOOLEAN;
+  }
+
   @Override
   public byte getRawType() {
     return Type.BOOLEAN.getTypeByte();
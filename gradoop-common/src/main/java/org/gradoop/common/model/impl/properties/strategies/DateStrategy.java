@@ -70,6 +70,11 @@ public class DateStrategy extends AbstractFixSizedPropertyValueStrategy<LocalDat
       ));
   }
 
+  @Override
+  public int getValueSize() {
+    return DateTimeSerializer.SIZEOF_DATE;
+  }
+
   @Override
   public byte getRawType() {
     return Type.DATE.getTypeByte();
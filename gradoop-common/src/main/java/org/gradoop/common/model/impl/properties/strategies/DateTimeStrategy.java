@@ -70,6 +70,11 @@ public class DateTimeStrategy extends AbstractFixSizedPropertyValueStrategy<Loca
       ));
   }
 
+  @Override
+  public int getValueSize() {
+    return DateTimeSerializer.SIZEOF_DATETIME;
+  }
+
   @Override
   public byte getRawType() {
     return Type.DATE_TIME.getTypeByte();
@@ -60,6 +60,11 @@ public class DoubleStrategy extends AbstractFixSizedPropertyValueStrategy<Double
     return Bytes.toDouble(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  public int getValueSize() {
+    return Bytes.SIZEOF_DOUBLE;
+  }
+
   @Override
   public byte getRawType() {
     return Type.DOUBLE.getTypeByte();
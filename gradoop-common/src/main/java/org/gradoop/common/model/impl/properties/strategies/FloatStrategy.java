@@ -60,6 +60,11 @@ public class FloatStrategy extends AbstractFixSizedPropertyValueStrategy<Float>
     return Bytes.toFloat(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  public int getValueSize() {
+    return Bytes.SIZEOF_FLOAT;
+  }
+
   @Override
   public byte getRawType() {
     return Type.FLOAT.getTypeByte();
@@ -60,6 +60,11 @@ public class IntegerStrategy extends AbstractFixSizedPropertyValueStrategy<Integ
     return Bytes.toInt(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  public int getValueSize() {
+    return Bytes.SIZEOF_INT;
+  }
+
   @Override
   public byte getRawType() {
     return Type.INTEGER.getTypeByte();
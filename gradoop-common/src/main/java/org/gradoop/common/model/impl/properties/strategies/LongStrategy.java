@@ -60,6 +60,11 @@ public class LongStrategy extends AbstractFixSizedPropertyValueStrategy<Long> {
     return Bytes.toLong(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  public int getValueSize() {
+    return Bytes.SIZEOF_LONG;
+  }
+
   @Override
   public byte getRawType() {
     return Type.LONG.getTypeByte();
@@ -20,6 +20,7 @@ import org.gradoop.common.model.api.strategies.PropertyValueStrategy;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -98,10 +99,140 @@ public class PropertyValueStrategyFactory {
   public static int compare(Object value, Object other) {
     if (value == null || other == null) {
       return INSTANCE.nullStrategy.compare(value, other);
-    } else {
-      PropertyValueStrategy strategy = get(value.getClass());
-      return strategy.compare(value, other);
     }
+    PropertyValueStrategy strategy = get(value.getClass());
+    if (value.getClass() == other.getClass()) {
+      return compareSameType(strategy.getRawType(), value, other);
+    }
+    return strategy.compare(value, other);
+  }
+
+  /**
+   * Compares two values of the same type, given by the type byte of their {@link PropertyValue}
+   * representation. The result is identical to {@link #compare(Object, Object)}.
+   * <p>
+   * Numerical, string, temporal and id values are compared directly, without the dispatch through
+   * their {@link PropertyValueStrategy} and without the promotion between numerical types done by
+   * {@link PropertyValueStrategyUtils#compareNumerical}. All other types are delegated to the
+   * strategy of the given type.
+   *
+   * @param type type byte of both values.
+   * @param value first value.
+   * @param other second value.
+   * @return a negative integer, zero, or a positive integer as {@code value} is less than, equal
+   * to, or greater than {@code other}.
+   */
+  public static int compareSameType(byte type, Object value, Object other) {
+    if (type == Type.NULL.getTypeByte()) {
+      return 0;
+    } else if (type == Type.STRING.getTypeByte()) {
+      return ((String) value).compareTo((String) other);
+    } else if (type == Type.LONG.getTypeByte()) {
+      return Long.compare((Long) value, (Long) other);
+    } else if (type == Type.INTEGER.getTypeByte()) {
+      return Integer.compare((Integer) value, (Integer) other);
+    } else if (type == Type.DOUBLE.getTypeByte()) {
+      return Double.compare((Double) value, (Double) other);
+    } else if (type == Type.FLOAT.getTypeByte()) {
+      return Float.compare((Float) value, (Float) other);
+    } else if (type == Type.SHORT.getTypeByte()) {
+      return Short.compare((Short) value, (Short) other);
+    } else if (type == Type.BIG_DECIMAL.getTypeByte()) {
+      return ((BigDecimal) value).compareTo((BigDecimal) other);
+    } else if (type == Type.BOOLEAN.getTypeByte()) {
+      return Boolean.compare((Boolean) value, (Boolean) other);
+    } else if (type == Type.DATE_TIME.getTypeByte()) {
+      return ((LocalDateTime) value).compareTo((LocalDateTime) other);
+    } else if (type == Type.DATE.getTypeByte()) {
+      return ((LocalDate) value).compareTo((LocalDate) other);
+    } else if (type == Type.TIME.getTypeByte()) {
+      return ((LocalTime) value).compareTo((LocalTime) other);
+    } else if (type == Type.GRADOOP_ID.getTypeByte()) {
+      return ((GradoopId) value).compareTo((GradoopId) other);
+    }
+    return get(type).compare(value, other);
+  }
+
+  /**
+   * Compares two values given by their byte representation according to the {@link PropertyValue}
+   * standard. The result is identical to {@link #compare(Object, Object)} of the represented
+   * objects.
+   * <p>
+   * Values of the same numerical, boolean, temporal or id type are compared directly on their byte
+   * representation. Strings are compared on their UTF-8 bytes up to the first differing byte and
+   * are only deserialized if both strings contain a multi-byte character at that position. All
+   * other values are deserialized first.
+   *
+   * @param rawBytes byte representation of the first value.
+   * @param otherRawBytes byte representation of the second value.
+   * @return a negative integer, zero, or a positive integer as the first value is less than, equal
+   * to, or greater than the second value.
+   */
+  public static int compareRawBytes(byte[] rawBytes, byte[] otherRawBytes) {
+    byte type = rawBytes[0];
+    if (type == otherRawBytes[0]) {
+      int offset = PropertyValue.OFFSET;
+      if (type == Type.INTEGER.getTypeByte()) {
+        return Integer.compare(Bytes.toInt(rawBytes, offset), Bytes.toInt(otherRawBytes, offset));
+      } else if (type == Type.LONG.getTypeByte()) {
+        return Long.compare(Bytes.toLong(rawBytes, offset), Bytes.toLong(otherRawBytes, offset));
+      } else if (type == Type.DOUBLE.getTypeByte()) {
+        return Double.compare(
+          Bytes.toDouble(rawBytes, offset), Bytes.toDouble(otherRawBytes, offset));
+      } else if (type == Type.FLOAT.getTypeByte()) {
+        return Float.compare(Bytes.toFloat(rawBytes, offset), Bytes.toFloat(otherRawBytes, offset));
+      } else if (type == Type.SHORT.getTypeByte()) {
+        return Short.compare(Bytes.toShort(rawBytes, offset), Bytes.toShort(otherRawBytes, offset));
+      } else if (type == Type.BOOLEAN.getTypeByte()) {
+        return Boolean.compare(rawBytes[offset] == -1, otherRawBytes[offset] == -1);
+      } else if (type == Type.DATE.getTypeByte() || type == Type.TIME.getTypeByte() ||
+        type == Type.DATE_TIME.getTypeByte()) {
+        // temporal values are stored as a sequence of int fields in descending significance
+        for (; offset < rawBytes.length; offset += Bytes.SIZEOF_INT) {
+          int result = Integer.compare(
+            Bytes.toInt(rawBytes, offset), Bytes.toInt(otherRawBytes, offset));
+          if (result != 0) {
+            return result;
+          }
+        }
+        return 0;
+      } else if (type == Type.STRING.getTypeByte()) {
+        Integer result = compareUtf8(rawBytes, otherRawBytes);
+        if (result != null) {
+          return result;
+        }
+      } else if (type == Type.GRADOOP_ID.getTypeByte()) {
+        // ids are stored big-endian, the unsigned byte order matches GradoopId#compareTo
+        return Bytes.compareTo(rawBytes, offset, GradoopId.ID_SIZE,
+          otherRawBytes, offset, GradoopId.ID_SIZE);
+      }
+    }
+    return compare(fromRawBytes(rawBytes), fromRawBytes(otherRawBytes));
+  }
+
+  /**
+   * Compares the UTF-8 encoded string representations of two {@link PropertyValue}s.
+   * <p>
+   * The unsigned byte order of UTF-8 equals the order of the code points, whereas
+   * {@link String#compareTo} compares UTF-16 chars. Both orders only differ if the first differing
+   * characters are both encoded by multiple bytes, since an ASCII byte always starts a character
+   * and is smaller than any char of a multi-byte character.
+   *
+   * @param rawBytes byte representation of the first string.
+   * @param otherRawBytes byte representation of the second string.
+   * @return the result of {@link String#compareTo}, or {@code null} if it can not be determined
+   * on the byte representation.
+   */
+  private static Integer compareUtf8(byte[] rawBytes, byte[] otherRawBytes) {
+    int length = Math.min(rawBytes.length, otherRawBytes.length);
+    for (int i = PropertyValue.OFFSET; i < length; i++) {
+      int a = rawBytes[i] & 0xff;
+      int b = otherRawBytes[i] & 0xff;
+      if (a != b) {
+        return a < 0x80 || b < 0x80 ? Integer.compare(a, b) : null;
+      }
+    }
+    return Integer.compare(rawBytes.length, otherRawBytes.length);
   }
 
   /**
@@ -181,14 +312,7 @@ public class PropertyValueStrategyFactory {
    * @throws UnsupportedTypeException when there is no matching strategy for a given object.
    */
   public static PropertyValueStrategy get(Object value) throws UnsupportedTypeException {
-    if (value != null) {
-      PropertyValueStrategy strategy = get(value.getClass());
-      if (strategy == null) {
-        throw new UnsupportedTypeException("No strategy for class " + value.getClass());
-      }
-      return get(value.getClass());
-    }
-    return INSTANCE.nullStrategy;
+    return value == null ? INSTANCE.nullStrategy : get(value.getClass());
   }
 
   /**
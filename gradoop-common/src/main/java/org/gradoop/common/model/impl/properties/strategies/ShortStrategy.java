@@ -60,6 +60,11 @@ public class ShortStrategy extends AbstractFixSizedPropertyValueStrategy<Short>
     return Bytes.toShort(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  public int getValueSize() {
+    return Bytes.SIZEOF_SHORT;
+  }
+
   @Override
   public byte getRawType() {
     return Type.SHORT.getTypeByte();
@@ -70,6 +70,11 @@ public class TimeStrategy extends AbstractFixSizedPropertyValueStrategy<LocalTim
       ));
   }
 
+  @Override
+  public int getValueSize() {
+    return DateTimeSerializer.SIZEOF_TIME;
+  }
+
   @Override
   public byte getRawType() {
     return Type.TIME.getTypeByte();
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+
+/**
+ * Serializer for {@link EPGMEdge} edges.
+ */
+public class EPGMEdgeSerializer extends EdgeSerializer<EPGMEdge> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public EPGMEdge createInstance() {
+    return new EPGMEdge();
+  }
+
+  @Override
+  public TypeSerializerSnapshot<EPGMEdge> snapshotConfiguration() {
+    return new EPGMEdgeSerializerSnapshot(this);
+  }
+
+  /**
+   * Serializer configuration snapshot for compatibility and format evolution.
+   */
+  public static final class EPGMEdgeSerializerSnapshot
+    extends ElementSerializerSnapshot<EPGMEdge> {
+
+    /**
+     * Creates a new snapshot.
+     */
+    public EPGMEdgeSerializerSnapshot() {
+      super(EPGMEdgeSerializer::new);
+    }
+
+    /**
+     * Creates a snapshot of the given serializer.
+     *
+     * @param serializer serializer
+     */
+    EPGMEdgeSerializerSnapshot(EPGMEdgeSerializer serializer) {
+      super(EPGMEdgeSerializer::new, serializer);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+
+/**
+ * Base class of the serializers for edges. Source and target id are serialized as fixed size
+ * fields.
+ *
+ * @param <T> edge type
+ */
+public abstract class EdgeSerializer<T extends Edge> extends GraphElementSerializer<T> {
+
+  /**
+   * Flag marking a {@code null} source id.
+   */
+  protected static final int NULL_SOURCE_ID = 1 << 3;
+
+  /**
+   * Flag marking a {@code null} target id.
+   */
+  protected static final int NULL_TARGET_ID = 1 << 4;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    super.copy(from, reuse);
+    reuse.setSourceId(from.getSourceId() == null ? null : from.getSourceId().copy());
+    reuse.setTargetId(from.getTargetId() == null ? null : from.getTargetId().copy());
+    return reuse;
+  }
+
+  @Override
+  protected int getNullFields(T record) {
+    return super.getNullFields(record) |
+      (record.getSourceId() == null ? NULL_SOURCE_ID : 0) |
+      (record.getTargetId() == null ? NULL_TARGET_ID : 0);
+  }
+
+  @Override
+  protected void copyFixedSizeFields(int nullFields, DataInputView source, DataOutputView target)
+    throws IOException {
+    super.copyFixedSizeFields(nullFields, source, target);
+    int length = ((nullFields & NULL_SOURCE_ID) == 0 ? GradoopId.ID_SIZE : 0) +
+      ((nullFields & NULL_TARGET_ID) == 0 ? GradoopId.ID_SIZE : 0);
+    target.write(source, length);
+  }
+
+  @Override
+  protected void writeFixedSizeFields(T record, int nullFields, DataOutputView target)
+    throws IOException {
+    super.writeFixedSizeFields(record, nullFields, target);
+    if ((nullFields & NULL_SOURCE_ID) == 0) {
+      record.getSourceId().write(target);
+    }
+    if ((nullFields & NULL_TARGET_ID) == 0) {
+      record.getTargetId().write(target);
+    }
+  }
+
+  @Override
+  protected void readFixedSizeFields(T reuse, int nullFields, DataInputView source)
+    throws IOException {
+    super.readFixedSizeFields(reuse, nullFields, source);
+    reuse.setSourceId((nullFields & NULL_SOURCE_ID) == 0 ? readId(source) : null);
+    reuse.setTargetId((nullFields & NULL_TARGET_ID) == 0 ? readId(source) : null);
+  }
+}
@@ -0,0 +1,461 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+
+import java.io.IOException;
+
+/**
+ * Base class of the serializers for EPGM elements.
+ *
+ * An element is serialized as follows:
+ * <ol>
+ *   <li>a byte marking {@code null} fields (see {@link #getNullFields(Element)}), a {@code null}
+ *   element is represented by this byte only</li>
+ *   <li>the id, using {@link GradoopId#ID_SIZE} bytes</li>
+ *   <li>the label, as dictionary id (see {@link ElementDictionary#writeString(String,
+ *   DataOutputView)}) if the serializer is bound to a dictionary, as string otherwise</li>
+ *   <li>additional fields of fixed size, e.g. the source and target id of an edge</li>
+ *   <li>the length of the serialized properties in bytes (or {@code -1}), followed by the
+ *   properties</li>
+ *   <li>additional fields of variable size, e.g. the graph ids of a graph element</li>
+ * </ol>
+ * Fields marked as {@code null} are omitted. Thus, serialized elements can be copied without
+ * deserializing their properties.
+ *
+ * A serializer is bound to the global {@link ElementDictionary} installed when it is created. Its
+ * fingerprint is part of the serializer configuration and checked against the global dictionary
+ * once per JVM and installed dictionary, so records neither carry the fingerprint in their labels
+ * nor in their properties (see {@link Properties#writeUnchecked(DataOutputView)}).
+ *
+ * @param <T> element type
+ */
+public abstract class ElementSerializer<T extends Element> extends TypeSerializer<T> {
+
+  /**
+   * Flag marking a {@code null} element.
+   */
+  protected static final int NULL_ELEMENT = 1;
+
+  /**
+   * Flag marking a {@code null} id.
+   */
+  protected static final int NULL_ID = 1 << 1;
+
+  /**
+   * Flag marking a {@code null} label.
+   */
+  protected static final int NULL_LABEL = 1 << 2;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Length written instead of the number of bytes or entries of a {@code null} value.
+   */
+  private static final int NULL_LENGTH = -1;
+
+  /**
+   * Initial size of the buffer used to serialize properties.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 256;
+
+  /**
+   * True, if labels and property keys are encoded using the global {@link ElementDictionary}.
+   */
+  private boolean encoded;
+
+  /**
+   * Fingerprint of the dictionary used to encode labels and property keys, only valid if
+   * {@link #encoded} is set.
+   */
+  private long fingerprint;
+
+  /**
+   * Global dictionary whose fingerprint was last checked, {@code null} if none was checked yet.
+   */
+  private transient ElementDictionary checkedDictionary;
+
+  /**
+   * Buffer used to determine the length of serialized properties.
+   */
+  private transient DataOutputSerializer buffer;
+
+  /**
+   * Creates a serializer bound to the global dictionary, if any.
+   */
+  protected ElementSerializer() {
+    ElementDictionary dictionary = ElementDictionary.getGlobal();
+    encoded = dictionary != null;
+    fingerprint = encoded ? dictionary.getFingerprint() : 0L;
+  }
+
+  /**
+   * True, if the serializer encodes labels and property keys using a dictionary.
+   *
+   * @return true, if the serializer is bound to a dictionary
+   */
+  public boolean isEncoded() {
+    return encoded;
+  }
+
+  /**
+   * Returns the fingerprint of the dictionary the serializer is bound to.
+   *
+   * @return fingerprint, only valid if {@link #isEncoded()} is true
+   */
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Binds the serializer to the dictionary with the given fingerprint.
+   *
+   * @param encoded true, if labels and property keys are encoded using a dictionary
+   * @param fingerprint fingerprint of the dictionary
+   */
+  void setDictionary(boolean encoded, long fingerprint) {
+    this.encoded = encoded;
+    this.fingerprint = encoded ? fingerprint : 0L;
+    this.checkedDictionary = null;
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<T> duplicate() {
+    // the serializer is stateful due to the properties buffer, the snapshot of its configuration
+    // creates a new instance bound to the same dictionary
+    return snapshotConfiguration().restoreSerializer();
+  }
+
+  @Override
+  public T copy(T from) {
+    return from == null ? null : copy(from, createInstance());
+  }
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    reuse.setId(from.getId() == null ? null : from.getId().copy());
+    reuse.setLabel(from.getLabel());
+    reuse.setProperties(copyProperties(from.getProperties()));
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(T record, DataOutputView target) throws IOException {
+    if (record == null) {
+      target.writeByte(NULL_ELEMENT);
+      return;
+    }
+    checkDictionary();
+    int nullFields = getNullFields(record);
+    target.writeByte(nullFields);
+    if ((nullFields & NULL_ID) == 0) {
+      record.getId().write(target);
+    }
+    if ((nullFields & NULL_LABEL) == 0) {
+      writeLabel(record.getLabel(), target);
+    }
+    writeFixedSizeFields(record, nullFields, target);
+    writeProperties(record.getProperties(), target);
+    writeVariableSizeFields(record, target);
+  }
+
+  @Override
+  public T deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public T deserialize(T reuse, DataInputView source) throws IOException {
+    int nullFields = source.readByte();
+    if ((nullFields & NULL_ELEMENT) != 0) {
+      return null;
+    }
+    checkDictionary();
+    if (reuse == null) {
+      reuse = createInstance();
+    }
+    reuse.setId((nullFields & NULL_ID) == 0 ? readId(source) : null);
+    reuse.setLabel((nullFields & NULL_LABEL) == 0 ? readLabel(source) : null);
+    readFixedSizeFields(reuse, nullFields, source);
+    reuse.setProperties(readProperties(source));
+    readVariableSizeFields(reuse, source);
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int nullFields = source.readByte();
+    target.writeByte(nullFields);
+    if ((nullFields & NULL_ELEMENT) != 0) {
+      return;
+    }
+    if ((nullFields & NULL_ID) == 0) {
+      target.write(source, GradoopId.ID_SIZE);
+    }
+    if ((nullFields & NULL_LABEL) == 0) {
+      int id = ElementDictionary.NO_ID;
+      if (encoded) {
+        id = source.readUnsignedShort();
+        target.writeShort(id);
+      }
+      if (id == ElementDictionary.NO_ID) {
+        int length = source.readUnsignedShort();
+        target.writeShort(length);
+        target.write(source, length);
+      }
+    }
+    copyFixedSizeFields(nullFields, source, target);
+    int length = source.readInt();
+    target.writeInt(length);
+    if (length != NULL_LENGTH) {
+      target.write(source, length);
+    }
+    copyVariableSizeFields(source, target);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == null || obj.getClass() != getClass()) {
+      return false;
+    }
+    ElementSerializer<?> that = (ElementSerializer<?>) obj;
+    return encoded == that.encoded && fingerprint == that.fingerprint;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * getClass().hashCode() + Long.hashCode(fingerprint);
+  }
+
+  /**
+   * Returns the flags marking the {@code null} fields of an element. Subclasses may add flags
+   * for their fixed size fields, using bits 3 to 7.
+   *
+   * @param record element
+   * @return flags marking {@code null} fields
+   */
+  protected int getNullFields(T record) {
+    return (record.getId() == null ? NULL_ID : 0) | (record.getLabel() == null ? NULL_LABEL : 0);
+  }
+
+  /**
+   * Copies the fixed size fields of a serialized element.
+   *
+   * @param nullFields flags marking {@code null} fields
+   * @param source input view
+   * @param target output view
+   * @throws IOException if reading or writing fails
+   */
+  protected void copyFixedSizeFields(int nullFields, DataInputView source, DataOutputView target)
+    throws IOException {
+  }
+
+  /**
+   * Writes the fixed size fields of an element. {@code null} fields are skipped.
+   *
+   * @param record element
+   * @param nullFields flags marking {@code null} fields
+   * @param target output view
+   * @throws IOException if writing fails
+   */
+  protected void writeFixedSizeFields(T record, int nullFields, DataOutputView target)
+    throws IOException {
+  }
+
+  /**
+   * Reads the fixed size fields of an element.
+   *
+   * @param reuse element to read into
+   * @param nullFields flags marking {@code null} fields
+   * @param source input view
+   * @throws IOException if reading fails
+   */
+  protected void readFixedSizeFields(T reuse, int nullFields, DataInputView source)
+    throws IOException {
+  }
+
+  /**
+   * Writes the variable size fields of an element.
+   *
+   * @param record element
+   * @param target output view
+   * @throws IOException if writing fails
+   */
+  protected void writeVariableSizeFields(T record, DataOutputView target) throws IOException {
+  }
+
+  /**
+   * Reads the variable size fields of an element.
+   *
+   * @param reuse element to read into
+   * @param source input view
+   * @throws IOException if reading fails
+   */
+  protected void readVariableSizeFields(T reuse, DataInputView source) throws IOException {
+  }
+
+  /**
+   * Copies the variable size fields of a serialized element.
+   *
+   * @param source input view
+   * @param target output view
+   * @throws IOException if reading or writing fails
+   */
+  protected void copyVariableSizeFields(DataInputView source, DataOutputView target)
+    throws IOException {
+  }
+
+  /**
+   * Reads an id.
+   *
+   * @param source input view
+   * @return id
+   * @throws IOException if reading fails
+   */
+  protected static GradoopId readId(DataInputView source) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(source);
+    return id;
+  }
+
+  /**
+   * Checks that the global dictionary is the one the serializer is bound to. The check is only
+   * repeated if another global dictionary is installed.
+   *
+   * @throws IllegalStateException if the serializer is bound to another than the global dictionary
+   */
+  private void checkDictionary() {
+    if (encoded) {
+      ElementDictionary global = ElementDictionary.getGlobal();
+      if (global == null || global != checkedDictionary) {
+        checkedDictionary = ElementDictionary.checkFingerprint(fingerprint);
+      }
+    }
+  }
+
+  /**
+   * Writes a label, as dictionary id if the serializer is bound to a dictionary.
+   *
+   * @param label label
+   * @param target output view
+   * @throws IOException if writing fails
+   */
+  private void writeLabel(String label, DataOutputView target) throws IOException {
+    if (encoded) {
+      ElementDictionary.writeString(label, target);
+    } else {
+      target.writeUTF(label);
+    }
+  }
+
+  /**
+   * Reads a label written by {@link #writeLabel(String, DataOutputView)}.
+   *
+   * @param source input view
+   * @return label
+   * @throws IOException if reading fails
+   */
+  private String readLabel(DataInputView source) throws IOException {
+    return encoded ? ElementDictionary.readString(source) : source.readUTF();
+  }
+
+  /**
+   * Writes the properties prefixed by their length in bytes.
+   *
+   * @param properties properties or {@code null}
+   * @param target output view
+   * @throws IOException if writing fails
+   */
+  private void writeProperties(Properties properties, DataOutputView target) throws IOException {
+    if (properties == null) {
+      target.writeInt(NULL_LENGTH);
+      return;
+    }
+    if (buffer == null) {
+      buffer = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+    }
+    buffer.clear();
+    if (encoded) {
+      properties.writeUnchecked(buffer);
+    } else {
+      properties.write(buffer);
+    }
+    target.writeInt(buffer.length());
+    target.write(buffer.getSharedBuffer(), 0, buffer.length());
+  }
+
+  /**
+   * Reads properties written by {@link #writeProperties(Properties, DataOutputView)}.
+   *
+   * @param source input view
+   * @return properties or {@code null}
+   * @throws IOException if reading fails
+   */
+  private Properties readProperties(DataInputView source) throws IOException {
+    if (source.readInt() == NULL_LENGTH) {
+      return null;
+    }
+    Properties properties = Properties.create();
+    if (encoded) {
+      properties.readUnchecked(source);
+    } else {
+      properties.read(source);
+    }
+    return properties;
+  }
+
+  /**
+   * Creates a deep copy of the given properties.
+   *
+   * @param properties properties or {@code null}
+   * @return copy or {@code null}
+   */
+  private static Properties copyProperties(Properties properties) {
+    if (properties == null) {
+      return null;
+    }
+    Properties copy = Properties.createWithCapacity(properties.size());
+    for (Property property : properties) {
+      copy.set(property.getKey(), property.getValue().copy());
+    }
+    return copy;
+  }
+}
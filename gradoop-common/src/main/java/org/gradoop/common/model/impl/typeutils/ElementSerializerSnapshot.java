@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Configuration snapshot of an {@link ElementSerializer}. The snapshot contains the fingerprint of
+ * the {@link ElementDictionary} the serializer is bound to, so that data written with another
+ * dictionary is detected once per snapshot instead of once per record.
+ *
+ * @param <T> element type
+ */
+public abstract class ElementSerializerSnapshot<T extends Element>
+  implements TypeSerializerSnapshot<T> {
+
+  /**
+   * Current version of the snapshot.
+   */
+  private static final int CURRENT_VERSION = 1;
+
+  /**
+   * Creates serializers of the snapshot type.
+   */
+  private final Supplier<? extends ElementSerializer<T>> serializerSupplier;
+
+  /**
+   * True, if the serializer is bound to a dictionary.
+   */
+  private boolean encoded;
+
+  /**
+   * Fingerprint of the dictionary the serializer is bound to.
+   */
+  private long fingerprint;
+
+  /**
+   * Creates a snapshot to be read.
+   *
+   * @param serializerSupplier creates serializers of the snapshot type
+   */
+  protected ElementSerializerSnapshot(Supplier<? extends ElementSerializer<T>> serializerSupplier) {
+    this.serializerSupplier = Objects.requireNonNull(serializerSupplier);
+  }
+
+  /**
+   * Creates a snapshot of the given serializer.
+   *
+   * @param serializerSupplier creates serializers of the snapshot type
+   * @param serializer serializer
+   */
+  protected ElementSerializerSnapshot(Supplier<? extends ElementSerializer<T>> serializerSupplier,
+    ElementSerializer<T> serializer) {
+    this(serializerSupplier);
+    this.encoded = serializer.isEncoded();
+    this.fingerprint = serializer.getFingerprint();
+  }
+
+  @Override
+  public int getCurrentVersion() {
+    return CURRENT_VERSION;
+  }
+
+  @Override
+  public void writeSnapshot(DataOutputView out) throws IOException {
+    out.writeBoolean(encoded);
+    out.writeLong(fingerprint);
+  }
+
+  @Override
+  public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+    throws IOException {
+    encoded = in.readBoolean();
+    fingerprint = in.readLong();
+  }
+
+  @Override
+  public TypeSerializer<T> restoreSerializer() {
+    ElementSerializer<T> serializer = serializerSupplier.get();
+    serializer.setDictionary(encoded, fingerprint);
+    return serializer;
+  }
+
+  @Override
+  public TypeSerializerSchemaCompatibility<T> resolveSchemaCompatibility(
+    TypeSerializer<T> newSerializer) {
+    if (!restoreSerializer().equals(newSerializer)) {
+      // other element type or dictionary, ids can not be migrated
+      return TypeSerializerSchemaCompatibility.incompatible();
+    }
+    return TypeSerializerSchemaCompatibility.compatibleAsIs();
+  }
+}
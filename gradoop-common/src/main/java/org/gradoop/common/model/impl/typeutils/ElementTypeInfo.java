@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.PojoField;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.gradoop.common.model.api.entities.Element;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Type information for EPGM elements.
+ *
+ * The type is still a POJO type, i.e. fields can be referenced by name in keys and semantic
+ * annotations. However, elements are serialized by a dedicated {@link ElementSerializer} instead of
+ * the generic POJO serializer.
+ *
+ * @param <T> element type
+ */
+public class ElementTypeInfo<T extends Element> extends PojoTypeInfo<T> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Serializer for the element type.
+   */
+  private final ElementSerializer<T> serializer;
+
+  /**
+   * Creates a new type information.
+   *
+   * @param typeClass element type
+   * @param fields POJO fields of the element type
+   * @param serializer serializer for the element type
+   */
+  public ElementTypeInfo(Class<T> typeClass, List<PojoField> fields,
+    ElementSerializer<T> serializer) {
+    super(typeClass, fields);
+    this.serializer = Objects.requireNonNull(serializer);
+  }
+
+  @Override
+  public TypeSerializer<T> createSerializer(ExecutionConfig config) {
+    return serializer.duplicate();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ElementTypeInfo && super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof ElementTypeInfo;
+  }
+}
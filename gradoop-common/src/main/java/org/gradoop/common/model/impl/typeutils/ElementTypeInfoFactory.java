@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.PojoField;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractionUtils;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the type information for EPGM elements.
+ *
+ * Element types with a dedicated serializer (see {@link #createSerializer(Class)}) are described by
+ * an {@link ElementTypeInfo}. Other (e.g. user defined) element types are described by a
+ * {@link PojoTypeInfo}, abstract element types by a {@link GenericTypeInfo}.
+ *
+ * @param <T> element type
+ */
+public class ElementTypeInfoFactory<T extends Element> extends TypeInfoFactory<T> {
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public TypeInformation<T> createTypeInfo(Type t,
+    Map<String, TypeInformation<?>> genericParameters) {
+    Class<T> typeClass = (Class<T>) TypeExtractionUtils.typeToClass(t);
+    if (Modifier.isAbstract(typeClass.getModifiers())) {
+      return new GenericTypeInfo<>(typeClass);
+    }
+    List<PojoField> fields = new ArrayList<>();
+    for (Field field : TypeExtractor.getAllDeclaredFields(typeClass, false)) {
+      field.setAccessible(true);
+      fields.add(new PojoField(field, TypeExtractor.createTypeInfo(field.getGenericType())));
+    }
+    ElementSerializer<T> serializer = (ElementSerializer<T>) createSerializer(typeClass);
+    return serializer == null ? new PojoTypeInfo<>(typeClass, fields) :
+      new ElementTypeInfo<>(typeClass, fields, serializer);
+  }
+
+  /**
+   * Creates the dedicated serializer for the given element type.
+   *
+   * @param typeClass element type
+   * @return serializer or {@code null} if there is no dedicated serializer for the type
+   */
+  protected ElementSerializer<?> createSerializer(Class<?> typeClass) {
+    if (typeClass == EPGMVertex.class) {
+      return new EPGMVertexSerializer();
+    } else if (typeClass == EPGMEdge.class) {
+      return new EPGMEdgeSerializer();
+    } else if (typeClass == EPGMGraphHead.class) {
+      return new EPGMGraphHeadSerializer();
+    }
+    return null;
+  }
+}
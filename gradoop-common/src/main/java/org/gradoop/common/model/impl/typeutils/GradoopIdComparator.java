@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+
+/**
+ * Comparator for {@link GradoopId}.
+ *
+ * Ids are compared byte-wise, thus the full id is used as normalized key and serialized ids are
+ * compared without deserializing them.
+ */
+public class GradoopIdComparator extends TypeComparator<GradoopId> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Comparators for the flat key fields, i.e. this comparator only.
+   */
+  private final TypeComparator[] comparators = new TypeComparator[] {this};
+
+  /**
+   * True, if the sort order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * The current reference.
+   */
+  private transient GradoopId reference;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, if the sort order is ascending
+   */
+  public GradoopIdComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(GradoopId record) {
+    return record.hashCode();
+  }
+
+  @Override
+  public void setReference(GradoopId toCompare) {
+    if (reference == null) {
+      reference = toCompare.copy();
+    } else {
+      toCompare.copyTo(reference);
+    }
+  }
+
+  @Override
+  public boolean equalToReference(GradoopId candidate) {
+    return candidate.equals(reference);
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<GradoopId> referencedComparator) {
+    GradoopId otherReference = ((GradoopIdComparator) referencedComparator).reference;
+    return ascending ? otherReference.compareTo(reference) : reference.compareTo(otherReference);
+  }
+
+  @Override
+  public int compare(GradoopId first, GradoopId second) {
+    return ascending ? first.compareTo(second) : second.compareTo(first);
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    // ids are serialized as a long followed by an int, both compared unsigned
+    int comp = Long.compareUnsigned(firstSource.readLong(), secondSource.readLong());
+    int lowerComp = Integer.compareUnsigned(firstSource.readInt(), secondSource.readInt());
+    if (comp == 0) {
+      comp = lowerComp;
+    }
+    return ascending ? comp : -comp;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void putNormalizedKey(GradoopId record, MemorySegment target, int offset, int numBytes) {
+    int length = Math.min(numBytes, GradoopId.ID_SIZE);
+    record.copyNormalizedKey(target, offset, length);
+    for (int i = length; i < numBytes; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  @Override
+  public void writeWithKeyNormalization(GradoopId record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public GradoopId readWithKeyDenormalization(GradoopId reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<GradoopId> duplicate() {
+    return new GradoopIdComparator(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = record;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return comparators;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link GradoopId}. Ids are serialized using a fixed length of
+ * {@link GradoopId#ID_SIZE} bytes.
+ */
+public final class GradoopIdSerializer extends TypeSerializerSingleton<GradoopId> {
+
+  /**
+   * Shared instance.
+   */
+  public static final GradoopIdSerializer INSTANCE = new GradoopIdSerializer();
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public GradoopId createInstance() {
+    return new GradoopId();
+  }
+
+  @Override
+  public GradoopId copy(GradoopId from) {
+    return from.copy();
+  }
+
+  @Override
+  public GradoopId copy(GradoopId from, GradoopId reuse) {
+    from.copyTo(reuse);
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void serialize(GradoopId record, DataOutputView target) throws IOException {
+    record.write(target);
+  }
+
+  @Override
+  public GradoopId deserialize(DataInputView source) throws IOException {
+    return deserialize(new GradoopId(), source);
+  }
+
+  @Override
+  public GradoopId deserialize(GradoopId reuse, DataInputView source) throws IOException {
+    reuse.read(source);
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    target.write(source, GradoopId.ID_SIZE);
+  }
+
+  @Override
+  public TypeSerializerSnapshot<GradoopId> snapshotConfiguration() {
+    return new GradoopIdSerializerSnapshot();
+  }
+
+  /**
+   * Serializer configuration snapshot for compatibility and format evolution.
+   */
+  public static final class GradoopIdSerializerSnapshot
+    extends SimpleTypeSerializerSnapshot<GradoopId> {
+
+    /**
+     * Creates a new snapshot.
+     */
+    public GradoopIdSerializerSnapshot() {
+      super(() -> INSTANCE);
+    }
+  }
+}
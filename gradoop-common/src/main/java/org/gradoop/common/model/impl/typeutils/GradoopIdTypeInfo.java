@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Type information for {@link GradoopId}.
+ *
+ * The serialized form is the same as the one of the generic {@link ValueTypeInfo}, but ids are
+ * serialized by {@link GradoopIdSerializer} and compared by {@link GradoopIdComparator}, which
+ * compares serialized ids without deserializing them.
+ */
+public class GradoopIdTypeInfo extends ValueTypeInfo<GradoopId> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new type information.
+   */
+  public GradoopIdTypeInfo() {
+    super(GradoopId.class);
+  }
+
+  @Override
+  public TypeSerializer<GradoopId> createSerializer(ExecutionConfig executionConfig) {
+    return GradoopIdSerializer.INSTANCE;
+  }
+
+  @Override
+  public TypeComparator<GradoopId> createComparator(boolean sortOrderAscending,
+    ExecutionConfig executionConfig) {
+    return new GradoopIdComparator(sortOrderAscending);
+  }
+}
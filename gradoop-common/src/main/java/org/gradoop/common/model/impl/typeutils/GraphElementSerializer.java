@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+import java.io.IOException;
+
+/**
+ * Base class of the serializers for graph elements. The graph ids are serialized as number of
+ * ids (or {@code -1}) followed by the ids.
+ *
+ * @param <T> graph element type
+ */
+public abstract class GraphElementSerializer<T extends GraphElement> extends ElementSerializer<T> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    super.copy(from, reuse);
+    reuse.setGraphIds(from.getGraphIds() == null ? null :
+      GradoopIdSet.fromExisting(from.getGraphIds()));
+    return reuse;
+  }
+
+  @Override
+  protected void writeVariableSizeFields(T record, DataOutputView target) throws IOException {
+    GradoopIdSet graphIds = record.getGraphIds();
+    if (graphIds == null) {
+      target.writeInt(-1);
+    } else {
+      graphIds.write(target);
+    }
+  }
+
+  @Override
+  protected void readVariableSizeFields(T reuse, DataInputView source) throws IOException {
+    int count = source.readInt();
+    if (count < 0) {
+      reuse.setGraphIds(null);
+      return;
+    }
+    GradoopIdSet graphIds = new GradoopIdSet();
+    graphIds.read(source, count);
+    reuse.setGraphIds(graphIds);
+  }
+
+  @Override
+  protected void copyVariableSizeFields(DataInputView source, DataOutputView target)
+    throws IOException {
+    int count = source.readInt();
+    target.writeInt(count);
+    if (count > 0) {
+      target.write(source, count * GradoopId.ID_SIZE);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.dictionary;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.metadata.MetaData;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.properties.Type;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.AssertJUnit.*;
+
+public class ElementDictionaryTest {
+
+  @Test
+  public void testCreate() {
+    ElementDictionary dictionary = ElementDictionary.create(Arrays.asList("b", "a", "c", "a"));
+
+    assertEquals(3, dictionary.size());
+    assertEquals(0, dictionary.getId("a"));
+    assertEquals(1, dictionary.getId("b"));
+    assertEquals(2, dictionary.getId("c"));
+    assertEquals(ElementDictionary.NO_ID, dictionary.getId("d"));
+    assertEquals("c", dictionary.getString(2));
+    assertEquals(dictionary, ElementDictionary.create(Arrays.asList("c", "b", "a")));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testGetStringUnknownId() {
+    ElementDictionary.create(Collections.singletonList("a")).getString(1);
+  }
+
+  @Test
+  public void testFromMetaData() {
+    Map<String, List<PropertyMetaData>> graphMetaData = new HashMap<>();
+    graphMetaData.put("g", Collections.singletonList(
+      new PropertyMetaData("gk", Type.STRING.toString(), null)));
+    Map<String, List<PropertyMetaData>> vertexMetaData = new HashMap<>();
+    vertexMetaData.put("v", Arrays.asList(
+      new PropertyMetaData("vk1", Type.INTEGER.toString(), null),
+      new PropertyMetaData("vk2", Type.LONG.toString(), null)));
+    Map<String, List<PropertyMetaData>> edgeMetaData = new HashMap<>();
+    edgeMetaData.put("e", Collections.singletonList(
+      new PropertyMetaData("vk1", Type.INTEGER.toString(), null)));
+
+    ElementDictionary dictionary = ElementDictionary.fromMetaData(
+      new MetaData(graphMetaData, vertexMetaData, edgeMetaData) { });
+
+    Set<String> expected = new HashSet<>(Arrays.asList("g", "gk", "v", "vk1", "vk2", "e"));
+    assertEquals(expected.size(), dictionary.size());
+    for (String string : expected) {
+      assertEquals(string, dictionary.getString(dictionary.getId(string)));
+    }
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    ElementDictionary dictionary = ElementDictionary.create(Arrays.asList("a", "ä", "key"));
+    Path file = Files.createTempFile("dictionary", ".txt");
+    try {
+      dictionary.write(file);
+      assertEquals(dictionary, ElementDictionary.read(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testWriteAndReadString() throws Exception {
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("known", "label")));
+    try {
+      DataOutputSerializer out = new DataOutputSerializer(64);
+      ElementDictionary.writeString("known", out);
+      ElementDictionary.writeString("unknown", out);
+      ElementDictionary.writeString("label", out);
+      // ids are written as two bytes
+      assertEquals(2 + 2 + 2 + "unknown".length() + 2, out.length());
+
+      DataInputDeserializer in = new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+      assertEquals("known", ElementDictionary.readString(in));
+      assertEquals("unknown", ElementDictionary.readString(in));
+      assertEquals("label", ElementDictionary.readString(in));
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testResolveWithoutDictionary() {
+    ElementDictionary.resolve(0);
+  }
+
+  @Test
+  public void testFingerprint() {
+    ElementDictionary dictionary = ElementDictionary.create(Arrays.asList("a", "b", "c"));
+    assertEquals(dictionary.getFingerprint(),
+      ElementDictionary.create(Arrays.asList("c", "b", "a")).getFingerprint());
+    assertTrue(dictionary.getFingerprint() != ElementDictionary.create(
+      Arrays.asList("a", "b", "d")).getFingerprint());
+  }
+}
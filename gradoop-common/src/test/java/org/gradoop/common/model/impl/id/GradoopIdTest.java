@@ -15,10 +15,16 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.testng.Assert.assertNotEquals;
@@ -61,6 +67,28 @@ public class GradoopIdTest {
     assertEquals("reconstruction from string failed", originalId, fromStringId);
   }
 
+  @Test
+  public void testFromHexBytes() {
+    GradoopId originalId = GradoopId.get();
+    byte[] line = ("x;" + originalId + ";" + originalId.toString().toUpperCase())
+      .getBytes(StandardCharsets.US_ASCII);
+
+    assertEquals(originalId, GradoopId.fromHexBytes(line, 2));
+    assertEquals(originalId, GradoopId.fromHexBytes(line, 27));
+    assertEquals(GradoopId.fromString("ffffffffffffffffffffffff"),
+      GradoopId.fromHexBytes("ffffffffffffffffffffffff".getBytes(StandardCharsets.US_ASCII), 0));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testFromHexBytesInvalid() {
+    GradoopId.fromHexBytes("00000000000000000000000g".getBytes(StandardCharsets.US_ASCII), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testFromHexBytesTooShort() {
+    GradoopId.fromHexBytes("000000000000000000000000".getBytes(StandardCharsets.US_ASCII), 1);
+  }
+
   @Test
   public void testGetRawBytes() {
     GradoopId originalId = GradoopId.get();
@@ -111,6 +139,50 @@ public class GradoopIdTest {
     assertEquals(expectedId, newId);
   }
 
+  /**
+   * Test that ids keep the byte-wise ordering, hash code and serialized form of their byte
+   * representation.
+   */
+  @Test
+  public void testByteRepresentation() throws Exception {
+    byte[] bytes = new byte[2 * GradoopId.ID_SIZE];
+    DataOutputSerializer out = new DataOutputSerializer(GradoopId.ID_SIZE);
+    DataInputDeserializer in = new DataInputDeserializer();
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(GradoopId.ID_SIZE);
+    byte[] key = new byte[GradoopId.ID_SIZE];
+
+    for (int i = 0; i < 1000; i++) {
+      ThreadLocalRandom.current().nextBytes(bytes);
+      GradoopId first = GradoopId.fromByteArray(bytes, 0);
+      GradoopId second = GradoopId.fromByteArray(bytes, GradoopId.ID_SIZE);
+      byte[] firstBytes = Arrays.copyOfRange(bytes, 0, GradoopId.ID_SIZE);
+
+      assertEquals(Integer.signum(GradoopId.compare(bytes, 0, bytes, GradoopId.ID_SIZE)),
+        Integer.signum(first.compareTo(second)));
+      assertEquals(GradoopId.hashCode(bytes, 0), first.hashCode());
+      assertTrue(Arrays.equals(firstBytes, first.toByteArray()));
+      assertEquals(first, GradoopId.fromString(first.toString()));
+
+      out.clear();
+      first.write(out);
+      assertTrue(Arrays.equals(firstBytes, out.getCopyOfBuffer()));
+      in.setBuffer(out.getSharedBuffer(), 0, out.length());
+      GradoopId read = new GradoopId();
+      read.read(in);
+      assertEquals(first, read);
+
+      first.copyNormalizedKey(segment, 0, GradoopId.ID_SIZE);
+      segment.get(0, key);
+      assertTrue(Arrays.equals(firstBytes, key));
+      Arrays.fill(key, (byte) 0);
+      segment.put(0, key);
+      first.copyNormalizedKey(segment, 0, 10);
+      segment.get(0, key);
+      assertTrue(Arrays.equals(Arrays.copyOf(firstBytes, 10), Arrays.copyOf(key, 10)));
+      assertEquals(0, key[10]);
+    }
+  }
+
   /**
    * Test the {@link GradoopId#min(GradoopId, GradoopId)} method.
    */
@@ -132,8 +204,6 @@ public class GradoopIdTest {
     GradoopId someId = GradoopId.get();
     GradoopId copy = someId.copy();
     assertEquals(someId, copy);
-    assertSame("toByteArray() seems to return copies of the id, not the raw byte[] data,",
-      someId.toByteArray(), someId.toByteArray());
     assertNotSame("copy", someId, copy);
     assertNotSame("raw data of copy", someId.toByteArray(), copy.toByteArray());
   }
@@ -304,4 +304,73 @@ public class GradoopIdsTest {
     assertEquals("equals failed for two empty lists", empty2, empty);
     assertEquals("hashCode failed two one empty lists", empty2.hashCode(), empty.hashCode());
   }
+
+  @Test
+  public void testRemove() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2, id3);
+
+    assertTrue(ids.remove(id2));
+    assertFalse(ids.remove(id2));
+    assertEquals(GradoopIdSet.fromExisting(id1, id3), ids);
+
+    Iterator<GradoopId> iterator = ids.iterator();
+    iterator.next();
+    iterator.remove();
+    assertEquals(1, ids.size());
+    assertTrue(iterator.hasNext());
+    iterator.next();
+    iterator.remove();
+    assertTrue(ids.isEmpty());
+  }
+
+  @Test
+  public void testRetainAll() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+    GradoopId id4 = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2, id3);
+    assertTrue(ids.retainAll(GradoopIdSet.fromExisting(id2, id3, id4)));
+    assertEquals(GradoopIdSet.fromExisting(id2, id3), ids);
+    assertFalse(ids.retainAll(GradoopIdSet.fromExisting(id2, id3)));
+
+    assertTrue(ids.retainAll(Sets.newHashSet(id3, id4)));
+    assertEquals(GradoopIdSet.fromExisting(id3), ids);
+  }
+
+  @Test
+  public void testIteratorOrder() {
+    GradoopIdSet ids = new GradoopIdSet();
+    for (int i = 0; i < 100; i++) {
+      ids.add(GradoopId.get());
+    }
+    GradoopId previous = null;
+    for (GradoopId id : ids) {
+      if (previous != null) {
+        assertTrue(previous.compareTo(id) < 0);
+      }
+      previous = id;
+    }
+  }
+
+  @Test
+  public void testFromUnsortedByteArray() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    byte[] bytes = new byte[3 * GradoopId.ID_SIZE];
+    System.arraycopy(id2.toByteArray(), 0, bytes, 0, GradoopId.ID_SIZE);
+    System.arraycopy(id1.toByteArray(), 0, bytes, GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    System.arraycopy(id2.toByteArray(), 0, bytes, 2 * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+
+    GradoopIdSet ids = GradoopIdSet.fromByteArray(bytes);
+    assertEquals(2, ids.size());
+    assertEquals(GradoopIdSet.fromExisting(id1, id2), ids);
+    assertEquals(Sets.newHashSet(id1, id2).hashCode(), ids.hashCode());
+  }
 }
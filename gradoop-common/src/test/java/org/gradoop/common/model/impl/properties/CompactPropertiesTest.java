@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.testng.AssertJUnit.*;
+
+/**
+ * Runs the {@link PropertiesTest} with the compact representation of {@link Properties}.
+ */
+public class CompactPropertiesTest extends PropertiesTest {
+
+  private boolean compact;
+
+  @BeforeClass
+  public void enableCompactRepresentation() {
+    compact = Properties.isCompactRepresentation();
+    Properties.setCompactRepresentation(true);
+  }
+
+  @AfterClass
+  public void resetCompactRepresentation() {
+    Properties.setCompactRepresentation(compact);
+  }
+
+  @Test
+  public void testEqualsMapRepresentation() throws Exception {
+    Properties compactProperties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties.setCompactRepresentation(false);
+    try {
+      Properties mapProperties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+      assertEquals(mapProperties, compactProperties);
+      assertEquals(compactProperties, mapProperties);
+      assertEquals(mapProperties.hashCode(), compactProperties.hashCode());
+      assertEquals(mapProperties, writeAndReadFields(Properties.class, compactProperties));
+    } finally {
+      Properties.setCompactRepresentation(true);
+    }
+  }
+
+  @Test
+  public void testReplaceAndRemove() throws Exception {
+    Properties properties = Properties.create();
+    properties.set(KEY_1, STRING_VAL_6);
+    properties.set(KEY_2, LONG_VAL_3);
+    properties.set(KEY_3, BOOL_VAL_1);
+    properties.set(KEY_1, "a longer string value");
+    properties.set(KEY_2, INT_VAL_2);
+
+    assertEquals(3, properties.size());
+    assertEquals("a longer string value", properties.get(KEY_1).getString());
+    assertEquals(INT_VAL_2, properties.get(KEY_2).getInt());
+    assertEquals(BOOL_VAL_1, properties.get(KEY_3).getBoolean());
+
+    assertEquals(INT_VAL_2, properties.remove(KEY_2).getInt());
+    assertNull(properties.get(KEY_2));
+    assertEquals(BOOL_VAL_1, properties.get(KEY_3).getBoolean());
+
+    properties.set("äöü", DOUBLE_VAL_5);
+    assertEquals(DOUBLE_VAL_5, properties.get("äöü").getDouble());
+    assertFalse(properties.containsKey("äö"));
+
+    Properties copy = writeAndReadFields(Properties.class, properties);
+    assertEquals(properties, copy);
+    assertEquals(DOUBLE_VAL_5, copy.get("äöü").getDouble());
+  }
+
+  @Test
+  public void testScalarValuesAreLinked() throws Exception {
+    PropertyValue value = PropertyValue.create(LONG_VAL_3);
+    Properties properties = Properties.create();
+    properties.set(KEY_1, value);
+
+    value.setLong(42L);
+    assertSame(value, properties.get(KEY_1));
+    assertEquals(42L, properties.getLong(KEY_1));
+
+    Properties copy = writeAndReadFields(Properties.class, properties);
+    assertEquals(42L, copy.getLong(KEY_1));
+    copy.get(KEY_1).setInt(7);
+    assertSame(copy.get(KEY_1), copy.toList().get(0).getValue());
+    assertTrue(copy.isIntegral(KEY_1));
+    assertEquals(7L, copy.getLong(KEY_1));
+    assertEquals(7, writeAndReadFields(Properties.class, copy).get(KEY_1).getInt());
+    assertEquals(7, copy.remove(KEY_1).getInt());
+  }
+
+  @Test
+  public void testEqualsOnSerializedEntries() throws Exception {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties copy = writeAndReadFields(Properties.class, properties);
+    assertEquals(properties, copy);
+    assertEquals(properties.hashCode(), copy.hashCode());
+
+    copy.set(KEY_2, INT_VAL_2 + 1);
+    assertFalse(properties.equals(copy));
+    copy.set(KEY_2, INT_VAL_2);
+    assertEquals(properties, copy);
+
+    copy.remove(KEY_3);
+    copy.set("other", LONG_VAL_3);
+    assertFalse(properties.equals(copy));
+  }
+}
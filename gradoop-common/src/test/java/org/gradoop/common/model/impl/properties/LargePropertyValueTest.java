@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.properties.storage.DirectLargeValueStore;
+import org.gradoop.common.model.impl.properties.storage.LargeValueStore;
+import org.gradoop.common.model.impl.properties.storage.MappedLargeValueStore;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadFields;
+import static org.gradoop.common.model.impl.properties.PropertyValue.create;
+import static org.testng.AssertJUnit.*;
+
+/**
+ * Tests property values kept in a {@link LargeValueStore}.
+ */
+public class LargePropertyValueTest {
+
+  /**
+   * Store installed before the test.
+   */
+  private LargeValueStore previousStore;
+
+  /**
+   * A string exceeding {@link PropertyValue#LARGE_PROPERTY_THRESHOLD}.
+   */
+  private static final String LARGE_STRING = createString(PropertyValue.LARGE_PROPERTY_THRESHOLD);
+
+  @BeforeMethod
+  public void saveStore() {
+    previousStore = LargeValueStore.getGlobal();
+  }
+
+  @AfterMethod
+  public void restoreStore() {
+    LargeValueStore.setGlobal(previousStore);
+  }
+
+  @DataProvider
+  public Object[][] stores() {
+    String directory = System.getProperty("java.io.tmpdir");
+    return new Object[][] {
+      {new DirectLargeValueStore()},
+      {new MappedLargeValueStore(Paths.get(directory), 100_000)}
+    };
+  }
+
+  @Test(dataProvider = "stores")
+  public void testReadLargeString(LargeValueStore store) throws IOException {
+    PropertyValue value = create(LARGE_STRING);
+    LargeValueStore.setGlobal(store);
+    PropertyValue stored = writeAndReadFields(PropertyValue.class, value);
+
+    assertNotNull(stored.getLargeValue());
+    assertTrue(stored.isString());
+    assertEquals(String.class, stored.getType());
+    assertEquals(value.byteSize(), stored.byteSize());
+    assertEquals(value, stored);
+    assertEquals(stored, value);
+    assertEquals(value.hashCode(), stored.hashCode());
+    assertTrue(Arrays.equals(value.getRawBytes(), stored.getRawBytes()));
+    assertTrue(Arrays.equals(serialize(value), serialize(stored)));
+
+    assertEquals(LARGE_STRING, stored.getString());
+    assertNotNull(stored.getLargeValue());
+    assertEquals(value, stored);
+  }
+
+  @Test(dataProvider = "stores")
+  public void testCopySharesStoredValue(LargeValueStore store) throws IOException {
+    LargeValueStore.setGlobal(store);
+    PropertyValue stored = writeAndReadFields(PropertyValue.class, create(LARGE_STRING));
+    PropertyValue copy = stored.copy();
+
+    assertNotSame(stored, copy);
+    assertSame(stored.getLargeValue(), copy.getLargeValue());
+    assertEquals(stored, copy);
+    assertEquals(stored, writeAndReadFields(PropertyValue.class, copy));
+
+    copy.setString("small");
+    assertNull(copy.getLargeValue());
+    assertEquals(LARGE_STRING, stored.getString());
+  }
+
+  @Test(dataProvider = "stores")
+  public void testReadLargeList(LargeValueStore store) throws IOException {
+    List<PropertyValue> list = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      list.add(create((long) i));
+    }
+    PropertyValue value = create(list);
+    LargeValueStore.setGlobal(store);
+    PropertyValue stored = writeAndReadFields(PropertyValue.class, value);
+
+    assertNotNull(stored.getLargeValue());
+    assertTrue(stored.isList());
+    assertEquals(value, stored);
+
+    // materialized lists may be modified and drop the stored value
+    stored.getList().add(create(-1L));
+    assertNull(stored.getLargeValue());
+    list.add(create(-1L));
+    assertEquals(create(list), stored);
+  }
+
+  @Test
+  public void testMappedStoreLimitsMappedBytes() throws Exception {
+    MappedLargeValueStore store =
+      new MappedLargeValueStore(Paths.get(System.getProperty("java.io.tmpdir")), 100_000, 200_000);
+    LargeValueStore.setGlobal(store);
+    PropertyValue value = create(LARGE_STRING);
+    List<PropertyValue> stored = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      stored.add(writeAndReadFields(PropertyValue.class, value));
+    }
+
+    // values exceeding the limit are kept on the heap
+    assertEquals(200_000, store.getMappedBytes());
+    for (PropertyValue storedValue : stored) {
+      assertNotNull(storedValue.getLargeValue());
+      assertEquals(value, storedValue);
+    }
+
+    // regions are released once no value refers to them anymore
+    stored.clear();
+    for (int i = 0; i < 100 && store.getMappedBytes() > 0; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(0, store.getMappedBytes());
+
+    PropertyValue storedValue = writeAndReadFields(PropertyValue.class, value);
+    assertEquals(100_000, store.getMappedBytes());
+    assertEquals(value, storedValue);
+  }
+
+  @Test
+  public void testSmallValuesAreNotStored() throws IOException {
+    LargeValueStore.setGlobal(new DirectLargeValueStore());
+    PropertyValue stored = writeAndReadFields(PropertyValue.class, create("small"));
+    assertNull(stored.getLargeValue());
+    assertEquals("small", stored.getString());
+  }
+
+  @Test(dataProvider = "stores")
+  public void testJavaSerialization(LargeValueStore store) throws Exception {
+    LargeValueStore.setGlobal(store);
+    PropertyValue stored = writeAndReadFields(PropertyValue.class, create(LARGE_STRING));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(stored);
+    }
+    try (ObjectInputStream in =
+      new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      PropertyValue deserialized = (PropertyValue) in.readObject();
+      assertEquals(stored, deserialized);
+      assertEquals(LARGE_STRING, deserialized.getString());
+    }
+  }
+
+  @Test(dataProvider = "stores")
+  public void testCompactProperties(LargeValueStore store) throws IOException {
+    boolean compact = Properties.isCompactRepresentation();
+    Properties.setCompactRepresentation(true);
+    try {
+      String otherString = createString(PropertyValue.LARGE_PROPERTY_THRESHOLD * 4);
+      Properties properties = Properties.create();
+      properties.set("a", 1L);
+      properties.set("b", LARGE_STRING);
+      properties.set("c", "small");
+      properties.set("d", otherString);
+      LargeValueStore.setGlobal(store);
+      Properties stored = writeAndReadFields(Properties.class, properties);
+
+      assertNotNull(stored.get("b").getLargeValue());
+      assertNotNull(stored.get("d").getLargeValue());
+      assertEquals(properties, stored);
+      assertEquals(properties.hashCode(), stored.hashCode());
+      assertTrue(Arrays.equals(serialize(properties), serialize(stored)));
+      assertEquals(LARGE_STRING, stored.get("b").getString());
+      assertEquals(otherString, stored.get("d").getString());
+      assertEquals("small", stored.get("c").getString());
+      assertEquals(1L, stored.getLong("a"));
+
+      // the handle is shared when setting the value in another buffer
+      Properties copy = Properties.create();
+      copy.set("x", stored.get("b"));
+      assertSame(stored.get("b").getLargeValue(), copy.get("x").getLargeValue());
+
+      stored.set("b", "replaced");
+      assertEquals(otherString, stored.remove("d").getString());
+      assertEquals(3, stored.size());
+      assertEquals("replaced", stored.get("b").getString());
+      properties.set("b", "replaced");
+      properties.remove("d");
+      assertEquals(properties, writeAndReadFields(Properties.class, stored));
+    } finally {
+      Properties.setCompactRepresentation(compact);
+    }
+  }
+
+  /**
+   * Creates a string consisting of the given number of characters.
+   *
+   * @param length string length
+   * @return string
+   */
+  private static String createString(int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + i % 26));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Serializes the given value.
+   *
+   * @param value value to serialize
+   * @return serialized value
+   * @throws IOException if writing fails
+   */
+  private static byte[] serialize(Value value) throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    value.write(out);
+    return out.getCopyOfBuffer();
+  }
+}
@@ -16,10 +16,15 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import static org.gradoop.common.GradoopTestUtils.*;
 import static org.testng.Assert.assertNotEquals;
@@ -212,4 +217,177 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
+
+  @Test
+  public void testWriteAndReadFieldsWithDictionary() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    // only some keys are contained in the dictionary
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList(KEY_1, KEY_2, KEY_3)));
+    try {
+      Properties propertiesOut = writeAndReadFields(Properties.class, propertiesIn);
+      assertEquals(propertiesIn, propertiesOut);
+
+      Properties encodedIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+      encodedIn.set(KEY_1, STRING_VAL_6);
+      encodedIn.remove(KEY_2);
+      propertiesOut = writeAndReadFields(Properties.class, encodedIn);
+      assertEquals(encodedIn, propertiesOut);
+      assertEquals(STRING_VAL_6, propertiesOut.get(KEY_1).getString());
+      assertFalse(propertiesOut.containsKey(KEY_2));
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+  }
+
+  @Test
+  public void testPrimitiveNumericAccess() throws Exception {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    for (Properties p : Arrays.asList(properties,
+      writeAndReadFields(Properties.class, properties))) {
+      assertEquals(INT_VAL_2, p.getLong(KEY_2));
+      assertEquals(LONG_VAL_3, p.getLong(KEY_3));
+      assertEquals(SHORT_VAL_e, p.getLong(KEY_e));
+      assertEquals((double) FLOAT_VAL_4, p.getDouble(KEY_4), 0d);
+      assertEquals(DOUBLE_VAL_5, p.getDouble(KEY_5), 0d);
+      assertEquals(BIG_DECIMAL_VAL_7.doubleValue(), p.getDouble(KEY_7), 0d);
+      assertEquals((double) LONG_VAL_3, p.getDouble(KEY_3), 0d);
+
+      assertTrue(p.isNumber(KEY_2));
+      assertTrue(p.isNumber(KEY_7));
+      assertFalse(p.isNumber(KEY_0));
+      assertFalse(p.isNumber(KEY_6));
+      assertFalse(p.isNumber("unknown"));
+
+      assertTrue(p.isIntegral(KEY_2));
+      assertTrue(p.isIntegral(KEY_3));
+      assertTrue(p.isIntegral(KEY_e));
+      assertFalse(p.isIntegral(KEY_4));
+      assertFalse(p.isIntegral(KEY_5));
+      assertFalse(p.isIntegral(KEY_7));
+      assertFalse(p.isIntegral(KEY_6));
+      assertFalse(p.isIntegral("unknown"));
+    }
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testGetLongOfDouble() {
+    Properties.createFromMap(SUPPORTED_PROPERTIES).getLong(KEY_5);
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testGetDoubleOfString() {
+    Properties.createFromMap(SUPPORTED_PROPERTIES).getDouble(KEY_6);
+  }
+
+  @Test(expectedExceptions = NoSuchElementException.class)
+  public void testGetLongOfMissingKey() {
+    Properties.createFromMap(SUPPORTED_PROPERTIES).getLong("unknown");
+  }
+
+  @Test
+  public void testModifyReturnedValue() throws Exception {
+    Properties properties = Properties.create();
+    properties.set(KEY_1, LONG_VAL_3);
+    properties.set(KEY_2, Lists.newArrayList(PropertyValue.create(1L)));
+    properties.set(KEY_3, STRING_VAL_6);
+
+    properties.get(KEY_1).setLong(42L);
+    properties.get(KEY_2).getList().add(PropertyValue.create(2L));
+
+    assertEquals(42L, properties.get(KEY_1).getLong());
+    assertEquals(42L, properties.getLong(KEY_1));
+    assertEquals(2, properties.get(KEY_2).getList().size());
+
+    Properties copy = writeAndReadFields(Properties.class, properties);
+    assertEquals(properties, copy);
+    assertEquals(properties.hashCode(), copy.hashCode());
+    assertEquals(42L, copy.get(KEY_1).getLong());
+    assertEquals(2, copy.get(KEY_2).getList().size());
+
+    PropertyValue removed = properties.get(KEY_1);
+    assertSame(removed, properties.remove(KEY_1));
+    removed.setLong(0L);
+    assertNull(properties.get(KEY_1));
+    assertEquals(2, properties.get(KEY_2).getList().size());
+    assertEquals(STRING_VAL_6, properties.get(KEY_3).getString());
+  }
+
+  @Test
+  public void testModifySetAndIteratedValues() throws Exception {
+    PropertyValue value = PropertyValue.create(LONG_VAL_3);
+    Properties properties = Properties.create();
+    properties.set(KEY_1, value);
+    properties.set(KEY_2, STRING_VAL_6);
+
+    value.setLong(42L);
+    assertSame(value, properties.get(KEY_1));
+    assertEquals(42L, properties.getLong(KEY_1));
+
+    for (Property property : properties) {
+      if (property.getKey().equals(KEY_2)) {
+        property.getValue().setString("changed");
+      }
+    }
+    assertEquals("changed", properties.get(KEY_2).getString());
+
+    Properties copy = writeAndReadFields(Properties.class, properties);
+    assertEquals(42L, copy.get(KEY_1).getLong());
+    assertEquals("changed", copy.get(KEY_2).getString());
+    for (Property property : copy) {
+      if (property.getKey().equals(KEY_1)) {
+        property.getValue().setLong(7L);
+      }
+    }
+    assertEquals(7L, copy.getLong(KEY_1));
+  }
+
+  @Test
+  public void testModifySetAndIteratedContainers() throws Exception {
+    List<PropertyValue> list = Lists.newArrayList(PropertyValue.create(1L));
+    Properties properties = Properties.create();
+    properties.set(KEY_1, list);
+    properties.set(KEY_2, STRING_VAL_6);
+
+    list.add(PropertyValue.create(2L));
+    assertEquals(2, properties.get(KEY_1).getList().size());
+
+    Properties copy = writeAndReadFields(Properties.class, properties);
+    assertEquals(2, copy.get(KEY_1).getList().size());
+    for (Property property : copy) {
+      if (property.getKey().equals(KEY_1)) {
+        property.getValue().getList().add(PropertyValue.create(3L));
+      }
+    }
+    assertEquals(3, copy.get(KEY_1).getList().size());
+    assertEquals(3, writeAndReadFields(Properties.class, copy).get(KEY_1).getList().size());
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testReadEncodedWithoutDictionary() throws Exception {
+    readEncoded(null);
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testReadEncodedWithOtherDictionary() throws Exception {
+    readEncoded(ElementDictionary.create(Arrays.asList(KEY_1, KEY_2)));
+  }
+
+  /**
+   * Writes properties encoded by a dictionary and reads them with another global dictionary.
+   *
+   * @param readDictionary global dictionary used to read the properties
+   * @throws Exception if reading fails
+   */
+  private void readEncoded(ElementDictionary readDictionary) throws Exception {
+    DataOutputSerializer out = new DataOutputSerializer(256);
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList(KEY_1, KEY_2, KEY_3)));
+    try {
+      Properties.createFromMap(SUPPORTED_PROPERTIES).write(out);
+      ElementDictionary.setGlobal(readDictionary);
+      Properties.create().read(new DataInputDeserializer(out.getSharedBuffer(), 0, out.length()));
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+  }
 }
@@ -17,6 +17,7 @@ package org.gradoop.common.model.impl.properties;
 
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.util.InstantiationUtil;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.testng.annotations.Test;
@@ -28,6 +29,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.gradoop.common.GradoopTestUtils.*;
 import static org.gradoop.common.model.impl.properties.PropertyValue.create;
@@ -862,6 +866,231 @@ public class PropertyValueTest {
     }
   }
 
+  /**
+   * Tests {@link PropertyValue#read(DataInputView)} with lazy deserialization enabled.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test(dataProvider = "testIsProvider", dataProviderClass = PropertyValueTestProvider.class)
+  public void testLazyWriteAndReadFields(PropertyValue value, Object supportedType)
+    throws IOException {
+    PropertyValue lazyValue = lazy(value);
+    assertEquals(value, lazyValue);
+    assertEquals(lazyValue, value);
+    assertEquals(value.hashCode(), lazyValue.hashCode());
+    assertTrue(Arrays.equals(value.getRawBytes(), lazyValue.getRawBytes()));
+    assertEquals(value, writeAndReadFields(PropertyValue.class, lazyValue));
+    assertEquals(value.getType(), lazyValue.getType());
+    assertEquals(value.isNull(), lazyValue.isNull());
+    if (supportedType != null) {
+      assertTrue(lazyValue.is(supportedType.getClass()));
+    }
+    assertEquals(supportedType, lazyValue.getObject());
+    assertEquals(value, lazyValue);
+  }
+
+  /**
+   * Tests {@link PropertyValue#copy()} with lazy deserialization enabled.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test(dataProvider = "propertyValueProvider", dataProviderClass = PropertyValueTestProvider.class)
+  public void testLazyCopy(PropertyValue value) throws IOException {
+    PropertyValue lazyValue = lazy(value);
+    PropertyValue copy = lazyValue.copy();
+    assertNotSame(lazyValue, copy);
+    assertEquals(lazyValue, copy);
+    assertEquals(value, copy);
+  }
+
+  /**
+   * Tests {@link PropertyValue#compareTo(PropertyValue)} with lazy deserialization enabled.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test
+  public void testLazyCompareTo() throws IOException {
+    validateCompareTo(lazy(create(null)), lazy(create(null)), lazy(create(12)));
+    validateCompareTo(lazy(create(false)), lazy(create(false)), lazy(create(true)));
+    validateCompareTo(lazy(create((short) -10)), lazy(create((short) -10)), lazy(create((short) 12)));
+    validateCompareTo(lazy(create(-10)), lazy(create(-10)), lazy(create(12)));
+    validateCompareTo(lazy(create(-10L)), lazy(create(-10L)), lazy(create(12L)));
+    validateCompareTo(lazy(create(-10F)), lazy(create(-10F)), lazy(create(12F)));
+    validateCompareTo(lazy(create(-10D)), lazy(create(-10D)), lazy(create(12D)));
+    validateCompareTo(lazy(create(-10)), lazy(create(-10L)), lazy(create(12D)));
+    validateCompareTo(lazy(create(BigDecimal.valueOf(-10))), lazy(create(-10F)),
+      lazy(create(BigDecimal.valueOf(12))));
+    validateCompareTo(lazy(create("10")), lazy(create("10")), lazy(create("12")));
+    validateCompareTo(lazy(create(LocalDate.of(2018, 5, 1))), create(LocalDate.of(2018, 5, 1)),
+      lazy(create(LocalDate.of(2018, 5, 2))));
+    validateCompareTo(lazy(create(LocalTime.of(10, 59, 1))), lazy(create(LocalTime.of(10, 59, 1))),
+      lazy(create(LocalTime.of(11, 0))));
+    validateCompareTo(lazy(create(LocalDateTime.of(-5, 1, 1, 10, 0))),
+      lazy(create(LocalDateTime.of(-5, 1, 1, 10, 0))), lazy(create(LocalDateTime.of(1, 1, 1, 9, 0))));
+    GradoopId a = GradoopId.fromString("583ff8ffbd7d222690a90999");
+    GradoopId b = GradoopId.fromString("583ff8ffbd7d222690a9099a");
+    validateCompareTo(lazy(create(a)), lazy(create(a)), lazy(create(b)));
+  }
+
+  /**
+   * Tests that comparing lazily deserialized strings on their byte representation yields the
+   * same result as {@link String#compareTo(String)}, including characters outside the BMP.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test
+  public void testLazyCompareToStrings() throws IOException {
+    String[] strings = {"", "a", "ab", "b", "a\u00e4", "a\u00e4b", "a\u20ac", "a\uff61",
+      "a\ud83d\ude00", "\ud83d\ude01", "\uff61"};
+    for (String a : strings) {
+      for (String b : strings) {
+        assertEquals(a + " <> " + b, Integer.signum(a.compareTo(b)),
+          Integer.signum(lazy(create(a)).compareTo(lazy(create(b)))));
+        assertEquals(a + " <> " + b, Integer.signum(a.compareTo(b)),
+          Integer.signum(lazy(create(a)).compareTo(create(b))));
+      }
+    }
+  }
+
+  /**
+   * Tests that comparing lazily deserialized ids on their byte representation yields the same
+   * result as {@link GradoopId#compareTo(GradoopId)}.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test
+  public void testLazyCompareToGradoopIds() throws IOException {
+    GradoopId[] ids = {GradoopId.fromString("000000000000000000000000"),
+      GradoopId.fromString("7fffffffffffffffffffffff"), GradoopId.fromString("800000000000000000000000"),
+      GradoopId.fromString("000000000000000080000000"), GradoopId.fromString("ffffffffffffffffffffffff")};
+    for (GradoopId a : ids) {
+      for (GradoopId b : ids) {
+        assertEquals(Integer.signum(a.compareTo(b)),
+          Integer.signum(lazy(create(a)).compareTo(lazy(create(b)))));
+      }
+    }
+  }
+
+  /**
+   * Tests that the type of a value is still known after Java serialization, which does not keep
+   * the cached strategy.
+   *
+   * @throws Exception if something goes wrong.
+   */
+  @Test
+  public void testTypeAfterJavaSerialization() throws Exception {
+    PropertyValue value = InstantiationUtil.clone(create(10L));
+    assertTrue(value.isLong());
+    assertEquals(Long.class, value.getType());
+    assertEquals(create(10L), value);
+    assertTrue(value.compareTo(create(12L)) < 0);
+    assertTrue(value.compareTo(create(12)) < 0);
+
+    value = InstantiationUtil.clone(lazy(create("10")));
+    assertTrue(value.isString());
+    assertEquals(String.class, value.getType());
+    assertEquals(0, value.compareTo(create("10")));
+  }
+
+  /**
+   * Tests that values of the same type are compared like values of different types.
+   */
+  @Test
+  public void testCompareToSameType() {
+    assertEquals(0, create(Double.NaN).compareTo(create(Double.NaN)));
+    assertTrue(create(Double.MAX_VALUE).compareTo(create(Double.NaN)) < 0);
+    assertTrue(create(-0D).compareTo(create(0D)) < 0);
+    assertEquals(create(-0F).compareTo(create(0F)), create(-0F).compareTo(create(0D)));
+    assertEquals(0, create(new BigDecimal("1.0")).compareTo(create(BigDecimal.ONE)));
+    assertTrue(create(Long.MIN_VALUE).compareTo(create(Long.MAX_VALUE)) < 0);
+  }
+
+  /**
+   * Tests that a lazily deserialized container value can be modified after materialization.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test
+  public void testLazyModifyMaterializedList() throws IOException {
+    List<PropertyValue> list = new ArrayList<>();
+    list.add(create(1));
+    PropertyValue lazyValue = lazy(create(list));
+    lazyValue.getList().add(create(2));
+    list.add(create(2));
+    assertEquals(create(list), lazyValue);
+    assertEquals(create(list), writeAndReadFields(PropertyValue.class, lazyValue));
+  }
+
+  /**
+   * Tests that the outdated byte representation of a modified container value is not used by
+   * copy, hashCode, byteSize and compareTo.
+   *
+   * @throws IOException if something goes wrong.
+   */
+  @Test
+  public void testLazyModifiedContainerIgnoresBytes() throws IOException {
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    map.put(create("a"), create(1));
+    PropertyValue lazyValue = lazy(create(map));
+    lazyValue.getMap().put(create("b"), create(2));
+    map.put(create("b"), create(2));
+    PropertyValue expected = create(map);
+
+    assertEquals(expected, lazyValue.copy());
+    assertEquals(expected.hashCode(), lazyValue.hashCode());
+    assertEquals(expected.byteSize(), lazyValue.byteSize());
+    assertEquals(expected, writeAndReadFields(PropertyValue.class, lazyValue));
+  }
+
+  /**
+   * Tests that a lazily deserialized value shared between threads is materialized consistently,
+   * i.e. no reader observes an empty value while another one materializes it.
+   *
+   * @throws Exception if something goes wrong.
+   */
+  @Test
+  public void testLazyConcurrentMaterialization() throws Exception {
+    List<PropertyValue> list = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      list.add(create("element" + i));
+    }
+    PropertyValue expected = create(list);
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int i = 0; i < 500; i++) {
+        PropertyValue shared = lazy(expected);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          results.add(executor.submit(() -> !shared.isNull() && list.equals(shared.getList()) &&
+            expected.hashCode() == shared.hashCode()));
+        }
+        for (Future<Boolean> result : results) {
+          assertTrue(result.get());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Serializes and deserializes the given value with lazy deserialization enabled.
+   *
+   * @param value property value
+   * @return lazily deserialized property value
+   * @throws IOException if something goes wrong.
+   */
+  private PropertyValue lazy(PropertyValue value) throws IOException {
+    boolean lazy = PropertyValue.isLazyDeserialization();
+    PropertyValue.setLazyDeserialization(true);
+    try {
+      return writeAndReadFields(PropertyValue.class, value);
+    } finally {
+      PropertyValue.setLazyDeserialization(lazy);
+    }
+  }
+
   /**
    * Assumes that p1 == p2 < p3
    */
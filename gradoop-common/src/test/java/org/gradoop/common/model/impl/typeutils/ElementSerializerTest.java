@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.testng.AssertJUnit.*;
+
+public class ElementSerializerTest {
+
+  @DataProvider
+  public static Object[][] elements() {
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    return new Object[][] {
+      {new EPGMVertex(GradoopId.get(), "Person", properties, graphIds)},
+      {new EPGMVertex(GradoopId.get(), "", null, null)},
+      {new EPGMVertex()},
+      {new EPGMEdge(GradoopId.get(), "knows", GradoopId.get(), GradoopId.get(), properties,
+        graphIds)},
+      {new EPGMEdge(GradoopId.get(), "knows", null, GradoopId.get(), null, new GradoopIdSet())},
+      {new EPGMEdge()},
+      {new EPGMGraphHead(GradoopId.get(), "Community", properties)},
+      {new EPGMGraphHead()}
+    };
+  }
+
+  @Test(dataProvider = "elements")
+  public void testSerializeAndDeserialize(Element element) throws Exception {
+    TypeSerializer<Element> serializer = createSerializer(element);
+    assertTrue(serializer instanceof ElementSerializer);
+
+    Element copy = serializeAndDeserialize(serializer, element);
+    assertEqualElements(element, copy);
+  }
+
+  @Test(dataProvider = "elements")
+  public void testSerializeAndDeserializeWithDictionary(Element element) throws Exception {
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", KEY_1, KEY_2)));
+    try {
+      TypeSerializer<Element> serializer = createSerializer(element);
+      assertEqualElements(element, serializeAndDeserialize(serializer, element));
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+  }
+
+  @Test(dataProvider = "elements")
+  public void testCopy(Element element) throws Exception {
+    TypeSerializer<Element> serializer = createSerializer(element);
+
+    Element copy = serializer.copy(element);
+    assertNotSame(element, copy);
+    assertEqualElements(element, copy);
+    if (element.getId() != null) {
+      assertNotSame(element.getId(), copy.getId());
+    }
+    assertEqualElements(element, serializer.copy(element, serializer.createInstance()));
+  }
+
+  @Test(dataProvider = "elements")
+  public void testCopySerialized(Element element) throws Exception {
+    TypeSerializer<Element> serializer = createSerializer(element);
+
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(element, out);
+    serializer.serialize(element, out);
+    DataInputDeserializer in = new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+    DataOutputSerializer copy = new DataOutputSerializer(out.length());
+    serializer.copy(in, copy);
+    serializer.copy(in, copy);
+
+    assertEquals(out.length(), copy.length());
+    assertTrue(Arrays.equals(out.getCopyOfBuffer(), copy.getCopyOfBuffer()));
+  }
+
+  @Test
+  public void testNullElement() throws Exception {
+    EPGMEdgeSerializer serializer = new EPGMEdgeSerializer();
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(null, out);
+    serializer.serialize(new EPGMEdge(), out);
+    DataInputDeserializer in = new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+    DataOutputSerializer copy = new DataOutputSerializer(out.length());
+    serializer.copy(in, copy);
+    serializer.copy(in, copy);
+    assertTrue(Arrays.equals(out.getCopyOfBuffer(), copy.getCopyOfBuffer()));
+
+    in = new DataInputDeserializer(copy.getSharedBuffer(), 0, copy.length());
+    assertNull(serializer.deserialize(in));
+    assertNotNull(serializer.deserialize(new EPGMEdge(), in));
+    assertNull(serializer.copy(null));
+  }
+
+  @Test
+  public void testDuplicate() {
+    EPGMVertexSerializer serializer = new EPGMVertexSerializer();
+    TypeSerializer<EPGMVertex> duplicate = serializer.duplicate();
+
+    assertNotSame(serializer, duplicate);
+    assertEquals(serializer, duplicate);
+    assertFalse(serializer.equals(new EPGMEdgeSerializer()));
+  }
+
+  @Test
+  public void testDuplicateWithDictionary() {
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", KEY_1)));
+    EPGMEdgeSerializer serializer;
+    try {
+      serializer = new EPGMEdgeSerializer();
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+    TypeSerializer<EPGMEdge> duplicate = serializer.duplicate();
+
+    assertNotSame(serializer, duplicate);
+    assertEquals(serializer, duplicate);
+    assertTrue(((EPGMEdgeSerializer) duplicate).isEncoded());
+    assertFalse(duplicate.equals(new EPGMEdgeSerializer()));
+  }
+
+  @Test
+  public void testLabelWithoutFingerprint() throws Exception {
+    EPGMVertex vertex = new EPGMVertex(GradoopId.get(), "Person", null, null);
+    int plainLength = serializedLength(new EPGMVertexSerializer(), vertex);
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", KEY_1)));
+    try {
+      // the label is written as 2 byte id instead of 2 byte length and 6 bytes
+      assertEquals(plainLength - 6, serializedLength(new EPGMVertexSerializer(), vertex));
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testDeserializeWithOtherDictionary() throws Exception {
+    deserializeEncoded(ElementDictionary.create(Arrays.asList("Person", "other")));
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testDeserializeWithoutDictionary() throws Exception {
+    deserializeEncoded(null);
+  }
+
+  @Test
+  public void testSnapshot() throws Exception {
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", KEY_1)));
+    EPGMVertexSerializer serializer;
+    try {
+      serializer = new EPGMVertexSerializer();
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    TypeSerializerSnapshot<EPGMVertex> snapshot = serializer.snapshotConfiguration();
+    snapshot.writeSnapshot(out);
+
+    TypeSerializerSnapshot<EPGMVertex> restored =
+      new EPGMVertexSerializer.EPGMVertexSerializerSnapshot();
+    restored.readSnapshot(snapshot.getCurrentVersion(),
+      new DataInputDeserializer(out.getSharedBuffer(), 0, out.length()),
+      getClass().getClassLoader());
+
+    assertEquals(serializer, restored.restoreSerializer());
+    assertTrue(restored.resolveSchemaCompatibility(serializer).isCompatibleAsIs());
+    assertTrue(restored.resolveSchemaCompatibility(new EPGMVertexSerializer()).isIncompatible());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static TypeSerializer<Element> createSerializer(Element element) {
+    return ((TypeInformation<Element>) TypeInformation.of(element.getClass()))
+      .createSerializer(new ExecutionConfig());
+  }
+
+  private static Element serializeAndDeserialize(TypeSerializer<Element> serializer,
+    Element element) throws Exception {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(element, out);
+    DataInputDeserializer in = new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+    Element copy = serializer.deserialize(in);
+    assertEquals(0, in.available());
+    return copy;
+  }
+
+  private static void assertEqualElements(Element expected, Element actual) {
+    assertEquals(expected.getClass(), actual.getClass());
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals(expected.getProperties(), actual.getProperties());
+    if (expected instanceof EPGMEdge) {
+      assertEquals(((EPGMEdge) expected).getSourceId(), ((EPGMEdge) actual).getSourceId());
+      assertEquals(((EPGMEdge) expected).getTargetId(), ((EPGMEdge) actual).getTargetId());
+    }
+  }
+
+  private static int serializedLength(TypeSerializer<EPGMVertex> serializer, EPGMVertex vertex)
+    throws Exception {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(vertex, out);
+    return out.length();
+  }
+
+  /**
+   * Serializes a vertex with a serializer bound to one dictionary and deserializes it with
+   * another global dictionary installed.
+   *
+   * @param readDictionary global dictionary used to read the vertex
+   * @throws Exception if reading fails
+   */
+  private static void deserializeEncoded(ElementDictionary readDictionary) throws Exception {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", "label")));
+    try {
+      EPGMVertexSerializer serializer = new EPGMVertexSerializer();
+      serializer.serialize(new EPGMVertex(GradoopId.get(), "Person", null, null), out);
+      ElementDictionary.setGlobal(readDictionary);
+      serializer.deserialize(new DataInputDeserializer(out.getSharedBuffer(), 0, out.length()));
+    } finally {
+      ElementDictionary.setGlobal(null);
+    }
+  }
+}
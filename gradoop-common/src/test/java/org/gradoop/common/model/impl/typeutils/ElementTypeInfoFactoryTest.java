@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.operators.Keys;
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.testng.annotations.Test;
+
+import static org.testng.AssertJUnit.*;
+
+public class ElementTypeInfoFactoryTest {
+
+  @Test
+  public void testElementTypes() {
+    assertTrue(TypeInformation.of(EPGMVertex.class) instanceof ElementTypeInfo);
+    assertTrue(TypeInformation.of(EPGMEdge.class) instanceof ElementTypeInfo);
+    assertTrue(TypeInformation.of(EPGMGraphHead.class) instanceof ElementTypeInfo);
+    assertTrue(TypeInformation.of(EPGMElement.class) instanceof GenericTypeInfo);
+    assertEquals(TypeInformation.of(EPGMVertex.class), TypeInformation.of(EPGMVertex.class));
+    assertFalse(TypeInformation.of(EPGMVertex.class).equals(TypeInformation.of(EPGMEdge.class)));
+  }
+
+  @Test
+  public void testFieldExpressions() {
+    PojoTypeInfo<EPGMEdge> typeInfo = (PojoTypeInfo<EPGMEdge>) TypeInformation.of(EPGMEdge.class);
+
+    assertEquals(6, typeInfo.getArity());
+    assertEquals(new GradoopIdTypeInfo(), typeInfo.getTypeAt("sourceId"));
+    Keys.ExpressionKeys<EPGMEdge> keys = new Keys.ExpressionKeys<>("id", typeInfo);
+    assertEquals(1, keys.getNumberOfKeyFields());
+    assertNotNull(typeInfo.createComparator(new int[] {typeInfo.getFieldIndex("id")},
+      new boolean[] {true}, 0, new ExecutionConfig()));
+  }
+
+  @Test
+  public void testGradoopIdType() {
+    TypeInformation<GradoopId> typeInfo = TypeInformation.of(GradoopId.class);
+
+    assertTrue(typeInfo instanceof GradoopIdTypeInfo);
+    assertEquals(new ValueTypeInfo<>(GradoopId.class), typeInfo);
+    assertTrue(typeInfo.createSerializer(new ExecutionConfig()) instanceof GradoopIdSerializer);
+
+    TupleTypeInfo<Tuple2<GradoopId, GradoopId>> tupleType =
+      (TupleTypeInfo<Tuple2<GradoopId, GradoopId>>)
+        TypeInformation.of(new TypeHint<Tuple2<GradoopId, GradoopId>>() { });
+    assertTrue((Object) tupleType.getTypeAt(0) instanceof GradoopIdTypeInfo);
+  }
+}
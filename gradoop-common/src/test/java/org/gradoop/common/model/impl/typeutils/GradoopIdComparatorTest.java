@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.testng.annotations.Test;
+
+import static org.testng.AssertJUnit.*;
+
+public class GradoopIdComparatorTest {
+
+  private static final GradoopId SMALL = GradoopId.fromString("000000000000000000000001");
+
+  private static final GradoopId LARGE = GradoopId.fromString("ff0000000000000000000000");
+
+  @Test
+  public void testCompare() {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+    assertTrue(comparator.compare(SMALL, LARGE) < 0);
+    assertTrue(comparator.compare(LARGE, SMALL) > 0);
+    assertEquals(0, comparator.compare(SMALL, SMALL.copy()));
+
+    comparator = new GradoopIdComparator(false);
+    assertTrue(comparator.compare(SMALL, LARGE) > 0);
+  }
+
+  @Test
+  public void testCompareSerialized() throws Exception {
+    DataOutputSerializer out = new DataOutputSerializer(GradoopId.ID_SIZE * 2);
+    GradoopIdSerializer.INSTANCE.serialize(SMALL, out);
+    GradoopIdSerializer.INSTANCE.serialize(LARGE, out);
+    byte[] bytes = out.getCopyOfBuffer();
+
+    DataInputDeserializer first = new DataInputDeserializer(bytes, 0, GradoopId.ID_SIZE);
+    DataInputDeserializer second =
+      new DataInputDeserializer(bytes, GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    assertTrue(new GradoopIdComparator(true).compareSerialized(first, second) < 0);
+
+    first.setBuffer(bytes, 0, GradoopId.ID_SIZE);
+    second.setBuffer(bytes, GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    assertTrue(new GradoopIdComparator(false).compareSerialized(first, second) > 0);
+  }
+
+  @Test
+  public void testReference() {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+    GradoopIdComparator other = (GradoopIdComparator) comparator.duplicate();
+    comparator.setReference(SMALL);
+    other.setReference(LARGE);
+
+    assertTrue(comparator.equalToReference(SMALL.copy()));
+    assertFalse(comparator.equalToReference(LARGE));
+    assertTrue(comparator.compareToReference(other) > 0);
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+    assertTrue(comparator.supportsNormalizedKey());
+    assertFalse(comparator.isNormalizedKeyPrefixOnly(comparator.getNormalizeKeyLen()));
+
+    int length = comparator.getNormalizeKeyLen() + 4;
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[length * 2]);
+    comparator.putNormalizedKey(SMALL, segment, 0, length);
+    comparator.putNormalizedKey(LARGE, segment, length, length);
+    assertTrue(segment.compare(segment, 0, length, length) < 0);
+  }
+
+  @Test
+  public void testSerializer() throws Exception {
+    DataOutputSerializer out = new DataOutputSerializer(GradoopId.ID_SIZE);
+    GradoopIdSerializer.INSTANCE.serialize(LARGE, out);
+    assertEquals(GradoopIdSerializer.INSTANCE.getLength(), out.length());
+
+    GradoopId id = GradoopIdSerializer.INSTANCE.deserialize(
+      new DataInputDeserializer(out.getSharedBuffer(), 0, out.length()));
+    assertEquals(LARGE, id);
+    assertEquals(LARGE, GradoopIdSerializer.INSTANCE.copy(LARGE, new GradoopId()));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api;
+
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+
+/**
+ * Data source with support for label/property predicate and property projection push-down. A
+ * source implementing this interface evaluates the given {@link ElementPushDown}s while reading,
+ * such that rejected elements and unneeded properties are dropped as early as possible.
+ * <p>
+ * Push-downs for the same element type are combined conjunctively.
+ */
+public interface PushDownDataSource extends DataSource {
+
+  /**
+   * Returns a copy of the data source which additionally applies the given push-down to the
+   * graph heads.
+   *
+   * @param pushDown graph head push-down
+   * @return a copy of the data source with the push-down applied
+   */
+  PushDownDataSource applyGraphHeadPushDown(ElementPushDown pushDown);
+
+  /**
+   * Returns a copy of the data source which additionally applies the given push-down to the
+   * vertices.
+   *
+   * @param pushDown vertex push-down
+   * @return a copy of the data source with the push-down applied
+   */
+  PushDownDataSource applyVertexPushDown(ElementPushDown pushDown);
+
+  /**
+   * Returns a copy of the data source which additionally applies the given push-down to the
+   * edges.
+   *
+   * @param pushDown edge push-down
+   * @return a copy of the data source with the push-down applied
+   */
+  PushDownDataSource applyEdgePushDown(ElementPushDown pushDown);
+
+  /**
+   * Returns true if one of the apply*PushDown() methods was called before.
+   *
+   * @return true, iff a push-down was applied to this source
+   */
+  boolean isPushDownApplied();
+}
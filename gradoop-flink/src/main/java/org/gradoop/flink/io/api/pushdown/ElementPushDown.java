@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.pushdown;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Describes which elements of one element type a {@link org.gradoop.flink.io.api.PushDownDataSource}
+ * has to return and which of their properties are needed.
+ * <p>
+ * A push-down consists of three optional parts:
+ * <ul>
+ *   <li>a set of accepted labels,</li>
+ *   <li>conjunctive {@link PropertyPredicate}s on single property keys and</li>
+ *   <li>a projection, i.e. the set of property keys to keep on the returned elements.</li>
+ * </ul>
+ * Properties that are only referenced by a predicate are read to evaluate it, but are not part of
+ * the returned elements if a projection is set. Instances are immutable, every builder method
+ * returns a new push-down.
+ * <p>
+ * Example:
+ * <pre>
+ * ElementPushDown vertices = ElementPushDown.labelIn("Person")
+ *   .where("age", PropertyPredicate.greaterThan(30))
+ *   .project("name");
+ * </pre>
+ */
+public class ElementPushDown implements Serializable {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The push-down accepting all elements with all properties.
+   */
+  private static final ElementPushDown ALL = new ElementPushDown(null, Collections.emptyMap(), null);
+
+  /**
+   * Accepted labels, {@code null} if all labels are accepted.
+   */
+  private final Set<String> labels;
+
+  /**
+   * Conjunctive property predicates by property key.
+   */
+  private final Map<String, PropertyPredicate> predicates;
+
+  /**
+   * Property keys to keep, {@code null} if all properties are kept.
+   */
+  private final Set<String> propertyKeys;
+
+  /**
+   * Creates a new push-down.
+   *
+   * @param labels       accepted labels or {@code null}
+   * @param predicates   property predicates by key
+   * @param propertyKeys projected property keys or {@code null}
+   */
+  private ElementPushDown(Set<String> labels, Map<String, PropertyPredicate> predicates,
+    Set<String> propertyKeys) {
+    this.labels = labels;
+    this.predicates = predicates;
+    this.propertyKeys = propertyKeys;
+  }
+
+  /**
+   * Returns a push-down that accepts all elements and keeps all properties.
+   *
+   * @return push-down without any restriction
+   */
+  public static ElementPushDown all() {
+    return ALL;
+  }
+
+  /**
+   * Returns a push-down that only accepts elements with one of the given labels.
+   *
+   * @param labels accepted labels
+   * @return label push-down
+   */
+  public static ElementPushDown labelIn(String... labels) {
+    return ALL.withLabels(labels);
+  }
+
+  /**
+   * Returns a copy of this push-down that additionally requires one of the given labels.
+   *
+   * @param acceptedLabels accepted labels
+   * @return new push-down
+   */
+  public ElementPushDown withLabels(String... acceptedLabels) {
+    Set<String> newLabels = new HashSet<>(Arrays.asList(acceptedLabels));
+    if (labels != null) {
+      newLabels.retainAll(labels);
+    }
+    return new ElementPushDown(newLabels, predicates, propertyKeys);
+  }
+
+  /**
+   * Returns a copy of this push-down that additionally requires the property with the given key to
+   * be set and to satisfy the given predicate.
+   *
+   * @param key       property key
+   * @param predicate predicate on the property value
+   * @return new push-down
+   */
+  public ElementPushDown where(String key, PropertyPredicate predicate) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(predicate);
+    Map<String, PropertyPredicate> newPredicates = new LinkedHashMap<>(predicates);
+    newPredicates.merge(key, predicate, PropertyPredicate::and);
+    return new ElementPushDown(labels, newPredicates, propertyKeys);
+  }
+
+  /**
+   * Returns a copy of this push-down that only keeps the given property keys. If a projection is
+   * already set, only keys contained in both projections are kept.
+   *
+   * @param keys property keys to keep
+   * @return new push-down
+   */
+  public ElementPushDown project(String... keys) {
+    Set<String> newKeys = new HashSet<>(Arrays.asList(keys));
+    if (propertyKeys != null) {
+      newKeys.retainAll(propertyKeys);
+    }
+    return new ElementPushDown(labels, predicates, newKeys);
+  }
+
+  /**
+   * Returns the conjunction of this and the other push-down.
+   *
+   * @param other other push-down
+   * @return push-down accepting only elements accepted by both push-downs
+   */
+  public ElementPushDown and(ElementPushDown other) {
+    ElementPushDown result = this;
+    if (other.labels != null) {
+      result = result.withLabels(other.labels.toArray(new String[0]));
+    }
+    for (Map.Entry<String, PropertyPredicate> predicate : other.predicates.entrySet()) {
+      result = result.where(predicate.getKey(), predicate.getValue());
+    }
+    if (other.propertyKeys != null) {
+      result = result.project(other.propertyKeys.toArray(new String[0]));
+    }
+    return result;
+  }
+
+  /**
+   * Checks if this push-down restricts the accepted labels.
+   *
+   * @return true, iff a label restriction is set
+   */
+  public boolean hasLabelRestriction() {
+    return labels != null;
+  }
+
+  /**
+   * Returns the accepted labels.
+   *
+   * @return accepted labels or {@code null} if all labels are accepted
+   */
+  public Set<String> getLabels() {
+    return labels == null ? null : Collections.unmodifiableSet(labels);
+  }
+
+  /**
+   * Checks if this push-down contains property predicates.
+   *
+   * @return true, iff at least one property predicate is set
+   */
+  public boolean hasPropertyPredicates() {
+    return !predicates.isEmpty();
+  }
+
+  /**
+   * Checks if this push-down projects the element properties.
+   *
+   * @return true, iff a projection is set
+   */
+  public boolean hasProjection() {
+    return propertyKeys != null;
+  }
+
+  /**
+   * Checks if this push-down does not restrict elements or properties at all.
+   *
+   * @return true, iff all elements with all properties are accepted
+   */
+  public boolean isEmpty() {
+    return !hasLabelRestriction() && !hasPropertyPredicates() && !hasProjection();
+  }
+
+  /**
+   * Checks if elements with the given label may be accepted.
+   *
+   * @param label element label
+   * @return true, iff the label is accepted
+   */
+  public boolean acceptsLabel(String label) {
+    return labels == null || labels.contains(label);
+  }
+
+  /**
+   * Checks if the property with the given key has to be read, either because it is projected or
+   * because a predicate refers to it.
+   *
+   * @param key property key
+   * @return true, iff the property is needed
+   */
+  public boolean isPropertyNeeded(String key) {
+    return propertyKeys == null || propertyKeys.contains(key) || predicates.containsKey(key);
+  }
+
+  /**
+   * Checks if the property with the given key is part of the returned elements.
+   *
+   * @param key property key
+   * @return true, iff the property is kept
+   */
+  public boolean isPropertyKept(String key) {
+    return propertyKeys == null || propertyKeys.contains(key);
+  }
+
+  /**
+   * Evaluates the property predicates on the given properties.
+   *
+   * @param properties element properties, may be {@code null}
+   * @return true, iff all property predicates are satisfied
+   */
+  public boolean testProperties(Properties properties) {
+    for (Map.Entry<String, PropertyPredicate> predicate : predicates.entrySet()) {
+      PropertyValue value = properties == null ? null : properties.get(predicate.getKey());
+      if (value == null || !predicate.getValue().test(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Evaluates label and property predicates on the given element.
+   *
+   * @param element element to test
+   * @return true, iff the element is accepted
+   */
+  public boolean test(Element element) {
+    return acceptsLabel(element.getLabel()) && testProperties(element.getProperties());
+  }
+
+  /**
+   * Removes all properties from the given properties that are not kept by the projection.
+   *
+   * @param properties properties to project, may be {@code null}
+   */
+  public void applyProjection(Properties properties) {
+    if (propertyKeys == null || properties == null) {
+      return;
+    }
+    List<String> removed = new ArrayList<>();
+    for (String key : properties.getKeys()) {
+      if (!propertyKeys.contains(key)) {
+        removed.add(key);
+      }
+    }
+    removed.forEach(properties::remove);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ElementPushDown{labels=%s, predicates=%s, properties=%s}",
+      labels, predicates.keySet(), propertyKeys);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.pushdown;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A predicate on a single property value which is evaluated by a
+ * {@link org.gradoop.flink.io.api.PushDownDataSource} while reading elements.
+ * <p>
+ * The predicate is only called for elements that actually contain the property, elements without
+ * the property never satisfy a property predicate.
+ */
+@FunctionalInterface
+public interface PropertyPredicate extends Serializable {
+
+  /**
+   * Evaluates the predicate on the given property value.
+   *
+   * @param value property value, never {@code null}
+   * @return true, iff the value satisfies the predicate
+   */
+  boolean test(PropertyValue value);
+
+  /**
+   * Returns a predicate that is satisfied iff this and the other predicate are satisfied.
+   *
+   * @param other other predicate
+   * @return conjunction of both predicates
+   */
+  default PropertyPredicate and(PropertyPredicate other) {
+    Objects.requireNonNull(other);
+    return value -> test(value) && other.test(value);
+  }
+
+  /**
+   * Returns a predicate that is satisfied iff this or the other predicate is satisfied.
+   *
+   * @param other other predicate
+   * @return disjunction of both predicates
+   */
+  default PropertyPredicate or(PropertyPredicate other) {
+    Objects.requireNonNull(other);
+    return value -> test(value) || other.test(value);
+  }
+
+  /**
+   * Returns the negation of this predicate.
+   *
+   * @return negated predicate
+   */
+  default PropertyPredicate negate() {
+    return value -> !test(value);
+  }
+
+  /**
+   * Creates a predicate that is satisfied iff the property value equals the given value.
+   *
+   * @param value value to compare with
+   * @return equality predicate
+   */
+  static PropertyPredicate equalTo(Object value) {
+    PropertyValue expected = PropertyValue.create(value);
+    return expected::equals;
+  }
+
+  /**
+   * Creates a predicate that is satisfied iff the property value is greater than the given value.
+   * Values which are not comparable with the given value do not satisfy the predicate.
+   *
+   * @param value value to compare with
+   * @return comparison predicate
+   */
+  static PropertyPredicate greaterThan(Object value) {
+    PropertyValue bound = PropertyValue.create(value);
+    return actual -> compare(actual, bound) > 0;
+  }
+
+  /**
+   * Creates a predicate that is satisfied iff the property value is less than the given value.
+   * Values which are not comparable with the given value do not satisfy the predicate.
+   *
+   * @param value value to compare with
+   * @return comparison predicate
+   */
+  static PropertyPredicate lessThan(Object value) {
+    PropertyValue bound = PropertyValue.create(value);
+    return actual -> compare(actual, bound) < 0;
+  }
+
+  /**
+   * Compares two property values. Numerical values of different types are compared by value.
+   *
+   * @param value property value
+   * @param bound value to compare with
+   * @return comparison result or {@code 0} if the values are not comparable
+   */
+  static int compare(PropertyValue value, PropertyValue bound) {
+    try {
+      return value.compareTo(bound);
+    } catch (IllegalArgumentException | UnsupportedOperationException e) {
+      return 0;
+    }
+  }
+}
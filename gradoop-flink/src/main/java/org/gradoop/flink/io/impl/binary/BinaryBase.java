@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Base class for binary data source and data sink.
+ * <p>
+ * The graph is stored in the following directory structure, each label directory contains one
+ * file per parallel instance of the writing job:
+ * <pre>
+ * root
+ * |- graphs
+ * |  |- community   # contains all graph heads with label 'Community'
+ * |- vertices
+ * |  |- person      # contains all vertices with label 'Person'
+ * |  |- university  # contains all vertices with label 'University'
+ * |- edges
+ *    |- knows       # contains all edges with label 'knows'
+ * </pre>
+ */
+public abstract class BinaryBase {
+  /**
+   * Path for graph heads.
+   */
+  private static final String GRAPH_HEAD_PATH = "graphs";
+  /**
+   * Path for vertices.
+   */
+  private static final String VERTEX_PATH = "vertices";
+  /**
+   * Path for edges.
+   */
+  private static final String EDGE_PATH = "edges";
+  /**
+   * Root directory of the graph.
+   */
+  private final String root;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param path   root directory of the graph
+   * @param config Gradoop Flink configuration
+   */
+  protected BinaryBase(String path, GradoopFlinkConfig config) {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(config);
+    this.root = path.endsWith(File.separator) ? path : path + File.separator;
+    this.config = config;
+  }
+
+  /**
+   * Returns the path to the graph head directory.
+   *
+   * @return graph head path
+   */
+  protected String getGraphHeadPath() {
+    return root + GRAPH_HEAD_PATH;
+  }
+
+  /**
+   * Returns the path to the vertex directory.
+   *
+   * @return vertex path
+   */
+  protected String getVertexPath() {
+    return root + VERTEX_PATH;
+  }
+
+  /**
+   * Returns the path to the edge directory.
+   *
+   * @return edge path
+   */
+  protected String getEdgePath() {
+    return root + EDGE_PATH;
+  }
+
+  /**
+   * Returns the Gradoop Flink configuration.
+   *
+   * @return Gradoop Flink configuration
+   */
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
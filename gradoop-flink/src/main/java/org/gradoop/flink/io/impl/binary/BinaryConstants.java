@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+/**
+ * Constants of the binary graph format.
+ * <p>
+ * Each file of the format has the following structure:
+ * <pre>
+ * file   := MAGIC VERSION (BLOCK_MARKER block)* FOOTER_MARKER footer footerLength MAGIC
+ * block  := label count rawLength compressedLength deflate(content)
+ * </pre>
+ * The content of a block stores the ids, graph ids, source and target ids of all elements as
+ * separate columns, followed by one typed column per property key.
+ */
+public class BinaryConstants {
+  /**
+   * Magic number at the start and the end of each file ("GRDB").
+   */
+  public static final int MAGIC = 0x47524442;
+  /**
+   * Version of the format.
+   */
+  public static final byte VERSION = 1;
+  /**
+   * Marks the start of a block.
+   */
+  public static final byte BLOCK_MARKER = 1;
+  /**
+   * Marks the start of the footer.
+   */
+  public static final byte FOOTER_MARKER = 0;
+  /**
+   * Default maximum number of elements per block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+  /**
+   * Column flag for the graph ids of graph elements.
+   */
+  public static final byte GRAPH_IDS = 0x01;
+  /**
+   * Column flag for the source and target ids of edges.
+   */
+  public static final byte SOURCE_TARGET = 0x02;
+  /**
+   * Type of a property column containing values of different types.
+   */
+  public static final byte MIXED_TYPE = -1;
+  /**
+   * Width of a property column containing values of variable size.
+   */
+  public static final int VARIABLE_WIDTH = -1;
+  /**
+   * Maximum byte size of a property value kept as minimum or maximum in the statistics.
+   */
+  public static final int MAX_STATISTICS_VALUE_SIZE = 128;
+  /**
+   * Directory to store elements with an empty label.
+   */
+  public static final String DEFAULT_DIRECTORY = "_";
+}
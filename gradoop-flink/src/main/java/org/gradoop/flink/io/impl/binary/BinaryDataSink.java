@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.core.fs.FileSystem.WriteMode;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.binary.functions.IndexedBinaryOutputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink writing graph heads, vertices and edges as compressed binary blocks, split
+ * by label.
+ * <p>
+ * Properties are stored in typed columns per block and each file carries a footer with the
+ * number of elements per label and the count, minimum and maximum of each property, see
+ * {@link BinaryDataSource#getVertexStatistics()}.
+ */
+public class BinaryDataSink extends BinaryBase implements DataSink {
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Creates a new binary data sink using the default block size.
+   *
+   * @param path   directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryDataSink(String path, GradoopFlinkConfig config) {
+    this(path, config, BinaryConstants.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a new binary data sink.
+   *
+   * @param path      directory to write to
+   * @param config    Gradoop Flink configuration
+   * @param blockSize maximum number of elements per block
+   */
+  public BinaryDataSink(String path, GradoopFlinkConfig config, int blockSize) {
+    super(path, config);
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+    }
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    WriteMode writeMode = overwrite ? WriteMode.OVERWRITE : WriteMode.NO_OVERWRITE;
+
+    output(graphCollection.getGraphHeads(), getGraphHeadPath(), writeMode);
+    output(graphCollection.getVertices(), getVertexPath(), writeMode);
+    output(graphCollection.getEdges(), getEdgePath(), writeMode);
+  }
+
+  /**
+   * Writes the elements to label directories below the given path.
+   *
+   * @param elements  elements to write
+   * @param path      root directory of the label directories
+   * @param writeMode write mode
+   * @param <E>       element type
+   */
+  private <E extends Element> void output(DataSet<E> elements, String path, WriteMode writeMode) {
+    IndexedBinaryOutputFormat<E> format =
+      new IndexedBinaryOutputFormat<>(new Path(path), blockSize);
+    format.setWriteMode(writeMode);
+    elements.output(format);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.binary.functions.BinaryElementInputFormat;
+import org.gradoop.flink.io.impl.binary.metadata.BinaryFileFooter;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A graph data source for graphs written by {@link BinaryDataSink}.
+ * <p>
+ * The labels of the graph are taken from the footers of the files, so no separate meta data is
+ * needed. Each label is read by its own input, which skips blocks of other labels sharing the
+ * same directory without decompressing them.
+ */
+public class BinaryDataSource extends BinaryBase implements DataSource {
+
+  /**
+   * Creates a new binary data source.
+   *
+   * @param path   root directory of the graph
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryDataSource(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  /**
+   * Will use a single graph head of the collection as final graph head for the graph.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    GraphCollection collection = getGraphCollection();
+    return collection.getGraphFactory().fromDataSets(
+      collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
+    return factory.fromIndexedDataSets(
+      read(getGraphHeadPath(), factory.getGraphHeadFactory().getType()),
+      read(getVertexPath(), factory.getVertexFactory().getType()),
+      read(getEdgePath(), factory.getEdgeFactory().getType()));
+  }
+
+  /**
+   * Returns the statistics of all graph head files, i.e. the merged footers of the files.
+   *
+   * @return graph head statistics
+   * @throws IOException if reading the footers fails
+   */
+  public BinaryFileFooter getGraphHeadStatistics() throws IOException {
+    return mergeFooters(getGraphHeadPath());
+  }
+
+  /**
+   * Returns the statistics of all vertex files, i.e. the merged footers of the files.
+   *
+   * @return vertex statistics
+   * @throws IOException if reading the footers fails
+   */
+  public BinaryFileFooter getVertexStatistics() throws IOException {
+    return mergeFooters(getVertexPath());
+  }
+
+  /**
+   * Returns the statistics of all edge files, i.e. the merged footers of the files.
+   *
+   * @return edge statistics
+   * @throws IOException if reading the footers fails
+   */
+  public BinaryFileFooter getEdgeStatistics() throws IOException {
+    return mergeFooters(getEdgePath());
+  }
+
+  /**
+   * Creates a data set per label of the elements stored below the given path.
+   *
+   * @param path root directory of the label directories
+   * @param type element type
+   * @param <E>  element type
+   * @return data sets by label
+   * @throws IOException if reading the footers fails
+   */
+  private <E extends Element> Map<String, DataSet<E>> read(String path, Class<E> type)
+    throws IOException {
+    Map<String, Set<Path>> directoriesByLabel = new LinkedHashMap<>();
+    for (Map.Entry<Path, BinaryFileFooter> footer : readFooters(path).entrySet()) {
+      for (String label : footer.getValue().getLabels()) {
+        directoriesByLabel.computeIfAbsent(label, l -> new LinkedHashSet<>())
+          .add(footer.getKey().getParent());
+      }
+    }
+
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    Map<String, DataSet<E>> elements = new HashMap<>();
+    for (Map.Entry<String, Set<Path>> directories : directoriesByLabel.entrySet()) {
+      BinaryElementInputFormat<E> format =
+        new BinaryElementInputFormat<>(type, directories.getKey());
+      format.setFilePaths(directories.getValue().toArray(new Path[0]));
+      elements.put(directories.getKey(), env.createInput(format));
+    }
+    return elements;
+  }
+
+  /**
+   * Reads and merges the footers of all files below the given path.
+   *
+   * @param path root directory of the label directories
+   * @return merged footer
+   * @throws IOException if reading the footers fails
+   */
+  private BinaryFileFooter mergeFooters(String path) throws IOException {
+    BinaryFileFooter merged = new BinaryFileFooter();
+    for (BinaryFileFooter footer : readFooters(path).values()) {
+      merged.merge(footer);
+    }
+    return merged;
+  }
+
+  /**
+   * Reads the footers of all files in the label directories below the given path.
+   *
+   * @param path root directory of the label directories
+   * @return footers by file
+   * @throws IOException if reading the footers fails
+   */
+  private Map<Path, BinaryFileFooter> readFooters(String path) throws IOException {
+    Path root = new Path(path);
+    FileSystem fs = root.getFileSystem();
+    Map<Path, BinaryFileFooter> footers = new LinkedHashMap<>();
+    if (!fs.exists(root)) {
+      return footers;
+    }
+    for (FileStatus directory : fs.listStatus(root)) {
+      if (!directory.isDir()) {
+        continue;
+      }
+      for (FileStatus file : fs.listStatus(directory.getPath())) {
+        String name = file.getPath().getName();
+        if (!file.isDir() && !name.startsWith(".") && !name.startsWith("_")) {
+          footers.put(file.getPath(), BinaryFileFooter.read(file.getPath()));
+        }
+      }
+    }
+    return footers;
+  }
+}
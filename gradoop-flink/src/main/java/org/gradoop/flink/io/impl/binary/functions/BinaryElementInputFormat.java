@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads elements from binary graph files written by {@link BinaryElementOutputFormat}.
+ * <p>
+ * If a label is given, blocks of other labels are skipped without decompressing them. Files are
+ * not split, the parallelism of the input is given by the number of files.
+ *
+ * @param <E> element type
+ */
+public class BinaryElementInputFormat<E extends Element> extends FileInputFormat<E>
+  implements ResultTypeQueryable<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Size of the read buffer.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+  /**
+   * Type of the elements.
+   */
+  private final Class<E> type;
+  /**
+   * Label of the elements to read or {@code null} to read all elements.
+   */
+  private final String label;
+  /**
+   * Decoder for the block content.
+   */
+  private final ElementBlockReader<E> reader;
+  /**
+   * Input view of the current file.
+   */
+  private transient DataInputViewStreamWrapper in;
+  /**
+   * Decompressor for the block content.
+   */
+  private transient Inflater inflater;
+  /**
+   * Buffer for the compressed block content.
+   */
+  private transient byte[] compressed;
+  /**
+   * Buffer for the uncompressed block content.
+   */
+  private transient byte[] content;
+  /**
+   * Elements of the current block.
+   */
+  private transient List<E> elements;
+  /**
+   * Position of the next element in {@link #elements}.
+   */
+  private transient int position;
+
+  /**
+   * Creates a new input format reading all elements.
+   *
+   * @param type type of the elements
+   */
+  public BinaryElementInputFormat(Class<E> type) {
+    this(type, null);
+  }
+
+  /**
+   * Creates a new input format reading elements with the given label.
+   *
+   * @param type type of the elements
+   * @param label label of the elements to read or {@code null} to read all elements
+   */
+  public BinaryElementInputFormat(Class<E> type, String label) {
+    this.type = type;
+    this.label = label;
+    this.reader = new ElementBlockReader<>(type);
+    this.unsplittable = true;
+  }
+
+  @Override
+  public boolean supportsMultiPaths() {
+    return true;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    in = new DataInputViewStreamWrapper(new BufferedInputStream(stream, BUFFER_SIZE));
+    if (in.readInt() != BinaryConstants.MAGIC) {
+      throw new IOException("Not a binary graph file: " + split.getPath());
+    }
+    byte version = in.readByte();
+    if (version != BinaryConstants.VERSION) {
+      throw new IOException("Unsupported version " + version + " of file " + split.getPath());
+    }
+    inflater = new Inflater();
+    compressed = new byte[BUFFER_SIZE];
+    content = new byte[BUFFER_SIZE];
+    elements = Collections.emptyList();
+    position = 0;
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (position >= elements.size()) {
+      if (!readBlock()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public E nextRecord(E reuse) throws IOException {
+    return elements.get(position++);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+    elements = null;
+    super.close();
+  }
+
+  @Override
+  public TypeInformation<E> getProducedType() {
+    return TypeInformation.of(type);
+  }
+
+  /**
+   * Reads the next block of the file. Blocks of other labels are skipped.
+   *
+   * @return false, if the end of the file is reached
+   * @throws IOException if reading fails
+   */
+  private boolean readBlock() throws IOException {
+    elements = Collections.emptyList();
+    position = 0;
+    if (in.readByte() == BinaryConstants.FOOTER_MARKER) {
+      return false;
+    }
+    String blockLabel = in.readUTF();
+    // number of elements, also stored in the block content
+    in.readInt();
+    int contentLength = in.readInt();
+    int compressedLength = in.readInt();
+    if (label != null && !label.equals(blockLabel)) {
+      in.skipBytesToRead(compressedLength);
+      return true;
+    }
+    if (compressed.length < compressedLength) {
+      compressed = new byte[compressedLength];
+    }
+    if (content.length < contentLength) {
+      content = new byte[contentLength];
+    }
+    in.readFully(compressed, 0, compressedLength);
+    inflater.reset();
+    inflater.setInput(compressed, 0, compressedLength);
+    try {
+      int length = 0;
+      while (length < contentLength) {
+        int inflated = inflater.inflate(content, length, contentLength - length);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw new DataFormatException("Unexpected end of block");
+        }
+        length += inflated;
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt block in file " + currentSplit.getPath(), e);
+    }
+    elements = reader.read(blockLabel, new DataInputDeserializer(content, 0, contentLength));
+    return true;
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+import org.gradoop.flink.io.impl.binary.metadata.BinaryFileFooter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * Writes elements to binary graph files, see {@link BinaryConstants} for the file structure.
+ * <p>
+ * Consecutive elements with the same label are collected in blocks of at most
+ * {@link #blockSize} elements, which are encoded by an {@link ElementBlockWriter} and compressed.
+ * Each parallel instance writes its own file to the output directory.
+ *
+ * @param <E> element type
+ */
+public class BinaryElementOutputFormat<E extends Element> extends FileOutputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Size of the write buffer.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+  /**
+   * Output view of the current file.
+   */
+  private transient DataOutputViewStreamWrapper out;
+  /**
+   * Elements of the current block.
+   */
+  private transient ElementBlockWriter block;
+  /**
+   * Footer of the current file.
+   */
+  private transient BinaryFileFooter footer;
+  /**
+   * Buffer for the uncompressed block content and the footer.
+   */
+  private transient DataOutputSerializer content;
+  /**
+   * Buffer for the compressed block content.
+   */
+  private transient ByteArrayOutputStream compressed;
+  /**
+   * Compressor for the block content.
+   */
+  private transient Deflater deflater;
+  /**
+   * Chunk used to move compressed data from the compressor to {@link #compressed}.
+   */
+  private transient byte[] chunk;
+
+  /**
+   * Creates a new output format using the default block size.
+   *
+   * @param outputPath output directory
+   */
+  public BinaryElementOutputFormat(Path outputPath) {
+    this(outputPath, BinaryConstants.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath output directory
+   * @param blockSize maximum number of elements per block
+   */
+  public BinaryElementOutputFormat(Path outputPath, int blockSize) {
+    super(outputPath);
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+    }
+    this.blockSize = blockSize;
+    setOutputDirectoryMode(OutputDirectoryMode.ALWAYS);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    out = new DataOutputViewStreamWrapper(new BufferedOutputStream(stream, BUFFER_SIZE));
+    out.writeInt(BinaryConstants.MAGIC);
+    out.writeByte(BinaryConstants.VERSION);
+    block = new ElementBlockWriter();
+    footer = new BinaryFileFooter();
+    content = new DataOutputSerializer(BUFFER_SIZE);
+    compressed = new ByteArrayOutputStream(BUFFER_SIZE);
+    deflater = new Deflater(Deflater.BEST_SPEED);
+    chunk = new byte[BUFFER_SIZE];
+  }
+
+  @Override
+  public void writeRecord(E record) throws IOException {
+    if (block.size() >= blockSize ||
+      (block.size() > 0 && !Objects.equals(block.getLabel(), record.getLabel()))) {
+      writeBlock();
+    }
+    block.add(record);
+    footer.add(record);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (out != null) {
+        if (block.size() > 0) {
+          writeBlock();
+        }
+        content.clear();
+        footer.write(content);
+        out.writeByte(BinaryConstants.FOOTER_MARKER);
+        out.write(content.getSharedBuffer(), 0, content.length());
+        out.writeInt(content.length());
+        out.writeInt(BinaryConstants.MAGIC);
+        out.flush();
+        out = null;
+        deflater.end();
+      }
+    } finally {
+      super.close();
+    }
+  }
+
+  /**
+   * Compresses and writes the current block.
+   *
+   * @throws IOException if writing fails
+   */
+  private void writeBlock() throws IOException {
+    content.clear();
+    block.write(content);
+
+    compressed.reset();
+    deflater.reset();
+    deflater.setInput(content.getSharedBuffer(), 0, content.length());
+    deflater.finish();
+    while (!deflater.finished()) {
+      compressed.write(chunk, 0, deflater.deflate(chunk));
+    }
+
+    out.writeByte(BinaryConstants.BLOCK_MARKER);
+    out.writeUTF(block.getLabel());
+    out.writeInt(block.size());
+    out.writeInt(content.length());
+    out.writeInt(compressed.size());
+    compressed.writeTo(out);
+
+    footer.addBlock();
+    block.clear();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.util.InstantiationUtil;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Decodes the elements of a block written by {@link ElementBlockWriter}.
+ *
+ * @param <E> element type
+ */
+public class ElementBlockReader<E extends Element> implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Type of the decoded elements.
+   */
+  private final Class<E> type;
+
+  /**
+   * Creates a new block reader.
+   *
+   * @param type type of the decoded elements
+   */
+  public ElementBlockReader(Class<E> type) {
+    this.type = type;
+  }
+
+  /**
+   * Decodes all elements of a block.
+   *
+   * @param label label of the elements
+   * @param in input view positioned at the block content
+   * @return decoded elements
+   * @throws IOException if reading fails
+   */
+  public List<E> read(String label, DataInputView in) throws IOException {
+    int count = in.readInt();
+    byte columns = in.readByte();
+
+    List<E> elements = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      E element = InstantiationUtil.instantiate(type);
+      GradoopId id = new GradoopId();
+      id.read(in);
+      element.setId(id);
+      element.setLabel(label);
+      element.setProperties(Properties.create());
+      elements.add(element);
+    }
+    if ((columns & BinaryConstants.GRAPH_IDS) != 0) {
+      for (E element : elements) {
+        GradoopIdSet graphIds = new GradoopIdSet();
+        graphIds.read(in);
+        ((GraphElement) element).setGraphIds(graphIds);
+      }
+    }
+    if ((columns & BinaryConstants.SOURCE_TARGET) != 0) {
+      for (E element : elements) {
+        GradoopId sourceId = new GradoopId();
+        sourceId.read(in);
+        ((Edge) element).setSourceId(sourceId);
+      }
+      for (E element : elements) {
+        GradoopId targetId = new GradoopId();
+        targetId.read(in);
+        ((Edge) element).setTargetId(targetId);
+      }
+    }
+    int propertyCount = in.readInt();
+    byte[] bitmap = new byte[(count + Byte.SIZE - 1) / Byte.SIZE];
+    for (int p = 0; p < propertyCount; p++) {
+      String key = in.readUTF();
+      byte valueType = in.readByte();
+      int width = in.readInt();
+      in.readFully(bitmap);
+      BitSet present = BitSet.valueOf(bitmap);
+      for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+        elements.get(i).getProperties().set(key, readValue(in, valueType, width));
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * Reads a single property value of a column.
+   *
+   * @param in input view
+   * @param valueType type of the column
+   * @param width width of the column
+   * @return property value
+   * @throws IOException if reading fails
+   */
+  private PropertyValue readValue(DataInputView in, byte valueType, int width)
+    throws IOException {
+    int length = width == BinaryConstants.VARIABLE_WIDTH ? in.readInt() : width;
+    byte[] rawBytes;
+    if (valueType == BinaryConstants.MIXED_TYPE) {
+      rawBytes = new byte[length];
+      in.readFully(rawBytes);
+    } else {
+      rawBytes = new byte[length + 1];
+      rawBytes[0] = valueType;
+      in.readFully(rawBytes, 1, length);
+    }
+    return PropertyValue.fromRawBytes(rawBytes);
+  }
+}
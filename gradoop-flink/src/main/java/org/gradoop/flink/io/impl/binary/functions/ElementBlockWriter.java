@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects elements with the same label and encodes them column by column.
+ * <p>
+ * Ids, graph ids, source and target ids are serialized when an element is added, so the added
+ * elements may be reused by the caller. Property values are kept as their byte representation
+ * until the block is written, since the type of a property column is only known by then. A
+ * column whose values all have the same type is written without type bytes and, for fixed size
+ * types, without lengths.
+ */
+public class ElementBlockWriter {
+  /**
+   * Initial size of the column buffers.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 1024;
+  /**
+   * Label of the elements in this block.
+   */
+  private String label;
+  /**
+   * Number of elements in this block.
+   */
+  private int count;
+  /**
+   * Flags of the columns contained in this block, see {@link BinaryConstants#GRAPH_IDS} and
+   * {@link BinaryConstants#SOURCE_TARGET}.
+   */
+  private byte columns;
+  /**
+   * Column of the element ids.
+   */
+  private final DataOutputSerializer ids = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+  /**
+   * Column of the graph ids.
+   */
+  private final DataOutputSerializer graphIds = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+  /**
+   * Column of the source ids.
+   */
+  private final DataOutputSerializer sourceIds = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+  /**
+   * Column of the target ids.
+   */
+  private final DataOutputSerializer targetIds = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+  /**
+   * Property columns by key.
+   */
+  private final Map<String, PropertyColumn> properties = new LinkedHashMap<>();
+
+  /**
+   * Adds an element to this block. The caller has to make sure that all elements of a block have
+   * the same label and type.
+   *
+   * @param element element to add
+   * @throws IOException if the serialization of the ids fails
+   */
+  public void add(Element element) throws IOException {
+    if (count == 0) {
+      label = element.getLabel();
+      columns = 0;
+      if (element instanceof GraphElement) {
+        columns |= BinaryConstants.GRAPH_IDS;
+      }
+      if (element instanceof Edge) {
+        columns |= BinaryConstants.SOURCE_TARGET;
+      }
+    }
+    element.getId().write(ids);
+    if ((columns & BinaryConstants.GRAPH_IDS) != 0) {
+      ((GraphElement) element).getGraphIds().write(graphIds);
+    }
+    if ((columns & BinaryConstants.SOURCE_TARGET) != 0) {
+      ((Edge) element).getSourceId().write(sourceIds);
+      ((Edge) element).getTargetId().write(targetIds);
+    }
+    Properties elementProperties = element.getProperties();
+    if (elementProperties != null) {
+      for (Property property : elementProperties) {
+        properties.computeIfAbsent(property.getKey(), k -> new PropertyColumn())
+          .add(count, property.getValue().getRawBytes());
+      }
+    }
+    count++;
+  }
+
+  /**
+   * Returns the label of the elements in this block.
+   *
+   * @return label or {@code null} if the block is empty
+   */
+  public String getLabel() {
+    return count == 0 ? null : label;
+  }
+
+  /**
+   * Returns the number of elements in this block.
+   *
+   * @return number of elements
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Writes the content of this block.
+   *
+   * @param out output view
+   * @throws IOException if writing fails
+   */
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(count);
+    out.writeByte(columns);
+    out.write(ids.getSharedBuffer(), 0, ids.length());
+    if ((columns & BinaryConstants.GRAPH_IDS) != 0) {
+      out.write(graphIds.getSharedBuffer(), 0, graphIds.length());
+    }
+    if ((columns & BinaryConstants.SOURCE_TARGET) != 0) {
+      out.write(sourceIds.getSharedBuffer(), 0, sourceIds.length());
+      out.write(targetIds.getSharedBuffer(), 0, targetIds.length());
+    }
+    out.writeInt(properties.size());
+    for (Map.Entry<String, PropertyColumn> column : properties.entrySet()) {
+      out.writeUTF(column.getKey());
+      column.getValue().write(out, count);
+    }
+  }
+
+  /**
+   * Removes all elements from this block.
+   */
+  public void clear() {
+    label = null;
+    count = 0;
+    ids.clear();
+    graphIds.clear();
+    sourceIds.clear();
+    targetIds.clear();
+    properties.clear();
+  }
+
+  /**
+   * Values of a single property key.
+   */
+  private static class PropertyColumn {
+    /**
+     * Indices of the elements having a value.
+     */
+    private final BitSet present = new BitSet();
+    /**
+     * Byte representation of the values.
+     */
+    private final List<byte[]> values = new ArrayList<>();
+    /**
+     * Type byte of all values or {@link BinaryConstants#MIXED_TYPE}.
+     */
+    private byte type;
+    /**
+     * Length of the byte representation of all values or {@link BinaryConstants#VARIABLE_WIDTH}.
+     */
+    private int width;
+
+    /**
+     * Adds the value of an element.
+     *
+     * @param index index of the element in the block
+     * @param rawBytes byte representation of the value
+     */
+    void add(int index, byte[] rawBytes) {
+      if (values.isEmpty()) {
+        type = rawBytes[0];
+        width = rawBytes.length;
+      } else {
+        if (type != rawBytes[0]) {
+          type = BinaryConstants.MIXED_TYPE;
+        }
+        if (width != rawBytes.length) {
+          width = BinaryConstants.VARIABLE_WIDTH;
+        }
+      }
+      present.set(index);
+      values.add(rawBytes);
+    }
+
+    /**
+     * Writes the column. Values of a column with a single type are written without their type
+     * byte.
+     *
+     * @param out output view
+     * @param count number of elements in the block
+     * @throws IOException if writing fails
+     */
+    void write(DataOutputView out, int count) throws IOException {
+      boolean typed = type != BinaryConstants.MIXED_TYPE;
+      boolean fixed = typed && width != BinaryConstants.VARIABLE_WIDTH;
+      int offset = typed ? 1 : 0;
+      out.writeByte(type);
+      out.writeInt(fixed ? width - offset : BinaryConstants.VARIABLE_WIDTH);
+      out.write(Arrays.copyOf(present.toByteArray(), (count + Byte.SIZE - 1) / Byte.SIZE));
+      for (byte[] value : values) {
+        if (!fixed) {
+          out.writeInt(value.length - offset);
+        }
+        out.write(value, offset, value.length - offset);
+      }
+    }
+  }
+}
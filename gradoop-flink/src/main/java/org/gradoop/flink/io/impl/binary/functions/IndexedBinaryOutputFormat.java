@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+import org.gradoop.flink.io.impl.csv.indexed.functions.MultipleFileOutputFormat;
+
+/**
+ * Writes elements to binary graph files in one directory per label.
+ *
+ * @param <E> element type
+ */
+public class IndexedBinaryOutputFormat<E extends Element> extends MultipleFileOutputFormat<E> {
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param rootPath root directory of the label directories
+   * @param blockSize maximum number of elements per block
+   */
+  public IndexedBinaryOutputFormat(Path rootPath, int blockSize) {
+    super(rootPath);
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  protected OutputFormat<E> createFormatForDirectory(Path directory) {
+    BinaryElementOutputFormat<E> format = new BinaryElementOutputFormat<>(directory, blockSize);
+    // see IndexedCSVFileFormat, initializeGlobal() takes care of OVERWRITE
+    format.setWriteMode(FileSystem.WriteMode.NO_OVERWRITE);
+    format.configure(configuration);
+    return format;
+  }
+
+  @Override
+  protected String getDirectoryForRecord(E record) {
+    String label = record.getLabel();
+    return label.isEmpty() ? BinaryConstants.DEFAULT_DIRECTORY : cleanFilename(label);
+  }
+}
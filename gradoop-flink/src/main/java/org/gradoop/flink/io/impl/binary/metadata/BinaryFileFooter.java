@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.metadata;
+
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Footer of a binary graph file, containing the number of elements per label and statistics of
+ * each property key.
+ */
+public class BinaryFileFooter {
+  /**
+   * Number of blocks in the file.
+   */
+  private int blockCount;
+  /**
+   * Number of elements per label.
+   */
+  private final Map<String, Long> labelCounts = new TreeMap<>();
+  /**
+   * Statistics per property key.
+   */
+  private final Map<String, PropertyStatistics> propertyStatistics = new TreeMap<>();
+
+  /**
+   * Adds an element to the statistics.
+   *
+   * @param element element
+   */
+  public void add(Element element) {
+    labelCounts.merge(element.getLabel(), 1L, Long::sum);
+    if (element.getProperties() != null) {
+      for (Property property : element.getProperties()) {
+        propertyStatistics.computeIfAbsent(property.getKey(), k -> new PropertyStatistics())
+          .add(property.getValue());
+      }
+    }
+  }
+
+  /**
+   * Increments the number of blocks.
+   */
+  public void addBlock() {
+    blockCount++;
+  }
+
+  /**
+   * Merges the footer of another file into this footer.
+   *
+   * @param other footer
+   */
+  public void merge(BinaryFileFooter other) {
+    blockCount += other.blockCount;
+    other.labelCounts.forEach((label, count) -> labelCounts.merge(label, count, Long::sum));
+    other.propertyStatistics.forEach((key, statistics) ->
+      propertyStatistics.computeIfAbsent(key, k -> new PropertyStatistics()).merge(statistics));
+  }
+
+  /**
+   * Returns the number of blocks.
+   *
+   * @return number of blocks
+   */
+  public int getBlockCount() {
+    return blockCount;
+  }
+
+  /**
+   * Returns the total number of elements.
+   *
+   * @return number of elements
+   */
+  public long getCount() {
+    return labelCounts.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * Returns the number of elements with the given label.
+   *
+   * @param label label
+   * @return number of elements
+   */
+  public long getCount(String label) {
+    return labelCounts.getOrDefault(label, 0L);
+  }
+
+  /**
+   * Returns all labels contained in the file.
+   *
+   * @return labels
+   */
+  public Set<String> getLabels() {
+    return Collections.unmodifiableSet(labelCounts.keySet());
+  }
+
+  /**
+   * Returns all property keys contained in the file.
+   *
+   * @return property keys
+   */
+  public Set<String> getPropertyKeys() {
+    return Collections.unmodifiableSet(propertyStatistics.keySet());
+  }
+
+  /**
+   * Returns the statistics of a property key.
+   *
+   * @param key property key
+   * @return statistics or {@code null} if no element has a value for the key
+   */
+  public PropertyStatistics getPropertyStatistics(String key) {
+    return propertyStatistics.get(key);
+  }
+
+  /**
+   * Writes the footer.
+   *
+   * @param out output view
+   * @throws IOException if writing fails
+   */
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(blockCount);
+    out.writeInt(labelCounts.size());
+    for (Map.Entry<String, Long> labelCount : labelCounts.entrySet()) {
+      out.writeUTF(labelCount.getKey());
+      out.writeLong(labelCount.getValue());
+    }
+    out.writeInt(propertyStatistics.size());
+    for (Map.Entry<String, PropertyStatistics> statistics : propertyStatistics.entrySet()) {
+      out.writeUTF(statistics.getKey());
+      statistics.getValue().write(out);
+    }
+  }
+
+  /**
+   * Reads a footer written by {@link #write(DataOutputView)}.
+   *
+   * @param in input view
+   * @return footer
+   * @throws IOException if reading fails
+   */
+  public static BinaryFileFooter read(DataInputView in) throws IOException {
+    BinaryFileFooter footer = new BinaryFileFooter();
+    footer.blockCount = in.readInt();
+    int labelCount = in.readInt();
+    for (int i = 0; i < labelCount; i++) {
+      footer.labelCounts.put(in.readUTF(), in.readLong());
+    }
+    int keyCount = in.readInt();
+    for (int i = 0; i < keyCount; i++) {
+      footer.propertyStatistics.put(in.readUTF(), PropertyStatistics.read(in));
+    }
+    return footer;
+  }
+
+  /**
+   * Reads the footer of a binary graph file without reading its blocks.
+   *
+   * @param file path of the file
+   * @return footer
+   * @throws IOException if the file can not be read or is no binary graph file
+   */
+  public static BinaryFileFooter read(Path file) throws IOException {
+    FileSystem fs = file.getFileSystem();
+    long length = fs.getFileStatus(file).getLen();
+    // footer length and magic number
+    long tail = 2 * Integer.BYTES;
+    if (length < tail) {
+      throw new IOException("Not a binary graph file: " + file);
+    }
+    try (FSDataInputStream stream = fs.open(file)) {
+      DataInputViewStreamWrapper in = new DataInputViewStreamWrapper(stream);
+      stream.seek(length - tail);
+      int footerLength = in.readInt();
+      if (in.readInt() != BinaryConstants.MAGIC) {
+        throw new IOException("Not a binary graph file: " + file);
+      }
+      stream.seek(length - tail - footerLength);
+      return read(in);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.metadata;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.IOException;
+
+/**
+ * Statistics of the values of a single property key.
+ * <p>
+ * The minimum and maximum are only tracked as long as all values have the same comparable type,
+ * i.e. they are {@code null} for mixed types and for {@code List}, {@code Map} and {@code Set}
+ * values. They are also {@code null} if a value is larger than
+ * {@link BinaryConstants#MAX_STATISTICS_VALUE_SIZE}, so that the file footers stay small.
+ */
+public class PropertyStatistics {
+  /**
+   * Number of elements having a value for the property.
+   */
+  private long count;
+  /**
+   * Type byte of all values or {@link BinaryConstants#MIXED_TYPE}.
+   */
+  private byte type;
+  /**
+   * Minimum value or {@code null}.
+   */
+  private PropertyValue min;
+  /**
+   * Maximum value or {@code null}.
+   */
+  private PropertyValue max;
+
+  /**
+   * Adds a value to the statistics.
+   *
+   * @param value property value
+   */
+  public void add(PropertyValue value) {
+    byte valueType = value.getTypeByte();
+    if (count == 0) {
+      type = valueType;
+      if (isComparable(valueType) && isBounded(value)) {
+        min = value.copy();
+        max = min;
+      }
+    } else if (type != valueType) {
+      type = BinaryConstants.MIXED_TYPE;
+      min = null;
+      max = null;
+    } else if (min != null && !isBounded(value)) {
+      min = null;
+      max = null;
+    } else if (min != null) {
+      if (value.compareTo(min) < 0) {
+        min = value.copy();
+      } else if (value.compareTo(max) > 0) {
+        max = value.copy();
+      }
+    }
+    count++;
+  }
+
+  /**
+   * Merges the statistics of another file into these statistics.
+   *
+   * @param other statistics of the same property
+   */
+  public void merge(PropertyStatistics other) {
+    if (other.count == 0) {
+      return;
+    }
+    if (count == 0) {
+      type = other.type;
+      min = other.min;
+      max = other.max;
+    } else if (type != other.type) {
+      type = BinaryConstants.MIXED_TYPE;
+      min = null;
+      max = null;
+    } else if (min == null || other.min == null) {
+      min = null;
+      max = null;
+    } else {
+      min = other.min.compareTo(min) < 0 ? other.min : min;
+      max = other.max.compareTo(max) > 0 ? other.max : max;
+    }
+    count += other.count;
+  }
+
+  /**
+   * Returns the number of elements having a value for the property.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the type byte of all values.
+   *
+   * @return type byte or {@link BinaryConstants#MIXED_TYPE} if the values have different types
+   */
+  public byte getType() {
+    return type;
+  }
+
+  /**
+   * Returns the minimum value.
+   *
+   * @return minimum or {@code null} if not available
+   */
+  public PropertyValue getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum value.
+   *
+   * @return maximum or {@code null} if not available
+   */
+  public PropertyValue getMax() {
+    return max;
+  }
+
+  /**
+   * Writes the statistics.
+   *
+   * @param out output view
+   * @throws IOException if writing fails
+   */
+  public void write(DataOutputView out) throws IOException {
+    out.writeLong(count);
+    out.writeByte(type);
+    out.writeBoolean(min != null);
+    if (min != null) {
+      min.write(out);
+      max.write(out);
+    }
+  }
+
+  /**
+   * Reads statistics written by {@link #write(DataOutputView)}.
+   *
+   * @param in input view
+   * @return statistics
+   * @throws IOException if reading fails
+   */
+  public static PropertyStatistics read(DataInputView in) throws IOException {
+    PropertyStatistics statistics = new PropertyStatistics();
+    statistics.count = in.readLong();
+    statistics.type = in.readByte();
+    if (in.readBoolean()) {
+      statistics.min = new PropertyValue();
+      statistics.min.read(in);
+      statistics.max = new PropertyValue();
+      statistics.max.read(in);
+    }
+    return statistics;
+  }
+
+  /**
+   * True, if the minimum and maximum of values of the given type can be determined.
+   *
+   * @param type type byte
+   * @return true, if values of the type are comparable
+   */
+  private static boolean isComparable(byte type) {
+    return type != Type.LIST.getTypeByte() && type != Type.MAP.getTypeByte() &&
+      type != Type.SET.getTypeByte();
+  }
+
+  /**
+   * True, if the value is small enough to be stored as minimum or maximum.
+   *
+   * @param value property value
+   * @return true, if the value does not exceed {@link BinaryConstants#MAX_STATISTICS_VALUE_SIZE}
+   */
+  private static boolean isBounded(PropertyValue value) {
+    return value.byteSize() <= BinaryConstants.MAX_STATISTICS_VALUE_SIZE;
+  }
+}
@@ -63,6 +63,18 @@ public class CSVConstants {
    * Directory to store empty labels with indexed CSV.
    */
   public static final String DEFAULT_DIRECTORY = "_";
+  /**
+   * Index of the label token in a graph head line.
+   */
+  public static final int GRAPH_HEAD_LABEL_TOKEN = 1;
+  /**
+   * Index of the label token in a vertex line.
+   */
+  public static final int VERTEX_LABEL_TOKEN = 2;
+  /**
+   * Index of the label token in an edge line.
+   */
+  public static final int EDGE_LABEL_TOKEN = 4;
   /**
    * Characters to be escaped in csv strings.
    */
@@ -19,7 +19,9 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.csv.functions.CSVPropertyLineOutputFormat;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
+import org.gradoop.flink.io.impl.csv.functions.ElementToCSVPropertyLine;
 import org.gradoop.flink.io.impl.csv.functions.GraphHeadToCSVGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
@@ -35,12 +37,21 @@ import java.io.IOException;
 
 /**
  * A graph data sink for CSV files.
+ * <p>
+ * By default, the meta data is computed by an additional pass over all elements and broadcast to
+ * the functions converting the elements. In single-pass mode, the graph is read only once and the
+ * meta data is derived from the written part files instead, see
+ * {@link CSVPropertyLineOutputFormat}.
  */
 public class CSVDataSink extends CSVBase implements DataSink {
   /**
    * Path to meta data file that is used to write the output.
    */
   protected final String metaDataPath;
+  /**
+   * True, iff the meta data shall be derived while writing the elements.
+   */
+  private final boolean singlePass;
 
   /**
    * Creates a new CSV data sink. Computes the meta data based on the given graph.
@@ -49,8 +60,21 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config  Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, GradoopFlinkConfig config) {
+    this(csvPath, config, false);
+  }
+
+  /**
+   * Creates a new CSV data sink. Computes the meta data based on the given graph, either by a
+   * separate pass over all elements or while writing them.
+   *
+   * @param csvPath    directory to write to
+   * @param config     Gradoop Flink configuration
+   * @param singlePass derive the meta data while writing the elements
+   */
+  public CSVDataSink(String csvPath, GradoopFlinkConfig config, boolean singlePass) {
     super(csvPath, config);
     this.metaDataPath = null;
+    this.singlePass = singlePass;
   }
 
   /**
@@ -63,6 +87,7 @@ public class CSVDataSink extends CSVBase implements DataSink {
   public CSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config) {
     super(csvPath, config);
     this.metaDataPath = metaDataPath;
+    this.singlePass = false;
   }
 
   @Override
@@ -85,6 +110,16 @@ public class CSVDataSink extends CSVBase implements DataSink {
     FileSystem.WriteMode writeMode = overwrite ?
       FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
 
+    if (singlePass) {
+      graphCollection.getGraphHeads()
+        .map(new ElementToCSVPropertyLine<>())
+        .union(graphCollection.getVertices().map(new ElementToCSVPropertyLine<>()))
+        .union(graphCollection.getEdges().map(new ElementToCSVPropertyLine<>()))
+        .output(new CSVPropertyLineOutputFormat(getGraphHeadCSVPath(), getVertexCSVPath(),
+          getEdgeCSVPath(), getMetaDataPath(), writeMode));
+      return;
+    }
+
     DataSet<Tuple3<String, String, String>> metaData;
     CSVMetaDataSource source = new CSVMetaDataSource();
     if (!reuseMetadata()) {
@@ -16,15 +16,24 @@
 package org.gradoop.flink.io.impl.csv;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
-import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.api.PushDownDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+import org.gradoop.flink.io.impl.csv.functions.ApplyElementPushDown;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineLabelFilter;
+import org.gradoop.flink.io.impl.csv.functions.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVElementInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVGraphHeadInputFormat;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.impl.csv.functions.CSVVertexInputFormat;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
@@ -45,8 +54,29 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
  * |- edges.csv    # all edge data
  * |- graphs.csv   # all graph head data
  * |- metadata.csv # Meta data for all data contained in the graph
+ * <p>
+ * Label and property predicates as well as property projections can be pushed into the source,
+ * see {@link PushDownDataSource}. Lines of rejected labels are dropped before they are parsed and
+ * property values that are not needed are never parsed. Push-downs are applied to each element
+ * type independently, i.e. filtering vertices does not remove their incident edges.
  */
-public class CSVDataSource extends CSVBase implements DataSource {
+public class CSVDataSource extends CSVBase implements PushDownDataSource, Cloneable {
+  /**
+   * Push-down applied to the graph heads.
+   */
+  private ElementPushDown graphHeadPushDown = ElementPushDown.all();
+  /**
+   * Push-down applied to the vertices.
+   */
+  private ElementPushDown vertexPushDown = ElementPushDown.all();
+  /**
+   * Push-down applied to the edges.
+   */
+  private ElementPushDown edgePushDown = ElementPushDown.all();
+  /**
+   * Flag indicating whether a push-down was applied.
+   */
+  private boolean pushDownApplied;
 
   /**
    * Creates a new CSV data source.
@@ -72,14 +102,29 @@ public class CSVDataSource extends CSVBase implements DataSource {
         collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
   }
 
+  /**
+   * Reads the EPGM elements with {@link CSVElementInputFormat}s, which parse the lines directly
+   * from the read buffers.
+   *
+   * {@inheritDoc}
+   */
   @Override
   public GraphCollection getGraphCollection() {
     GraphCollectionFactory collectionFactory = getConfig().getGraphCollectionFactory();
-    return getCollection(
-      new CSVLineToGraphHead(collectionFactory.getGraphHeadFactory()),
-      new CSVLineToVertex(collectionFactory.getVertexFactory()),
-      new CSVLineToEdge(collectionFactory.getEdgeFactory()),
-      collectionFactory);
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<EPGMGraphHead> graphHeads = env.createInput(new CSVGraphHeadInputFormat<>(
+      getGraphHeadCSVPath(), getMetaDataPath(), collectionFactory.getGraphHeadFactory(),
+      graphHeadPushDown));
+
+    DataSet<EPGMVertex> vertices = env.createInput(new CSVVertexInputFormat<>(
+      getVertexCSVPath(), getMetaDataPath(), collectionFactory.getVertexFactory(),
+      vertexPushDown));
+
+    DataSet<EPGMEdge> edges = env.createInput(new CSVEdgeInputFormat<>(
+      getEdgeCSVPath(), getMetaDataPath(), collectionFactory.getEdgeFactory(), edgePushDown));
+
+    return collectionFactory.fromDataSets(graphHeads, vertices, edges);
   }
 
   /**
@@ -112,19 +157,84 @@ public class CSVDataSource extends CSVBase implements DataSource {
       new CSVMetaDataSource().readDistributed(getMetaDataPath(), getConfig());
 
     // Read the datasets of each graph element
-    DataSet<G> graphHeads = getConfig().getExecutionEnvironment()
-      .readTextFile(getGraphHeadCSVPath())
-      .map(csvToGraphHead).withBroadcastSet(metaData, BC_METADATA);
+    DataSet<G> graphHeads = readElements(getGraphHeadCSVPath(),
+      CSVConstants.GRAPH_HEAD_LABEL_TOKEN, graphHeadPushDown, csvToGraphHead, metaData);
 
-    DataSet<V> vertices = getConfig().getExecutionEnvironment()
-      .readTextFile(getVertexCSVPath())
-      .map(csvToVertex).withBroadcastSet(metaData, BC_METADATA);
+    DataSet<V> vertices = readElements(getVertexCSVPath(),
+      CSVConstants.VERTEX_LABEL_TOKEN, vertexPushDown, csvToVertex, metaData);
 
-    DataSet<E> edges = getConfig().getExecutionEnvironment()
-      .readTextFile(getEdgeCSVPath())
-      .map(csvToEdge).withBroadcastSet(metaData, BC_METADATA);
+    DataSet<E> edges = readElements(getEdgeCSVPath(),
+      CSVConstants.EDGE_LABEL_TOKEN, edgePushDown, csvToEdge, metaData);
 
     // Create the graph
     return collectionFactory.fromDataSets(graphHeads, vertices, edges);
   }
+
+  /**
+   * Reads the elements of one CSV file and applies the given push-down.
+   *
+   * @param path         path of the CSV file
+   * @param labelToken   index of the label token in a CSV line
+   * @param pushDown     push-down to apply
+   * @param csvToElement function mapping a CSV line to an element
+   * @param metaData     meta data broadcast set
+   * @param <EL> element type
+   * @return elements read from the file
+   */
+  private <EL extends Element> DataSet<EL> readElements(String path, int labelToken,
+    ElementPushDown pushDown, CSVLineToElement<EL> csvToElement,
+    DataSet<Tuple3<String, String, String>> metaData) {
+    DataSet<String> lines = getConfig().getExecutionEnvironment().readTextFile(path);
+    if (pushDown.hasLabelRestriction()) {
+      lines = lines.filter(new CSVLineLabelFilter(labelToken, pushDown.getLabels()));
+    }
+    DataSet<EL> elements = lines
+      .map(csvToElement.setPushDown(pushDown)).withBroadcastSet(metaData, BC_METADATA);
+    if (pushDown.hasPropertyPredicates()) {
+      elements = elements.flatMap(new ApplyElementPushDown<>(pushDown));
+    }
+    return elements;
+  }
+
+  @Override
+  public CSVDataSource applyGraphHeadPushDown(ElementPushDown pushDown) {
+    CSVDataSource copy = copy();
+    copy.graphHeadPushDown = graphHeadPushDown.and(pushDown);
+    return copy;
+  }
+
+  @Override
+  public CSVDataSource applyVertexPushDown(ElementPushDown pushDown) {
+    CSVDataSource copy = copy();
+    copy.vertexPushDown = vertexPushDown.and(pushDown);
+    return copy;
+  }
+
+  @Override
+  public CSVDataSource applyEdgePushDown(ElementPushDown pushDown) {
+    CSVDataSource copy = copy();
+    copy.edgePushDown = edgePushDown.and(pushDown);
+    return copy;
+  }
+
+  @Override
+  public boolean isPushDownApplied() {
+    return pushDownApplied;
+  }
+
+  /**
+   * Creates a shallow copy of this source, keeping the runtime type of subclasses, and marks the
+   * copy as pushed down.
+   *
+   * @return copy of this source
+   */
+  private CSVDataSource copy() {
+    try {
+      CSVDataSource copy = (CSVDataSource) clone();
+      copy.pushDownApplied = true;
+      return copy;
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+
+/**
+ * Evaluates the property predicates of an {@link ElementPushDown} on parsed elements and removes
+ * properties which were only read to evaluate a predicate.
+ *
+ * @param <E> element type
+ */
+public class ApplyElementPushDown<E extends Element> implements FlatMapFunction<E, E> {
+  /**
+   * The push-down to apply.
+   */
+  private final ElementPushDown pushDown;
+
+  /**
+   * Creates a new function.
+   *
+   * @param pushDown the push-down to apply
+   */
+  public ApplyElementPushDown(ElementPushDown pushDown) {
+    this.pushDown = pushDown;
+  }
+
+  @Override
+  public void flatMap(E element, Collector<E> out) {
+    if (pushDown.test(element)) {
+      pushDown.applyProjection(element.getProperties());
+      out.collect(element);
+    }
+  }
+}
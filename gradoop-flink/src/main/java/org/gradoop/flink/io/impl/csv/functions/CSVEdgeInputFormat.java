@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.EdgeFactory;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+
+/**
+ * Reads edges from CSV files.
+ * <p>
+ * The lines need to be encoded in the following format:
+ * <p>
+ * {@code edge-id;[graph-ids];source-id;target-id;edge-label;value_1|value_2|...|value_n}
+ *
+ * @param <E> edge type
+ */
+public class CSVEdgeInputFormat<E extends Edge> extends CSVElementInputFormat<E> {
+  /**
+   * Used to instantiate the edges.
+   */
+  private final EdgeFactory<E> edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath     path of the CSV file or directory
+   * @param metaDataPath path of the meta data file
+   * @param edgeFactory  edge factory
+   * @param pushDown     push-down applied to the read edges
+   */
+  public CSVEdgeInputFormat(String filePath, String metaDataPath, EdgeFactory<E> edgeFactory,
+    ElementPushDown pushDown) {
+    super(filePath, metaDataPath, MetaDataSource.EDGE_TYPE, pushDown);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  protected E readElement(byte[] bytes, int offset, int end) {
+    int idEnd = tokenEnd(bytes, offset, end);
+    int graphIdsEnd = tokenEnd(bytes, idEnd + 1, end);
+    int sourceEnd = tokenEnd(bytes, graphIdsEnd + 1, end);
+    int targetEnd = tokenEnd(bytes, sourceEnd + 1, end);
+    int labelEnd = tokenEnd(bytes, targetEnd + 1, end);
+    String label = parseLabel(bytes, targetEnd + 1, labelEnd);
+    if (!acceptsLabel(label)) {
+      return null;
+    }
+    int propertiesEnd = tokenEnd(bytes, labelEnd + 1, end);
+    return edgeFactory.initEdge(
+      parseId(bytes, offset, idEnd),
+      label,
+      parseId(bytes, graphIdsEnd + 1, sourceEnd),
+      parseId(bytes, sourceEnd + 1, targetEnd),
+      parseProperties(label, bytes, labelEnd + 1, propertiesEnd),
+      parseGraphIds(bytes, idEnd + 1, graphIdsEnd));
+  }
+
+  @Override
+  protected Class<E> getElementClass() {
+    return edgeFactory.getType();
+  }
+}
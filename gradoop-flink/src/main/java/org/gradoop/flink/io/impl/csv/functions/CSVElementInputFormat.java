@@ -0,0 +1,534 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.types.parser.DoubleParser;
+import org.apache.flink.types.parser.FloatParser;
+import org.apache.flink.types.parser.IntParser;
+import org.apache.flink.types.parser.LongParser;
+import org.apache.flink.types.parser.ShortParser;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for input formats reading EPGM elements from CSV files. In contrast to
+ * {@link CSVLineToElement}, the line is parsed directly from the read buffer: tokens are sliced by
+ * offsets, ids are decoded from their hexadecimal bytes and numerical properties are parsed from
+ * bytes, without creating intermediate strings. Values of other types as well as escaped strings
+ * are passed to the parsers of the {@link CSVMetaData}.
+ * <p>
+ * The meta data is read from the file system when the first split is opened. Elements rejected by
+ * the {@link ElementPushDown} are skipped before their id and properties are parsed.
+ *
+ * @param <E> element type
+ */
+public abstract class CSVElementInputFormat<E extends Element> extends DelimitedInputFormat<E>
+  implements ResultTypeQueryable<E> {
+  /**
+   * Number of cached labels, must be a power of two.
+   */
+  private static final int LABEL_CACHE_SIZE = 64;
+  /**
+   * Token delimiter as byte.
+   */
+  private static final byte TOKEN_DELIMITER = (byte) CSVConstants.TOKEN_DELIMITER.charAt(0);
+  /**
+   * Property value delimiter as byte.
+   */
+  private static final byte VALUE_DELIMITER = (byte) CSVConstants.VALUE_DELIMITER.charAt(0);
+  /**
+   * Graph id delimiter as byte.
+   */
+  private static final byte LIST_DELIMITER = (byte) CSVConstants.LIST_DELIMITER.charAt(0);
+  /**
+   * Escape character as byte.
+   */
+  private static final byte ESCAPE_CHARACTER = '\\';
+  /**
+   * Length of the hexadecimal representation of a {@link GradoopId}.
+   */
+  private static final int ID_HEX_LENGTH = 2 * GradoopId.ID_SIZE;
+  /**
+   * Parsers of labels without meta data.
+   */
+  private static final PropertyParser[] NO_PARSERS = new PropertyParser[0];
+  /**
+   * Path of the meta data file.
+   */
+  private final String metaDataPath;
+  /**
+   * Element type of the read elements, see
+   * {@link org.gradoop.flink.io.api.metadata.MetaDataSource}.
+   */
+  private final String elementType;
+  /**
+   * Push-down applied to the read elements.
+   */
+  private final ElementPushDown pushDown;
+  /**
+   * Property parsers by label.
+   */
+  private transient Map<String, PropertyParser[]> propertyParsers;
+  /**
+   * Bytes of the cached labels.
+   */
+  private transient byte[][] cachedLabelBytes;
+  /**
+   * Cached labels.
+   */
+  private transient String[] cachedLabels;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath     path of the CSV file or directory
+   * @param metaDataPath path of the meta data file
+   * @param elementType  element type of the read elements
+   * @param pushDown     push-down applied to the read elements
+   */
+  protected CSVElementInputFormat(String filePath, String metaDataPath, String elementType,
+    ElementPushDown pushDown) {
+    super(new Path(filePath), null);
+    this.metaDataPath = metaDataPath;
+    this.elementType = elementType;
+    this.pushDown = pushDown;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    if (propertyParsers == null) {
+      propertyParsers = createPropertyParsers(readMetaData());
+      cachedLabelBytes = new byte[LABEL_CACHE_SIZE][];
+      cachedLabels = new String[LABEL_CACHE_SIZE];
+    }
+  }
+
+  @Override
+  public E readRecord(E reuse, byte[] bytes, int offset, int numBytes) {
+    int end = offset + numBytes;
+    // remove a trailing carriage return like Flink's text input format
+    if (numBytes > 0 && bytes[end - 1] == '\r') {
+      end--;
+    }
+    if (end == offset) {
+      return null;
+    }
+    E element = readElement(bytes, offset, end);
+    if (element == null || !pushDown.hasPropertyPredicates()) {
+      return element;
+    }
+    if (!pushDown.testProperties(element.getProperties())) {
+      return null;
+    }
+    pushDown.applyProjection(element.getProperties());
+    return element;
+  }
+
+  /**
+   * Parses a single CSV line.
+   *
+   * @param bytes  read buffer
+   * @param offset offset of the line
+   * @param end    end of the line, exclusive
+   * @return the element or {@code null} if its label is rejected by the push-down
+   */
+  protected abstract E readElement(byte[] bytes, int offset, int end);
+
+  /**
+   * Returns the end of the token starting at the given offset, i.e. the index of the next
+   * unescaped token delimiter or the end of the line.
+   *
+   * @param bytes read buffer
+   * @param from  offset of the token
+   * @param end   end of the line, exclusive
+   * @return end of the token, exclusive
+   */
+  protected static int tokenEnd(byte[] bytes, int from, int end) {
+    return indexOf(bytes, from, end, TOKEN_DELIMITER);
+  }
+
+  /**
+   * Parses a {@link GradoopId} token.
+   *
+   * @param bytes read buffer
+   * @param from  offset of the token
+   * @param to    end of the token, exclusive
+   * @return parsed id
+   */
+  protected static GradoopId parseId(byte[] bytes, int from, int to) {
+    if (to - from != ID_HEX_LENGTH) {
+      throw new IllegalArgumentException("invalid GradoopId: " + decode(bytes, from, to));
+    }
+    return GradoopId.fromHexBytes(bytes, from);
+  }
+
+  /**
+   * Parses a graph id token, formatted as {@code [id0,id1,...]}.
+   *
+   * @param bytes read buffer
+   * @param from  offset of the token
+   * @param to    end of the token, exclusive
+   * @return parsed ids
+   */
+  protected static GradoopIdSet parseGraphIds(byte[] bytes, int from, int to) {
+    int innerFrom = skipWhitespace(bytes, from + 1, to - 1);
+    if (innerFrom == to - 1) {
+      return new GradoopIdSet();
+    }
+    int count = 1;
+    for (int i = innerFrom; i < to - 1; i++) {
+      if (bytes[i] == LIST_DELIMITER) {
+        count++;
+      }
+    }
+    byte[] ids = new byte[count * GradoopId.ID_SIZE];
+    int position = innerFrom;
+    for (int i = 0; i < count; i++) {
+      int idEnd = indexOf(bytes, position, to - 1, LIST_DELIMITER);
+      int idFrom = skipWhitespace(bytes, position, idEnd);
+      int idTo = idEnd;
+      while (idTo > idFrom && bytes[idTo - 1] == ' ') {
+        idTo--;
+      }
+      parseId(bytes, idFrom, idTo).writeTo(ids, i * GradoopId.ID_SIZE);
+      position = idEnd + 1;
+    }
+    return GradoopIdSet.fromByteArray(ids);
+  }
+
+  /**
+   * Returns the offset of the first non-space byte in the given range.
+   *
+   * @param bytes read buffer
+   * @param from  start of the range
+   * @param to    end of the range, exclusive
+   * @return offset of the first non-space byte or {@code to}
+   */
+  private static int skipWhitespace(byte[] bytes, int from, int to) {
+    int position = from;
+    while (position < to && bytes[position] == ' ') {
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * Parses a label token. Recently parsed labels are cached, such that repeated labels do not
+   * create new strings.
+   *
+   * @param bytes read buffer
+   * @param from  offset of the token
+   * @param to    end of the token, exclusive
+   * @return unescaped label
+   */
+  protected String parseLabel(byte[] bytes, int from, int to) {
+    int hash = 1;
+    for (int i = from; i < to; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    int slot = (hash ^ (hash >>> 16)) & (LABEL_CACHE_SIZE - 1);
+    byte[] cached = cachedLabelBytes[slot];
+    if (cached != null && cached.length == to - from && rangeEquals(cached, bytes, from)) {
+      return cachedLabels[slot];
+    }
+    String label = decode(bytes, from, to);
+    cachedLabelBytes[slot] = Arrays.copyOfRange(bytes, from, to);
+    cachedLabels[slot] = label;
+    return label;
+  }
+
+  /**
+   * Checks if the element label is accepted by the push-down.
+   *
+   * @param label element label
+   * @return true, iff the label is accepted
+   */
+  protected boolean acceptsLabel(String label) {
+    return pushDown.acceptsLabel(label);
+  }
+
+  /**
+   * Parses a property token according to the meta data of the given label. Values of properties
+   * which are not needed by the push-down are skipped without being parsed.
+   *
+   * @param label element label
+   * @param bytes read buffer
+   * @param from  offset of the token
+   * @param to    end of the token, exclusive
+   * @return parsed properties
+   */
+  protected Properties parseProperties(String label, byte[] bytes, int from, int to) {
+    PropertyParser[] parsers = propertyParsers.getOrDefault(label, NO_PARSERS);
+    Properties properties = Properties.createWithCapacity(parsers.length);
+    int index = 0;
+    int position = from;
+    while (position <= to && index < parsers.length) {
+      int valueEnd = indexOf(bytes, position, to, VALUE_DELIMITER);
+      PropertyParser parser = parsers[index];
+      if (valueEnd > position && parser != null) {
+        properties.set(parser.key, parser.parse(bytes, position, valueEnd));
+      }
+      index++;
+      position = valueEnd + 1;
+    }
+    return properties;
+  }
+
+  @Override
+  public TypeInformation<E> getProducedType() {
+    return TypeExtractor.createTypeInfo(getElementClass());
+  }
+
+  /**
+   * Returns the class of the read elements.
+   *
+   * @return element class
+   */
+  protected abstract Class<E> getElementClass();
+
+  /**
+   * Reads the meta data file, which may also be a directory of files.
+   *
+   * @return meta data
+   * @throws IOException on failure
+   */
+  private CSVMetaData readMetaData() throws IOException {
+    Path path = new Path(metaDataPath);
+    FileSystem fs = path.getFileSystem();
+    List<Path> files = new ArrayList<>();
+    if (fs.getFileStatus(path).isDir()) {
+      for (FileStatus status : fs.listStatus(path)) {
+        if (!status.isDir()) {
+          files.add(status.getPath());
+        }
+      }
+    } else {
+      files.add(path);
+    }
+    List<Tuple3<String, String, String>> lines = new ArrayList<>();
+    for (Path file : files) {
+      try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(fs.open(file), StandardCharsets.UTF_8))) {
+        String line = reader.readLine();
+        while (line != null) {
+          if (!line.isEmpty()) {
+            String[] tokens = StringEscaper.split(line, CSVConstants.TOKEN_DELIMITER, 3);
+            lines.add(Tuple3.of(tokens[0], tokens[1], tokens[2]));
+          }
+          line = reader.readLine();
+        }
+      }
+    }
+    return new CSVMetaDataSource().fromTuples(lines);
+  }
+
+  /**
+   * Creates the property parsers of all labels of the read element type.
+   *
+   * @param metaData meta data
+   * @return property parsers by label, {@code null} entries mark skipped properties
+   */
+  private Map<String, PropertyParser[]> createPropertyParsers(CSVMetaData metaData) {
+    Map<String, PropertyParser[]> parsers = new HashMap<>();
+    for (String label : metaData.getLabels(elementType)) {
+      List<PropertyMetaData> metaDataList = metaData.getPropertyMetaData(elementType, label);
+      PropertyParser[] labelParsers = new PropertyParser[metaDataList.size()];
+      for (int i = 0; i < labelParsers.length; i++) {
+        PropertyMetaData propertyMetaData = metaDataList.get(i);
+        if (pushDown.isPropertyNeeded(propertyMetaData.getKey())) {
+          labelParsers[i] = new PropertyParser(propertyMetaData);
+        }
+      }
+      parsers.put(label, labelParsers);
+    }
+    return parsers;
+  }
+
+  /**
+   * Returns the index of the next unescaped delimiter.
+   *
+   * @param bytes     read buffer
+   * @param from      start offset
+   * @param to        end offset, exclusive
+   * @param delimiter delimiter
+   * @return index of the delimiter or {@code to} if there is none
+   */
+  private static int indexOf(byte[] bytes, int from, int to, byte delimiter) {
+    int i = from;
+    while (i < to) {
+      byte b = bytes[i];
+      if (b == delimiter) {
+        return i;
+      }
+      i += b == ESCAPE_CHARACTER ? 2 : 1;
+    }
+    return to;
+  }
+
+  /**
+   * Checks if the given array equals the bytes at the given offset.
+   *
+   * @param expected expected bytes
+   * @param bytes    read buffer
+   * @param from     offset
+   * @return true, iff all bytes are equal
+   */
+  private static boolean rangeEquals(byte[] expected, byte[] bytes, int from) {
+    for (int i = 0; i < expected.length; i++) {
+      if (expected[i] != bytes[from + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the given range contains an escape character.
+   *
+   * @param bytes read buffer
+   * @param from  start offset
+   * @param to    end offset, exclusive
+   * @return true, iff the range contains an escape character
+   */
+  private static boolean isEscaped(byte[] bytes, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (bytes[i] == ESCAPE_CHARACTER) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Decodes and unescapes the given range.
+   *
+   * @param bytes read buffer
+   * @param from  start offset
+   * @param to    end offset, exclusive
+   * @return unescaped string
+   */
+  private static String decode(byte[] bytes, int from, int to) {
+    String string = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    return isEscaped(bytes, from, to) ? StringEscaper.unescape(string) : string;
+  }
+
+  /**
+   * Parses the values of a single property.
+   */
+  private static class PropertyParser {
+    /**
+     * Property key.
+     */
+    private final String key;
+    /**
+     * Type of the property or {@code null} for container types.
+     */
+    private final Type type;
+    /**
+     * Fallback parser of the meta data.
+     */
+    private final PropertyMetaData metaData;
+
+    /**
+     * Creates a new parser.
+     *
+     * @param metaData property meta data
+     */
+    PropertyParser(PropertyMetaData metaData) {
+      this.key = metaData.getKey();
+      String typeString = metaData.getTypeString().toLowerCase();
+      this.type = Arrays.stream(Type.values())
+        .filter(t -> t.toString().equals(typeString)).findFirst().orElse(null);
+      this.metaData = metaData;
+    }
+
+    /**
+     * Parses a property value.
+     *
+     * @param bytes read buffer
+     * @param from  offset of the value
+     * @param to    end of the value, exclusive
+     * @return parsed value
+     */
+    Object parse(byte[] bytes, int from, int to) {
+      int length = to - from;
+      if (type == null) {
+        return parseWithMetaData(bytes, from, length);
+      }
+      switch (type) {
+      case INTEGER:
+        return IntParser.parseField(bytes, from, length);
+      case LONG:
+        return LongParser.parseField(bytes, from, length);
+      case SHORT:
+        return ShortParser.parseField(bytes, from, length);
+      case DOUBLE:
+        return DoubleParser.parseField(bytes, from, length);
+      case FLOAT:
+        return FloatParser.parseField(bytes, from, length);
+      case BOOLEAN:
+        return length == 4 && (bytes[from] | 0x20) == 't' && (bytes[from + 1] | 0x20) == 'r' &&
+          (bytes[from + 2] | 0x20) == 'u' && (bytes[from + 3] | 0x20) == 'e';
+      case STRING:
+        return decode(bytes, from, to);
+      case GRADOOP_ID:
+        return parseId(bytes, from, to);
+      default:
+        return parseWithMetaData(bytes, from, length);
+      }
+    }
+
+    /**
+     * Parses a property value with the parser of the meta data.
+     *
+     * @param bytes  read buffer
+     * @param from   offset of the value
+     * @param length length of the value
+     * @return parsed value
+     */
+    private Object parseWithMetaData(byte[] bytes, int from, int length) {
+      return metaData.getValueParser().apply(new String(bytes, from, length, StandardCharsets.UTF_8));
+    }
+  }
+}
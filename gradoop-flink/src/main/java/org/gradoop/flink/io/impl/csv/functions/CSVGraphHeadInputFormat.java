@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.GraphHeadFactory;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+
+/**
+ * Reads graph heads from CSV files.
+ * <p>
+ * The lines need to be encoded in the following format:
+ * <p>
+ * {@code graph-id;graph-label;value_1|value_2|...|value_n}
+ *
+ * @param <G> graph head type
+ */
+public class CSVGraphHeadInputFormat<G extends GraphHead> extends CSVElementInputFormat<G> {
+  /**
+   * Used to instantiate the graph heads.
+   */
+  private final GraphHeadFactory<G> graphHeadFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath         path of the CSV file or directory
+   * @param metaDataPath     path of the meta data file
+   * @param graphHeadFactory graph head factory
+   * @param pushDown         push-down applied to the read graph heads
+   */
+  public CSVGraphHeadInputFormat(String filePath, String metaDataPath,
+    GraphHeadFactory<G> graphHeadFactory, ElementPushDown pushDown) {
+    super(filePath, metaDataPath, MetaDataSource.GRAPH_TYPE, pushDown);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  protected G readElement(byte[] bytes, int offset, int end) {
+    int idEnd = tokenEnd(bytes, offset, end);
+    int labelEnd = tokenEnd(bytes, idEnd + 1, end);
+    String label = parseLabel(bytes, idEnd + 1, labelEnd);
+    if (!acceptsLabel(label)) {
+      return null;
+    }
+    int propertiesEnd = tokenEnd(bytes, labelEnd + 1, end);
+    return graphHeadFactory.initGraphHead(
+      parseId(bytes, offset, idEnd),
+      label,
+      parseProperties(label, bytes, labelEnd + 1, propertiesEnd));
+  }
+
+  @Override
+  protected Class<G> getElementClass() {
+    return graphHeadFactory.getType();
+  }
+}
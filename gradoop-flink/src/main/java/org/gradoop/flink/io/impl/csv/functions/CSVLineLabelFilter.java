@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Filters CSV lines by the label of the encoded element. Only the label token is extracted from the
+ * line and compared in its escaped form, the line is neither split nor unescaped.
+ */
+public class CSVLineLabelFilter implements FilterFunction<String> {
+  /**
+   * Index of the label token in the CSV line.
+   */
+  private final int labelToken;
+  /**
+   * Escaped accepted labels.
+   */
+  private final Set<String> escapedLabels;
+
+  /**
+   * Creates a new filter.
+   *
+   * @param labelToken index of the label token, see {@link CSVConstants}
+   * @param labels     accepted labels
+   */
+  public CSVLineLabelFilter(int labelToken, Collection<String> labels) {
+    this.labelToken = labelToken;
+    this.escapedLabels = new HashSet<>();
+    for (String label : labels) {
+      escapedLabels.add(StringEscaper.escape(label, CSVConstants.ESCAPED_CHARACTERS));
+    }
+  }
+
+  @Override
+  public boolean filter(String csvLine) {
+    String label = StringEscaper.getToken(csvLine, CSVConstants.TOKEN_DELIMITER, labelToken);
+    return label != null && escapedLabels.contains(label);
+  }
+}
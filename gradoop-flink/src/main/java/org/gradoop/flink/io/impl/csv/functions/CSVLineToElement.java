@@ -23,6 +23,7 @@ import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.metadata.PropertyMetaData;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
@@ -31,6 +32,7 @@ import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static org.gradoop.flink.io.impl.csv.CSVConstants.LIST_TEMPLATE;
@@ -50,6 +52,10 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
    * Meta data that provides parsers for a specific {@link Element}.
    */
   private CSVMetaData metaData;
+  /**
+   * Push-down which decides about the properties to parse.
+   */
+  private ElementPushDown pushDown = ElementPushDown.all();
 
   /**
    * Constructor
@@ -59,6 +65,18 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
   }
 
 
+  /**
+   * Sets the push-down of the source. Property values not needed by the push-down are skipped
+   * while parsing.
+   *
+   * @param pushDown push-down of the source
+   * @return this function
+   */
+  public CSVLineToElement<E> setPushDown(ElementPushDown pushDown) {
+    this.pushDown = Objects.requireNonNull(pushDown);
+    return this;
+  }
+
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
@@ -68,7 +86,7 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
 
   /**
    * Parses the given property values according to the meta data associated with the specified
-   * label.
+   * label. Values of properties not needed by the push-down are not parsed.
    *
    * @param type                element type
    * @param label               element label
@@ -82,8 +100,11 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
     properties.clear();
     for (int i = 0; i < propertyValues.length; i++) {
       if (propertyValues[i].length() > 0) {
-        properties.set(metaDataList.get(i).getKey(),
-          metaDataList.get(i).getValueParser().apply(propertyValues[i]));
+        PropertyMetaData propertyMetaData = metaDataList.get(i);
+        if (pushDown.isPropertyNeeded(propertyMetaData.getKey())) {
+          properties.set(propertyMetaData.getKey(),
+            propertyMetaData.getValueParser().apply(propertyValues[i]));
+        }
       }
     }
     return properties;
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Locates the part files written by a single-pass CSV sink. Each writing task writes one part
+ * file per element type, named by the task index starting at {@code 1}.
+ */
+class CSVPartFiles implements Serializable {
+  /**
+   * Element types in the order of the meta data file.
+   */
+  static final String[] ELEMENT_TYPES = {
+    MetaDataSource.GRAPH_TYPE, MetaDataSource.VERTEX_TYPE, MetaDataSource.EDGE_TYPE};
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Line delimiter used to read lines, consistent with Flink's text input format.
+   */
+  private static final char LINE_DELIMITER = '\n';
+  /**
+   * Output directory by element type.
+   */
+  private final HashMap<String, String> elementPaths;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphHeadPath path of the graph head directory
+   * @param vertexPath    path of the vertex directory
+   * @param edgePath      path of the edge directory
+   */
+  CSVPartFiles(String graphHeadPath, String vertexPath, String edgePath) {
+    this.elementPaths = new HashMap<>();
+    this.elementPaths.put(MetaDataSource.GRAPH_TYPE, graphHeadPath);
+    this.elementPaths.put(MetaDataSource.VERTEX_TYPE, vertexPath);
+    this.elementPaths.put(MetaDataSource.EDGE_TYPE, edgePath);
+  }
+
+  /**
+   * Returns the output directory of each element type.
+   *
+   * @return directory by element type
+   */
+  Map<String, String> getElementPaths() {
+    return elementPaths;
+  }
+
+  /**
+   * Returns the part file written by the given task for the given element type.
+   *
+   * @param elementType element type
+   * @param task        task index
+   * @return part file of the task
+   */
+  Path getPartFile(String elementType, int task) {
+    return new Path(elementPaths.get(elementType), Integer.toString(task + 1));
+  }
+
+  /**
+   * Returns the index of the label token in lines of the given element type.
+   *
+   * @param elementType element type
+   * @return index of the label token
+   */
+  static int getLabelToken(String elementType) {
+    switch (elementType) {
+    case MetaDataSource.GRAPH_TYPE:
+      return CSVConstants.GRAPH_HEAD_LABEL_TOKEN;
+    case MetaDataSource.VERTEX_TYPE:
+      return CSVConstants.VERTEX_LABEL_TOKEN;
+    case MetaDataSource.EDGE_TYPE:
+      return CSVConstants.EDGE_LABEL_TOKEN;
+    default:
+      throw new IllegalArgumentException("Unsupported element type: " + elementType);
+    }
+  }
+
+  /**
+   * Reads a line terminated by {@link #LINE_DELIMITER}. A trailing carriage return is removed.
+   *
+   * @param reader reader
+   * @return line or {@code null} at the end of the input
+   * @throws IOException on failure
+   */
+  static String readLine(Reader reader) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int c = reader.read();
+    if (c < 0) {
+      return null;
+    }
+    while (c >= 0 && c != LINE_DELIMITER) {
+      line.append((char) c);
+      c = reader.read();
+    }
+    if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+      line.setLength(line.length() - 1);
+    }
+    return line.toString();
+  }
+}
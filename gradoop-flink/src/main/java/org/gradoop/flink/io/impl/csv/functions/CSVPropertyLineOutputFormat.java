@@ -0,0 +1,446 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.io.CleanupWhenUnsuccessful;
+import org.apache.flink.api.common.io.FinalizeOnMaster;
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.RichOutputFormat;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataParser;
+import org.gradoop.flink.io.impl.csv.tuples.CSVPropertyLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes the lines of a single-pass CSV sink and derives the CSV meta data from the written part
+ * files.
+ * <p>
+ * Each task writes one part file per element type. The property values of a label are written in
+ * the order in which the task has seen their keys first (new keys of a line sorted by name). When
+ * the task is closed, these property layouts are stored next to the meta data file.
+ * <p>
+ * After all tasks have finished, the layouts are merged on the master in the order of the tasks,
+ * so the layout of the first task using a label is a prefix of the merged one. Only the part files
+ * whose layout is not a prefix of the merged layout are rewritten, using up to one thread per
+ * task. Finally, the meta data file is written and the stored layouts are removed.
+ * <p>
+ * The format owns all files it writes: directories are prepared according to the write mode before
+ * any task runs and the files of a failed task are removed.
+ */
+public class CSVPropertyLineOutputFormat extends RichOutputFormat<CSVPropertyLine>
+  implements InitializeOnMaster, FinalizeOnMaster, CleanupWhenUnsuccessful {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Hidden directory next to the meta data file which stores the layouts of all tasks.
+   */
+  private static final String LAYOUT_DIRECTORY = ".layouts";
+  /**
+   * Part files of all tasks.
+   */
+  private final CSVPartFiles partFiles;
+  /**
+   * Path of the meta data file.
+   */
+  private final String metaDataPath;
+  /**
+   * Write mode of all files.
+   */
+  private final FileSystem.WriteMode writeMode;
+  /**
+   * Index of the task.
+   */
+  private transient int taskNumber;
+  /**
+   * Writer of the part file by element type.
+   */
+  private transient Map<String, Writer> writers;
+  /**
+   * Layouts of the written lines by element type and escaped label.
+   */
+  private transient Map<String, Map<String, PropertyLayout>> layouts;
+  /**
+   * Reused list for the meta data entries of a line.
+   */
+  private transient List<String> entries;
+  /**
+   * Reused list for the meta data entries of a line that are not part of the layout yet.
+   */
+  private transient List<String> newEntries;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param graphHeadPath path of the graph head directory
+   * @param vertexPath    path of the vertex directory
+   * @param edgePath      path of the edge directory
+   * @param metaDataPath  path of the meta data file
+   * @param writeMode     write mode of all files
+   */
+  public CSVPropertyLineOutputFormat(String graphHeadPath, String vertexPath, String edgePath,
+    String metaDataPath, FileSystem.WriteMode writeMode) {
+    this.partFiles = new CSVPartFiles(graphHeadPath, vertexPath, edgePath);
+    this.metaDataPath = metaDataPath;
+    this.writeMode = writeMode;
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    List<Path> paths = new ArrayList<>();
+    for (String elementPath : partFiles.getElementPaths().values()) {
+      paths.add(new Path(elementPath));
+    }
+    paths.add(new Path(metaDataPath));
+    for (Path path : paths) {
+      FileSystem fs = path.getFileSystem();
+      if (fs.exists(path)) {
+        if (writeMode == FileSystem.WriteMode.NO_OVERWRITE) {
+          throw new IOException("File or directory already exists: " + path);
+        }
+        fs.delete(path, true);
+      }
+    }
+    Path layoutPath = getLayoutPath();
+    layoutPath.getFileSystem().delete(layoutPath, true);
+    for (String elementPath : partFiles.getElementPaths().values()) {
+      Path path = new Path(elementPath);
+      path.getFileSystem().mkdirs(path);
+    }
+    layoutPath.getFileSystem().mkdirs(layoutPath);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    this.taskNumber = taskNumber;
+    this.writers = new HashMap<>();
+    this.layouts = new HashMap<>();
+    this.entries = new ArrayList<>();
+    this.newEntries = new ArrayList<>();
+    for (String elementType : CSVPartFiles.ELEMENT_TYPES) {
+      Path file = partFiles.getPartFile(elementType, taskNumber);
+      writers.put(elementType, new BufferedWriter(new OutputStreamWriter(
+        file.getFileSystem().create(file, FileSystem.WriteMode.OVERWRITE),
+        StandardCharsets.UTF_8)));
+      layouts.put(elementType, new LinkedHashMap<>());
+    }
+  }
+
+  @Override
+  public void writeRecord(CSVPropertyLine record) throws IOException {
+    PropertyLayout layout = layouts.get(record.getElementType())
+      .computeIfAbsent(record.getLabel(), label -> new PropertyLayout());
+
+    List<Property> properties = record.getProperties().toList();
+    entries.clear();
+    newEntries.clear();
+    for (Property property : properties) {
+      String entry = CSVMetaDataParser.getPropertyMetaData(property);
+      entries.add(entry);
+      if (layout.getPosition(entry) < 0) {
+        newEntries.add(entry);
+      }
+    }
+    if (!newEntries.isEmpty()) {
+      Collections.sort(newEntries);
+      newEntries.forEach(layout::add);
+    }
+
+    String[] values = new String[layout.size()];
+    Arrays.fill(values, "");
+    for (int i = 0; i < properties.size(); i++) {
+      values[layout.getPosition(entries.get(i))] =
+        ElementToCSV.propertyValueToCsvString(properties.get(i).getValue());
+    }
+
+    Writer writer = writers.get(record.getElementType());
+    writer.write(record.getPrefix());
+    writer.write(String.join(CSVConstants.VALUE_DELIMITER, values));
+    writer.write(CSVConstants.ROW_DELIMITER);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writers == null) {
+      return;
+    }
+    closeWriters();
+    writeLayouts(getLayoutFile(taskNumber), layouts);
+  }
+
+  @Override
+  public void tryCleanupOnError() throws IOException {
+    if (writers != null) {
+      try {
+        closeWriters();
+      } catch (IOException e) {
+        // the files are removed anyway
+      }
+    }
+    for (String elementType : CSVPartFiles.ELEMENT_TYPES) {
+      Path file = partFiles.getPartFile(elementType, taskNumber);
+      file.getFileSystem().delete(file, false);
+    }
+    Path layoutFile = getLayoutFile(taskNumber);
+    layoutFile.getFileSystem().delete(layoutFile, false);
+  }
+
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    Path layoutPath = getLayoutPath();
+    FileSystem fs = layoutPath.getFileSystem();
+
+    List<Map<String, Map<String, PropertyLayout>>> taskLayouts = new ArrayList<>(parallelism);
+    Map<String, Map<String, PropertyLayout>> merged = new HashMap<>();
+    for (String elementType : CSVPartFiles.ELEMENT_TYPES) {
+      merged.put(elementType, new LinkedHashMap<>());
+    }
+    for (int task = 0; task < parallelism; task++) {
+      Path layoutFile = getLayoutFile(task);
+      Map<String, Map<String, PropertyLayout>> layout = fs.exists(layoutFile) ?
+        readLayouts(layoutFile) : Collections.emptyMap();
+      taskLayouts.add(layout);
+      for (Map.Entry<String, Map<String, PropertyLayout>> byType : layout.entrySet()) {
+        for (Map.Entry<String, PropertyLayout> byLabel : byType.getValue().entrySet()) {
+          PropertyLayout mergedLayout = merged.get(byType.getKey())
+            .computeIfAbsent(byLabel.getKey(), label -> new PropertyLayout());
+          byLabel.getValue().getEntries().forEach(mergedLayout::add);
+        }
+      }
+    }
+
+    List<Callable<Void>> rewrites = new ArrayList<>();
+    for (int task = 0; task < parallelism; task++) {
+      for (Map.Entry<String, Map<String, PropertyLayout>> byType :
+        taskLayouts.get(task).entrySet()) {
+        String elementType = byType.getKey();
+        Map<String, PropertyLayout> labelLayouts = merged.get(elementType);
+        boolean compatible = byType.getValue().entrySet().stream()
+          .allMatch(e -> e.getValue().isPrefixOf(labelLayouts.get(e.getKey())));
+        if (!compatible) {
+          Path file = partFiles.getPartFile(elementType, task);
+          rewrites.add(() -> {
+            rewrite(file, elementType, byType.getValue(), labelLayouts);
+            return null;
+          });
+        }
+      }
+    }
+    runAll(rewrites, parallelism);
+
+    writeLayouts(new Path(metaDataPath), merged);
+    fs.delete(layoutPath, true);
+  }
+
+  /**
+   * Closes the writers of all part files of this task.
+   *
+   * @throws IOException on failure
+   */
+  private void closeWriters() throws IOException {
+    Map<String, Writer> toClose = writers;
+    writers = null;
+    IOException failure = null;
+    for (Writer writer : toClose.values()) {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        failure = e;
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Runs the given rewrites using up to the given number of threads.
+   *
+   * @param rewrites    rewrites to run
+   * @param parallelism maximum number of threads
+   * @throws IOException if a rewrite fails
+   */
+  private static void runAll(List<Callable<Void>> rewrites, int parallelism)
+    throws IOException {
+    if (rewrites.isEmpty()) {
+      return;
+    }
+    ExecutorService executor =
+      Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, rewrites.size())));
+    try {
+      for (Future<Void> rewrite : executor.invokeAll(rewrites)) {
+        rewrite.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while rewriting the CSV part files.", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Could not rewrite a CSV part file.", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Rewrites a part file, such that its property values follow the merged layouts.
+   *
+   * @param file         part file
+   * @param elementType  element type of the file
+   * @param taskLayouts  layouts used to write the file by label
+   * @param labelLayouts merged layouts by label
+   * @throws IOException on failure
+   */
+  private static void rewrite(Path file, String elementType,
+    Map<String, PropertyLayout> taskLayouts, Map<String, PropertyLayout> labelLayouts)
+    throws IOException {
+    int labelToken = CSVPartFiles.getLabelToken(elementType);
+    Map<String, int[]> permutations = new HashMap<>();
+    for (Map.Entry<String, PropertyLayout> layout : taskLayouts.entrySet()) {
+      List<String> taskEntries = layout.getValue().getEntries();
+      PropertyLayout mergedLayout = labelLayouts.get(layout.getKey());
+      int[] permutation = new int[taskEntries.size()];
+      for (int i = 0; i < permutation.length; i++) {
+        permutation[i] = mergedLayout.getPosition(taskEntries.get(i));
+      }
+      permutations.put(layout.getKey(), permutation);
+    }
+
+    Path tmpFile = new Path(file.getParent(), "." + file.getName() + ".tmp");
+    FileSystem fs = file.getFileSystem();
+    try (Reader reader = new BufferedReader(
+      new InputStreamReader(fs.open(file), StandardCharsets.UTF_8));
+      Writer writer = new BufferedWriter(new OutputStreamWriter(
+        fs.create(tmpFile, FileSystem.WriteMode.OVERWRITE), StandardCharsets.UTF_8))) {
+      String line = CSVPartFiles.readLine(reader);
+      while (line != null) {
+        String[] tokens =
+          StringEscaper.split(line, CSVConstants.TOKEN_DELIMITER, labelToken + 2);
+        int[] permutation = permutations.get(tokens[labelToken]);
+        String[] values = StringEscaper.split(tokens[labelToken + 1], CSVConstants.VALUE_DELIMITER);
+        String[] newValues = new String[labelLayouts.get(tokens[labelToken]).size()];
+        Arrays.fill(newValues, "");
+        for (int i = 0; i < Math.min(values.length, permutation.length); i++) {
+          newValues[permutation[i]] = values[i];
+        }
+        tokens[labelToken + 1] = String.join(CSVConstants.VALUE_DELIMITER, newValues);
+        writer.write(String.join(CSVConstants.TOKEN_DELIMITER, tokens));
+        writer.write(CSVConstants.ROW_DELIMITER);
+        line = CSVPartFiles.readLine(reader);
+      }
+    } catch (IOException e) {
+      fs.delete(tmpFile, false);
+      throw e;
+    }
+    fs.delete(file, false);
+    fs.rename(tmpFile, file);
+  }
+
+  /**
+   * Writes layouts in the format of the CSV meta data file.
+   *
+   * @param path    file to write
+   * @param layouts layouts by element type and escaped label
+   * @throws IOException on failure
+   */
+  private static void writeLayouts(Path path, Map<String, Map<String, PropertyLayout>> layouts)
+    throws IOException {
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+      path.getFileSystem().create(path, FileSystem.WriteMode.OVERWRITE),
+      StandardCharsets.UTF_8))) {
+      for (String elementType : CSVPartFiles.ELEMENT_TYPES) {
+        for (Map.Entry<String, PropertyLayout> layout : layouts.get(elementType).entrySet()) {
+          writer.write(elementType);
+          writer.write(CSVConstants.TOKEN_DELIMITER);
+          writer.write(layout.getKey());
+          writer.write(CSVConstants.TOKEN_DELIMITER);
+          writer.write(layout.getValue().toString());
+          writer.write(CSVConstants.ROW_DELIMITER);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads layouts written by {@link #writeLayouts(Path, Map)}.
+   *
+   * @param path file to read
+   * @return layouts by element type and escaped label
+   * @throws IOException on failure
+   */
+  private static Map<String, Map<String, PropertyLayout>> readLayouts(Path path)
+    throws IOException {
+    Map<String, Map<String, PropertyLayout>> layouts = new HashMap<>();
+    try (Reader reader = new BufferedReader(
+      new InputStreamReader(path.getFileSystem().open(path), StandardCharsets.UTF_8))) {
+      String line = CSVPartFiles.readLine(reader);
+      while (line != null) {
+        String[] tokens = StringEscaper.split(line, CSVConstants.TOKEN_DELIMITER, 3);
+        layouts.computeIfAbsent(tokens[0], type -> new LinkedHashMap<>())
+          .put(tokens[1], PropertyLayout.parse(tokens[2]));
+        line = CSVPartFiles.readLine(reader);
+      }
+    }
+    return layouts;
+  }
+
+  /**
+   * Returns the directory which stores the layouts of all tasks.
+   *
+   * @return layout directory
+   */
+  private Path getLayoutPath() {
+    return new Path(new Path(metaDataPath).getParent(), LAYOUT_DIRECTORY);
+  }
+
+  /**
+   * Returns the file which stores the layouts of the given task.
+   *
+   * @param task task index
+   * @return layout file of the task
+   */
+  private Path getLayoutFile(int task) {
+    return new Path(getLayoutPath(), Integer.toString(task + 1));
+  }
+}
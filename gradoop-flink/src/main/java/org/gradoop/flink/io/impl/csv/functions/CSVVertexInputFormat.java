@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.api.entities.VertexFactory;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+
+/**
+ * Reads vertices from CSV files.
+ * <p>
+ * The lines need to be encoded in the following format:
+ * <p>
+ * {@code vertex-id;[graph-ids];vertex-label;value_1|value_2|...|value_n}
+ *
+ * @param <V> vertex type
+ */
+public class CSVVertexInputFormat<V extends Vertex> extends CSVElementInputFormat<V> {
+  /**
+   * Used to instantiate the vertices.
+   */
+  private final VertexFactory<V> vertexFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath      path of the CSV file or directory
+   * @param metaDataPath  path of the meta data file
+   * @param vertexFactory vertex factory
+   * @param pushDown      push-down applied to the read vertices
+   */
+  public CSVVertexInputFormat(String filePath, String metaDataPath,
+    VertexFactory<V> vertexFactory, ElementPushDown pushDown) {
+    super(filePath, metaDataPath, MetaDataSource.VERTEX_TYPE, pushDown);
+    this.vertexFactory = vertexFactory;
+  }
+
+  @Override
+  protected V readElement(byte[] bytes, int offset, int end) {
+    int idEnd = tokenEnd(bytes, offset, end);
+    int graphIdsEnd = tokenEnd(bytes, idEnd + 1, end);
+    int labelEnd = tokenEnd(bytes, graphIdsEnd + 1, end);
+    String label = parseLabel(bytes, graphIdsEnd + 1, labelEnd);
+    if (!acceptsLabel(label)) {
+      return null;
+    }
+    int propertiesEnd = tokenEnd(bytes, labelEnd + 1, end);
+    return vertexFactory.initVertex(
+      parseId(bytes, offset, idEnd),
+      label,
+      parseProperties(label, bytes, labelEnd + 1, propertiesEnd),
+      parseGraphIds(bytes, idEnd + 1, graphIdsEnd));
+  }
+
+  @Override
+  protected Class<V> getElementClass() {
+    return vertexFactory.getType();
+  }
+}
@@ -94,7 +94,7 @@ public abstract class ElementToCSV<E extends EPGMElement, T extends Tuple>
    * @param p property value
    * @return CSV string
    */
-  private String propertyValueToCsvString(PropertyValue p) {
+  static String propertyValueToCsvString(PropertyValue p) {
     if (p.isList() || p.isSet()) {
       return collectionToCsvString((Collection) p.getObject());
     } else if (p.isMap()) {
@@ -112,7 +112,7 @@ public abstract class ElementToCSV<E extends EPGMElement, T extends Tuple>
    * @param collection collection
    * @return CSV string
    */
-  protected String collectionToCsvString(Collection<?> collection) {
+  protected static String collectionToCsvString(Collection<?> collection) {
     return String.format(LIST_TEMPLATE, collection.stream()
       .map(o -> o instanceof PropertyValue ? escape((PropertyValue) o) : o.toString())
       .collect(Collectors.joining(CSVConstants.LIST_DELIMITER)));
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.tuples.CSVPropertyLine;
+
+/**
+ * Converts an EPGM element into a {@link CSVPropertyLine}, i.e. serializes all tokens of its CSV
+ * line except the properties.
+ *
+ * @param <E> element type
+ */
+public class ElementToCSVPropertyLine<E extends Element> implements MapFunction<E, CSVPropertyLine> {
+  /**
+   * Reduce object instantiations.
+   */
+  private final CSVPropertyLine reuseLine = new CSVPropertyLine();
+  /**
+   * Builds the line prefix.
+   */
+  private final StringBuilder prefix = new StringBuilder();
+
+  @Override
+  public CSVPropertyLine map(E element) throws Exception {
+    String label = StringEscaper.escape(element.getLabel(), CSVConstants.ESCAPED_CHARACTERS);
+    prefix.setLength(0);
+    prefix.append(element.getId()).append(CSVConstants.TOKEN_DELIMITER);
+    if (element instanceof GraphElement) {
+      prefix.append(ElementToCSV.collectionToCsvString(((GraphElement) element).getGraphIds()))
+        .append(CSVConstants.TOKEN_DELIMITER);
+    }
+    if (element instanceof Edge) {
+      reuseLine.setElementType(MetaDataSource.EDGE_TYPE);
+      prefix.append(((Edge) element).getSourceId()).append(CSVConstants.TOKEN_DELIMITER)
+        .append(((Edge) element).getTargetId()).append(CSVConstants.TOKEN_DELIMITER);
+    } else if (element instanceof Vertex) {
+      reuseLine.setElementType(MetaDataSource.VERTEX_TYPE);
+    } else if (element instanceof GraphHead) {
+      reuseLine.setElementType(MetaDataSource.GRAPH_TYPE);
+    } else {
+      throw new Exception("Unsupported element class: " + element.getClass().getName());
+    }
+    prefix.append(label).append(CSVConstants.TOKEN_DELIMITER);
+
+    reuseLine.setLabel(label);
+    reuseLine.setPrefix(prefix.toString());
+    reuseLine.setProperties(
+      element.getProperties() == null ? Properties.create() : element.getProperties());
+    return reuseLine;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered property meta data entries ({@code key:type}) of one label, as written by a single-pass
+ * CSV sink.
+ */
+class PropertyLayout {
+  /**
+   * Entries in the order of the property values.
+   */
+  private final List<String> entries = new ArrayList<>();
+  /**
+   * Position of each entry.
+   */
+  private final Map<String, Integer> positions = new HashMap<>();
+
+  /**
+   * Creates a layout from entries separated by {@link PropertyMetaData#PROPERTY_DELIMITER}.
+   *
+   * @param propertyMetaData separated entries
+   * @return layout
+   */
+  static PropertyLayout parse(String propertyMetaData) {
+    PropertyLayout layout = new PropertyLayout();
+    if (!propertyMetaData.isEmpty()) {
+      for (String entry : StringEscaper.split(propertyMetaData,
+        PropertyMetaData.PROPERTY_DELIMITER)) {
+        layout.add(entry);
+      }
+    }
+    return layout;
+  }
+
+  /**
+   * Appends the entry, if it is not part of the layout yet.
+   *
+   * @param entry property meta data entry
+   */
+  void add(String entry) {
+    if (!positions.containsKey(entry)) {
+      positions.put(entry, entries.size());
+      entries.add(entry);
+    }
+  }
+
+  /**
+   * Returns the position of the given entry.
+   *
+   * @param entry property meta data entry
+   * @return position or {@code -1} if the entry is not part of the layout
+   */
+  int getPosition(String entry) {
+    return positions.getOrDefault(entry, -1);
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return number of entries
+   */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns all entries in order.
+   *
+   * @return entries
+   */
+  List<String> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Checks if this layout is a prefix of the other layout.
+   *
+   * @param other other layout
+   * @return true, iff all entries are at the same position in the other layout
+   */
+  boolean isPrefixOf(PropertyLayout other) {
+    return other.entries.size() >= entries.size() &&
+      other.entries.subList(0, entries.size()).equals(entries);
+  }
+
+  @Override
+  public String toString() {
+    return String.join(PropertyMetaData.PROPERTY_DELIMITER, entries);
+  }
+}
@@ -152,6 +152,47 @@ public class StringEscaper {
     return tokens.toArray(new String[0]);
   }
 
+  /**
+   * Returns a single token of an escaped string without splitting the whole string. Does not
+   * unescape the token.
+   *
+   * @param escapedString escaped string
+   * @param delimiter delimiter string
+   * @param index index of the token to return
+   * @return the still escaped token or {@code null} if the string has less tokens
+   * @throws IllegalArgumentException if the delimiter contains the escape character
+   */
+  public static String getToken(String escapedString, String delimiter, int index)
+    throws IllegalArgumentException {
+    if (delimiter.contains(Character.toString(ESCAPE_CHARACTER))) {
+      throw new IllegalArgumentException(String.format(
+        "Delimiter must not contain the escape character: '%c'", ESCAPE_CHARACTER));
+    }
+    int tokenIndex = 0;
+    int tokenStart = 0;
+    boolean escaped = false;
+    int i = 0;
+    while (i < escapedString.length()) {
+      if (escaped) {
+        escaped = false;
+        i++;
+      } else if (escapedString.charAt(i) == ESCAPE_CHARACTER) {
+        escaped = true;
+        i++;
+      } else if (escapedString.startsWith(delimiter, i)) {
+        if (tokenIndex == index) {
+          return escapedString.substring(tokenStart, i);
+        }
+        tokenIndex++;
+        i += delimiter.length();
+        tokenStart = i;
+      } else {
+        i++;
+      }
+    }
+    return tokenIndex == index ? escapedString.substring(tokenStart) : null;
+  }
+
   /**
    * Returns the escape sequence of a given character.
    *
@@ -17,15 +17,18 @@ package org.gradoop.flink.io.impl.csv.indexed;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
-import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.PushDownDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
 import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.functions.ApplyElementPushDown;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
@@ -33,6 +36,7 @@ import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
@@ -51,12 +55,32 @@ import java.util.stream.Collectors;
  * |- knows.csv      # contains all edges with label 'knows'
  * |- studyAt.csv    # contains all edges with label 'studyAt'
  * |- metadata.csv   # Meta data for all data contained in the graph
+ * <p>
+ * Label and property predicates as well as property projections can be pushed into the source,
+ * see {@link PushDownDataSource}. Files of rejected labels are not read at all and property
+ * values that are not needed are never parsed.
  */
-public class IndexedCSVDataSource extends CSVBase implements DataSource {
+public class IndexedCSVDataSource extends CSVBase implements PushDownDataSource, Cloneable {
   /**
    * HDFS Configuration.
    */
   private final Configuration hdfsConfig;
+  /**
+   * Push-down applied to the graph heads.
+   */
+  private ElementPushDown graphHeadPushDown = ElementPushDown.all();
+  /**
+   * Push-down applied to the vertices.
+   */
+  private ElementPushDown vertexPushDown = ElementPushDown.all();
+  /**
+   * Push-down applied to the edges.
+   */
+  private ElementPushDown edgePushDown = ElementPushDown.all();
+  /**
+   * Flag indicating whether a push-down was applied.
+   */
+  private boolean pushDownApplied;
 
   /**
    * Creates a new data source. The constructor creates a default HDFS configuration.
@@ -104,26 +128,87 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
     GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
 
     Map<String, DataSet<EPGMGraphHead>> graphHeads = metaData.getGraphLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getGraphHeadCSVPath(label))
-        .map(new CSVLineToGraphHead(factory.getGraphHeadFactory()))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(graphHead -> graphHead.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+      .filter(graphHeadPushDown::acceptsLabel)
+      .collect(Collectors.toMap(label -> label, label -> readElements(getGraphHeadCSVPath(label),
+        label, graphHeadPushDown, new CSVLineToGraphHead(factory.getGraphHeadFactory()),
+        metaDataBroadcast)));
 
     Map<String, DataSet<EPGMVertex>> vertices = metaData.getVertexLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getVertexCSVPath(label))
-        .map(new CSVLineToVertex(factory.getVertexFactory()))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(vertex -> vertex.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+      .filter(vertexPushDown::acceptsLabel)
+      .collect(Collectors.toMap(label -> label, label -> readElements(getVertexCSVPath(label),
+        label, vertexPushDown, new CSVLineToVertex(factory.getVertexFactory()),
+        metaDataBroadcast)));
 
     Map<String, DataSet<EPGMEdge>> edges = metaData.getEdgeLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getEdgeCSVPath(label))
-        .map(new CSVLineToEdge(factory.getEdgeFactory()))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(edge -> edge.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+      .filter(edgePushDown::acceptsLabel)
+      .collect(Collectors.toMap(label -> label, label -> readElements(getEdgeCSVPath(label),
+        label, edgePushDown, new CSVLineToEdge(factory.getEdgeFactory()), metaDataBroadcast)));
 
     return factory.fromIndexedDataSets(graphHeads, vertices, edges);
   }
+
+  /**
+   * Reads the elements of one label file and applies the given push-down.
+   *
+   * @param path         path of the label file
+   * @param label        label of the elements
+   * @param pushDown     push-down to apply
+   * @param csvToElement function mapping a CSV line to an element
+   * @param metaData     meta data broadcast set
+   * @param <E> element type
+   * @return elements of the given label
+   */
+  private <E extends Element> DataSet<E> readElements(String path, String label,
+    ElementPushDown pushDown, CSVLineToElement<E> csvToElement,
+    DataSet<Tuple3<String, String, String>> metaData) {
+    DataSet<E> elements = getConfig().getExecutionEnvironment().readTextFile(path)
+      .map(csvToElement.setPushDown(pushDown))
+      .withBroadcastSet(metaData, BC_METADATA)
+      .filter(new ByLabel<>(label));
+    if (pushDown.hasPropertyPredicates()) {
+      elements = elements.flatMap(new ApplyElementPushDown<>(pushDown));
+    }
+    return elements;
+  }
+
+  @Override
+  public IndexedCSVDataSource applyGraphHeadPushDown(ElementPushDown pushDown) {
+    IndexedCSVDataSource copy = copy();
+    copy.graphHeadPushDown = graphHeadPushDown.and(pushDown);
+    return copy;
+  }
+
+  @Override
+  public IndexedCSVDataSource applyVertexPushDown(ElementPushDown pushDown) {
+    IndexedCSVDataSource copy = copy();
+    copy.vertexPushDown = vertexPushDown.and(pushDown);
+    return copy;
+  }
+
+  @Override
+  public IndexedCSVDataSource applyEdgePushDown(ElementPushDown pushDown) {
+    IndexedCSVDataSource copy = copy();
+    copy.edgePushDown = edgePushDown.and(pushDown);
+    return copy;
+  }
+
+  @Override
+  public boolean isPushDownApplied() {
+    return pushDownApplied;
+  }
+
+  /**
+   * Creates a shallow copy of this source and marks the copy as pushed down.
+   *
+   * @return copy of this source
+   */
+  private IndexedCSVDataSource copy() {
+    try {
+      IndexedCSVDataSource copy = (IndexedCSVDataSource) clone();
+      copy.pushDownApplied = true;
+      return copy;
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -22,6 +22,7 @@ import org.gradoop.flink.io.api.metadata.MetaDataSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -63,4 +64,24 @@ public class CSVMetaData extends MetaData {
         "types are g, v and e.");
     }
   }
+
+  /**
+   * Get the labels of the given entity type.
+   *
+   * @param type entity type, (g,v or e)
+   * @return labels of the entity type
+   */
+  public Set<String> getLabels(String type) {
+    switch (type) {
+    case MetaDataSource.GRAPH_TYPE:
+      return getGraphLabels();
+    case MetaDataSource.VERTEX_TYPE:
+      return getVertexLabels();
+    case MetaDataSource.EDGE_TYPE:
+      return getEdgeLabels();
+    default:
+      throw new IllegalArgumentException("Entity type " + type + " is not supported. Supported " +
+        "types are g, v and e.");
+    }
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.properties.Properties;
+
+/**
+ * Tuple representing a CSV line whose property token is not serialized yet. It is written by a
+ * single-pass CSV sink, which derives the property layout while writing.
+ * <p>
+ * {@code (elementType, escapedLabel, linePrefix, properties)}
+ * <p>
+ * The line prefix contains all escaped tokens of the line up to and including the delimiter in
+ * front of the property token.
+ */
+public class CSVPropertyLine extends Tuple4<String, String, String, Properties> {
+
+  /**
+   * Returns the element type, see {@link org.gradoop.flink.io.api.metadata.MetaDataSource}.
+   *
+   * @return element type
+   */
+  public String getElementType() {
+    return f0;
+  }
+
+  /**
+   * Sets the element type.
+   *
+   * @param elementType element type
+   */
+  public void setElementType(String elementType) {
+    f0 = elementType;
+  }
+
+  /**
+   * Returns the escaped element label.
+   *
+   * @return escaped label
+   */
+  public String getLabel() {
+    return f1;
+  }
+
+  /**
+   * Sets the escaped element label.
+   *
+   * @param label escaped label
+   */
+  public void setLabel(String label) {
+    f1 = label;
+  }
+
+  /**
+   * Returns the line prefix.
+   *
+   * @return escaped tokens in front of the property token
+   */
+  public String getPrefix() {
+    return f2;
+  }
+
+  /**
+   * Sets the line prefix.
+   *
+   * @param prefix escaped tokens in front of the property token
+   */
+  public void setPrefix(String prefix) {
+    f2 = prefix;
+  }
+
+  /**
+   * Returns the element properties.
+   *
+   * @return properties
+   */
+  public Properties getProperties() {
+    return f3;
+  }
+
+  /**
+   * Sets the element properties.
+   *
+   * @param properties properties
+   */
+  public void setProperties(Properties properties) {
+    f3 = properties;
+  }
+}
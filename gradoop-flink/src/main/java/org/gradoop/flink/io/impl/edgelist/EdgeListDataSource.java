@@ -28,7 +28,6 @@ import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
@@ -78,11 +77,20 @@ public class EdgeListDataSource implements DataSource {
 
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination<>());
+    return getGraphDataSource().getLogicalGraph();
   }
 
   @Override
   public GraphCollection getGraphCollection() throws IOException {
+    return getGraphDataSource().getGraphCollection();
+  }
+
+  /**
+   * Creates the import vertices and edges from the edge list.
+   *
+   * @return graph data source importing the edge list
+   */
+  GraphDataSource<Long> getGraphDataSource() {
 
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
@@ -117,8 +125,7 @@ public class EdgeListDataSource implements DataSource {
     // create graph data source
     //--------------------------------------------------------------------------
 
-    return new GraphDataSource<>(importVertices, importEdges, getConfig())
-      .getGraphCollection();
+    return new GraphDataSource<>(importVertices, importEdges, getConfig());
   }
 
   GradoopFlinkConfig getConfig() {
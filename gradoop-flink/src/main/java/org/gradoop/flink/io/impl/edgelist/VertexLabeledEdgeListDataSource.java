@@ -25,12 +25,9 @@ import org.gradoop.flink.io.impl.edgelist.functions.CreateLabeledImportVertex;
 import org.gradoop.flink.io.impl.graph.GraphDataSource;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
-import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
-import java.io.IOException;
 
 /**
  * Data source to create a {@link LogicalGraph} from an edge list. Vertices are annotated with a
@@ -75,12 +72,7 @@ public class VertexLabeledEdgeListDataSource extends EdgeListDataSource {
 
 
   @Override
-  public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination<>());
-  }
-
-  @Override
-  public GraphCollection getGraphCollection() throws IOException {
+  GraphDataSource<Long> getGraphDataSource() {
 
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
@@ -115,7 +107,6 @@ public class VertexLabeledEdgeListDataSource extends EdgeListDataSource {
     // create graph data source
     //--------------------------------------------------------------------------
 
-    return new GraphDataSource<>(importVertices, importEdges, getConfig())
-      .getGraphCollection();
+    return new GraphDataSource<>(importVertices, importEdges, getConfig());
   }
 }
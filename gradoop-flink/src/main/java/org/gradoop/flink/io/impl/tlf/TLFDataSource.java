@@ -15,29 +15,32 @@
  */
 package org.gradoop.flink.io.impl.tlf;
 
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
 import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.hadoopcompatibility.HadoopInputs;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.tlf.functions.Dictionary;
 import org.gradoop.flink.io.impl.tlf.functions.DictionaryEntry;
-import org.gradoop.flink.io.impl.tlf.functions.EdgeLabelDecoder;
-import org.gradoop.flink.io.impl.tlf.functions.GraphTransactionFromText;
+import org.gradoop.flink.io.impl.tlf.functions.DictionaryLabelDecoder;
+import org.gradoop.flink.io.impl.tlf.functions.IntegerLabel;
 import org.gradoop.flink.io.impl.tlf.functions.TLFFileFormat;
-import org.gradoop.flink.io.impl.tlf.functions.VertexLabelDecoder;
-import org.gradoop.flink.io.impl.tlf.inputformats.TLFInputFormat;
+import org.gradoop.flink.io.impl.tlf.inputformats.TLFGraphInputFormat;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.TransactionEdges;
+import org.gradoop.flink.model.impl.functions.epgm.TransactionGraphHead;
+import org.gradoop.flink.model.impl.functions.epgm.TransactionVertices;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
-import java.util.Map;
 
 /**
  * Creates an EPGM instance from one TLF file. The exact format is
@@ -67,59 +70,97 @@ public class TLFDataSource extends TLFBase implements DataSource {
   public TLFDataSource(String tlfPath, String tlfVertexDictionaryPath,
     String tlfEdgeDictionaryPath, GradoopFlinkConfig config) {
     super(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config);
-    ExecutionEnvironment env = config.getExecutionEnvironment();
-    if (hasVertexDictionary()) {
-      DataSet<Map<Integer, String>> dictionary = env.createInput(HadoopInputs.readHadoopFile(
-        new TextInputFormat(), LongWritable.class, Text.class, getTLFVertexDictionaryPath()))
-          .filter(t -> !t.f1.toString().isEmpty())
-          .map(new DictionaryEntry())
-          .reduceGroup(new Dictionary());
-
-      setVertexDictionary(dictionary);
-    }
-    if (hasEdgeDictionary()) {
-      DataSet<Map<Integer, String>> dictionary = env.createInput(HadoopInputs.readHadoopFile(
-        new TextInputFormat(), LongWritable.class, Text.class, getTLFEdgeDictionaryPath()))
-          .filter(t -> !t.f1.toString().isEmpty())
-          .map(new DictionaryEntry())
-          .reduceGroup(new Dictionary());
-
-      setEdgeDictionary(dictionary);
-    }
   }
 
+  /**
+   * Reads the vertices and edges of all TLF graphs and combines them into a single new graph
+   * without building the graph collection first.
+   *
+   * {@inheritDoc}
+   */
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination<>());
+    DataSet<GraphTransaction> transactions = readTransactions();
+    return getConfig().getLogicalGraphFactory()
+      .fromDataSets(readVertices(transactions), readEdges(transactions));
   }
 
+  /**
+   * Reads the TLF graphs in parallel, split at graph boundaries. Integer-like labels are decoded
+   * by joins with the entries of the dictionaries, which are broadcast to every task.
+   *
+   * {@inheritDoc}
+   */
   @Override
   public GraphCollection getGraphCollection() throws IOException {
-    DataSet<GraphTransaction> transactions;
-    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
+    DataSet<GraphTransaction> transactions = readTransactions();
+
+    if (!hasVertexDictionary() && !hasEdgeDictionary()) {
+      return factory.fromTransactions(transactions);
+    }
+
+    return factory.fromDataSets(transactions.map(new TransactionGraphHead<>()),
+      readVertices(transactions), readEdges(transactions));
+  }
+
+  /**
+   * Reads the TLF graphs from file.
+   *
+   * @return graph transactions
+   */
+  private DataSet<GraphTransaction> readTransactions() {
+    return getConfig().getExecutionEnvironment()
+      .createInput(new TLFGraphInputFormat(getTLFPath(), getConfig()));
+  }
 
-    DataSet<Tuple2<LongWritable, Text>> input = null;
+  /**
+   * Extracts the vertices of the graph transactions and decodes their labels, if there is a
+   * vertex dictionary. Vertex ids are created while reading, thus there are no duplicates to
+   * merge.
+   *
+   * @param transactions graph transactions
+   * @return vertices
+   */
+  private DataSet<EPGMVertex> readVertices(DataSet<GraphTransaction> transactions) {
+    DataSet<EPGMVertex> vertices = transactions.flatMap(new TransactionVertices<>());
+    return hasVertexDictionary() ? decodeLabels(vertices, getTLFVertexDictionaryPath()) : vertices;
+  }
 
-    input = env.createInput(HadoopInputs.readHadoopFile(
-      new TLFInputFormat(), LongWritable.class, Text.class, getTLFPath()));
+  /**
+   * Extracts the edges of the graph transactions and decodes their labels, if there is an edge
+   * dictionary. Edge ids are created while reading, thus there are no duplicates to merge.
+   *
+   * @param transactions graph transactions
+   * @return edges
+   */
+  private DataSet<EPGMEdge> readEdges(DataSet<GraphTransaction> transactions) {
+    DataSet<EPGMEdge> edges = transactions.flatMap(new TransactionEdges<>());
+    return hasEdgeDictionary() ? decodeLabels(edges, getTLFEdgeDictionaryPath()) : edges;
+  }
 
-    // load tlf graphs from file
-    assert input != null;
-    transactions = input.map(new GraphTransactionFromText(getConfig()));
+  /**
+   * Replaces the integer-like labels of the given elements by the labels of a dictionary file.
+   * The dictionary is small compared to the elements, so it is broadcast to every task instead of
+   * shuffling the elements by their label, which would also send all elements of a frequent label
+   * to a single task.
+   *
+   * @param elements vertices or edges
+   * @param dictionaryPath path of the dictionary file
+   * @param <EL> element type
+   * @return elements with decoded labels
+   */
+  private <EL extends Element> DataSet<EL> decodeLabels(DataSet<EL> elements,
+    String dictionaryPath) {
+    DataSet<Tuple2<Integer, String>> dictionary = getConfig().getExecutionEnvironment()
+      .createInput(HadoopInputs.readHadoopFile(
+        new TextInputFormat(), LongWritable.class, Text.class, dictionaryPath))
+      .filter(t -> !t.f1.toString().isEmpty())
+      .map(new DictionaryEntry());
 
-    // map the integer valued labels to strings from dictionary
-    if (hasVertexDictionary()) {
-      transactions = transactions
-        .map(new VertexLabelDecoder())
-        .withBroadcastSet(
-          getVertexDictionary(), TLFConstants.VERTEX_DICTIONARY);
-    }
-    if (hasEdgeDictionary()) {
-      transactions = transactions
-        .map(new EdgeLabelDecoder())
-        .withBroadcastSet(
-          getEdgeDictionary(), TLFConstants.EDGE_DICTIONARY);
-    }
-    return getConfig().getGraphCollectionFactory().fromTransactions(transactions);
+    return elements
+      .leftOuterJoin(dictionary, JoinHint.BROADCAST_HASH_SECOND)
+      .where(new IntegerLabel<>()).equalTo(0)
+      .with(new DictionaryLabelDecoder<>());
   }
 }
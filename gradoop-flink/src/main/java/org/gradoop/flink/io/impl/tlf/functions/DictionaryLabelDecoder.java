@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Element;
+
+/**
+ * Replaces the integer-like label of a TLF vertex or edge by the label of the joined dictionary
+ * entry. Elements without a matching entry keep their label.
+ *
+ * @param <EL> element type
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("id")
+public class DictionaryLabelDecoder<EL extends Element>
+  implements JoinFunction<EL, Tuple2<Integer, String>, EL> {
+
+  @Override
+  public EL join(EL element, Tuple2<Integer, String> entry) throws Exception {
+    if (entry != null) {
+      element.setLabel(entry.f1);
+    }
+    return element;
+  }
+}
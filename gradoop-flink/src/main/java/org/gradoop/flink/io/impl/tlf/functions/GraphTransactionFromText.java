@@ -78,12 +78,23 @@ public class GraphTransactionFromText
    */
   @Override
   public GraphTransaction map(Tuple2<LongWritable, Text> inputTuple) throws Exception {
+    return parse(inputTuple.f1.toString());
+  }
+
+  /**
+   * Creates a graph transaction from the text of a single TLF graph, starting with its
+   * {@code t # <id>} line.
+   *
+   * @param text TLF graph text
+   * @return a graph transaction created by the input text
+   */
+  public GraphTransaction parse(String text) {
     Map<Long, GradoopId> idMap = new HashMap<>();
     Set<EPGMVertex> vertices = new HashSet<>();
     Set<EPGMEdge> edges = new HashSet<>();
     EPGMGraphHead graphHead = null;
 
-    String[] lines = inputTuple.f1.toString().split("\\R", -1);
+    String[] lines = text.split("\\R", -1);
     for (int i = 0; i < lines.length; i++) {
       String[] fields = lines[i].trim().split(" ");
       GradoopId gradoopId = GradoopId.get();
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.common.model.api.entities.Element;
+
+/**
+ * Selects the integer-like label of a TLF vertex or edge as key, such that it can be joined with
+ * the entries of a TLF dictionary.
+ *
+ * @param <EL> element type
+ */
+public class IntegerLabel<EL extends Element> implements KeySelector<EL, Integer> {
+
+  @Override
+  public Integer getKey(EL element) throws Exception {
+    return Integer.parseInt(element.getLabel());
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.tlf.TLFConstants;
+import org.gradoop.flink.io.impl.tlf.functions.GraphTransactionFromText;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splittable input format reading TLF graphs as {@link GraphTransaction}s.
+ *
+ * The records of this format are delimited by the start tag of a graph at the beginning of a
+ * line. Thus, a file is split at graph boundaries and read by all parallel instances, where each
+ * instance reads the graphs starting within its split.
+ */
+public class TLFGraphInputFormat extends DelimitedInputFormat<GraphTransaction>
+  implements ResultTypeQueryable<GraphTransaction> {
+
+  /**
+   * Record delimiter, i.e. the start tag of a graph at the beginning of a line.
+   */
+  private static final String GRAPH_DELIMITER = "\n" + TLFConstants.START_TAG;
+
+  /**
+   * Creates graph transactions from the text of a TLF graph.
+   */
+  private final GraphTransactionFromText graphTransactionFromText;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the TLF file or directory
+   * @param config Gradoop Flink configuration
+   */
+  public TLFGraphInputFormat(String filePath, GradoopFlinkConfig config) {
+    super(new Path(filePath), null);
+    setDelimiter(GRAPH_DELIMITER);
+    this.graphTransactionFromText = new GraphTransactionFromText(config);
+  }
+
+  /**
+   * Opens the split, starting the search for the first graph a few bytes before the split. The
+   * delimited format skips everything up to the first delimiter that starts within a split, but
+   * reads records only after delimiters ending within a split. Thus, without this shift, a graph
+   * whose start tag spans a split boundary would be read by neither split.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    long shift = Math.min(split.getStart() - 1, getDelimiter().length - 1);
+    super.open(shift <= 0 ? split : new FileInputSplit(split.getSplitNumber(), split.getPath(),
+      split.getStart() - shift, split.getLength() + shift, split.getHostnames()));
+  }
+
+  @Override
+  public GraphTransaction readRecord(GraphTransaction reuse, byte[] bytes, int offset,
+    int numBytes) {
+    String text = new String(bytes, offset, numBytes, StandardCharsets.UTF_8);
+    if (text.trim().isEmpty()) {
+      return null;
+    }
+    // all graphs but the first one of a split lost their start tag to the delimiter
+    if (!text.startsWith(TLFConstants.START_TAG)) {
+      text = TLFConstants.START_TAG + text;
+    }
+    return graphTransactionFromText.parse(text);
+  }
+
+  @Override
+  public TypeInformation<GraphTransaction> getProducedType() {
+    return TypeExtractor.createTypeInfo(GraphTransaction.class);
+  }
+}
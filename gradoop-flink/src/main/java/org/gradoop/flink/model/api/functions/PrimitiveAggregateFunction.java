@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.api.functions;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.PrimitiveAccumulator;
+
+/**
+ * Describes an aggregate function that can aggregate elements into a
+ * {@link PrimitiveAccumulator} instead of a {@link PropertyValue}. Operators may use this to
+ * aggregate many elements without creating a property value per element.
+ *
+ * The function has to remain a valid {@link AggregateFunction}, i.e. the result of
+ * {@link #getAggregate(PrimitiveAccumulator)} has to be the same as aggregating the increments of
+ * all elements via {@link #aggregate(PropertyValue, PropertyValue)}.
+ */
+public interface PrimitiveAggregateFunction extends AggregateFunction {
+
+  /**
+   * Adds the increment of an element to the accumulator.
+   *
+   * @param accumulator accumulator to add to
+   * @param element element used to get the increment
+   */
+  void increment(PrimitiveAccumulator accumulator, Element element);
+
+  /**
+   * Returns the aggregate represented by the accumulator.
+   *
+   * @param accumulator accumulator
+   * @return aggregate or {@code null}, if no increment was added to the accumulator
+   */
+  PropertyValue getAggregate(PrimitiveAccumulator accumulator);
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.functions.epgm;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+
+/**
+ * {@code element => label, property key*}
+ *
+ * @param <EL> element type
+ */
+public class LabelAndPropertyKeys<EL extends Element> implements FlatMapFunction<EL, String> {
+
+  @Override
+  public void flatMap(EL element, Collector<String> out) throws Exception {
+    out.collect(element.getLabel());
+    Properties properties = element.getProperties();
+    if (properties != null) {
+      for (String key : properties.getKeys()) {
+        out.collect(key);
+      }
+    }
+  }
+}
@@ -20,6 +20,7 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,26 +35,35 @@ public class AggregateElements<T extends Element>
   implements GroupCombineFunction<T, Map<String, PropertyValue>> {
 
   /**
-   * Aggregate functions.
+   * Aggregate functions, except for primitive aggregate functions.
    */
   private final Set<AggregateFunction> aggregateFunctions;
 
+  /**
+   * Primitive aggregate functions.
+   */
+  private final PrimitiveAggregateFunction[] primitiveFunctions;
+
   /**
    * Creates a new instance of a AggregateElements group combine function.
    *
    * @param aggregateFunctions aggregate functions
    */
   public AggregateElements(Set<AggregateFunction> aggregateFunctions) {
-    this.aggregateFunctions = aggregateFunctions;
+    this.aggregateFunctions = AggregateUtil.getNonPrimitiveFunctions(aggregateFunctions);
+    this.primitiveFunctions = AggregateUtil.getPrimitiveFunctions(aggregateFunctions);
   }
 
   @Override
   public void combine(Iterable<T> elements, Collector<Map<String, PropertyValue>> out) {
     Map<String, PropertyValue> aggregate = new HashMap<>();
+    PrimitiveAccumulator[] accumulators = AggregateUtil.createAccumulators(primitiveFunctions);
 
     for (T element : elements) {
       aggregate = AggregateUtil.increment(aggregate, element, aggregateFunctions);
+      AggregateUtil.increment(accumulators, element, primitiveFunctions);
     }
+    aggregate = AggregateUtil.addAccumulators(aggregate, accumulators, primitiveFunctions);
 
     if (!aggregate.isEmpty()) {
       out.collect(aggregate);
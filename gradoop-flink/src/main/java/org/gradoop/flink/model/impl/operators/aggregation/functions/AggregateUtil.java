@@ -19,9 +19,11 @@ import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Utility functions for the aggregation operator
@@ -49,6 +51,85 @@ public class AggregateUtil {
     return aggregate;
   }
 
+  /**
+   * Returns the aggregate functions of the given set, that do not implement
+   * {@link PrimitiveAggregateFunction}.
+   *
+   * @param aggregateFunctions aggregate functions
+   * @return non-primitive aggregate functions
+   */
+  static Set<AggregateFunction> getNonPrimitiveFunctions(
+    Set<AggregateFunction> aggregateFunctions) {
+    return aggregateFunctions.stream()
+      .filter(f -> !(f instanceof PrimitiveAggregateFunction))
+      .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the aggregate functions of the given set, that implement
+   * {@link PrimitiveAggregateFunction}.
+   *
+   * @param aggregateFunctions aggregate functions
+   * @return primitive aggregate functions
+   */
+  static PrimitiveAggregateFunction[] getPrimitiveFunctions(
+    Set<AggregateFunction> aggregateFunctions) {
+    return aggregateFunctions.stream()
+      .filter(f -> f instanceof PrimitiveAggregateFunction)
+      .map(f -> (PrimitiveAggregateFunction) f)
+      .toArray(PrimitiveAggregateFunction[]::new);
+  }
+
+  /**
+   * Creates an accumulator for each of the given primitive aggregate functions.
+   *
+   * @param aggregateFunctions primitive aggregate functions
+   * @return accumulators
+   */
+  static PrimitiveAccumulator[] createAccumulators(PrimitiveAggregateFunction[] aggregateFunctions) {
+    PrimitiveAccumulator[] accumulators = new PrimitiveAccumulator[aggregateFunctions.length];
+    for (int i = 0; i < accumulators.length; i++) {
+      accumulators[i] = new PrimitiveAccumulator();
+    }
+    return accumulators;
+  }
+
+  /**
+   * Increments the accumulators by the increment of the primitive aggregate functions on the
+   * element.
+   *
+   * @param accumulators accumulators, one per aggregate function
+   * @param element element to increment with
+   * @param aggregateFunctions primitive aggregate functions
+   */
+  static void increment(PrimitiveAccumulator[] accumulators, Element element,
+    PrimitiveAggregateFunction[] aggregateFunctions) {
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      aggregateFunctions[i].increment(accumulators[i], element);
+    }
+  }
+
+  /**
+   * Adds the aggregates of the accumulators to the aggregate map and resets the accumulators.
+   *
+   * @param aggregate aggregate map
+   * @param accumulators accumulators, one per aggregate function
+   * @param aggregateFunctions primitive aggregate functions
+   * @return aggregate map
+   */
+  static Map<String, PropertyValue> addAccumulators(Map<String, PropertyValue> aggregate,
+    PrimitiveAccumulator[] accumulators, PrimitiveAggregateFunction[] aggregateFunctions) {
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      PrimitiveAggregateFunction aggFunc = aggregateFunctions[i];
+      PropertyValue value = aggFunc.getAggregate(accumulators[i]);
+      if (value != null) {
+        aggregate.merge(aggFunc.getAggregatePropertyKey(), value, aggFunc::aggregate);
+      }
+      accumulators[i].reset();
+    }
+    return aggregate;
+  }
+
   /**
    * Returns the default aggregate value for the given aggregate function
    * or {@link PropertyValue#NULL_VALUE}, if it has no default.
@@ -22,6 +22,7 @@ import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -38,9 +39,13 @@ public class ApplyAggregateElements<T extends Element>
   implements GroupCombineFunction<Tuple2<GradoopId, T>, Tuple2<GradoopId, Map<String, PropertyValue>>> {
 
   /**
-   * Aggregate functions.
+   * Aggregate functions, except for primitive aggregate functions.
    */
   private final Set<AggregateFunction> aggregateFunctions;
+  /**
+   * Primitive aggregate functions.
+   */
+  private final PrimitiveAggregateFunction[] primitiveFunctions;
   /**
    * Reuse tuple.
    */
@@ -52,7 +57,8 @@ public class ApplyAggregateElements<T extends Element>
    * @param aggregateFunctions aggregate functions
    */
   public ApplyAggregateElements(Set<AggregateFunction> aggregateFunctions) {
-    this.aggregateFunctions = aggregateFunctions;
+    this.aggregateFunctions = AggregateUtil.getNonPrimitiveFunctions(aggregateFunctions);
+    this.primitiveFunctions = AggregateUtil.getPrimitiveFunctions(aggregateFunctions);
   }
 
   @Override
@@ -62,13 +68,18 @@ public class ApplyAggregateElements<T extends Element>
     Iterator<Tuple2<GradoopId, T>> iterator = elements.iterator();
     Tuple2<GradoopId, T> graphIdElement = iterator.next();
 
+    PrimitiveAccumulator[] accumulators = AggregateUtil.createAccumulators(primitiveFunctions);
+
     Map<String, PropertyValue> aggregate = AggregateUtil.increment(new HashMap<>(),
       graphIdElement.f1, aggregateFunctions);
+    AggregateUtil.increment(accumulators, graphIdElement.f1, primitiveFunctions);
 
     while (iterator.hasNext()) {
       T element = iterator.next().f1;
       aggregate = AggregateUtil.increment(aggregate, element, aggregateFunctions);
+      AggregateUtil.increment(accumulators, element, primitiveFunctions);
     }
+    aggregate = AggregateUtil.addAccumulators(aggregate, accumulators, primitiveFunctions);
 
     if (!aggregate.isEmpty()) {
       reusePair.f0 = graphIdElement.f0;
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
+
+/**
+ * Mutable intermediate aggregate of a {@link PrimitiveAggregateFunction}. The accumulator holds a
+ * {@code long} and a {@code double} value and the number of aggregated increments.
+ */
+public class PrimitiveAccumulator {
+
+  /**
+   * Aggregated {@code long} value.
+   */
+  private long longValue;
+
+  /**
+   * Aggregated {@code double} value.
+   */
+  private double doubleValue;
+
+  /**
+   * Number of aggregated increments.
+   */
+  private long count;
+
+  /**
+   * Returns the aggregated {@code long} value.
+   *
+   * @return {@code long} value
+   */
+  public long getLong() {
+    return longValue;
+  }
+
+  /**
+   * Sets the aggregated {@code long} value.
+   *
+   * @param longValue {@code long} value
+   */
+  public void setLong(long longValue) {
+    this.longValue = longValue;
+  }
+
+  /**
+   * Returns the aggregated {@code double} value.
+   *
+   * @return {@code double} value
+   */
+  public double getDouble() {
+    return doubleValue;
+  }
+
+  /**
+   * Sets the aggregated {@code double} value.
+   *
+   * @param doubleValue {@code double} value
+   */
+  public void setDouble(double doubleValue) {
+    this.doubleValue = doubleValue;
+  }
+
+  /**
+   * Returns the number of aggregated increments.
+   *
+   * @return number of increments
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Increments the number of aggregated increments by one.
+   */
+  public void incrementCount() {
+    count++;
+  }
+
+  /**
+   * True, if no increment was aggregated.
+   *
+   * @return true, if the accumulator is empty
+   */
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Resets the accumulator to its initial state.
+   */
+  public void reset() {
+    longValue = 0L;
+    doubleValue = 0d;
+    count = 0L;
+  }
+}
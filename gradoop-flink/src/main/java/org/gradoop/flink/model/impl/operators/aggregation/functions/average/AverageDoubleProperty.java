@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.average;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.PrimitiveAccumulator;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Aggregate function that determines the average of the numeric property values of elements,
+ * using a {@link PrimitiveAccumulator} to avoid creating property values per element.
+ * Other than {@link AverageProperty}, the sum is always calculated as a {@code double} value.
+ */
+public class AverageDoubleProperty extends BaseAggregateFunction
+  implements Average, PrimitiveAggregateFunction {
+
+  /**
+   * A property value containing the number {@code 1}, as a {@code long}.
+   */
+  private static final PropertyValue ONE = PropertyValue.create(1L);
+
+  /**
+   * The key used to read the value to aggregate from.
+   */
+  private final String propertyKey;
+
+  /**
+   * Creates a new instance of a AverageDoubleProperty aggregate function with a default aggregate
+   * property key (will be the original property key with prefix {@code avg_}).
+   *
+   * @param propertyKey The key of the property to aggregate.
+   */
+  public AverageDoubleProperty(String propertyKey) {
+    this(propertyKey, "avg_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a AverageDoubleProperty aggregate function.
+   *
+   * @param propertyKey          The key of the property to aggregate.
+   * @param aggregatePropertyKey The propertyKey used to store the aggregate.
+   */
+  public AverageDoubleProperty(String propertyKey, String aggregatePropertyKey) {
+    super(aggregatePropertyKey);
+    this.propertyKey = Objects.requireNonNull(propertyKey);
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    Properties properties = element.getProperties();
+    if (properties == null || !properties.isNumber(propertyKey)) {
+      return Average.IGNORED_VALUE;
+    }
+    return PropertyValue.create(
+      Arrays.asList(PropertyValue.create(properties.getDouble(propertyKey)), ONE));
+  }
+
+  @Override
+  public void increment(PrimitiveAccumulator accumulator, Element element) {
+    Properties properties = element.getProperties();
+    if (properties != null && properties.isNumber(propertyKey)) {
+      accumulator.setDouble(accumulator.getDouble() + properties.getDouble(propertyKey));
+      accumulator.incrementCount();
+    }
+  }
+
+  @Override
+  public PropertyValue getAggregate(PrimitiveAccumulator accumulator) {
+    return accumulator.isEmpty() ? null : PropertyValue.create(Arrays.asList(
+      PropertyValue.create(accumulator.getDouble()), PropertyValue.create(accumulator.getCount())));
+  }
+}
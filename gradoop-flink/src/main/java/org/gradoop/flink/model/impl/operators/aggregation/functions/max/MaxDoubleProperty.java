@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.max;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.PrimitiveAccumulator;
+
+import java.util.Objects;
+
+/**
+ * Aggregate function that determines the maximum of the numeric property values of
+ * elements, using a {@link PrimitiveAccumulator} to avoid creating a property value per element.
+ * Property values may be of any numeric type, the aggregate is a {@code double} value.
+ */
+public class MaxDoubleProperty extends BaseAggregateFunction
+  implements Max, PrimitiveAggregateFunction {
+
+  /**
+   * Property key whose value should be aggregated.
+   */
+  private final String propertyKey;
+
+  /**
+   * Creates a new instance of a MaxDoubleProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public MaxDoubleProperty(String propertyKey) {
+    this(propertyKey, "max_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a MaxDoubleProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public MaxDoubleProperty(String propertyKey, String aggregatePropertyKey) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    this.propertyKey = propertyKey;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    Properties properties = element.getProperties();
+    return properties != null && properties.isNumber(propertyKey) ?
+      PropertyValue.create(properties.getDouble(propertyKey)) : null;
+  }
+
+  @Override
+  public void increment(PrimitiveAccumulator accumulator, Element element) {
+    Properties properties = element.getProperties();
+    if (properties != null && properties.isNumber(propertyKey)) {
+      double value = properties.getDouble(propertyKey);
+      accumulator.setDouble(accumulator.isEmpty() ? value : Math.max(accumulator.getDouble(), value));
+      accumulator.incrementCount();
+    }
+  }
+
+  @Override
+  public PropertyValue getAggregate(PrimitiveAccumulator accumulator) {
+    return accumulator.isEmpty() ? null : PropertyValue.create(accumulator.getDouble());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.min;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.PrimitiveAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.PrimitiveAccumulator;
+
+import java.util.Objects;
+
+/**
+ * Aggregate function that determines the minimum of the integral property values of
+ * elements, using a {@link PrimitiveAccumulator} to avoid creating a property value per element.
+ * Only {@code short}, {@code int} and {@code long} values are aggregated, values of other types,
+ * including floating point numbers, are ignored. The aggregate is a {@code long} value.
+ */
+public class MinLongProperty extends BaseAggregateFunction
+  implements Min, PrimitiveAggregateFunction {
+
+  /**
+   * Property key whose value should be aggregated.
+   */
+  private final String propertyKey;
+
+  /**
+   * Creates a new instance of a MinLongProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public MinLongProperty(String propertyKey) {
+    this(propertyKey, "min_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a MinLongProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public MinLongProperty(String propertyKey, String aggregatePropertyKey) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    this.propertyKey = propertyKey;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    Properties properties = element.getProperties();
+    return properties != null && properties.isIntegral(propertyKey) ?
+      PropertyValue.create(properties.getLong(propertyKey)) : null;
+  }
+
+  @Override
+  public void increment(PrimitiveAccumulator accumulator, Element element) {
+    Properties properties = element.getProperties();
+    if (properties != null && properties.isIntegral(propertyKey)) {
+      long value = properties.getLong(propertyKey);
+      accumulator.setLong(accumulator.isEmpty() ? value : Math.min(accumulator.getLong(), value));
+      accumulator.incrementCount();
+    }
+  }
+
+  @Override
+  public PropertyValue getAggregate(PrimitiveAccumulator accumulator) {
+    return accumulator.isEmpty() ? null : PropertyValue.create(accumulator.getLong());
+  }
+}
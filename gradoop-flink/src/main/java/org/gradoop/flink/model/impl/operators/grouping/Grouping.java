@@ -787,6 +787,16 @@ public abstract class Grouping<
           useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups,
           globalVertexAggregateFunctions, globalEdgeAggregateFunctions);
         break;
+      case GROUP_WITH_HASH_AGGREGATION:
+        if (retainVerticesWithoutGroup) {
+          throw new UnsupportedOperationException("Retaining vertices without group is not yet supported" +
+            " with this strategy.");
+        }
+        groupingOperator = KeyedGroupingUtils.<G, V, E, LG, GC>createInstance(
+          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups,
+          globalVertexAggregateFunctions, globalEdgeAggregateFunctions)
+          .setUseHashAggregation(true);
+        break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
       }
@@ -38,5 +38,13 @@ public enum GroupingStrategy {
    *
    * @see KeyedGrouping
    */
-  GROUP_WITH_KEYFUNCTIONS
+  GROUP_WITH_KEYFUNCTIONS,
+  /**
+   * The grouping implementation based on tuples and key functions, aggregating elements with hash-based
+   * instead of sort-based combine steps. Vertices grouped by keys of a map or set type are reduced
+   * sort-based, since no super-vertex IDs can be derived from those keys.
+   *
+   * @see KeyedGrouping#setUseHashAggregation(boolean)
+   */
+  GROUP_WITH_HASH_AGGREGATION
 }
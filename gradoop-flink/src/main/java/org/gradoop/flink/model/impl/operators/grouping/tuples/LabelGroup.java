@@ -233,8 +233,8 @@ public class LabelGroup
     PropertyValue aggregate;
     for (AggregateFunction valueAggregator : getAggregateFunctions()) {
       value = valueIt.next();
+      aggregate = aggregateIt.next();
       if (!PropertyValue.NULL_VALUE.equals(value)) {
-        aggregate = aggregateIt.next();
         if (!PropertyValue.NULL_VALUE.equals(aggregate)) {
           aggregateIt.set(valueAggregator.aggregate(aggregate, value));
         } else {
@@ -15,9 +15,12 @@
  */
 package org.gradoop.flink.model.impl.operators.keyedgrouping;
 
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
@@ -28,15 +31,24 @@ import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
 import org.gradoop.flink.model.impl.functions.filters.Not;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.AggregateElementTuples;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperEdgeFromTuple;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperIdMapping;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperVertexFromTuple;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromEdges;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromVertices;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.CombineVertexTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.FilterHeavyGroups;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.FilterSuperVertices;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceEdgeTuples;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceVertexTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.SelectHeavyGroups;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.SetSuperVertexIdFromKeys;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateIdField;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.packed.PackedAggregateFunction;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.packed.PackedKey;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.packed.PackedKeyFunction;
 
 import java.util.Collections;
 import java.util.List;
@@ -93,6 +105,36 @@ public class KeyedGrouping<
    */
   private boolean useGroupCombine = true;
 
+  /**
+   * Should vertices be grouped in a way resistant to skewed group sizes?
+   */
+  private boolean useSkewResistantVertexGrouping = false;
+
+  /**
+   * The fraction of vertices sampled to find heavy groups for the skew-resistant vertex grouping.
+   */
+  private double skewSampleFraction = 0.01;
+
+  /**
+   * The minimum number of sampled vertices of a heavy group for the skew-resistant vertex grouping.
+   */
+  private long skewMinSampledVertices = 10;
+
+  /**
+   * Should super-vertex IDs be derived from the values of the grouping keys?
+   */
+  private boolean useKeyHashSuperVertexIds = false;
+
+  /**
+   * Should all keys and aggregate values be packed into a single field each?
+   */
+  private boolean usePackedKeysAndAggregates = false;
+
+  /**
+   * Should vertices and edges be aggregated using hash-based reduce steps instead of sort-based ones?
+   */
+  private boolean useHashAggregation = false;
+
   /**
    * Instantiate this grouping function.
    *
@@ -122,23 +164,81 @@ public class KeyedGrouping<
 
   @Override
   public LG execute(LG graph) {
+    /* Pack all keys and aggregate values to a single field each, if requested or if the tuples would
+       exceed the maximum tuple arity. */
+    final boolean packVertices = usePackedKeysAndAggregates || exceedsMaxArity(
+      GroupingConstants.VERTEX_TUPLE_RESERVED, vertexGroupingKeys, vertexAggregateFunctions);
+    final List<KeyFunction<V, ?>> vertexKeys = packVertices ?
+      Collections.singletonList(new PackedKeyFunction<>(vertexGroupingKeys)) : vertexGroupingKeys;
+    final List<AggregateFunction> vertexAggregates = packVertices ?
+      pack(vertexAggregateFunctions) : vertexAggregateFunctions;
+    final boolean packEdges = usePackedKeysAndAggregates || exceedsMaxArity(
+      GroupingConstants.EDGE_TUPLE_RESERVED, edgeGroupingKeys, edgeAggregateFunctions);
+    final List<KeyFunction<E, ?>> edgeKeys = packEdges && !edgeGroupingKeys.isEmpty() ?
+      Collections.singletonList(new PackedKeyFunction<>(edgeGroupingKeys)) : edgeGroupingKeys;
+    final List<AggregateFunction> edgeAggregates = packEdges ?
+      pack(edgeAggregateFunctions) : edgeAggregateFunctions;
+
     /* First we create tuple representations of each vertex.
        Those tuples will then be grouped by the respective key fields (the fields containing the values
        extracted by the key functions) and reduced to assign a super vertex and to calculate aggregates. */
-    DataSet<Tuple> verticesWithSuperVertex = graph.getVertices()
-      .map(new BuildTuplesFromVertices<>(vertexGroupingKeys, vertexAggregateFunctions))
-      .groupBy(getInternalVertexGroupingKeys())
-      .reduceGroup(new ReduceVertexTuples<>(
-        GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions));
-    /* Extract a mapping from vertex-ID to super-vertex-ID from the result of the vertex-reduce step. */
-    DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId = verticesWithSuperVertex
-      .filter(new Not<>(new FilterSuperVertices<>()))
-      .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    DataSet<Tuple> vertexTuples = graph.getVertices()
+      .map(new BuildTuplesFromVertices<>(vertexKeys, vertexAggregates));
+    DataSet<Tuple> superVertexTuples;
+    DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId;
+    /* Super-vertex IDs can only be derived from keys with a canonical serialized form. Other keys fall
+       back to the sort-based reduction of the vertex-tuples. */
+    final boolean useKeyHashIds = (useHashAggregation || useKeyHashSuperVertexIds) &&
+      vertexKeys.stream().allMatch(k -> KeyedGroupingUtils.hasCanonicalForm(k.getType()));
+
+    if (useHashAggregation && useKeyHashIds) {
+      /* Derive the super-vertex ID from the grouping keys and reduce the vertex-tuples pairwise, which
+         allows a hash-based combine step instead of sorting the vertex-tuples on each partition. */
+      vertexTuples = vertexTuples.map(new SetSuperVertexIdFromKeys<>(vertexKeys));
+      superVertexTuples = vertexTuples
+        .groupBy(getInternalVertexGroupingKeys(vertexKeys.size()))
+        .reduce(new AggregateElementTuples<>(
+          GroupingConstants.VERTEX_TUPLE_RESERVED + vertexKeys.size(), vertexAggregates))
+        .setCombineHint(CombineHint.HASH);
+      idToSuperId = vertexTuples
+        .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    } else if (useKeyHashIds || useSkewResistantVertexGrouping) {
+      if (useKeyHashIds) {
+        /* Derive the super-vertex ID from the grouping keys, so that each vertex-tuple knows the ID of
+           its super-vertex before the tuples are grouped. */
+        vertexTuples = vertexTuples.map(new SetSuperVertexIdFromKeys<>(vertexKeys));
+      }
+      /* Pre-aggregate the vertex-tuples of each group per partition and reduce the partial aggregates
+         to super-vertex tuples. */
+      superVertexTuples = vertexTuples
+        .groupBy(getInternalVertexGroupingKeys(vertexKeys.size()))
+        .reduceGroup(new CombineVertexTuples<>(
+          GroupingConstants.VERTEX_TUPLE_RESERVED + vertexKeys.size(), vertexAggregates))
+        .setCombinable(true);
+      if (useKeyHashIds) {
+        /* The mapping from vertex-ID to super-vertex-ID is known without reducing the vertex-tuples. */
+        idToSuperId = vertexTuples
+          .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+      } else {
+        idToSuperId = buildSkewResistantMapping(vertexTuples, superVertexTuples, vertexKeys.size());
+      }
+    } else {
+      DataSet<Tuple> verticesWithSuperVertex = vertexTuples
+        .groupBy(getInternalVertexGroupingKeys(vertexKeys.size()))
+        .reduceGroup(new ReduceVertexTuples<>(
+          GroupingConstants.VERTEX_TUPLE_RESERVED + vertexKeys.size(), vertexAggregates));
+      superVertexTuples = verticesWithSuperVertex
+        .filter(new FilterSuperVertices<>());
+      /* Extract a mapping from vertex-ID to super-vertex-ID from the result of the vertex-reduce step. */
+      idToSuperId = verticesWithSuperVertex
+        .filter(new Not<>(new FilterSuperVertices<>()))
+        .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    }
 
     /* Create tuple representations of each edge and update the source- and target-ids of those tuples with
        with the mapping extracted in the previous step. Edges will then point from and to super-vertices. */
     DataSet<Tuple> edgesWithUpdatedIds = graph.getEdges()
-      .map(new BuildTuplesFromEdges<>(edgeGroupingKeys, edgeAggregateFunctions))
+      .map(new BuildTuplesFromEdges<>(edgeKeys, edgeAggregates))
       .join(idToSuperId)
       .where(GroupingConstants.EDGE_TUPLE_SOURCEID)
       .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
@@ -149,22 +249,30 @@ public class KeyedGrouping<
       .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_TARGETID));
 
     /* Group the edge-tuples by the key fields and vertex IDs and reduce them to single elements. */
-    DataSet<Tuple> superEdgeTuples = edgesWithUpdatedIds
-      .groupBy(getInternalEdgeGroupingKeys())
-      .reduceGroup(new ReduceEdgeTuples<>(
-        GroupingConstants.EDGE_TUPLE_RESERVED + edgeGroupingKeys.size(), edgeAggregateFunctions))
-      .setCombinable(useGroupCombine);
+    DataSet<Tuple> superEdgeTuples;
+    if (useHashAggregation) {
+      superEdgeTuples = edgesWithUpdatedIds
+        .groupBy(getInternalEdgeGroupingKeys(edgeKeys.size()))
+        .reduce(new AggregateElementTuples<>(
+          GroupingConstants.EDGE_TUPLE_RESERVED + edgeKeys.size(), edgeAggregates))
+        .setCombineHint(useGroupCombine ? CombineHint.HASH : CombineHint.NONE);
+    } else {
+      superEdgeTuples = edgesWithUpdatedIds
+        .groupBy(getInternalEdgeGroupingKeys(edgeKeys.size()))
+        .reduceGroup(new ReduceEdgeTuples<>(
+          GroupingConstants.EDGE_TUPLE_RESERVED + edgeKeys.size(), edgeAggregates))
+        .setCombinable(useGroupCombine);
+    }
 
     /* Rebuild super-vertices from vertex-tuples. Those new vertices contain the data extracted by the key
        functions and aggregated by the aggregate functions. */
-    DataSet<V> superVertices = verticesWithSuperVertex
-      .filter(new FilterSuperVertices<>())
-      .map(new BuildSuperVertexFromTuple<>(vertexGroupingKeys, vertexAggregateFunctions,
+    DataSet<V> superVertices = superVertexTuples
+      .map(new BuildSuperVertexFromTuple<>(vertexKeys, vertexAggregates,
         graph.getFactory().getVertexFactory()));
 
     /* Rebuild super-edges from edge-tuples. */
     DataSet<E> superEdges = superEdgeTuples
-      .map(new BuildSuperEdgeFromTuple<>(edgeGroupingKeys, edgeAggregateFunctions,
+      .map(new BuildSuperEdgeFromTuple<>(edgeKeys, edgeAggregates,
         graph.getFactory().getEdgeFactory()));
 
     return graph.getFactory().fromDataSets(superVertices, superEdges);
@@ -173,21 +281,46 @@ public class KeyedGrouping<
   /**
    * Get the internal grouping keys used for grouping the edge tuples.
    *
+   * @param keyCount The number of grouping key fields.
    * @return The grouping keys, as tuple indices.
    */
-  private int[] getInternalEdgeGroupingKeys() {
-    return IntStream.range(0, GroupingConstants.EDGE_TUPLE_RESERVED + edgeGroupingKeys.size())
-      .toArray();
+  private int[] getInternalEdgeGroupingKeys(int keyCount) {
+    return IntStream.range(0, GroupingConstants.EDGE_TUPLE_RESERVED + keyCount).toArray();
   }
 
   /**
    * Get the internal grouping keys used for grouping the vertex tuples.
    *
+   * @param keyCount The number of grouping key fields.
    * @return The grouping keys, as tuple indices.
    */
-  private int[] getInternalVertexGroupingKeys() {
+  private int[] getInternalVertexGroupingKeys(int keyCount) {
     return IntStream.range(GroupingConstants.VERTEX_TUPLE_RESERVED,
-      GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size()).toArray();
+      GroupingConstants.VERTEX_TUPLE_RESERVED + keyCount).toArray();
+  }
+
+  /**
+   * Check if the tuple-representation of elements would exceed the maximum tuple arity.
+   *
+   * @param reservedFields     The number of reserved fields in the tuple.
+   * @param keys               The grouping keys.
+   * @param aggregateFunctions The aggregate functions.
+   * @return {@code true}, if the keys and aggregate values have to be packed.
+   */
+  private static boolean exceedsMaxArity(int reservedFields, List<?> keys,
+    List<AggregateFunction> aggregateFunctions) {
+    return reservedFields + keys.size() + aggregateFunctions.size() > Tuple.MAX_ARITY;
+  }
+
+  /**
+   * Combine aggregate functions to a single function storing all aggregate values in a single value.
+   *
+   * @param aggregateFunctions The aggregate functions.
+   * @return A list containing the combined function or an empty list, if there are no functions.
+   */
+  private static List<AggregateFunction> pack(List<AggregateFunction> aggregateFunctions) {
+    return aggregateFunctions.isEmpty() ? aggregateFunctions :
+      Collections.singletonList(new PackedAggregateFunction(aggregateFunctions));
   }
 
   /**
@@ -203,4 +336,162 @@ public class KeyedGrouping<
     this.useGroupCombine = useGroupCombine;
     return this;
   }
+
+  /**
+   * Extract the mapping from vertex-ID to super-vertex-ID without sending all vertex-tuples of a heavy
+   * group to a single task. Heavy groups are found in a sample of the vertex-tuples. Their super-vertex
+   * tuples are broadcast to the partitions of the vertex-tuples, so those vertex-tuples are not shuffled.
+   * The vertex-tuples of all other groups are joined with their super-vertex tuples by a partitioned join,
+   * which is balanced, since none of those groups is large.
+   *
+   * @param vertexTuples      The vertex-tuples.
+   * @param superVertexTuples The super-vertex tuples.
+   * @param keyCount          The number of grouping keys.
+   * @return The mapping from vertex-ID to super-vertex-ID.
+   */
+  private DataSet<Tuple2<GradoopId, GradoopId>> buildSkewResistantMapping(DataSet<Tuple> vertexTuples,
+    DataSet<Tuple> superVertexTuples, int keyCount) {
+    final int[] keyFields = getInternalVertexGroupingKeys(keyCount);
+    DataSet<Tuple> heavyGroups = DataSetUtils.sample(vertexTuples, false, skewSampleFraction)
+      .groupBy(keyFields)
+      .reduceGroup(new SelectHeavyGroups<>(skewMinSampledVertices));
+
+    DataSet<Tuple2<GradoopId, GradoopId>> heavyMapping = vertexTuples
+      .filter(new FilterHeavyGroups<>(keyCount, true))
+      .withBroadcastSet(heavyGroups, FilterHeavyGroups.BC_HEAVY_GROUPS)
+      .join(superVertexTuples
+        .filter(new FilterHeavyGroups<>(keyCount, true))
+        .withBroadcastSet(heavyGroups, FilterHeavyGroups.BC_HEAVY_GROUPS),
+        JoinHint.BROADCAST_HASH_SECOND)
+      .where(keyFields).equalTo(keyFields)
+      .with(new BuildSuperIdMapping<>());
+    DataSet<Tuple2<GradoopId, GradoopId>> lightMapping = vertexTuples
+      .filter(new FilterHeavyGroups<>(keyCount, false))
+      .withBroadcastSet(heavyGroups, FilterHeavyGroups.BC_HEAVY_GROUPS)
+      .join(superVertexTuples
+        .filter(new FilterHeavyGroups<>(keyCount, false))
+        .withBroadcastSet(heavyGroups, FilterHeavyGroups.BC_HEAVY_GROUPS),
+        JoinHint.REPARTITION_HASH_SECOND)
+      .where(keyFields).equalTo(keyFields)
+      .with(new BuildSuperIdMapping<>());
+    return heavyMapping.union(lightMapping);
+  }
+
+  /**
+   * Enable or disable the skew-resistant vertex grouping.
+   * <p>
+   * By default, all vertex-tuples of a group are sent to a single reducer, which assigns the
+   * super-vertex ID to each vertex and calculates the aggregate values. For graphs grouped by keys
+   * with few distinct values (e.g. a label or a country), a few reducers will process most of the
+   * vertices.<br>
+   * The skew-resistant grouping pre-aggregates the vertex-tuples of each group on each partition,
+   * therefore the reducer of a group only receives one tuple per partition. Heavy groups are found by
+   * sampling the vertex-tuples (see {@link #setSkewSampling(double, long)}). The vertex-ID to
+   * super-vertex-ID mapping of heavy groups is created by broadcasting their super-vertices and joining
+   * them with the vertex-tuples on each partition, so that those vertex-tuples are never shuffled by their
+   * grouping keys. The mapping of all other groups is created by a partitioned join.
+   * <p>
+   * The skew-resistant grouping is disabled by default.
+   *
+   * @param useSkewResistantVertexGrouping {@code true}, if the skew-resistant grouping should be used.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseSkewResistantVertexGrouping(
+    boolean useSkewResistantVertexGrouping) {
+    this.useSkewResistantVertexGrouping = useSkewResistantVertexGrouping;
+    return this;
+  }
+
+  /**
+   * Configure the sampling of heavy groups for the skew-resistant vertex grouping.
+   * <p>
+   * A group is heavy, if at least {@code minSampledVertices} of its vertices are sampled. With the
+   * default values, a fraction of {@code 0.01} and {@code 10} sampled vertices, groups of about 1000
+   * vertices or more are heavy. The number of broadcast super-vertices is therefore expected to be at most
+   * {@code sampleFraction / minSampledVertices} times the number of vertices.
+   *
+   * @param sampleFraction     The fraction of vertices to sample, between {@code 0} and {@code 1}.
+   * @param minSampledVertices The minimum number of sampled vertices of a heavy group.
+   * @return This operator.
+   * @see #setUseSkewResistantVertexGrouping(boolean)
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setSkewSampling(double sampleFraction, long minSampledVertices) {
+    if (sampleFraction < 0d || sampleFraction > 1d) {
+      throw new IllegalArgumentException("Sample fraction has to be between 0 and 1: " + sampleFraction);
+    }
+    if (minSampledVertices < 1) {
+      throw new IllegalArgumentException("Minimum sample size has to be positive: " + minSampledVertices);
+    }
+    this.skewSampleFraction = sampleFraction;
+    this.skewMinSampledVertices = minSampledVertices;
+    return this;
+  }
+
+  /**
+   * Enable or disable super-vertex IDs derived from the values of the vertex grouping keys.
+   * <p>
+   * By default, a new ID is assigned to each super-vertex while reducing the vertex-tuples of its group.
+   * The reducer therefore has to output every vertex-tuple of the group to provide the vertex-ID to
+   * super-vertex-ID mapping used to update the edges.<br>
+   * With this option enabled, the super-vertex ID is a {@value GradoopId#ID_SIZE} byte hash of the
+   * serialized grouping key values, which is calculated for each vertex without any shuffle. The
+   * vertex-tuples are only reduced (and pre-aggregated per partition) to calculate the super-vertices,
+   * while the mapping used to update the edges is extracted from the vertex-tuples directly.
+   * <p>
+   * Vertices with equal key values are mapped to the same super-vertex ID, also in different executions
+   * of this operator. Property value keys storing maps or sets are serialized in a canonical order. Keys
+   * of a map or set type have no canonical serialized form, the vertex-tuples are then reduced as by
+   * default. This is disabled by default.
+   *
+   * @param useKeyHashSuperVertexIds {@code true}, if super-vertex IDs should be derived from the keys.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseKeyHashSuperVertexIds(boolean useKeyHashSuperVertexIds) {
+    this.useKeyHashSuperVertexIds = useKeyHashSuperVertexIds;
+    return this;
+  }
+
+  /**
+   * Enable or disable packed keys and aggregate values.
+   * <p>
+   * By default, each key value and aggregate value is stored in a separate field of the
+   * tuple-representation of an element. With this option enabled, all key values are serialized to a
+   * single {@link PackedKey}, which is sorted by its bytes, and all aggregate values are stored in a
+   * single list property value. This is useful for many grouping keys, where a single binary key is
+   * compared faster than many key objects.
+   * <p>
+   * Keys and aggregate values are always packed if the tuple-representation would otherwise exceed the
+   * maximum tuple arity of {@value Tuple#MAX_ARITY}. This is disabled by default.
+   *
+   * @param usePackedKeysAndAggregates {@code true}, if keys and aggregate values should be packed.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUsePackedKeysAndAggregates(
+    boolean usePackedKeysAndAggregates) {
+    this.usePackedKeysAndAggregates = usePackedKeysAndAggregates;
+    return this;
+  }
+
+  /**
+   * Enable or disable hash-based aggregation of vertices and edges.
+   * <p>
+   * By default, vertex- and edge-tuples are reduced group-wise, which requires the tuples to be sorted by
+   * their grouping keys on each partition. With this option enabled, tuples are reduced pairwise instead,
+   * which allows Flink to pre-aggregate them in a hash table in managed memory. Each partition then only
+   * ships and sorts a single partial aggregate per group. This is especially useful if the number of
+   * groups is small compared to the number of elements, which is typical for summary graphs.
+   * <p>
+   * Since tuples reduced pairwise can not be assigned a new ID, this option implies super-vertex IDs
+   * derived from the values of the grouping keys (see {@link #setUseKeyHashSuperVertexIds(boolean)}).
+   * If the vertex grouping keys do not support those IDs, i.e. a key is of a map or set type, the
+   * vertex-tuples are reduced group-wise and only the edge-tuples are aggregated hash-based.
+   * The hash-based aggregation is disabled by default.
+   *
+   * @param useHashAggregation {@code true}, if hash-based aggregation should be used.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseHashAggregation(boolean useHashAggregation) {
+    this.useHashAggregation = useHashAggregation;
+    return this;
+  }
 }
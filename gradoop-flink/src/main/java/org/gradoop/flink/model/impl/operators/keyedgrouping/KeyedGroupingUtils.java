@@ -15,10 +15,15 @@
  */
 package org.gradoop.flink.model.impl.operators.keyedgrouping;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.CompositeType;
+import org.apache.flink.api.java.tuple.Tuple;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
@@ -30,8 +35,11 @@ import org.gradoop.flink.model.impl.operators.keyedgrouping.labelspecific.LabelS
 import org.gradoop.flink.model.impl.operators.keyedgrouping.labelspecific.UnlabeledGroupAggregatorWrapper;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.labelspecific.LabelSpecificKeyFunction;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -169,6 +177,99 @@ public final class KeyedGroupingUtils {
       asKeyFunctions(useEdgeLabels, edgeLabelGroups), edgeAggregators);
   }
 
+  /**
+   * Get a key value with a canonical serialized form, i.e. equal key values are serialized to the same
+   * bytes. This is required whenever keys are compared or hashed by their serialized form.<p>
+   * The entries of maps and sets are not serialized in a defined order. Therefore {@link PropertyValue}
+   * keys storing maps or sets, also inside lists or tuples, are replaced by copies whose entries are
+   * ordered by their serialized form. Other key values are returned unchanged.
+   *
+   * @param key The value of a key.
+   * @return The key value or a copy with ordered maps and sets.
+   */
+  public static Object canonicalKey(Object key) {
+    if (key instanceof PropertyValue) {
+      return canonicalValue((PropertyValue) key);
+    } else if (key instanceof Tuple) {
+      final Tuple tuple = (Tuple) key;
+      Tuple canonicalTuple = tuple;
+      for (int i = 0; i < tuple.getArity(); i++) {
+        final Object field = tuple.getField(i);
+        final Object canonicalField = canonicalKey(field);
+        if (canonicalField != field) {
+          if (canonicalTuple == tuple) {
+            canonicalTuple = tuple.copy();
+          }
+          canonicalTuple.setField(canonicalField, i);
+        }
+      }
+      return canonicalTuple;
+    }
+    return key;
+  }
+
+  /**
+   * Check if values of a key type have a canonical serialized form, i.e. if neither the type nor any of its
+   * components is a map or a set. Map and set values stored in {@link PropertyValue}s are handled by
+   * {@link #canonicalKey(Object)}.
+   *
+   * @param keyType The type of a key.
+   * @return {@code true}, if equal key values are serialized to the same bytes.
+   */
+  public static boolean hasCanonicalForm(TypeInformation<?> keyType) {
+    if (Map.class.isAssignableFrom(keyType.getTypeClass()) ||
+      Set.class.isAssignableFrom(keyType.getTypeClass())) {
+      return false;
+    }
+    if (keyType instanceof CompositeType) {
+      final CompositeType<?> compositeType = (CompositeType<?>) keyType;
+      for (int i = 0; i < compositeType.getArity(); i++) {
+        if (!hasCanonicalForm(compositeType.getTypeAt(i))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get a property value with a canonical serialized form, see {@link #canonicalKey(Object)}.
+   *
+   * @param value The property value.
+   * @return The property value or a copy with ordered maps and sets.
+   */
+  private static PropertyValue canonicalValue(PropertyValue value) {
+    if (value.isMap()) {
+      final List<Map.Entry<PropertyValue, PropertyValue>> entries = new ArrayList<>();
+      for (Map.Entry<PropertyValue, PropertyValue> entry : value.getMap().entrySet()) {
+        entries.add(new AbstractMap.SimpleImmutableEntry<>(
+          canonicalValue(entry.getKey()), canonicalValue(entry.getValue())));
+      }
+      entries.sort((first, second) ->
+        Bytes.compareTo(first.getKey().getRawBytes(), second.getKey().getRawBytes()));
+      final Map<PropertyValue, PropertyValue> map = new LinkedHashMap<>();
+      entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+      return PropertyValue.create(map);
+    } else if (value.isSet()) {
+      final List<PropertyValue> elements = new ArrayList<>();
+      for (PropertyValue element : value.getSet()) {
+        elements.add(canonicalValue(element));
+      }
+      elements.sort((first, second) -> Bytes.compareTo(first.getRawBytes(), second.getRawBytes()));
+      return PropertyValue.create(new LinkedHashSet<>(elements));
+    } else if (value.isList()) {
+      final List<PropertyValue> elements = new ArrayList<>();
+      boolean changed = false;
+      for (PropertyValue element : value.getList()) {
+        final PropertyValue canonicalElement = canonicalValue(element);
+        changed |= canonicalElement != element;
+        elements.add(canonicalElement);
+      }
+      return changed ? PropertyValue.create(elements) : value;
+    }
+    return value;
+  }
+
   /**
    * Get the default label group or return {@code null} if other label groups exist in the list.<p>
    * This is used internally to check for label-specific grouping.
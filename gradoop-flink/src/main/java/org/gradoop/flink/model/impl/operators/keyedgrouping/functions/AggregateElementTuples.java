@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.List;
+
+/**
+ * Reduce vertex or edge tuples pairwise, calculating aggregate values. Unlike the group reduce functions,
+ * this function can be used with {@link org.apache.flink.api.java.operators.ReduceOperator reduce
+ * operators}, which support a hash-based combine strategy.<p>
+ * Since tuples are reduced pairwise, no new IDs can be assigned to the reduced tuples. Super-vertex IDs
+ * therefore have to be set before the tuples are reduced (see {@link SetSuperVertexIdFromKeys}).
+ *
+ * @param <T> The tuple type.
+ */
+public class AggregateElementTuples<T extends Tuple> extends ReduceElementTuples<T>
+  implements ReduceFunction<T> {
+
+  /**
+   * Initialize this reduce function.
+   *
+   * @param tupleDataOffset    The data offset of the tuple. This will be the number of reserved fields
+   *                           {@code +} the number of the grouping keys.
+   * @param aggregateFunctions The aggregate functions.
+   */
+  public AggregateElementTuples(int tupleDataOffset, List<AggregateFunction> aggregateFunctions) {
+    super(tupleDataOffset, aggregateFunctions);
+  }
+
+  @Override
+  public T reduce(T value1, T value2) {
+    /* Keep the increments in the second tuple. It is owned by the preceding operator, which may
+       deserialize further records into it and would therefore overwrite the shared null value. */
+    callAggregateFunctions(value1, value2, false);
+    return value1;
+  }
+
+  @Override
+  public void reduce(Iterable<T> input, Collector<T> out) {
+    T first = null;
+    for (T inputTuple : input) {
+      first = first == null ? inputTuple : reduce(first, inputTuple);
+    }
+    if (first != null) {
+      out.collect(first);
+    }
+  }
+}
@@ -15,15 +15,17 @@
  */
 package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
 
-import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateUtil;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.packed.PackedKeyFunction;
 
 import java.util.List;
 import java.util.Objects;
@@ -35,7 +37,7 @@ import java.util.Objects;
  * @param <E> The final element type.
  */
 abstract class BuildSuperElementFromTuple<T extends Tuple, E extends Element>
-  implements MapFunction<T, E>, ResultTypeQueryable<E> {
+  extends RichMapFunction<T, E> implements ResultTypeQueryable<E> {
 
   /**
    * The data offset for tuples. Grouping keys and aggregate values are expected to start at this index.
@@ -67,6 +69,17 @@ abstract class BuildSuperElementFromTuple<T extends Tuple, E extends Element>
     this.aggregateFunctions = Objects.requireNonNull(aggregateFunctions);
   }
 
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    // Packed keys are serialized with the configuration of this job.
+    for (KeyFunction<E, ?> keyFunction : keyFunctions) {
+      if (keyFunction instanceof PackedKeyFunction) {
+        ((PackedKeyFunction<E>) keyFunction).open(getRuntimeContext().getExecutionConfig());
+      }
+    }
+  }
+
   /**
    * Calculate the final aggregate values by calling post-processing functions and set them
    * to the element. Also set grouping keys as properties on the element.
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Build the mapping from vertex-ID to super-vertex-ID by joining vertex-tuples with the super-vertex
+ * tuple of their group.
+ * The left side of this join function is the vertex-tuple and the right side the super-vertex tuple.
+ *
+ * @param <T> The type of the vertex-tuples.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f1")
+public class BuildSuperIdMapping<T extends Tuple>
+  implements JoinFunction<T, T, Tuple2<GradoopId, GradoopId>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> join(T vertexTuple, T superVertexTuple) throws Exception {
+    reuseTuple.f0 = vertexTuple.getField(GroupingConstants.VERTEX_TUPLE_ID);
+    reuseTuple.f1 = superVertexTuple.getField(GroupingConstants.VERTEX_TUPLE_SUPERID);
+    return reuseTuple;
+  }
+}
@@ -15,16 +15,18 @@
  */
 package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
 
-import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.packed.PackedKeyFunction;
 
 import java.util.List;
 import java.util.Objects;
@@ -42,7 +44,7 @@ import static org.gradoop.common.model.impl.properties.PropertyValue.NULL_VALUE;
  * @param <E> The element type.
  */
 public class BuildTuplesFromElements<E extends Element>
-  implements MapFunction<E, Tuple>, ResultTypeQueryable<Tuple> {
+  extends RichMapFunction<E, Tuple> implements ResultTypeQueryable<Tuple> {
 
   /**
    * The grouping key functions.
@@ -109,6 +111,17 @@ public class BuildTuplesFromElements<E extends Element>
     }
   }
 
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    // Packed keys are serialized with the configuration of this job.
+    for (KeyFunction<E, ?> keyFunction : keys) {
+      if (keyFunction instanceof PackedKeyFunction) {
+        ((PackedKeyFunction<E>) keyFunction).open(getRuntimeContext().getExecutionConfig());
+      }
+    }
+  }
+
   @Override
   public TypeInformation<Tuple> getProducedType() {
     return new TupleTypeInfo<>(elementTypes);
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_ID;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_SUPERID;
+
+/**
+ * Reduce vertex tuples to super-vertex tuples, calculating aggregate values. Unlike
+ * {@link ReduceVertexTuples}, this function only outputs the super-vertex tuple of each group and can
+ * therefore be used as a combiner, pre-aggregating the tuples of a group on each partition.
+ * The super vertex is identified by having the same vertex ID and super vertex ID. If the super vertex
+ * ID of the tuples was already set (see {@link SetSuperVertexIdFromKeys}), it is kept, otherwise a new
+ * ID is assigned.
+ *
+ * @param <T> The tuple type.
+ */
+public class CombineVertexTuples<T extends Tuple> extends ReduceElementTuples<T>
+  implements GroupCombineFunction<T, T> {
+
+  /**
+   * Initialize this reduce function.
+   *
+   * @param tupleDataOffset    The data offset of the tuple. This will be
+   *                           {@value GroupingConstants#VERTEX_TUPLE_RESERVED} {@code +}
+   *                           the number of the grouping keys.
+   * @param aggregateFunctions The vertex aggregate functions.
+   */
+  public CombineVertexTuples(int tupleDataOffset, List<AggregateFunction> aggregateFunctions) {
+    super(tupleDataOffset, aggregateFunctions);
+  }
+
+  @Override
+  public void combine(Iterable<T> values, Collector<T> out) throws Exception {
+    out.collect(aggregate(values));
+  }
+
+  @Override
+  public void reduce(Iterable<T> input, Collector<T> out) throws Exception {
+    T superVertexTuple = aggregate(input);
+    GradoopId superVertexId = superVertexTuple.getField(VERTEX_TUPLE_SUPERID);
+    if (superVertexId.equals(GradoopId.NULL_VALUE)) {
+      // No super vertex ID was derived from the grouping keys, assign a new one.
+      superVertexId = GradoopId.get();
+    }
+    superVertexTuple.setField(superVertexId, VERTEX_TUPLE_ID);
+    superVertexTuple.setField(superVertexId, VERTEX_TUPLE_SUPERID);
+    out.collect(superVertexTuple);
+  }
+
+  /**
+   * Aggregate the tuples of a group into a copy of the first tuple of the group.
+   *
+   * @param input The tuples of the group.
+   * @return The copy of the first tuple, storing the aggregate values of the group.
+   * @throws IllegalStateException if the group is empty.
+   */
+  private T aggregate(Iterable<T> input) {
+    T first = null;
+    for (T inputTuple : input) {
+      if (first == null) {
+        // Copy the first tuple and its aggregate values, as aggregate functions may update
+        // these values in place and the input tuples may be reused by the runtime.
+        first = inputTuple.copy();
+        copyAggregateValues(first);
+      } else {
+        // The input tuples are not emitted, their increments do not have to be cleared.
+        callAggregateFunctions(first, inputTuple, false);
+      }
+    }
+    if (first == null) {
+      // This should not happen, since the reduce function can not be called on an empty group.
+      throw new IllegalStateException(
+        "Super-vertex was not initialized. Do not call this function on empty groups.");
+    }
+    return first;
+  }
+}
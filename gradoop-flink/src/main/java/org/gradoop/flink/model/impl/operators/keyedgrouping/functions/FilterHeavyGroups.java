@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.configuration.Configuration;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filter vertex-tuples by the heavy groups selected by {@link SelectHeavyGroups}. The heavy groups are
+ * read from the broadcast set {@value #BC_HEAVY_GROUPS}, this function either keeps the tuples of those
+ * groups or the tuples of all other groups.
+ *
+ * @param <T> The type of the vertex-tuples.
+ */
+public class FilterHeavyGroups<T extends Tuple> extends RichFilterFunction<T> {
+
+  /**
+   * Name of the broadcast set containing one vertex-tuple of each heavy group.
+   */
+  public static final String BC_HEAVY_GROUPS = "heavy_groups";
+
+  /**
+   * The number of grouping keys.
+   */
+  private final int keyCount;
+
+  /**
+   * Should the tuples of heavy groups be kept?
+   */
+  private final boolean keepHeavy;
+
+  /**
+   * The keys of the heavy groups.
+   */
+  private transient Set<Tuple> heavyKeys;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private transient Tuple reuseKey;
+
+  /**
+   * Initialize this filter.
+   *
+   * @param keyCount  The number of grouping keys.
+   * @param keepHeavy {@code true} to keep the tuples of heavy groups, {@code false} to keep all others.
+   */
+  public FilterHeavyGroups(int keyCount, boolean keepHeavy) {
+    this.keyCount = keyCount;
+    this.keepHeavy = keepHeavy;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<T> heavyGroups = getRuntimeContext().getBroadcastVariable(BC_HEAVY_GROUPS);
+    heavyKeys = new HashSet<>();
+    for (T heavyGroup : heavyGroups) {
+      heavyKeys.add(setKey(heavyGroup, Tuple.newInstance(keyCount)));
+    }
+    reuseKey = Tuple.newInstance(keyCount);
+  }
+
+  @Override
+  public boolean filter(T vertexTuple) {
+    return heavyKeys.contains(setKey(vertexTuple, reuseKey)) == keepHeavy;
+  }
+
+  /**
+   * Copy the key fields of a vertex-tuple to a key tuple.
+   *
+   * @param vertexTuple The vertex-tuple.
+   * @param key         The key tuple to update.
+   * @return The updated key tuple.
+   */
+  private Tuple setKey(T vertexTuple, Tuple key) {
+    for (int i = 0; i < keyCount; i++) {
+      key.setField(vertexTuple.getField(GroupingConstants.VERTEX_TUPLE_RESERVED + i), i);
+    }
+    return key;
+  }
+}
@@ -57,21 +57,47 @@ abstract class ReduceElementTuples<T extends Tuple> implements GroupReduceFuncti
    * @param inputTuple       The tuple storing the increment values.
    */
   void callAggregateFunctions(T superTuple, T inputTuple) {
+    callAggregateFunctions(superTuple, inputTuple, true);
+  }
+
+  /**
+   * Calculate aggregate functions and update tuple fields.
+   *
+   * @param superTuple       The tuple storing the current aggregate values.
+   * @param inputTuple       The tuple storing the increment values.
+   * @param clearIncrements  Should the increments be removed from the input tuple?
+   */
+  void callAggregateFunctions(T superTuple, T inputTuple, boolean clearIncrements) {
     // Calculate aggregate values.
     for (int i = 0; i < aggregateFunctions.size(); i++) {
       final PropertyValue aggregate = superTuple.getField(i + tupleDataOffset);
       final PropertyValue increment = inputTuple.getField(i + tupleDataOffset);
-      // Delete the increment from the input tuple as it is not needed anymore.
-      inputTuple.setField(PropertyValue.NULL_VALUE, i + tupleDataOffset);
+      if (clearIncrements) {
+        // Delete the increment from the input tuple as it is not needed anymore.
+        inputTuple.setField(PropertyValue.NULL_VALUE, i + tupleDataOffset);
+      }
       // Do not aggregate if the increment is null.
       if (!increment.equals(PropertyValue.NULL_VALUE)) {
         if (aggregate.equals(PropertyValue.NULL_VALUE)) {
-          // If the aggregate is null, use the increment as the new initial value.
-          superTuple.setField(increment, i + tupleDataOffset);
+          // If the aggregate is null, use the increment as the new initial value. Aggregate
+          // functions may update that value in place, copy it if the input tuple keeps it.
+          superTuple.setField(clearIncrements ? increment : increment.copy(), i + tupleDataOffset);
         } else {
           superTuple.setField(aggregateFunctions.get(i).aggregate(aggregate, increment), i + tupleDataOffset);
         }
       }
     }
   }
+
+  /**
+   * Replace the aggregate values of a tuple by copies.
+   *
+   * @param tuple The tuple storing the aggregate values.
+   */
+  void copyAggregateValues(T tuple) {
+    for (int i = 0; i < aggregateFunctions.size(); i++) {
+      final PropertyValue aggregate = tuple.getField(i + tupleDataOffset);
+      tuple.setField(aggregate.copy(), i + tupleDataOffset);
+    }
+  }
 }
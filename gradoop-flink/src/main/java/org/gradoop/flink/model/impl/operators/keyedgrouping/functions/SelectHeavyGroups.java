@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+
+/**
+ * Select the heavy groups from a sample of vertex-tuples grouped by their keys. A group is heavy, if
+ * it contains at least a minimum number of sampled vertex-tuples. One vertex-tuple of each heavy group
+ * is returned, which identifies the group by its key fields.
+ *
+ * @param <T> The type of the vertex-tuples.
+ */
+public class SelectHeavyGroups<T extends Tuple> implements GroupReduceFunction<T, T> {
+
+  /**
+   * The minimum number of sampled vertex-tuples of a heavy group.
+   */
+  private final long minSampledVertices;
+
+  /**
+   * Initialize this function.
+   *
+   * @param minSampledVertices The minimum number of sampled vertex-tuples of a heavy group.
+   */
+  public SelectHeavyGroups(long minSampledVertices) {
+    this.minSampledVertices = minSampledVertices;
+  }
+
+  @Override
+  public void reduce(Iterable<T> sample, Collector<T> out) {
+    long count = 0;
+    for (T vertexTuple : sample) {
+      count++;
+      if (count == minSampledVertices) {
+        out.collect(vertexTuple);
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGroupingUtils;
+
+import java.util.List;
+
+/**
+ * Set the super vertex ID of a vertex-tuple to an ID derived from the values of its grouping keys.
+ * The key values are serialized and hashed to {@value GradoopId#ID_SIZE} bytes, therefore all
+ * vertex-tuples of a group get the same super vertex ID without being reduced.<p>
+ * {@link PropertyValue} keys containing maps or sets are serialized in a canonical order (see
+ * {@link KeyedGroupingUtils#canonicalKey(Object)}). Keys of a map or set type have no canonical serialized
+ * form and are therefore not supported.
+ *
+ * @param <T> The type of the vertex-tuples.
+ */
+public class SetSuperVertexIdFromKeys<T extends Tuple> extends RichMapFunction<T, T> {
+
+  /**
+   * Initial size of the key buffer.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 64;
+
+  /**
+   * The types of the grouping keys.
+   */
+  private final TypeInformation<?>[] keyTypes;
+
+  /**
+   * The serializers of the grouping keys.
+   */
+  private transient TypeSerializer<Object>[] keySerializers;
+
+  /**
+   * Buffer used to serialize the grouping keys.
+   */
+  private transient DataOutputSerializer keyBuffer;
+
+  /**
+   * The hash function used to derive IDs.
+   */
+  private transient HashFunction hashFunction;
+
+  /**
+   * Initialize this function.
+   *
+   * @param groupingKeys The vertex grouping key functions.
+   * @throws IllegalArgumentException if the type of a key is or contains a map or a set.
+   */
+  public SetSuperVertexIdFromKeys(List<? extends KeyFunction<?, ?>> groupingKeys) {
+    keyTypes = groupingKeys.stream().map(KeyFunction::getType).toArray(TypeInformation[]::new);
+    for (TypeInformation<?> keyType : keyTypes) {
+      if (!KeyedGroupingUtils.hasCanonicalForm(keyType)) {
+        throw new IllegalArgumentException(
+          "Super vertex IDs can not be derived from keys of type " + keyType);
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    keySerializers = new TypeSerializer[keyTypes.length];
+    for (int i = 0; i < keyTypes.length; i++) {
+      keySerializers[i] = (TypeSerializer<Object>) keyTypes[i]
+        .createSerializer(getRuntimeContext().getExecutionConfig());
+    }
+    keyBuffer = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+    hashFunction = Hashing.murmur3_128();
+  }
+
+  @Override
+  public T map(T tuple) throws Exception {
+    keyBuffer.clear();
+    for (int i = 0; i < keySerializers.length; i++) {
+      final Object key = tuple.getField(GroupingConstants.VERTEX_TUPLE_RESERVED + i);
+      keySerializers[i].serialize(KeyedGroupingUtils.canonicalKey(key), keyBuffer);
+    }
+    // Use the first 12 of the 16 hash bytes.
+    byte[] hash = hashFunction.hashBytes(keyBuffer.getSharedBuffer(), 0, keyBuffer.length()).asBytes();
+    tuple.setField(GradoopId.fromByteArray(hash), GroupingConstants.VERTEX_TUPLE_SUPERID);
+    return tuple;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.packed;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * An aggregate function combining other aggregate functions. The internal representation of a
+ * {@link PropertyValue} is a {@link List} containing the aggregate values of the combined functions in
+ * order, i.e. all aggregate values are stored and serialized as a single value.
+ */
+public class PackedAggregateFunction implements AggregateFunction {
+
+  /**
+   * The aggregate functions combined in this function.
+   */
+  private final List<AggregateFunction> componentFunctions;
+
+  /**
+   * Create a new instance of this aggregate function.
+   *
+   * @param aggregateFunctions The aggregate functions to be combined.
+   */
+  public PackedAggregateFunction(List<AggregateFunction> aggregateFunctions) {
+    this.componentFunctions = Objects.requireNonNull(aggregateFunctions);
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    final List<PropertyValue> aggregates = aggregate.getList();
+    final List<PropertyValue> increments = increment.getList();
+    final List<PropertyValue> result = new ArrayList<>(componentFunctions.size());
+    for (int i = 0; i < componentFunctions.size(); i++) {
+      final PropertyValue componentAggregate = aggregates.get(i);
+      final PropertyValue componentIncrement = increments.get(i);
+      // Handle null values the same way as for unpacked aggregate values.
+      if (componentIncrement.isNull()) {
+        result.add(componentAggregate);
+      } else if (componentAggregate.isNull()) {
+        result.add(componentIncrement);
+      } else {
+        result.add(componentFunctions.get(i).aggregate(componentAggregate, componentIncrement));
+      }
+    }
+    return PropertyValue.create(result);
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return componentFunctions.stream()
+      .map(AggregateFunction::getAggregatePropertyKey)
+      .collect(Collectors.joining(","));
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    final List<PropertyValue> increments = new ArrayList<>(componentFunctions.size());
+    for (AggregateFunction function : componentFunctions) {
+      final PropertyValue increment = function.getIncrement(element);
+      increments.add(increment == null ? PropertyValue.NULL_VALUE : increment);
+    }
+    return PropertyValue.create(increments);
+  }
+
+  @Override
+  public <E extends Element> E applyResult(E element, PropertyValue aggregate) {
+    final List<PropertyValue> aggregates = aggregate.getList();
+    for (int i = 0; i < componentFunctions.size(); i++) {
+      final AggregateFunction function = componentFunctions.get(i);
+      final PropertyValue postAggregateValue = function.postAggregate(aggregates.get(i));
+      if (postAggregateValue != null) {
+        element = function.applyResult(element, postAggregateValue.isNull() ?
+          AggregateUtil.getDefaultAggregate(function) : postAggregateValue);
+      }
+    }
+    return element;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.packed;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.CopyableValue;
+import org.apache.flink.types.NormalizableKey;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A grouping key storing the serialized values of multiple grouping keys in a single byte array.
+ * <p>
+ * Keys are compared by their bytes (unsigned, lexicographically). Since this class is a
+ * {@link NormalizableKey}, Flink sorts packed keys by a prefix of their bytes stored in the sort buffer
+ * and only deserializes keys with equal prefixes.
+ */
+public class PackedKey implements NormalizableKey<PackedKey>, CopyableValue<PackedKey> {
+
+  /**
+   * The bytes of the packed keys.
+   */
+  private byte[] bytes;
+
+  /**
+   * Create a new empty packed key. This constructor is required for deserialization.
+   */
+  public PackedKey() {
+    this(new byte[0]);
+  }
+
+  /**
+   * Create a new packed key.
+   *
+   * @param bytes The bytes of the packed keys.
+   */
+  public PackedKey(byte[] bytes) {
+    this.bytes = Objects.requireNonNull(bytes);
+  }
+
+  /**
+   * Get the bytes of the packed keys.
+   *
+   * @return The bytes.
+   */
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  @Override
+  public int compareTo(PackedKey other) {
+    final int commonLength = Math.min(bytes.length, other.bytes.length);
+    for (int i = 0; i < commonLength; i++) {
+      final int result = Integer.compare(bytes[i] & 0xff, other.bytes[i] & 0xff);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return Integer.compare(bytes.length, other.bytes.length);
+  }
+
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    // Keys have a variable length, the normalized key is always a prefix.
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    final int copied = Math.min(len, bytes.length);
+    target.put(offset, bytes, 0, copied);
+    for (int i = copied; i < len; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  @Override
+  public int getBinaryLength() {
+    return -1;
+  }
+
+  @Override
+  public void copyTo(PackedKey target) {
+    target.bytes = Arrays.copyOf(bytes, bytes.length);
+  }
+
+  @Override
+  public PackedKey copy() {
+    return new PackedKey(Arrays.copyOf(bytes, bytes.length));
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    final int length = source.readInt();
+    target.writeInt(length);
+    target.write(source, length);
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(bytes, ((PackedKey) o).bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return "PackedKey" + Arrays.toString(bytes);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.packed;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGroupingUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A key function that combines other key functions by serializing the values of the other key functions
+ * in order to a single {@link PackedKey}.<p>
+ * Unlike the {@link org.gradoop.flink.model.impl.operators.keyedgrouping.keys.CompositeKeyFunction}, the
+ * number of combined key functions is not limited by the maximum tuple arity.<p>
+ * Packed keys are compared by their bytes, therefore the key values are serialized in their canonical form
+ * (see {@link KeyedGroupingUtils#canonicalKey(Object)}). Key functions of a map or set type are not
+ * supported.
+ *
+ * @param <T> The type of the elements to group.
+ */
+public class PackedKeyFunction<T> implements KeyFunction<T, PackedKey> {
+
+  /**
+   * Initial size of the key buffer.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 64;
+
+  /**
+   * A list of grouping key functions combined in this key function.
+   */
+  private final List<? extends KeyFunction<T, ?>> componentFunctions;
+
+  /**
+   * The serializers of the key values, in the order of the key functions.
+   */
+  private transient TypeSerializer<Object>[] serializers;
+
+  /**
+   * Buffer used to serialize the key values.
+   */
+  private transient DataOutputSerializer keyBuffer;
+
+  /**
+   * Create a new instance of this key function.
+   *
+   * @param keyFunctions The key functions to be combined.
+   * @throws IllegalArgumentException if the type of a key is or contains a map or a set.
+   */
+  public PackedKeyFunction(List<? extends KeyFunction<T, ?>> keyFunctions) {
+    this.componentFunctions = Objects.requireNonNull(keyFunctions);
+    for (KeyFunction<T, ?> keyFunction : keyFunctions) {
+      if (!KeyedGroupingUtils.hasCanonicalForm(keyFunction.getType())) {
+        throw new IllegalArgumentException("Keys of type " + keyFunction.getType() + " can not be packed.");
+      }
+    }
+  }
+
+  @Override
+  public PackedKey getKey(T element) {
+    checkOpened();
+    keyBuffer.clear();
+    try {
+      for (int index = 0; index < componentFunctions.size(); index++) {
+        serializers[index].serialize(
+          KeyedGroupingUtils.canonicalKey(componentFunctions.get(index).getKey(element)), keyBuffer);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to serialize key.", e);
+    }
+    return new PackedKey(keyBuffer.getCopyOfBuffer());
+  }
+
+  @Override
+  public void addKeyToElement(T element, Object key) {
+    if (!(key instanceof PackedKey)) {
+      throw new IllegalArgumentException("Invalid type for key: " + key.getClass().getSimpleName());
+    }
+    checkOpened();
+    final DataInputDeserializer input = new DataInputDeserializer(((PackedKey) key).getBytes());
+    try {
+      for (int index = 0; index < componentFunctions.size(); index++) {
+        componentFunctions.get(index).addKeyToElement(element, serializers[index].deserialize(input));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to deserialize key.", e);
+    }
+  }
+
+  @Override
+  public TypeInformation<PackedKey> getType() {
+    return TypeInformation.of(PackedKey.class);
+  }
+
+  /**
+   * Create the serializers of the key values. This has to be called with the configuration of the job
+   * before keys are packed or unpacked, so that keys of generic types are serialized with the types and
+   * serializers registered for that job.
+   *
+   * @param config The execution config of the job using this key function.
+   */
+  @SuppressWarnings("unchecked")
+  public void open(ExecutionConfig config) {
+    final TypeSerializer<Object>[] keySerializers = new TypeSerializer[componentFunctions.size()];
+    for (int index = 0; index < keySerializers.length; index++) {
+      keySerializers[index] =
+        (TypeSerializer<Object>) componentFunctions.get(index).getType().createSerializer(config);
+    }
+    keyBuffer = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+    serializers = keySerializers;
+  }
+
+  /**
+   * Check if the serializers of the key values were created.
+   *
+   * @throws IllegalStateException if this key function was not opened.
+   */
+  private void checkOpened() {
+    if (serializers == null) {
+      throw new IllegalStateException("The packed key function has to be opened before it is used.");
+    }
+  }
+}
@@ -58,9 +58,9 @@ public class EdgeRollUp extends RollUp {
   }
 
   @Override
-  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys) {
-    return graph.groupBy(vertexGroupingKeys, vertexAggregateFunctions, groupingKeys,
-      edgeAggregateFunctions, strategy);
+  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys,
+    List<AggregateFunction> vertexAggregates, List<AggregateFunction> edgeAggregates) {
+    return graph.groupBy(vertexGroupingKeys, vertexAggregates, groupingKeys, edgeAggregates, strategy);
   }
 
   @Override
@@ -26,9 +26,12 @@ import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.SetProperty;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.rollup.functions.FinalizeAggregates;
+import org.gradoop.flink.model.impl.operators.rollup.functions.PartialAggregateFunction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * The rollUp operator generates all combinations of the supplied vertex or edge grouping keys
@@ -64,6 +67,11 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
    */
   protected GroupingStrategy strategy;
 
+  /**
+   * Should coarser groupings be derived from the result of the finest grouping?
+   */
+  private boolean useIncrementalGrouping = false;
+
   /**
    * Creates a rollUp operator instance with {@link GroupingStrategy#GROUP_REDUCE} as grouping
    * strategy. Use {@link RollUp#setGroupingStrategy(GroupingStrategy)} to define a different
@@ -98,11 +106,31 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     DataSet<EPGMVertex> vertices = null;
     DataSet<EPGMEdge> edges = null;
     List<List<String>> groupingKeyCombinations = getGroupingKeyCombinations();
+    // the graph grouped by the finest combination, storing partial aggregate values
+    LogicalGraph finestGroupedGraph = null;
 
     // for each permutation execute a grouping
     for (List<String> combination : groupingKeyCombinations) {
-      // apply the grouping
-      LogicalGraph groupedGraph = applyGrouping(graph, combination);
+      LogicalGraph groupedGraph;
+      if (useIncrementalGrouping) {
+        if (finestGroupedGraph == null) {
+          // the first combination is the finest one, group the input graph only once
+          finestGroupedGraph = applyGrouping(graph, combination,
+            asPartialAggregateFunctions(vertexAggregateFunctions, false),
+            asPartialAggregateFunctions(edgeAggregateFunctions, false));
+          groupedGraph = finestGroupedGraph;
+        } else {
+          // group the super elements of the finest grouping, merging their partial aggregate values
+          groupedGraph = applyGrouping(finestGroupedGraph, combination,
+            asPartialAggregateFunctions(vertexAggregateFunctions, true),
+            asPartialAggregateFunctions(edgeAggregateFunctions, true));
+        }
+        groupedGraph = finalizeAggregates(groupedGraph);
+      } else {
+        // apply the grouping
+        groupedGraph = applyGrouping(graph, combination, vertexAggregateFunctions,
+          edgeAggregateFunctions);
+      }
 
       // add a property to the grouped graph's head to specify the used keys
       PropertyValue groupingKeys = PropertyValue.create(String.join(",", combination));
@@ -155,6 +183,38 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     return combinations;
   }
 
+  /**
+   * Wraps aggregate functions to calculate partial aggregate values.
+   *
+   * @param aggregateFunctions     the aggregate functions to wrap, may be {@code null}
+   * @param mergePartialAggregates whether partial aggregate values of super elements are merged
+   * @return the wrapped aggregate functions
+   */
+  private static List<AggregateFunction> asPartialAggregateFunctions(
+    List<AggregateFunction> aggregateFunctions, boolean mergePartialAggregates) {
+    return aggregateFunctions == null ? null : aggregateFunctions.stream()
+      .map(f -> new PartialAggregateFunction(f, mergePartialAggregates))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Finalizes the partial aggregate values of the super elements of a grouped graph.
+   *
+   * @param graph the grouped graph storing partial aggregate values
+   * @return the grouped graph storing the final aggregate values
+   */
+  private LogicalGraph finalizeAggregates(LogicalGraph graph) {
+    DataSet<EPGMVertex> finalizedVertices = graph.getVertices();
+    if (vertexAggregateFunctions != null && !vertexAggregateFunctions.isEmpty()) {
+      finalizedVertices = finalizedVertices.map(new FinalizeAggregates<>(vertexAggregateFunctions));
+    }
+    DataSet<EPGMEdge> finalizedEdges = graph.getEdges();
+    if (edgeAggregateFunctions != null && !edgeAggregateFunctions.isEmpty()) {
+      finalizedEdges = finalizedEdges.map(new FinalizeAggregates<>(edgeAggregateFunctions));
+    }
+    return graph.getFactory().fromDataSets(graph.getGraphHead(), finalizedVertices, finalizedEdges);
+  }
+
   /**
    * Set the grouping strategy that will be used for each grouping.
    * {@link GroupingStrategy#GROUP_REDUCE} is used as default.
@@ -165,6 +225,26 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     this.strategy = strategy;
   }
 
+  /**
+   * Enable or disable the incremental grouping.
+   * <p>
+   * By default, the input graph is grouped separately for each grouping key combination. With this
+   * option enabled, the input graph is only grouped by the finest combination. Each coarser
+   * combination is applied to the super vertices and super edges of that grouping, merging their
+   * partial aggregate values. Since the grouped graph is usually much smaller than the input graph,
+   * this replaces all but one grouping of the input graph by groupings of a small graph.
+   * <p>
+   * This requires the aggregate functions to be mergeable, i.e. aggregating the partial aggregate
+   * values of groups has to yield the same result as aggregating all increments of those groups.
+   * This holds for the provided aggregate functions, like count, sum, min, max and average. The
+   * incremental grouping is disabled by default.
+   *
+   * @param useIncrementalGrouping {@code true}, if the incremental grouping should be used
+   */
+  public void setUseIncrementalGrouping(boolean useIncrementalGrouping) {
+    this.useIncrementalGrouping = useIncrementalGrouping;
+  }
+
   /**
    * Get the property key that is added to each graph head of the grouped graphs inside the
    * resulting collection to specify which property keys are used to group the graph.
@@ -179,9 +259,12 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
    *
    * @param graph the graph the group-By operator is applied on
    * @param groupingKeys the vertex or edge grouping keys to use
+   * @param vertexAggregates the aggregate functions to apply on super vertices
+   * @param edgeAggregates the aggregate functions to apply on super edges
    * @return the grouped graph
    */
-  abstract LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys);
+  abstract LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys,
+    List<AggregateFunction> vertexAggregates, List<AggregateFunction> edgeAggregates);
 
   /**
    * Returns all vertex or edge grouping key combinations as list. Internally the
@@ -59,9 +59,9 @@ public class VertexRollUp extends RollUp {
   }
 
   @Override
-  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys) {
-    return graph.groupBy(groupingKeys, vertexAggregateFunctions, edgeGroupingKeys,
-      edgeAggregateFunctions, strategy);
+  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys,
+    List<AggregateFunction> vertexAggregates, List<AggregateFunction> edgeAggregates) {
+    return graph.groupBy(groupingKeys, vertexAggregates, edgeGroupingKeys, edgeAggregates, strategy);
   }
 
   @Override
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.rollup.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateUtil;
+
+import java.util.List;
+
+/**
+ * Finalizes the partial aggregate values calculated by {@link PartialAggregateFunction}, by applying
+ * the post-aggregation step of each aggregate function.
+ *
+ * @param <E> The element type.
+ */
+public class FinalizeAggregates<E extends Element> implements MapFunction<E, E> {
+
+  /**
+   * The aggregate functions.
+   */
+  private final List<AggregateFunction> aggregateFunctions;
+
+  /**
+   * Create a new instance of this function.
+   *
+   * @param aggregateFunctions The aggregate functions whose partial aggregate values are finalized.
+   */
+  public FinalizeAggregates(List<AggregateFunction> aggregateFunctions) {
+    this.aggregateFunctions = aggregateFunctions;
+  }
+
+  @Override
+  public E map(E element) {
+    E result = element;
+    for (AggregateFunction function : aggregateFunctions) {
+      final PropertyValue aggregate = result.getPropertyValue(function.getAggregatePropertyKey());
+      if (aggregate == null) {
+        continue;
+      }
+      final PropertyValue postAggregateValue = function.postAggregate(aggregate);
+      if (postAggregateValue != null) {
+        result = function.applyResult(result, postAggregateValue.isNull() ?
+          AggregateUtil.getDefaultAggregate(function) : postAggregateValue);
+      }
+    }
+    return result;
+  }
+}
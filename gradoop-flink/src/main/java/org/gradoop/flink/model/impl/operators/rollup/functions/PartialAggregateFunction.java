@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.rollup.functions;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateUtil;
+
+/**
+ * Wraps an aggregate function to calculate partial aggregate values, which can be merged by grouping
+ * the super-elements again. The post-aggregation step of the wrapped function is not applied, the
+ * partial aggregate values have to be finalized using {@link FinalizeAggregates}.<p>
+ * When merging partial aggregates, the increment of an element is the partial aggregate value stored
+ * on that element, i.e. the value of the aggregate property of a super-element of a finer grouping.
+ */
+public class PartialAggregateFunction implements AggregateFunction, AggregateDefaultValue {
+
+  /**
+   * The wrapped aggregate function.
+   */
+  private final AggregateFunction function;
+
+  /**
+   * Should partial aggregate values stored on the elements be merged?
+   */
+  private final boolean mergePartialAggregates;
+
+  /**
+   * Create a new instance of this wrapper.
+   *
+   * @param function               The wrapped aggregate function.
+   * @param mergePartialAggregates {@code true}, if the partial aggregate values stored on the elements
+   *                               should be merged instead of calculating increments for the elements.
+   */
+  public PartialAggregateFunction(AggregateFunction function, boolean mergePartialAggregates) {
+    this.function = function;
+    this.mergePartialAggregates = mergePartialAggregates;
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    return function.aggregate(aggregate, increment);
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return function.getAggregatePropertyKey();
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    return mergePartialAggregates ? element.getPropertyValue(getAggregatePropertyKey()) :
+      function.getIncrement(element);
+  }
+
+  @Override
+  public boolean isVertexAggregation() {
+    return function.isVertexAggregation();
+  }
+
+  @Override
+  public boolean isEdgeAggregation() {
+    return function.isEdgeAggregation();
+  }
+
+  @Override
+  public PropertyValue getDefaultValue() {
+    return AggregateUtil.getDefaultAggregate(function);
+  }
+}
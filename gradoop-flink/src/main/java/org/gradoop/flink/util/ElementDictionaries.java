@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.util;
+
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.functions.epgm.LabelAndPropertyKeys;
+
+import java.io.IOException;
+
+/**
+ * Utility methods to create {@link ElementDictionary} instances for graphs and datasets.
+ */
+public class ElementDictionaries {
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private ElementDictionaries() {
+  }
+
+  /**
+   * Creates a dictionary containing all labels and property keys of the given logical graph.
+   * This triggers the execution of a Flink job.
+   *
+   * @param graph logical graph
+   * @param <G> graph head type
+   * @param <V> vertex type
+   * @param <E> edge type
+   * @return dictionary
+   * @throws Exception if the execution of the job fails
+   */
+  public static <G extends GraphHead, V extends Vertex, E extends Edge> ElementDictionary fromGraph(
+    LogicalGraphLayout<G, V, E> graph) throws Exception {
+    return ElementDictionary.create(graph.getGraphHead()
+      .flatMap(new LabelAndPropertyKeys<>())
+      .union(graph.getVertices().flatMap(new LabelAndPropertyKeys<>()))
+      .union(graph.getEdges().flatMap(new LabelAndPropertyKeys<>()))
+      .distinct()
+      .collect());
+  }
+
+  /**
+   * Creates a dictionary containing all labels and property keys of the given graph collection.
+   * This triggers the execution of a Flink job.
+   *
+   * @param collection graph collection
+   * @param <G> graph head type
+   * @param <V> vertex type
+   * @param <E> edge type
+   * @return dictionary
+   * @throws Exception if the execution of the job fails
+   */
+  public static <G extends GraphHead, V extends Vertex, E extends Edge>
+  ElementDictionary fromCollection(GraphCollectionLayout<G, V, E> collection) throws Exception {
+    return ElementDictionary.create(collection.getGraphHeads()
+      .flatMap(new LabelAndPropertyKeys<>())
+      .union(collection.getVertices().flatMap(new LabelAndPropertyKeys<>()))
+      .union(collection.getEdges().flatMap(new LabelAndPropertyKeys<>()))
+      .distinct()
+      .collect());
+  }
+
+  /**
+   * Creates a dictionary from the meta data file of a CSV dataset without executing a Flink job.
+   *
+   * @param metaDataPath path of the CSV meta data file
+   * @param hdfsConfig HDFS configuration
+   * @return dictionary
+   * @throws IOException if reading the meta data fails
+   */
+  public static ElementDictionary fromCSVMetaData(String metaDataPath, Configuration hdfsConfig)
+    throws IOException {
+    return ElementDictionary.fromMetaData(
+      new CSVMetaDataSource().readLocal(metaDataPath, hdfsConfig));
+  }
+}
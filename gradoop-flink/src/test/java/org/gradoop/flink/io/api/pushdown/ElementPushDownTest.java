@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.pushdown;
+
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link ElementPushDown} and {@link PropertyPredicate}.
+ */
+public class ElementPushDownTest {
+
+  /**
+   * Test the push-down without restrictions.
+   */
+  @Test
+  public void testAll() {
+    ElementPushDown pushDown = ElementPushDown.all();
+    assertTrue(pushDown.isEmpty());
+    assertTrue(pushDown.acceptsLabel("A"));
+    assertTrue(pushDown.isPropertyNeeded("a"));
+    assertTrue(pushDown.test(createVertex("A", 1)));
+  }
+
+  /**
+   * Test combining label restrictions.
+   */
+  @Test
+  public void testLabels() {
+    ElementPushDown pushDown = ElementPushDown.labelIn("A", "B")
+      .and(ElementPushDown.labelIn("B", "C"));
+    assertTrue(pushDown.hasLabelRestriction());
+    assertFalse(pushDown.acceptsLabel("A"));
+    assertTrue(pushDown.acceptsLabel("B"));
+    assertFalse(pushDown.acceptsLabel("C"));
+  }
+
+  /**
+   * Test property predicates and the projection.
+   */
+  @Test
+  public void testPropertiesAndProjection() {
+    ElementPushDown pushDown = ElementPushDown.all()
+      .where("a", PropertyPredicate.greaterThan(1).and(PropertyPredicate.lessThan(5L)))
+      .project("b");
+
+    assertTrue(pushDown.isPropertyNeeded("a"));
+    assertTrue(pushDown.isPropertyNeeded("b"));
+    assertFalse(pushDown.isPropertyNeeded("c"));
+    assertFalse(pushDown.isPropertyKept("a"));
+
+    assertFalse(pushDown.test(createVertex("A", 1)));
+    assertFalse(pushDown.test(createVertex("A", 5)));
+    assertFalse(pushDown.test(createVertex("A", "3")));
+    assertFalse(pushDown.test(new EPGMVertexFactory().createVertex("A")));
+
+    EPGMVertex vertex = createVertex("A", 3);
+    assertTrue(pushDown.test(vertex));
+    pushDown.applyProjection(vertex.getProperties());
+    assertEquals(1, vertex.getPropertyCount());
+    assertEquals(PropertyValue.create(true), vertex.getPropertyValue("b"));
+  }
+
+  /**
+   * Test equality and negated predicates.
+   */
+  @Test
+  public void testEqualToAndNegate() {
+    PropertyPredicate predicate = PropertyPredicate.equalTo("x");
+    assertTrue(predicate.test(PropertyValue.create("x")));
+    assertFalse(predicate.negate().test(PropertyValue.create("x")));
+    assertTrue(predicate.or(PropertyPredicate.equalTo("y")).test(PropertyValue.create("y")));
+  }
+
+  /**
+   * Creates a vertex with the properties {@code a} and {@code b}.
+   *
+   * @param label vertex label
+   * @param a     value of property {@code a}
+   * @return vertex
+   */
+  private EPGMVertex createVertex(String label, Object a) {
+    Properties properties = Properties.create();
+    properties.set("a", a);
+    properties.set("b", true);
+    return new EPGMVertexFactory().createVertex(label, properties);
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.binary.metadata.BinaryFileFooter;
+import org.gradoop.flink.io.impl.binary.metadata.PropertyStatistics;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test class for {@link BinaryDataSink} and {@link BinaryDataSource}.
+ */
+public class BinaryDataSinkSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test writing and reading a graph collection.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteAndRead() throws Exception {
+    checkWriteAndRead(getSocialNetworkLoader().getGraphCollection(),
+      BinaryConstants.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Test writing and reading a logical graph.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteAndReadLogicalGraph() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    new BinaryDataSink(tmpPath, getConfig()).write(input, true);
+    getExecutionEnvironment().execute();
+
+    LogicalGraph output = new BinaryDataSource(tmpPath, getConfig()).getLogicalGraph();
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  /**
+   * Test writing and reading with blocks smaller than the number of elements per label.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteAndReadWithSmallBlocks() throws Exception {
+    checkWriteAndRead(getSocialNetworkLoader().getGraphCollection(), 2);
+  }
+
+  /**
+   * Test writing and reading properties of different types using the same key, i.e. property
+   * columns of mixed type.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteAndReadWithDifferentPropertyTypes() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g:graph1[" +
+        "(v1:A {keya:1, keyb:2, keyc:\"Foo\"})," +
+        "(v2:A {keya:1.2f, keyb:\"Bar\", keyc:2.3f})," +
+        "(v3:A {keya:\"Bar\", keyb:true})," +
+        "(v4:A)," +
+        "(v1)-[e1:a {keya:14, keyb:3, keyc:\"Foo\"}]->(v1)," +
+        "(v1)-[e2:a {keya:1.1f, keyb:\"Bar\", keyc:2.5f}]->(v1)," +
+        "(v1)-[e3:a {keya:true, keyb:3.13f}]->(v1)" +
+        "]");
+
+    checkWriteAndRead(loader.getGraphCollectionByVariables("g"), 2);
+  }
+
+  /**
+   * Test writing and reading all supported property types.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteAndReadSupportedTypes() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+    Properties properties = Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES);
+
+    EPGMGraphHead graphHead = new EPGMGraphHeadFactory().createGraphHead("G", properties);
+    EPGMVertex vertex = new EPGMVertexFactory().createVertex("V", properties);
+    vertex.addGraphId(graphHead.getId());
+    EPGMEdge edge = new EPGMEdgeFactory()
+      .createEdge("E", vertex.getId(), vertex.getId(), properties);
+    edge.addGraphId(graphHead.getId());
+
+    GraphCollection input = getConfig().getGraphCollectionFactory().fromDataSets(
+      env.fromElements(graphHead), env.fromElements(vertex), env.fromElements(edge));
+
+    checkWriteAndRead(input, BinaryConstants.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Test writing and reading a graph with different labels that are stored in the same
+   * directory because of replaced illegal filename characters.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testDifferentLabelsInSameDirectory() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    EPGMGraphHead graphHead1 = new EPGMGraphHeadFactory().createGraphHead("a<b");
+    EPGMGraphHead graphHead2 = new EPGMGraphHeadFactory().createGraphHead("a>b");
+    DataSet<EPGMGraphHead> graphHeads = env.fromElements(graphHead1, graphHead2);
+
+    EPGMVertex vertex1 = new EPGMVertexFactory().createVertex("B<C");
+    EPGMVertex vertex2 = new EPGMVertexFactory().createVertex("B>C");
+    EPGMVertex vertex3 = new EPGMVertexFactory().createVertex("");
+    DataSet<EPGMVertex> vertices = env.fromElements(vertex1, vertex2, vertex3)
+      .map(new AddToGraph<>(graphHead1))
+      .map(new AddToGraph<>(graphHead2))
+      .withForwardedFields("id;label;properties");
+
+    EPGMEdge edge1 = new EPGMEdgeFactory().createEdge("c<d", vertex1.getId(), vertex2.getId());
+    EPGMEdge edge2 = new EPGMEdgeFactory().createEdge("c>d", vertex2.getId(), vertex1.getId());
+    DataSet<EPGMEdge> edges = env.fromElements(edge1, edge2)
+      .map(new AddToGraph<>(graphHead1))
+      .withForwardedFields("id;label;properties");
+
+    GraphCollection input = getConfig().getGraphCollectionFactory()
+      .fromDataSets(graphHeads, vertices, edges);
+
+    checkWriteAndRead(input, 1);
+  }
+
+  /**
+   * Test the statistics stored in the file footers.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testStatistics() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    String largeString = new String(new char[BinaryConstants.MAX_STATISTICS_VALUE_SIZE])
+      .replace('\0', 'x');
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g[" +
+        "(v1:A {keya:1, keyb:\"Foo\", keyc:1L, keyd:\"a\"})," +
+        "(v2:A {keya:5, keyb:\"Bar\", keyd:\"" + largeString + "\"})," +
+        "(v3:B {keya:-3, keyc:true})," +
+        "(v1)-[:e]->(v2)" +
+        "]");
+
+    DataSink sink = new BinaryDataSink(tmpPath, getConfig(), 1);
+    sink.write(loader.getLogicalGraphByVariable("g"), true);
+    getExecutionEnvironment().execute();
+
+    BinaryDataSource source = new BinaryDataSource(tmpPath, getConfig());
+    BinaryFileFooter vertexStatistics = source.getVertexStatistics();
+    assertEquals(3, vertexStatistics.getCount());
+    assertEquals(2, vertexStatistics.getCount("A"));
+    assertEquals(1, vertexStatistics.getCount("B"));
+    assertEquals(3, vertexStatistics.getBlockCount());
+
+    PropertyStatistics keya = vertexStatistics.getPropertyStatistics("keya");
+    assertEquals(3, keya.getCount());
+    assertEquals(Type.INTEGER.getTypeByte(), keya.getType());
+    assertEquals(PropertyValue.create(-3), keya.getMin());
+    assertEquals(PropertyValue.create(5), keya.getMax());
+
+    PropertyStatistics keyb = vertexStatistics.getPropertyStatistics("keyb");
+    assertEquals(2, keyb.getCount());
+    assertEquals(PropertyValue.create("Bar"), keyb.getMin());
+    assertEquals(PropertyValue.create("Foo"), keyb.getMax());
+
+    PropertyStatistics keyc = vertexStatistics.getPropertyStatistics("keyc");
+    assertEquals(2, keyc.getCount());
+    assertEquals(BinaryConstants.MIXED_TYPE, keyc.getType());
+    assertNull(keyc.getMin());
+
+    PropertyStatistics keyd = vertexStatistics.getPropertyStatistics("keyd");
+    assertEquals(2, keyd.getCount());
+    assertEquals(Type.STRING.getTypeByte(), keyd.getType());
+    assertNull(keyd.getMin());
+    assertNull(keyd.getMax());
+
+    assertEquals(1, source.getEdgeStatistics().getCount("e"));
+    assertEquals(1, source.getGraphHeadStatistics().getCount());
+  }
+
+  /**
+   * Writes and reads the given graph collection and compares the result to the input.
+   *
+   * @param input graph collection
+   * @param blockSize maximum number of elements per block
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkWriteAndRead(GraphCollection input, int blockSize) throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    DataSink sink = new BinaryDataSink(tmpPath, getConfig(), blockSize);
+    sink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    DataSource source = new BinaryDataSource(tmpPath, getConfig());
+    GraphCollection output = source.getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple3;
@@ -42,14 +43,22 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Tests CSVDataSink
  */
@@ -286,6 +295,132 @@ public class CSVDataSinkTest extends CSVTestBase {
     }
   }
 
+  /**
+   * Test writing and reading graphs with the single-pass sink, which derives the meta data while
+   * writing. The graphs use different properties and property types for the same label, such that
+   * the per-task meta data has to be merged.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteSinglePass() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g1:G {keya:1}[" +
+        "(v1:A {keya:1, keyb:2, keyc:\"Foo\"})," +
+        "(v2:A {keya:1.2f, keyb:\"Bar\", keyc:2.3f})," +
+        "(v3:A {keyd:\"Bar\", keyb:true})," +
+        "(v4:A)," +
+        "(v5:B {keya:\"x;y|z\"})," +
+        "(v6:A {keyc:\"Baz\", keye:5L})," +
+        "(v1)-[e1:a {keya:14, keyb:3, keyc:\"Foo\"}]->(v2)," +
+        "(v2)-[e2:a {keya:1.1f, keyb:\"Bar\", keyc:2.5f}]->(v3)," +
+        "(v3)-[e3:a {keya:true, keyb:3.13f}]->(v1)," +
+        "(v4)-[e4:b]->(v5)" +
+        "]" +
+        "g2:G {keyb:\"graph\"}[(v1)-[e1]->(v2)]");
+
+    checkCSVWrite(tmpPath, loader.getGraphCollectionByVariables("g1", "g2"), true);
+    checkCSVWrite(tmpPath, getSocialNetworkLoader().getGraphCollection(), true);
+    checkCSVWrite(tmpPath, getExtendedLogicalGraph(), true);
+  }
+
+  /**
+   * Test that the single-pass sink writes a valid meta data file.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteMetadataCsvSinglePass() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph logicalGraph = getExtendedLogicalGraph();
+    DataSink csvDataSink = new CSVDataSink(tmpPath, getConfig(), true);
+    csvDataSink.write(logicalGraph, true);
+
+    getExecutionEnvironment().execute();
+
+    String metadataFile = tmpPath + "/metadata.csv";
+    String line;
+
+    BufferedReader br = new BufferedReader(new FileReader(metadataFile));
+    while ((line = br.readLine()) != null) {
+      checkMetadataCsvLine(line);
+    }
+  }
+
+  /**
+   * Test that the single-pass sink rewrites exactly the part files whose property layout differs
+   * from the merged meta data when writing with multiple tasks, and removes its staging files.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteSinglePassWithRewrite() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    ExecutionEnvironment env = getExecutionEnvironment();
+    env.setParallelism(4);
+
+    // vertices are distributed round-robin, each task only sees one of both property keys
+    List<EPGMVertex> vertexList = new ArrayList<>();
+    EPGMVertexFactory vertexFactory = new EPGMVertexFactory();
+    for (int i = 0; i < 16; i++) {
+      Properties props = Properties.create();
+      if (i % 2 == 0) {
+        props.set("a", i);
+      } else {
+        props.set("b", "x" + i);
+      }
+      vertexList.add(vertexFactory.createVertex("A", props));
+    }
+    EPGMGraphHead graphHead = new EPGMGraphHeadFactory().createGraphHead("G");
+    DataSet<EPGMVertex> vertices = env.fromCollection(vertexList)
+      .map(new AddToGraph<>(graphHead))
+      .withForwardedFields("id;label;properties");
+
+    LogicalGraph graph = getConfig().getLogicalGraphFactory()
+      .fromDataSets(env.fromElements(graphHead), vertices, env.fromCollection(
+        new ArrayList<>(), TypeInformation.of(EPGMEdge.class)));
+
+    checkCSVWrite(tmpPath, graph, true);
+
+    // each task sees a single key, only the part files of tasks whose key is not the first one
+    // of the merged layout are rewritten, their lines start with an empty value
+    int rewritten = 0;
+    int unchanged = 0;
+    File[] partFiles = new File(tmpPath, "vertices.csv").listFiles();
+    assertNotNull(partFiles);
+    assertEquals(4, partFiles.length);
+    for (File partFile : partFiles) {
+      Set<Boolean> startsEmpty = new HashSet<>();
+      for (String line : Files.readAllLines(partFile.toPath())) {
+        startsEmpty.add(line.split(CSVConstants.TOKEN_DELIMITER)[3]
+          .startsWith(CSVConstants.VALUE_DELIMITER));
+      }
+      assertEquals(1, startsEmpty.size());
+      if (startsEmpty.contains(true)) {
+        rewritten++;
+      } else {
+        unchanged++;
+      }
+    }
+    assertEquals(2, rewritten);
+    assertEquals(2, unchanged);
+
+    // neither the layouts of the tasks nor temporary files of the rewrite are left
+    Set<String> files = new HashSet<>();
+    for (File file : Objects.requireNonNull(temporaryFolder.getRoot().listFiles())) {
+      files.add(file.getName());
+      for (File child : Objects.requireNonNull(file.isDirectory() ?
+        file.listFiles() : new File[0])) {
+        assertTrue(child.getName().matches("[0-9]+"));
+      }
+    }
+    assertEquals(new HashSet<>(Arrays.asList(
+      "graphs.csv", "vertices.csv", "edges.csv", "metadata.csv")), files);
+  }
+
   /**
    * Test writing and reading the given graph to and from CSV
    *
@@ -294,7 +429,20 @@ public class CSVDataSinkTest extends CSVTestBase {
    * @throws Exception if the execution or IO fails.
    */
   private void checkCSVWrite(String tmpPath, LogicalGraph input) throws Exception {
-    checkCSVWrite(tmpPath, input.getCollectionFactory().fromGraph(input));
+    checkCSVWrite(tmpPath, input, false);
+  }
+
+  /**
+   * Test writing and reading the given graph to and from CSV
+   *
+   * @param tmpPath    path to write csv
+   * @param input      logical graph
+   * @param singlePass use the single-pass sink
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkCSVWrite(String tmpPath, LogicalGraph input, boolean singlePass)
+    throws Exception {
+    checkCSVWrite(tmpPath, input.getCollectionFactory().fromGraph(input), singlePass);
   }
 
   /**
@@ -305,7 +453,20 @@ public class CSVDataSinkTest extends CSVTestBase {
    * @throws Exception if the execution or IO fails.
    */
   private void checkCSVWrite(String tmpPath, GraphCollection input) throws Exception {
-    DataSink csvDataSink = new CSVDataSink(tmpPath, getConfig());
+    checkCSVWrite(tmpPath, input, false);
+  }
+
+  /**
+   * Test writing and reading the given graph to and from CSV
+   *
+   * @param tmpPath    path to write csv
+   * @param input      graph collection
+   * @param singlePass use the single-pass sink
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkCSVWrite(String tmpPath, GraphCollection input, boolean singlePass)
+    throws Exception {
+    DataSink csvDataSink = new CSVDataSink(tmpPath, getConfig(), singlePass);
     csvDataSink.write(input, true);
 
     getExecutionEnvironment().execute();
@@ -15,11 +15,26 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.PushDownDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+import org.gradoop.flink.io.api.pushdown.PropertyPredicate;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
 public class CSVDataSourceTest extends CSVTestBase {
 
   @Test
@@ -58,4 +73,74 @@ public class CSVDataSourceTest extends CSVTestBase {
     dataSource.getLogicalGraph().getVertices().collect()
       .forEach(this::checkProperties);
   }
+
+  /**
+   * Test pushing label restrictions into the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithLabelPushDown() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_graph_collection");
+
+    PushDownDataSource dataSource = new CSVDataSource(csvPath, getConfig())
+      .applyGraphHeadPushDown(ElementPushDown.labelIn("g1"))
+      .applyVertexPushDown(ElementPushDown.labelIn("A"))
+      .applyEdgePushDown(ElementPushDown.labelIn("b", "c"));
+    GraphCollection input = dataSource.getGraphCollection();
+
+    assertEquals(Collections.singletonList("g1"), labels(input.getGraphHeads().collect()));
+    assertEquals(Arrays.asList("A", "A"), labels(input.getVertices().collect()));
+    assertEquals(Arrays.asList("b", "b", "b"), labels(input.getEdges().collect()));
+  }
+
+  /**
+   * Test pushing property predicates and a property projection into the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPropertyPushDown() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_graph_collection");
+
+    PushDownDataSource dataSource = new CSVDataSource(csvPath, getConfig())
+      .applyVertexPushDown(ElementPushDown.all()
+        .where("a", PropertyPredicate.greaterThan(2000L))
+        .project("c"));
+    List<EPGMVertex> vertices = dataSource.getGraphCollection().getVertices().collect();
+
+    // the string values of the A vertices are not comparable and therefore rejected
+    assertEquals(Arrays.asList("B", "B"), labels(vertices));
+    for (EPGMVertex vertex : vertices) {
+      assertEquals(1, vertex.getPropertyCount());
+      assertTrue(vertex.hasProperty("c"));
+    }
+  }
+
+  /**
+   * Test that applying a push-down creates a copy of the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testPushDownCreatesCopy() throws Exception {
+    CSVDataSource dataSource =
+      new CSVDataSource(getFilePath("/data/csv/input_graph_collection"), getConfig());
+    CSVDataSource pushedDown = dataSource.applyVertexPushDown(ElementPushDown.labelIn("B"));
+
+    assertFalse(dataSource.isPushDownApplied());
+    assertTrue(pushedDown.isPushDownApplied());
+    assertNotSame(dataSource, pushedDown);
+    assertEquals(5, dataSource.getGraphCollection().getVertices().count());
+  }
+
+  /**
+   * Returns the sorted labels of the given elements.
+   *
+   * @param elements elements
+   * @return sorted labels
+   */
+  private List<String> labels(List<? extends Element> elements) {
+    return elements.stream().map(Element::getLabel).sorted().collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+import org.gradoop.flink.io.api.pushdown.PropertyPredicate;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the byte-level CSV input formats.
+ */
+public class CSVElementInputFormatTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private String metaDataPath;
+
+  private String graphHeadPath;
+
+  private String vertexPath;
+
+  private String edgePath;
+
+  @Before
+  public void writeInput() throws IOException {
+    metaDataPath = write("metadata.csv",
+      "g;Com\\;munity;size:short\n" +
+      "v;Person;name:string,age:int,score:double,flag:boolean,born:localdate\n" +
+      "e;knows;since:long\n");
+    graphHeadPath = write("graphs.csv",
+      "000000000000000000000003;Com\\;munity;7\n");
+    vertexPath = write("vertices.csv",
+      "000000000000000000000001;[000000000000000000000003];Person;" +
+        "Al\\;i\\|ce|42|1.5|true|2020-01-02\r\n" +
+      "\n" +
+      "000000000000000000000002;[];Person;Bob||||\n");
+    edgePath = write("edges.csv",
+      "000000000000000000000004;[000000000000000000000003, 000000000000000000000005];" +
+      "000000000000000000000001;000000000000000000000002;knows;2014");
+  }
+
+  /**
+   * Test parsing of graph ids.
+   */
+  @Test
+  public void testParseGraphIds() {
+    List<String> testData = Arrays.asList(
+      "[]",
+      "[000000000000000000000001]",
+      "[000000000000000000000001,000000000000000000000002]",
+      "[000000000000000000000003, 000000000000000000000001 ,000000000000000000000002]"
+    );
+    GradoopId id1 = GradoopId.fromString("000000000000000000000001");
+    GradoopId id2 = GradoopId.fromString("000000000000000000000002");
+    GradoopId id3 = GradoopId.fromString("000000000000000000000003");
+
+    List<GradoopIdSet> results = Arrays.asList(
+      new GradoopIdSet(),
+      GradoopIdSet.fromExisting(id1),
+      GradoopIdSet.fromExisting(id1, id2),
+      GradoopIdSet.fromExisting(id1, id2, id3)
+    );
+
+    for (int i = 0; i < testData.size(); i++) {
+      byte[] bytes = testData.get(i).getBytes(StandardCharsets.UTF_8);
+      assertEquals(results.get(i), CSVElementInputFormat.parseGraphIds(bytes, 0, bytes.length));
+    }
+  }
+
+  /**
+   * Test reading graph heads, vertices and edges from their byte representation.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testRead() throws Exception {
+    List<EPGMGraphHead> graphHeads = getExecutionEnvironment()
+      .createInput(new CSVGraphHeadInputFormat<>(graphHeadPath, metaDataPath,
+        getConfig().getLogicalGraphFactory().getGraphHeadFactory(), ElementPushDown.all()))
+      .collect();
+    assertEquals(1, graphHeads.size());
+    assertEquals("Com;munity", graphHeads.get(0).getLabel());
+    assertEquals((short) 7, graphHeads.get(0).getPropertyValue("size").getShort());
+
+    List<EPGMVertex> vertices = readVertices(ElementPushDown.all());
+    assertEquals(2, vertices.size());
+
+    EPGMVertex alice = vertices.get(0);
+    assertEquals(GradoopId.fromString("000000000000000000000001"), alice.getId());
+    assertEquals(GradoopIdSet.fromExisting(GradoopId.fromString("000000000000000000000003")),
+      alice.getGraphIds());
+    assertEquals("Person", alice.getLabel());
+    assertEquals("Al;i|ce", alice.getPropertyValue("name").getString());
+    assertEquals(42, alice.getPropertyValue("age").getInt());
+    assertEquals(1.5d, alice.getPropertyValue("score").getDouble(), 0d);
+    assertTrue(alice.getPropertyValue("flag").getBoolean());
+    assertEquals(LocalDate.of(2020, 1, 2), alice.getPropertyValue("born").getDate());
+
+    EPGMVertex bob = vertices.get(1);
+    assertTrue(bob.getGraphIds().isEmpty());
+    assertEquals(1, bob.getPropertyCount());
+    assertEquals("Bob", bob.getPropertyValue("name").getString());
+
+    List<EPGMEdge> edges = getExecutionEnvironment()
+      .createInput(new CSVEdgeInputFormat<>(edgePath, metaDataPath,
+        getConfig().getLogicalGraphFactory().getEdgeFactory(), ElementPushDown.all()))
+      .collect();
+    assertEquals(1, edges.size());
+    EPGMEdge edge = edges.get(0);
+    assertEquals(2, edge.getGraphIds().size());
+    assertEquals(alice.getId(), edge.getSourceId());
+    assertEquals(bob.getId(), edge.getTargetId());
+    assertEquals("knows", edge.getLabel());
+    assertEquals(2014L, edge.getPropertyValue("since").getLong());
+  }
+
+  /**
+   * Test applying label restrictions, property predicates and projections while reading.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPushDown() throws Exception {
+    assertTrue(readVertices(ElementPushDown.labelIn("Company")).isEmpty());
+
+    List<EPGMVertex> vertices = readVertices(ElementPushDown.all()
+      .where("age", PropertyPredicate.greaterThan(40))
+      .project("name"));
+    assertEquals(1, vertices.size());
+    Properties properties = vertices.get(0).getProperties();
+    assertEquals(1, properties.size());
+    assertEquals("Al;i|ce", properties.get("name").getString());
+    assertFalse(properties.containsKey("age"));
+  }
+
+  /**
+   * Reads the vertices of the test input, ordered by id.
+   *
+   * @param pushDown push-down to apply
+   * @return read vertices
+   * @throws Exception on failure
+   */
+  private List<EPGMVertex> readVertices(ElementPushDown pushDown) throws Exception {
+    List<EPGMVertex> vertices = getExecutionEnvironment()
+      .createInput(new CSVVertexInputFormat<>(vertexPath, metaDataPath,
+        getConfig().getLogicalGraphFactory().getVertexFactory(), pushDown))
+      .collect();
+    vertices.sort(Comparator.comparing(EPGMVertex::getId));
+    return vertices;
+  }
+
+  /**
+   * Writes a file to the temporary folder.
+   *
+   * @param name file name
+   * @param content file content
+   * @return path of the file
+   * @throws IOException on failure
+   */
+  private String write(String name, String content) throws IOException {
+    File file = temporaryFolder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file.getPath();
+  }
+}
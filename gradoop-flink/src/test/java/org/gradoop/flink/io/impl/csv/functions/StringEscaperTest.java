@@ -23,6 +23,7 @@ import java.util.stream.Stream;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 /**
  * Tests the string escaper.
@@ -111,6 +112,24 @@ public class StringEscaperTest {
     assertArrayEquals(expected, output);
   }
 
+  /**
+   * Test reading single tokens of an escaped string while ignoring escaped delimiters.
+   */
+  @Test
+  public void testGetToken() {
+    String[] input = Stream.of("", ",abc;;", "ad,", "|\n\n df", "\\c")
+      .map(s -> StringEscaper.escape(s, ESCAPED_CHARACTERS))
+      .toArray(String[]::new);
+
+    for (String delimiter : new String[] {",", "c;", "\n\n.;|"}) {
+      String joined = String.join(delimiter, input);
+      for (int i = 0; i < input.length; i++) {
+        assertEquals(input[i], StringEscaper.getToken(joined, delimiter, i));
+      }
+      assertNull(StringEscaper.getToken(joined, delimiter, input.length));
+    }
+  }
+
   /**
    * Test splitting an escaped string with the escape character in the delimiter.
    */
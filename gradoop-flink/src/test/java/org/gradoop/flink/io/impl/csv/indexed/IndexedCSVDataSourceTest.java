@@ -15,12 +15,23 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.PushDownDataSource;
+import org.gradoop.flink.io.api.pushdown.ElementPushDown;
+import org.gradoop.flink.io.api.pushdown.PropertyPredicate;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.junit.Test;
 
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Test class for indexed csv data source
  */
@@ -84,4 +95,37 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByGraphData(expected));
   }
+
+  /**
+   * Test pushing label restrictions, property predicates and a projection into the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPushDown() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed_graph_collection");
+
+    PushDownDataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig())
+      .applyGraphHeadPushDown(ElementPushDown.all().project())
+      .applyVertexPushDown(ElementPushDown.labelIn("B")
+        .where("b", PropertyPredicate.equalTo(true)))
+      .applyEdgePushDown(ElementPushDown.labelIn("a").project("b"));
+    GraphCollection input = dataSource.getGraphCollection();
+
+    List<EPGMGraphHead> graphHeads = input.getGraphHeads().collect();
+    assertEquals(2, graphHeads.size());
+    graphHeads.forEach(g -> assertEquals(0, g.getPropertyCount()));
+
+    List<EPGMVertex> vertices = input.getVertices().collect();
+    assertEquals(1, vertices.size());
+    assertEquals(1234L, vertices.get(0).getPropertyValue("a").getLong());
+
+    List<EPGMEdge> edges = input.getEdges().collect();
+    assertEquals(3, edges.size());
+    for (EPGMEdge edge : edges) {
+      assertEquals("a", edge.getLabel());
+      assertEquals(1, edge.getPropertyCount());
+      assertTrue(edge.hasProperty("b"));
+    }
+  }
 }
@@ -18,11 +18,28 @@ package org.gradoop.flink.io.impl.tlf;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Label;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 
 public class TLFDataSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void testRead() throws Exception {
     String tlfFile = getFilePath("/data/tlf/io_test_string.tlf");
@@ -91,4 +108,65 @@ public class TLFDataSourceTest extends GradoopFlinkTestBase {
       )
     );
   }
+
+  @Test
+  public void testReadLogicalGraphWithDictionary() throws Exception {
+    String tlfFile = getFilePath("/data/tlf/io_test.tlf");
+    String tlfVertexDictionaryFile = getFilePath("/data/tlf/io_test_vertex_dictionary.tlf");
+    String tlfEdgeDictionaryFile = getFilePath("/data/tlf/io_test_edge_dictionary.tlf");
+
+    DataSource dataSource = new TLFDataSource(tlfFile, tlfVertexDictionaryFile,
+      tlfEdgeDictionaryFile, getConfig());
+    LogicalGraph graph = dataSource.getLogicalGraph();
+
+    String asciiGraphs = "" +
+      "g[(v1:A)-[:a]->(v2:B)-[:b]->(v1)," +
+      "(v3:A)-[:a]->(v4:B)<-[:b]-(v3)]";
+
+    collectAndAssertTrue(graph.equalsByElementData(
+      getLoaderFromString(asciiGraphs).getLogicalGraphByVariable("g")));
+    assertEquals(1, graph.getGraphHead().count());
+  }
+
+  @Test
+  public void testReadWithDictionaryInParallel() throws Exception {
+    int graphCount = 64;
+    int labelCount = 8;
+    StringBuilder graphs = new StringBuilder();
+    StringBuilder vertexDictionary = new StringBuilder();
+    StringBuilder edgeDictionary = new StringBuilder();
+    for (int i = 0; i < graphCount; i++) {
+      graphs.append("t # ").append(i).append('\n')
+        .append("v 0 ").append(i % labelCount).append('\n')
+        .append("v 1 ").append((i + 1) % labelCount).append('\n')
+        .append("e 0 1 ").append(i % labelCount).append('\n');
+    }
+    for (int i = 0; i < labelCount; i++) {
+      vertexDictionary.append("V").append(i).append(' ').append(i).append('\n');
+      edgeDictionary.append("e").append(i).append(' ').append(i).append('\n');
+    }
+    File tlfFile = temporaryFolder.newFile("graphs.tlf");
+    File tlfVertexDictionaryFile = temporaryFolder.newFile("vertex_dictionary.tlf");
+    File tlfEdgeDictionaryFile = temporaryFolder.newFile("edge_dictionary.tlf");
+    Files.write(tlfFile.toPath(), graphs.toString().getBytes(StandardCharsets.UTF_8));
+    Files.write(tlfVertexDictionaryFile.toPath(),
+      vertexDictionary.toString().getBytes(StandardCharsets.UTF_8));
+    Files.write(tlfEdgeDictionaryFile.toPath(),
+      edgeDictionary.toString().getBytes(StandardCharsets.UTF_8));
+
+    getExecutionEnvironment().setParallelism(4);
+    DataSource dataSource = new TLFDataSource(tlfFile.getPath(),
+      tlfVertexDictionaryFile.getPath(), tlfEdgeDictionaryFile.getPath(), getConfig());
+    GraphCollection collection = dataSource.getGraphCollection();
+
+    List<String> vertexLabels = collection.getVertices().map(new Label<>()).collect();
+    List<String> edgeLabels = collection.getEdges().map(new Label<>()).collect();
+
+    assertEquals(2 * graphCount, vertexLabels.size());
+    assertEquals(graphCount, edgeLabels.size());
+    for (int i = 0; i < labelCount; i++) {
+      assertEquals(2 * graphCount / labelCount, Collections.frequency(vertexLabels, "V" + i));
+      assertEquals(graphCount / labelCount, Collections.frequency(edgeLabels, "e" + i));
+    }
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link TLFGraphInputFormat}.
+ */
+public class TLFGraphInputFormatTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test that graphs are read exactly once, if a file is split into many splits.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadSplits() throws Exception {
+    checkReadSplits(getFilePath("/data/tlf/yeast.tlf"), 16);
+  }
+
+  /**
+   * Test that graphs are read exactly once for all split boundaries, including boundaries
+   * within a graph start tag.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadSplitsAtAllBoundaries() throws Exception {
+    String tlfFile = getFilePath("/data/tlf/io_test_string.tlf");
+    for (int numSplits = 1; numSplits <= 20; numSplits++) {
+      checkReadSplits(tlfFile, numSplits);
+    }
+  }
+
+  /**
+   * Reads a TLF file split into the given number of splits and compares the number of read
+   * graphs, vertices and edges to the content of the file.
+   *
+   * @param tlfFile TLF file
+   * @param numSplits number of splits to create
+   * @throws Exception on failure
+   */
+  private void checkReadSplits(String tlfFile, int numSplits) throws Exception {
+    List<String> lines = Files.readAllLines(Paths.get(tlfFile));
+    long expectedGraphs = lines.stream().filter(l -> l.startsWith("t #")).count();
+    long expectedVertices = lines.stream().filter(l -> l.startsWith("v ")).count();
+    long expectedEdges = lines.stream().filter(l -> l.startsWith("e ")).count();
+
+    TLFGraphInputFormat format = new TLFGraphInputFormat(tlfFile, getConfig());
+    format.configure(new Configuration());
+    FileInputSplit[] splits = format.createInputSplits(numSplits);
+
+    long graphs = 0;
+    long vertices = 0;
+    long edges = 0;
+    for (FileInputSplit split : splits) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        GraphTransaction transaction = format.nextRecord(null);
+        if (transaction != null) {
+          graphs++;
+          vertices += transaction.getVertices().size();
+          edges += transaction.getEdges().size();
+        }
+      }
+      format.close();
+    }
+
+    String message = splits.length + " splits";
+    assertEquals(message, expectedGraphs, graphs);
+    assertEquals(message, expectedVertices, vertices);
+    assertEquals(message, expectedEdges, edges);
+  }
+}
@@ -23,19 +23,26 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.SumPlusOne;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageDoubleProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasEdgeLabel;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasLabel;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasVertexLabel;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCount;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxDoubleProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxLongProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinDoubleProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinLongProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumDoubleProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumLongProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
@@ -638,4 +645,54 @@ public class AggregationTest extends GradoopFlinkTestBase {
       new SumPlusOne("a", "sum_a_plusone")));
     collectAndAssertTrue(expected.equalsByGraphData(result));
   }
+
+  /**
+   * Test the primitive aggregate functions for numeric properties with a single graph.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testSingleGraphPrimitiveAggregateFunctions() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(:A {a: 1L, b: 0.5d})-[:e {a: 3, b: 2.5d}]->(:A {a: -4L, b: 10.25d})" +
+      "(:B {a: 2, b: 1.0f})-[:e]->(:B)" +
+      "] expected {sum_a: 2L, min_a: -4L, max_a: 3L, sum_b: 14.25d, min_b: 0.5d, max_b: 10.25d," +
+      " avg_b: 3.5625d} [" +
+      "(:A {a: 1L, b: 0.5d})-[:e {a: 3, b: 2.5d}]->(:A {a: -4L, b: 10.25d})" +
+      "(:B {a: 2, b: 1.0f})-[:e]->(:B)" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+
+    LogicalGraph output = input.aggregate(
+      new SumLongProperty("a"), new MinLongProperty("a"), new MaxLongProperty("a"),
+      new SumDoubleProperty("b"), new MinDoubleProperty("b"), new MaxDoubleProperty("b"),
+      new AverageDoubleProperty("b"));
+
+    collectAndAssertTrue(expected.equalsByData(output));
+  }
+
+  /**
+   * Test that the primitive aggregate functions for integral properties ignore values of other
+   * numeric types.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testSingleGraphPrimitiveAggregateFunctionsWithMixedTypes() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(:A {a: 1L})-[:e {a: 10.5d}]->(:A {a: 3})" +
+      "(:B {a: -2.5f})-[:e {a: \"4\"}]->(:B {a: 2L})" +
+      "] expected {sum_a: 6L, min_a: 1L, max_a: 3L} [" +
+      "(:A {a: 1L})-[:e {a: 10.5d}]->(:A {a: 3})" +
+      "(:B {a: -2.5f})-[:e {a: \"4\"}]->(:B {a: 2L})" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+
+    LogicalGraph output = input.aggregate(
+      new SumLongProperty("a"), new MinLongProperty("a"), new MaxLongProperty("a"));
+
+    collectAndAssertTrue(expected.equalsByData(output));
+  }
 }
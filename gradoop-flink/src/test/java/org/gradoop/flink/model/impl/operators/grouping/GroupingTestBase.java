@@ -1311,6 +1311,43 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
   }
 
+  @Test
+  public void testMultipleAggregatesWithSomeMissingValues() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+        "(v0:Blue {b : 1})" +
+        "(v1:Blue {a : 2, b : 3})" +
+        "(v2:Blue {b : 2})" +
+        "(v3:Red  {a : 1})" +
+        "(v4:Red)" +
+        "(v5:Red  {a : 3, b : 4})" +
+        "(v0)-->(v1)" +
+        "(v2)-->(v3)" +
+        "(v4)-->(v5)" +
+        "]");
+
+    LogicalGraph input  =  loader.getLogicalGraphByVariable("input");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(v00:Blue {maxA : 2, minB : 1})" +
+      "(v01:Red  {maxA : 3, minB : 4})" +
+      "(v00)-->(v00)" +
+      "(v00)-->(v01)" +
+      "(v01)-->(v01)" +
+      "]");
+
+    LogicalGraph output =
+      new GroupingBuilder()
+        .useVertexLabel(true)
+        .addVertexAggregateFunction(new MaxProperty("a", "maxA"))
+        .addVertexAggregateFunction(new MinProperty("b", "minB"))
+        .setStrategy(getStrategy())
+        .<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>build()
+        .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
   @Test
   public void testMultipleAggregators() throws Exception {
     FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
@@ -15,10 +15,20 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping;
 
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.util.ExceptionUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCount;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
@@ -26,8 +36,16 @@ import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Test for the keyed grouping implementation.
@@ -56,4 +74,105 @@ public class TupleBasedGroupingTest extends LabelSpecificGroupingTestBase {
       new KeyedGrouping<>(vertexKeys, vertexAggregations, Collections.emptyList(), edgeAggregations));
     collectAndAssertTrue(result.equalsByElementData(expected));
   }
+
+  /**
+   * Test if the super-vertex IDs derived from the grouping keys are equal for each execution.
+   */
+  @Test
+  public void testKeyHashSuperVertexIdsAreStable() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys =
+      Arrays.asList(GroupingKeys.label(), GroupingKeys.property("city"));
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(vertexKeys, Collections.singletonList(new VertexCount()),
+        Collections.emptyList(), Collections.emptyList());
+    grouping.setUseKeyHashSuperVertexIds(true);
+
+    List<GradoopId> superVertexIds = input.callForGraph(grouping)
+      .getVertices().map(new Id<>()).collect();
+    List<GradoopId> superVertexIdsOfSecondRun = input.callForGraph(grouping)
+      .getVertices().map(new Id<>()).collect();
+    assertEquals(new HashSet<>(superVertexIds), new HashSet<>(superVertexIdsOfSecondRun));
+    assertEquals(superVertexIds.size(), new HashSet<>(superVertexIds).size());
+  }
+
+  /**
+   * Test if super-vertex IDs are not derived from keys of a map type.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testKeyHashSuperVertexIdsWithMapTypedKey() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(Collections.singletonList(new MapKeyFunction()),
+        Collections.singletonList(new VertexCount()), Collections.emptyList(), Collections.emptyList());
+    input.callForGraph(grouping.setUseKeyHashSuperVertexIds(true));
+  }
+
+  /**
+   * Test if super-vertex IDs are not derived from property value keys storing a map, since equal maps
+   * may be serialized to different bytes.
+   */
+  @Test
+  public void testKeyHashSuperVertexIdsWithMapProperty() throws Exception {
+    LogicalGraphFactory factory = getConfig().getLogicalGraphFactory();
+    EPGMVertex vertex = factory.getVertexFactory().createVertex();
+    vertex.setProperty("map", Collections.singletonMap(PropertyValue.create("a"), PropertyValue.create(1)));
+    LogicalGraph input = factory.fromCollections(Collections.singletonList(vertex),
+      Collections.emptyList());
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(Collections.singletonList(new PropertyValueKeyFunction("map")),
+        Collections.singletonList(new VertexCount()), Collections.emptyList(), Collections.emptyList());
+    try {
+      input.callForGraph(grouping.setUseKeyHashSuperVertexIds(true)).getVertices().collect();
+      fail("Map-valued keys should not be supported.");
+    } catch (Exception e) {
+      assertTrue(ExceptionUtils.findThrowable(e, UnsupportedOperationException.class).isPresent());
+    }
+  }
+
+  /**
+   * A key function extracting the properties of a vertex as a map.
+   */
+  private static class MapKeyFunction implements KeyFunction<EPGMVertex, Map<String, Object>> {
+
+    @Override
+    public Map<String, Object> getKey(EPGMVertex element) {
+      return new HashMap<>();
+    }
+
+    @Override
+    public TypeInformation<Map<String, Object>> getType() {
+      return TypeInformation.of(new TypeHint<Map<String, Object>>() { });
+    }
+  }
+
+  /**
+   * A key function extracting a property value of a vertex.
+   */
+  private static class PropertyValueKeyFunction implements KeyFunction<EPGMVertex, PropertyValue> {
+
+    /**
+     * The key of the property.
+     */
+    private final String propertyKey;
+
+    /**
+     * Create a new instance of this key function.
+     *
+     * @param propertyKey The key of the property.
+     */
+    PropertyValueKeyFunction(String propertyKey) {
+      this.propertyKey = propertyKey;
+    }
+
+    @Override
+    public PropertyValue getKey(EPGMVertex element) {
+      return element.getPropertyValue(propertyKey);
+    }
+
+    @Override
+    public TypeInformation<PropertyValue> getType() {
+      return TypeInformation.of(PropertyValue.class);
+    }
+  }
 }
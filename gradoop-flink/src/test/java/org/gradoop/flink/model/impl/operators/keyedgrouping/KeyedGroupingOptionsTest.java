@@ -0,0 +1,346 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping;
+
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test the options of the {@link KeyedGrouping} operator. Each option has to yield the same result as
+ * the grouping with default options.
+ */
+@RunWith(Parameterized.class)
+public class KeyedGroupingOptionsTest extends GradoopFlinkTestBase {
+
+  /**
+   * The name of the tested options.
+   */
+  private final String name;
+
+  /**
+   * A function enabling the tested options on a grouping operator.
+   */
+  private final UnaryOperator<KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph,
+    GraphCollection>> options;
+
+  /**
+   * Create a new instance of this test.
+   *
+   * @param name    The name of the tested options.
+   * @param options A function enabling the tested options on a grouping operator.
+   */
+  public KeyedGroupingOptionsTest(String name, UnaryOperator<KeyedGrouping<EPGMGraphHead, EPGMVertex,
+    EPGMEdge, LogicalGraph, GraphCollection>> options) {
+    this.name = name;
+    this.options = options;
+  }
+
+  /**
+   * Get the tested options.
+   *
+   * @return The name and a function enabling the options for each test.
+   */
+  @Parameterized.Parameters(name = "{0}")
+  public static Iterable<Object[]> parameters() {
+    List<Object[]> parameters = new ArrayList<>();
+    parameters.add(new Object[] {"SkewResistant",
+      options(g -> g.setUseSkewResistantVertexGrouping(true))});
+    parameters.add(new Object[] {"SkewResistantAllSampled",
+      options(g -> g.setUseSkewResistantVertexGrouping(true).setSkewSampling(1d, 2))});
+    parameters.add(new Object[] {"KeyHashSuperVertexIds",
+      options(g -> g.setUseKeyHashSuperVertexIds(true))});
+    parameters.add(new Object[] {"PackedKeysAndAggregates",
+      options(g -> g.setUsePackedKeysAndAggregates(true))});
+    parameters.add(new Object[] {"HashAggregation",
+      options(g -> g.setUseHashAggregation(true))});
+    parameters.add(new Object[] {"HashAggregationWithPackedKeys",
+      options(g -> g.setUseHashAggregation(true).setUsePackedKeysAndAggregates(true))});
+    parameters.add(new Object[] {"WithoutGroupCombine",
+      options(g -> g.setUseGroupCombine(false))});
+    parameters.add(new Object[] {"HashAggregationWithoutGroupCombine",
+      options(g -> g.setUseHashAggregation(true).setUseGroupCombine(false))});
+    return parameters;
+  }
+
+  /**
+   * Test if the grouping with the tested options yields the same result as the default grouping.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testEqualsDefaultGrouping() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys =
+      Arrays.asList(GroupingKeys.label(), GroupingKeys.property("city"));
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> vertexAggregations =
+      Arrays.asList(new VertexCount(), new MinVertexProperty("age"), new SumVertexProperty("age"));
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    assertEqualsDefaultGrouping(input, vertexKeys, vertexAggregations, edgeKeys, edgeAggregations);
+  }
+
+  /**
+   * Test the grouping with the tested options and a vertex grouping key storing maps and sets.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testGroupingByMapAndSetProperties() throws Exception {
+    LogicalGraphFactory factory = getConfig().getLogicalGraphFactory();
+    List<EPGMVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Map<PropertyValue, PropertyValue> map = new HashMap<>();
+      map.put(PropertyValue.create("group"), PropertyValue.create(i % 2));
+      EPGMVertex vertex = factory.getVertexFactory().createVertex();
+      vertex.setProperty("key", i % 3 == 0 ? PropertyValue.create(map) :
+        PropertyValue.create(Collections.singleton(PropertyValue.create(i % 2))));
+      vertices.add(vertex);
+    }
+    List<EPGMEdge> edges = new ArrayList<>();
+    for (int i = 0; i < vertices.size(); i++) {
+      edges.add(factory.getEdgeFactory().createEdge("next", vertices.get(i).getId(),
+        vertices.get((i + 1) % vertices.size()).getId()));
+    }
+    LogicalGraph input = factory.fromCollections(vertices, edges);
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.property("key"));
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> vertexAggregations = Collections.singletonList(new VertexCount());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    assertEqualsDefaultGrouping(input, vertexKeys, vertexAggregations, edgeKeys, edgeAggregations);
+  }
+
+  /**
+   * Test the grouping with the tested options and the {@link GroupingKeys#nothing()} key function, i.e.
+   * with all vertices in a single group.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testGroupVerticesWithEmptyKeyFunction() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.appendToDatabaseFromString("expected[" +
+      "(expectedVertex {vertexCount: 3L})-[{edgeCount: 4L}]->(expectedVertex)" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.nothing());
+    List<AggregateFunction> vertexAggregations = Collections.singletonList(new VertexCount());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    LogicalGraph result = input.callForGraph(options.apply(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, Collections.emptyList(), edgeAggregations)));
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  /**
+   * Test the grouping with the tested options on a graph with one heavy group and many small groups.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testSkewedInput() throws Exception {
+    LogicalGraphFactory factory = getConfig().getLogicalGraphFactory();
+    List<EPGMVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      vertices.add(factory.getVertexFactory().createVertex("heavy"));
+    }
+    for (int i = 0; i < 10; i++) {
+      vertices.add(factory.getVertexFactory().createVertex("light" + i));
+    }
+    List<EPGMEdge> edges = new ArrayList<>();
+    for (int i = 0; i < vertices.size(); i++) {
+      edges.add(factory.getEdgeFactory().createEdge("next", vertices.get(i).getId(),
+        vertices.get((i + 1) % vertices.size()).getId()));
+    }
+    LogicalGraph input = factory.fromCollections(vertices, edges);
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.label());
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> vertexAggregations = Collections.singletonList(new VertexCount());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    assertEqualsDefaultGrouping(input, vertexKeys, vertexAggregations, edgeKeys, edgeAggregations);
+  }
+
+  /**
+   * Test the grouping with the tested options and more aggregate functions than fields of the largest
+   * tuple, for both vertices and edges. All aggregate values of the same kind have to be equal.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testGroupingExceedingMaxTupleArity() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys =
+      Arrays.asList(GroupingKeys.label(), GroupingKeys.property("city"));
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> vertexAggregations = new ArrayList<>();
+    vertexAggregations.add(new VertexCount());
+    List<AggregateFunction> edgeAggregations = new ArrayList<>();
+    for (int i = 0; i < Tuple.MAX_ARITY; i++) {
+      vertexAggregations.add(new MinVertexProperty("age", "minAge" + i));
+      edgeAggregations.add(new EdgeCount("edgeCount" + i));
+    }
+
+    LogicalGraph expected = input.callForGraph(new KeyedGrouping<>(vertexKeys,
+      Arrays.asList(new VertexCount(), new MinVertexProperty("age", "minAge0")), edgeKeys,
+      Collections.singletonList(new EdgeCount("edgeCount0"))));
+    LogicalGraph result = input.callForGraph(options.apply(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations)));
+    // Collect vertices and edges in the same job, as super-vertex IDs may differ between executions.
+    List<EPGMVertex> superVertices = new ArrayList<>();
+    List<EPGMEdge> superEdges = new ArrayList<>();
+    result.getVertices().output(new LocalCollectionOutputFormat<>(superVertices));
+    result.getEdges().output(new LocalCollectionOutputFormat<>(superEdges));
+    getExecutionEnvironment().execute();
+
+    for (EPGMVertex superVertex : superVertices) {
+      for (int i = 1; i < Tuple.MAX_ARITY; i++) {
+        assertEquals(superVertex.getPropertyValue("minAge0"), superVertex.getPropertyValue("minAge" + i));
+        superVertex.removeProperty("minAge" + i);
+      }
+    }
+    for (EPGMEdge superEdge : superEdges) {
+      for (int i = 1; i < Tuple.MAX_ARITY; i++) {
+        assertEquals(superEdge.getPropertyValue("edgeCount0"),
+          superEdge.getPropertyValue("edgeCount" + i));
+        superEdge.removeProperty("edgeCount" + i);
+      }
+    }
+    collectAndAssertTrue(getConfig().getLogicalGraphFactory().fromCollections(superVertices, superEdges)
+      .equalsByElementData(expected));
+  }
+
+  /**
+   * Test the grouping with the tested options on a graph where the elements of each group are spread
+   * over all partitions, so that partial aggregates (or, without a combine step, all elements) of each
+   * group have to be merged after the shuffle.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testAggregationOfGroupsSpanningPartitions() throws Exception {
+    final int vertexCount = 1000;
+    final int groupCount = 4;
+    LogicalGraphFactory factory = getConfig().getLogicalGraphFactory();
+    List<EPGMVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < vertexCount; i++) {
+      EPGMVertex vertex = factory.getVertexFactory().createVertex("group" + i % groupCount);
+      vertex.setProperty("value", (long) i);
+      vertices.add(vertex);
+    }
+    List<EPGMEdge> edges = new ArrayList<>();
+    for (int i = 0; i < vertexCount; i++) {
+      edges.add(factory.getEdgeFactory().createEdge("next", vertices.get(i).getId(),
+        vertices.get((i + 1) % vertexCount).getId()));
+    }
+    LogicalGraph input = factory.fromCollections(vertices, edges);
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.label());
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> vertexAggregations =
+      Arrays.asList(new VertexCount(), new SumVertexProperty("value", "valueSum"));
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    LogicalGraph result = input.callForGraph(options.apply(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations)));
+    List<EPGMVertex> superVertices = new ArrayList<>();
+    List<EPGMEdge> superEdges = new ArrayList<>();
+    result.getVertices().output(new LocalCollectionOutputFormat<>(superVertices));
+    result.getEdges().output(new LocalCollectionOutputFormat<>(superEdges));
+    getExecutionEnvironment().execute();
+
+    assertEquals(groupCount, superVertices.size());
+    Map<GradoopId, Integer> groupOfSuperVertex = new HashMap<>();
+    for (EPGMVertex superVertex : superVertices) {
+      int group = Integer.parseInt(superVertex.getLabel().substring("group".length()));
+      groupOfSuperVertex.put(superVertex.getId(), group);
+      long expectedSum = 0L;
+      for (int i = group; i < vertexCount; i += groupCount) {
+        expectedSum += i;
+      }
+      assertEquals(vertexCount / groupCount, superVertex.getPropertyValue("vertexCount").getLong());
+      assertEquals(expectedSum, superVertex.getPropertyValue("valueSum").getLong());
+    }
+    assertEquals(groupCount, superEdges.size());
+    for (EPGMEdge superEdge : superEdges) {
+      int sourceGroup = groupOfSuperVertex.get(superEdge.getSourceId());
+      assertEquals((sourceGroup + 1) % groupCount, (int) groupOfSuperVertex.get(superEdge.getTargetId()));
+      assertEquals(vertexCount / groupCount, superEdge.getPropertyValue("edgeCount").getLong());
+    }
+  }
+
+  /**
+   * Assert that the grouping with the tested options yields the same result as the default grouping.
+   *
+   * @param input              The graph to group.
+   * @param vertexKeys         The vertex grouping keys.
+   * @param vertexAggregations The vertex aggregate functions.
+   * @param edgeKeys           The edge grouping keys.
+   * @param edgeAggregations   The edge aggregate functions.
+   * @throws Exception when the execution in Flink fails.
+   */
+  private void assertEqualsDefaultGrouping(LogicalGraph input, List<KeyFunction<EPGMVertex, ?>> vertexKeys,
+    List<AggregateFunction> vertexAggregations, List<KeyFunction<EPGMEdge, ?>> edgeKeys,
+    List<AggregateFunction> edgeAggregations) throws Exception {
+    LogicalGraph expected = input.callForGraph(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations));
+    LogicalGraph result = input.callForGraph(options.apply(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations)));
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  /**
+   * Helper function used to infer the type of an options function.
+   *
+   * @param options The options function.
+   * @return The same function.
+   */
+  private static UnaryOperator<KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph,
+    GraphCollection>> options(UnaryOperator<KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge,
+    LogicalGraph, GraphCollection>> options) {
+    return options;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link CombineVertexTuples}.
+ */
+public class CombineVertexTuplesTest {
+
+  /**
+   * The function to test, aggregating the third field of each tuple.
+   */
+  private final CombineVertexTuples<Tuple3<GradoopId, GradoopId, PropertyValue>> combine =
+    new CombineVertexTuples<>(GroupingConstants.VERTEX_TUPLE_RESERVED,
+      Collections.singletonList(new VertexCount()));
+
+  /**
+   * Test if the combined tuple is not affected by the runtime reusing input objects.
+   *
+   * @throws Exception when the function fails
+   */
+  @Test
+  public void testCombineWithObjectReuse() throws Exception {
+    List<Tuple3<GradoopId, GradoopId, PropertyValue>> output = new ArrayList<>();
+    combine.combine(reusingIterable(1L, 2L, 4L), new ListCollector<>(output));
+    assertEquals(1, output.size());
+    assertEquals(PropertyValue.create(7L), output.get(0).f2);
+  }
+
+  /**
+   * Test if the increments of the input tuples are kept, as they are not emitted.
+   *
+   * @throws Exception when the function fails
+   */
+  @Test
+  public void testCombineKeepsInputIncrements() throws Exception {
+    GradoopId superId = GradoopId.get();
+    Tuple3<GradoopId, GradoopId, PropertyValue> first =
+      Tuple3.of(GradoopId.get(), superId, PropertyValue.create(1L));
+    Tuple3<GradoopId, GradoopId, PropertyValue> second =
+      Tuple3.of(GradoopId.get(), superId, PropertyValue.create(2L));
+    List<Tuple3<GradoopId, GradoopId, PropertyValue>> output = new ArrayList<>();
+    combine.combine(Arrays.asList(first, second), new ListCollector<>(output));
+    assertEquals(1, output.size());
+    assertEquals(PropertyValue.create(3L), output.get(0).f2);
+    assertEquals(PropertyValue.create(1L), first.f2);
+    assertEquals(PropertyValue.create(2L), second.f2);
+  }
+
+  /**
+   * Create an iterable returning the same tuple and property value instances for each increment,
+   * like the runtime does with object reuse enabled.
+   *
+   * @param increments The increments of the tuples.
+   * @return An iterable over a single reused tuple.
+   */
+  private static Iterable<Tuple3<GradoopId, GradoopId, PropertyValue>> reusingIterable(
+    long... increments) {
+    final GradoopId superId = GradoopId.get();
+    final Tuple3<GradoopId, GradoopId, PropertyValue> reuse =
+      Tuple3.of(GradoopId.NULL_VALUE, superId, PropertyValue.create(0L));
+    return () -> new Iterator<Tuple3<GradoopId, GradoopId, PropertyValue>>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < increments.length;
+      }
+
+      @Override
+      public Tuple3<GradoopId, GradoopId, PropertyValue> next() {
+        reuse.f0 = GradoopId.get();
+        reuse.f2.setLong(increments[next++]);
+        return reuse;
+      }
+    };
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.packed;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.MapTypeInfo;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys.label;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys.property;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the {@link PackedKeyFunction} key function and the {@link PackedKey}.
+ */
+public class PackedKeyFunctionTest extends GradoopFlinkTestBase {
+
+  /**
+   * A test function instance.
+   */
+  private PackedKeyFunction<EPGMVertex> testFunction;
+
+  /**
+   * A vertex used to test the key function.
+   */
+  private EPGMVertex testVertex;
+
+  /**
+   * Set up this test.
+   */
+  @Before
+  public void setUp() {
+    List<KeyFunction<EPGMVertex, ?>> keys = Arrays.asList(label(), property("a"), property("b"));
+    testFunction = new PackedKeyFunction<>(keys);
+    testFunction.open(getExecutionEnvironment().getConfig());
+    testVertex = getConfig().getLogicalGraphFactory().getVertexFactory().createVertex();
+    testVertex.setLabel("label");
+    testVertex.setProperty("a", PropertyValue.create(1L));
+    testVertex.setProperty("b", PropertyValue.create("valueForB"));
+  }
+
+  /**
+   * Test if keys are equal for equal key values.
+   */
+  @Test
+  public void testKeyEquality() {
+    final PackedKey key = testFunction.getKey(testVertex);
+    assertEquals(key, testFunction.getKey(testVertex));
+    assertEquals(key.hashCode(), testFunction.getKey(testVertex).hashCode());
+    assertEquals(0, key.compareTo(key.copy()));
+
+    testVertex.setProperty("a", PropertyValue.create(2L));
+    assertNotEquals(key, testFunction.getKey(testVertex));
+  }
+
+  /**
+   * Test if the key values are set on an element.
+   */
+  @Test
+  public void testAddKeyToElement() {
+    final PackedKey key = testFunction.getKey(testVertex);
+    EPGMVertex newVertex = getConfig().getLogicalGraphFactory().getVertexFactory().createVertex();
+    testFunction.addKeyToElement(newVertex, key);
+    assertEquals("label", newVertex.getLabel());
+    assertEquals(PropertyValue.create(1L), newVertex.getPropertyValue("a"));
+    assertEquals(PropertyValue.create("valueForB"), newVertex.getPropertyValue("b"));
+    assertEquals(2, newVertex.getPropertyCount());
+  }
+
+  /**
+   * Test if keys are equal for equal map and set values whose entries were inserted in different orders.
+   */
+  @Test
+  public void testKeyEqualityOfMapsAndSets() {
+    final Map<PropertyValue, PropertyValue> map = new LinkedHashMap<>();
+    final Map<PropertyValue, PropertyValue> reorderedMap = new LinkedHashMap<>();
+    final Set<PropertyValue> set = new LinkedHashSet<>();
+    final Set<PropertyValue> reorderedSet = new LinkedHashSet<>();
+    for (int i = 0; i < 10; i++) {
+      map.put(PropertyValue.create("key" + i), PropertyValue.create(i));
+      reorderedMap.put(PropertyValue.create("key" + (9 - i)), PropertyValue.create(9 - i));
+      set.add(PropertyValue.create(i));
+      reorderedSet.add(PropertyValue.create(9 - i));
+    }
+    testVertex.setProperty("a", PropertyValue.create(map));
+    testVertex.setProperty("b", PropertyValue.create(Collections.singletonList(PropertyValue.create(set))));
+    final PackedKey key = testFunction.getKey(testVertex);
+
+    testVertex.setProperty("a", PropertyValue.create(reorderedMap));
+    testVertex.setProperty("b",
+      PropertyValue.create(Collections.singletonList(PropertyValue.create(reorderedSet))));
+    assertEquals(key, testFunction.getKey(testVertex));
+    assertEquals(key.hashCode(), testFunction.getKey(testVertex).hashCode());
+
+    EPGMVertex newVertex = getConfig().getLogicalGraphFactory().getVertexFactory().createVertex();
+    testFunction.addKeyToElement(newVertex, key);
+    assertEquals(map, newVertex.getPropertyValue("a").getMap());
+    assertEquals(set, newVertex.getPropertyValue("b").getList().get(0).getSet());
+  }
+
+  /**
+   * Test if key functions of a map type are rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMapKeyType() {
+    new PackedKeyFunction<>(Collections.singletonList(new MapKeyFunction()));
+  }
+
+  /**
+   * Test if the key function can not be used without being opened.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testGetKeyWithoutOpen() {
+    new PackedKeyFunction<EPGMVertex>(Collections.singletonList(label())).getKey(testVertex);
+  }
+
+  /**
+   * Test if keys are serialized with the serializers registered in the execution config.
+   */
+  @Test
+  public void testSerializersOfExecutionConfig() {
+    final ExecutionConfig config = new ExecutionConfig();
+    config.registerTypeWithKryoSerializer(CustomKey.class, CustomKeySerializer.class);
+    final PackedKeyFunction<EPGMVertex> function =
+      new PackedKeyFunction<>(Collections.singletonList(new CustomKeyFunction()));
+    function.open(config);
+    final String bytes = new String(function.getKey(testVertex).getBytes(), StandardCharsets.UTF_8);
+    assertTrue(bytes.contains(CustomKeySerializer.MARKER));
+  }
+
+  /**
+   * Test if normalized keys are ordered like the keys.
+   */
+  @Test
+  public void testNormalizedKeyOrder() {
+    final PackedKey smaller = new PackedKey(new byte[] {1, 2, 3});
+    final PackedKey larger = new PackedKey(new byte[] {1, (byte) 0xff});
+    assertTrue(smaller.compareTo(larger) < 0);
+    assertTrue(larger.compareTo(smaller) > 0);
+    assertTrue(new PackedKey(new byte[] {1}).compareTo(smaller) < 0);
+
+    final int length = 2;
+    final MemorySegment segment = MemorySegmentFactory.wrap(new byte[2 * length]);
+    smaller.copyNormalizedKey(segment, 0, length);
+    larger.copyNormalizedKey(segment, length, length);
+    assertTrue(segment.compare(segment, 0, length, length) < 0);
+  }
+
+  /**
+   * A key of a generic type.
+   */
+  public static class CustomKey {
+  }
+
+  /**
+   * A Kryo serializer for {@link CustomKey}, writing a marker.
+   */
+  public static class CustomKeySerializer extends Serializer<CustomKey> {
+
+    /**
+     * The marker written for each key.
+     */
+    static final String MARKER = "customKey";
+
+    @Override
+    public void write(Kryo kryo, Output output, CustomKey key) {
+      output.writeBytes(MARKER.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CustomKey read(Kryo kryo, Input input, Class<CustomKey> type) {
+      input.readBytes(MARKER.length());
+      return new CustomKey();
+    }
+  }
+
+  /**
+   * A key function returning a {@link CustomKey}.
+   */
+  private static class CustomKeyFunction implements KeyFunction<EPGMVertex, CustomKey> {
+
+    @Override
+    public CustomKey getKey(EPGMVertex element) {
+      return new CustomKey();
+    }
+
+    @Override
+    public TypeInformation<CustomKey> getType() {
+      return new GenericTypeInfo<>(CustomKey.class);
+    }
+  }
+
+  /**
+   * A key function returning a {@link Map}.
+   */
+  private static class MapKeyFunction implements KeyFunction<EPGMVertex, Map<String, String>> {
+
+    @Override
+    public Map<String, String> getKey(EPGMVertex element) {
+      return Collections.emptyMap();
+    }
+
+    @Override
+    public TypeInformation<Map<String, String>> getType() {
+      return new MapTypeInfo<>(String.class, String.class);
+    }
+  }
+}
@@ -15,13 +15,27 @@
  */
 package org.gradoop.flink.model.impl.operators.rollup;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
@@ -29,12 +43,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * A test for {@link RollUp}, calling the operator and checking if the result is
  * correct.
  */
 public class RollUpTest extends GradoopFlinkTestBase {
 
+  /**
+   * The grouping strategies used to test the incremental rollUp.
+   */
+  private static final GroupingStrategy[] STRATEGIES = new GroupingStrategy[] {
+    GroupingStrategy.GROUP_REDUCE, GroupingStrategy.GROUP_WITH_KEYFUNCTIONS};
+
   /**
    * Executes a rollUp on vertices using a single grouping key and checks if the result
    * is correct.
@@ -244,4 +266,95 @@ public class RollUpTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(output.equalsByGraphData(expected));
   }
+
+  /**
+   * Executes an incremental rollUp on vertices and checks if the result is equal to the result of
+   * the default rollUp for both grouping implementations.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testIncrementalVertexRollUp() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+
+    List<String> vertexGK = Arrays.asList(Grouping.LABEL_SYMBOL, "gender", "city");
+    List<String> edgeGK = Collections.singletonList(Grouping.LABEL_SYMBOL);
+
+    for (GroupingStrategy strategy : STRATEGIES) {
+      RollUp rollUp = new VertexRollUp(vertexGK, getVertexAggregates(), edgeGK, getEdgeAggregates());
+      rollUp.setGroupingStrategy(strategy);
+      GraphCollection expected = input.callForCollection(rollUp);
+
+      RollUp incrementalRollUp =
+        new VertexRollUp(vertexGK, getVertexAggregates(), edgeGK, getEdgeAggregates());
+      incrementalRollUp.setGroupingStrategy(strategy);
+      incrementalRollUp.setUseIncrementalGrouping(true);
+      GraphCollection output = input.callForCollection(incrementalRollUp);
+
+      assertEquals(getCanonicalString(expected), getCanonicalString(output));
+    }
+  }
+
+  /**
+   * Executes an incremental rollUp on edges and checks if the result is equal to the result of
+   * the default rollUp for both grouping implementations.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testIncrementalEdgeRollUp() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+
+    List<String> vertexGK = Collections.singletonList("city");
+    List<String> edgeGK = Arrays.asList(Grouping.LABEL_SYMBOL, "since");
+
+    for (GroupingStrategy strategy : STRATEGIES) {
+      RollUp rollUp = new EdgeRollUp(vertexGK, getVertexAggregates(), edgeGK, getEdgeAggregates());
+      rollUp.setGroupingStrategy(strategy);
+      GraphCollection expected = input.callForCollection(rollUp);
+
+      RollUp incrementalRollUp =
+        new EdgeRollUp(vertexGK, getVertexAggregates(), edgeGK, getEdgeAggregates());
+      incrementalRollUp.setGroupingStrategy(strategy);
+      incrementalRollUp.setUseIncrementalGrouping(true);
+      GraphCollection output = input.callForCollection(incrementalRollUp);
+
+      assertEquals(getCanonicalString(expected), getCanonicalString(output));
+    }
+  }
+
+  /**
+   * Get mergeable vertex aggregate functions used to test the incremental rollUp.
+   *
+   * @return A list of vertex aggregate functions.
+   */
+  private List<AggregateFunction> getVertexAggregates() {
+    return Arrays.asList(new Count("count"), new SumVertexProperty("age", "sumAge"),
+      new MinVertexProperty("age", "minAge"), new MaxVertexProperty("age", "maxAge"),
+      new AverageVertexProperty("age", "avgAge"));
+  }
+
+  /**
+   * Get mergeable edge aggregate functions used to test the incremental rollUp.
+   *
+   * @return A list of edge aggregate functions.
+   */
+  private List<AggregateFunction> getEdgeAggregates() {
+    return Arrays.asList(new Count("count"), new MinEdgeProperty("since", "minSince"),
+      new AverageEdgeProperty("since", "avgSince"));
+  }
+
+  /**
+   * Get the canonical string representation of a graph collection. The collections are not compared
+   * by a single equality job, since optimizing the plan of both rollUps at once is very expensive.
+   *
+   * @param collection The graph collection.
+   * @return The canonical adjacency matrix of the collection, using the element data.
+   * @throws Exception If the execution fails.
+   */
+  private String getCanonicalString(GraphCollection collection) throws Exception {
+    return new CanonicalAdjacencyMatrixBuilder<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph,
+      GraphCollection>(new GraphHeadToDataString<>(), new VertexToDataString<>(),
+      new EdgeToDataString<>(), true).execute(collection).collect().get(0);
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.util;
+
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for {@link ElementDictionaries}
+ */
+public class ElementDictionariesTest extends GradoopFlinkTestBase {
+
+  /**
+   * The expected dictionary of the test graphs.
+   */
+  private static final ElementDictionary EXPECTED = ElementDictionary.create(
+    Arrays.asList("G", "A", "B", "a", "b", "e", "k"));
+
+  /**
+   * Test creating a dictionary from a logical graph.
+   *
+   * @throws Exception if the execution fails
+   */
+  @Test
+  public void testFromGraph() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g:G {a : 1}[(v1:A {b : 2})-[:e {k : 3}]->(v2:B)]");
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g");
+
+    assertEquals(EXPECTED, ElementDictionaries.fromGraph(graph));
+  }
+
+  /**
+   * Test creating a dictionary from a graph collection.
+   *
+   * @throws Exception if the execution fails
+   */
+  @Test
+  public void testFromCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g1:G {a : 1}[(v1:A)] g2:G [(v2:B {b : 2})-[:e {k : 3}]->(v2)]");
+    GraphCollection collection = loader.getGraphCollectionByVariables("g1", "g2");
+
+    assertEquals(EXPECTED, ElementDictionaries.fromCollection(collection));
+  }
+}
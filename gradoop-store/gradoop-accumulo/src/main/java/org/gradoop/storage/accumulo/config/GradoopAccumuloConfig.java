@@ -24,8 +24,11 @@ import org.gradoop.storage.accumulo.impl.constants.AccumuloDefault;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
 import org.gradoop.storage.accumulo.impl.handler.AccumuloEdgeHandler;
 import org.gradoop.storage.accumulo.impl.handler.AccumuloGraphHandler;
+import org.gradoop.storage.accumulo.impl.handler.AccumuloIndexHandler;
 import org.gradoop.storage.accumulo.impl.handler.AccumuloVertexHandler;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Properties;
 
 /**
@@ -98,6 +101,11 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
    */
   private final AccumuloEdgeHandler edgeHandler;
 
+  /**
+   * handler of the secondary index tables, null if the indexes are disabled
+   */
+  private AccumuloIndexHandler indexHandler;
+
   /**
    * Creates a new Configuration.
    *
@@ -197,6 +205,43 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
     return edgeHandler;
   }
 
+  /**
+   * Get secondary index handler
+   *
+   * @return index handler, or null if the secondary indexes are disabled
+   */
+  public AccumuloIndexHandler getIndexHandler() {
+    return indexHandler;
+  }
+
+  /**
+   * Checks if secondary indexes are maintained for the element tables.
+   *
+   * @return true, if the secondary indexes are enabled
+   */
+  public boolean isSecondaryIndexEnabled() {
+    return indexHandler != null;
+  }
+
+  /**
+   * Enable secondary indexes for the element tables. Each element table gets an index table,
+   * which maps a label and a value of one of the given property keys to the elements. Store
+   * queries with a label and a property equality predicate on an indexed key read the matching
+   * elements by exact row ranges instead of scanning the element table. Label predicates alone
+   * are evaluated by a scan, as they are usually not selective enough.
+   *
+   * The indexes are maintained when writing elements through the store or the data sink. They
+   * are not updated for elements written before the indexes were enabled.
+   *
+   * @param indexedPropertyKeys property keys to index
+   * @return configure itself
+   */
+  public GradoopAccumuloConfig enableSecondaryIndex(String... indexedPropertyKeys) {
+    this.indexHandler =
+      new AccumuloIndexHandler(new HashSet<>(Arrays.asList(indexedPropertyKeys)));
+    return this;
+  }
+
   /**
    * Get edge table name
    *
@@ -224,6 +269,33 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
     return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.GRAPH;
   }
 
+  /**
+   * Get edge index table name
+   *
+   * @return edge index table name
+   */
+  public String getEdgeIndexTable() {
+    return getEdgeTable() + AccumuloTables.INDEX_SUFFIX;
+  }
+
+  /**
+   * Get vertex index table name
+   *
+   * @return vertex index table name
+   */
+  public String getVertexIndexTable() {
+    return getVertexTable() + AccumuloTables.INDEX_SUFFIX;
+  }
+
+  /**
+   * Get graph head index table name
+   *
+   * @return graph head index table name
+   */
+  public String getGraphHeadIndexTable() {
+    return getGraphHeadTable() + AccumuloTables.INDEX_SUFFIX;
+  }
+
   @Override
   public String toString() {
     return accumuloProperties.toString();
@@ -39,6 +39,7 @@ import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
@@ -52,22 +53,26 @@ import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.accumulo.config.GradoopAccumuloConfig;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloDefault;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
+import org.gradoop.storage.accumulo.impl.handler.AccumuloIndexHandler;
 import org.gradoop.storage.accumulo.impl.handler.AccumuloRowHandler;
 import org.gradoop.storage.accumulo.impl.iterator.client.ClientClosableIterator;
+import org.gradoop.storage.accumulo.impl.iterator.tserver.BaseElementIterator;
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopEdgeIterator;
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopGraphHeadIterator;
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopVertexIterator;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 import org.slf4j.Logger;
+import org.apache.hadoop.io.Text;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Default Accumulo EPGM graph store that handles reading and writing vertices and
@@ -114,6 +119,21 @@ public class AccumuloEPGMStore implements
    */
   private final BatchWriter edgeWriter;
 
+  /**
+   * batch writer for epgm graph head index table, null if the indexes are disabled
+   */
+  private final BatchWriter graphIndexWriter;
+
+  /**
+   * batch writer for epgm vertex index table, null if the indexes are disabled
+   */
+  private final BatchWriter vertexIndexWriter;
+
+  /**
+   * batch writer for epgm edge index table, null if the indexes are disabled
+   */
+  private final BatchWriter edgeIndexWriter;
+
   /**
    * auto flush flag, default false
    */
@@ -139,6 +159,18 @@ public class AccumuloEPGMStore implements
       graphWriter = conn.createBatchWriter(getGraphHeadName(), new BatchWriterConfig());
       vertexWriter = conn.createBatchWriter(getVertexTableName(), new BatchWriterConfig());
       edgeWriter = conn.createBatchWriter(getEdgeTableName(), new BatchWriterConfig());
+      if (config.isSecondaryIndexEnabled()) {
+        graphIndexWriter =
+          conn.createBatchWriter(config.getGraphHeadIndexTable(), new BatchWriterConfig());
+        vertexIndexWriter =
+          conn.createBatchWriter(config.getVertexIndexTable(), new BatchWriterConfig());
+        edgeIndexWriter =
+          conn.createBatchWriter(config.getEdgeIndexTable(), new BatchWriterConfig());
+      } else {
+        graphIndexWriter = null;
+        vertexIndexWriter = null;
+        edgeIndexWriter = null;
+      }
     } catch (TableNotFoundException e) {
       throw new IllegalStateException(e); //should not be here
     }
@@ -187,17 +219,17 @@ public class AccumuloEPGMStore implements
 
   @Override
   public void writeGraphHead(@Nonnull GraphHead record) {
-    writeRecord(record, graphWriter, config.getGraphHandler());
+    writeRecord(record, graphWriter, graphIndexWriter, config.getGraphHandler());
   }
 
   @Override
   public void writeVertex(@Nonnull Vertex record) {
-    writeRecord(record, vertexWriter, config.getVertexHandler());
+    writeRecord(record, vertexWriter, vertexIndexWriter, config.getVertexHandler());
   }
 
   @Override
   public void writeEdge(@Nonnull Edge record) {
-    writeRecord(record, edgeWriter, config.getEdgeHandler());
+    writeRecord(record, edgeWriter, edgeIndexWriter, config.getEdgeHandler());
   }
 
   @Override
@@ -211,6 +243,11 @@ public class AccumuloEPGMStore implements
       graphWriter.flush();
       vertexWriter.flush();
       edgeWriter.flush();
+      if (config.isSecondaryIndexEnabled()) {
+        graphIndexWriter.flush();
+        vertexIndexWriter.flush();
+        edgeIndexWriter.flush();
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -222,6 +259,11 @@ public class AccumuloEPGMStore implements
       graphWriter.close();
       vertexWriter.close();
       edgeWriter.close();
+      if (config.isSecondaryIndexEnabled()) {
+        graphIndexWriter.close();
+        vertexIndexWriter.close();
+        edgeIndexWriter.close();
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -233,8 +275,7 @@ public class AccumuloEPGMStore implements
    * @throws IOException when deleting tables fails.
    */
   public void dropTables() throws IOException {
-    for (String tableName : new String[] {
-      getVertexTableName(), getEdgeTableName(), getGraphHeadName()}) {
+    for (String tableName : getTableNames()) {
       try {
         dropTableIfExists(tableName);
       } catch (AccumuloSecurityException | AccumuloException e) {
@@ -300,20 +341,20 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<EPGMGraphHead>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
-      return new EmptyClosableIterator<>();
-    }
-
     if (query != null) {
       LOG.info(query.toString());
     }
 
+    List<Range> ranges = getRanges(config.getGraphHeadIndexTable(), query);
+    if (ranges.isEmpty()) {
+      return new EmptyClosableIterator<>();
+    }
+
     BatchScanner scanner = createBatchScanner(
       getGraphHeadName(),
       GradoopGraphHeadIterator.class,
-      query);
+      query,
+      ranges);
     Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
     if (!iterator.hasNext()) {
       return new EmptyClosableIterator<>();
@@ -331,20 +372,20 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<EPGMVertex>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
-      return new EmptyClosableIterator<>();
-    }
-
     if (query != null) {
       LOG.info(query.toString());
     }
 
+    List<Range> ranges = getRanges(config.getVertexIndexTable(), query);
+    if (ranges.isEmpty()) {
+      return new EmptyClosableIterator<>();
+    }
+
     BatchScanner scanner = createBatchScanner(
       getVertexTableName(),
       GradoopVertexIterator.class,
-      query);
+      query,
+      ranges);
     Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
     if (!iterator.hasNext()) {
       return new EmptyClosableIterator<>();
@@ -362,20 +403,20 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<EPGMEdge>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
-      return new EmptyClosableIterator<>();
-    }
-
     if (query != null) {
       LOG.info(query.toString());
     }
 
+    List<Range> ranges = getRanges(config.getEdgeIndexTable(), query);
+    if (ranges.isEmpty()) {
+      return new EmptyClosableIterator<>();
+    }
+
     BatchScanner scanner = createBatchScanner(
       getEdgeTableName(),
       GradoopEdgeIterator.class,
-      query);
+      query,
+      ranges);
     Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
     if (!iterator.hasNext()) {
       return new EmptyClosableIterator<>();
@@ -392,12 +433,14 @@ public class AccumuloEPGMStore implements
    *
    * @param record  gradoop EPGM element
    * @param writer  accumulo batch writer
+   * @param indexWriter accumulo batch writer of the index table, null if indexes are disabled
    * @param handler accumulo row handler
    * @param <T>     element type
    */
   private <T extends Element> void writeRecord(
     @Nonnull T record,
     @Nonnull BatchWriter writer,
+    @Nullable BatchWriter indexWriter,
     @Nonnull AccumuloRowHandler handler
   ) {
     Mutation mutation = new Mutation(record.getId().toString());
@@ -405,8 +448,14 @@ public class AccumuloEPGMStore implements
     mutation = handler.writeRow(mutation, record);
     try {
       writer.addMutation(mutation);
+      if (indexWriter != null) {
+        indexWriter.addMutations(config.getIndexHandler().createIndexMutations(record));
+      }
       if (autoFlush) {
         writer.flush();
+        if (indexWriter != null) {
+          indexWriter.flush();
+        }
       }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
@@ -419,6 +468,7 @@ public class AccumuloEPGMStore implements
    * @param table  table name
    * @param iterator iterator class
    * @param predicate accumulo predicate
+   * @param ranges row ranges to scan
    * @param <T> epgm element type
    * @return batch scanner instance
    * @throws IOException if create fail
@@ -426,12 +476,17 @@ public class AccumuloEPGMStore implements
   private <T extends Element> BatchScanner createBatchScanner(
     String table,
     Class<? extends SortedKeyValueIterator<Key, Value>> iterator,
-    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate
+    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate,
+    @Nonnull List<Range> ranges
   ) throws IOException {
     Map<String, String> options = new HashMap<>();
     if (predicate != null && predicate.getFilterPredicate() != null) {
       options.put(AccumuloTables.KEY_PREDICATE, predicate.getFilterPredicate().encode());
     }
+    if (predicate != null && predicate.getPropertyProjection() != null) {
+      options.put(AccumuloTables.KEY_PROJECTION,
+        BaseElementIterator.encodeProjection(predicate.getPropertyProjection()));
+    }
     BatchScanner scanner;
     try {
       scanner = conn.createBatchScanner(table,
@@ -447,16 +502,7 @@ public class AccumuloEPGMStore implements
         /*iterator class*/iterator,
         /*args*/options));
 
-      if (predicate == null ||
-        predicate.getQueryRanges() == null) {
-        scanner.setRanges(Lists.newArrayList(new Range()));
-      } else {
-        scanner.setRanges(Range.mergeOverlapping(predicate.getQueryRanges()
-          .stream()
-          .map(GradoopId::toString)
-          .map(Range::exact)
-          .collect(Collectors.toList())));
-      }
+      scanner.setRanges(ranges);
       return scanner;
 
     } catch (TableNotFoundException e) {
@@ -464,6 +510,112 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * Get the row ranges of the element table to scan for a query. Without query ranges, the
+   * elements are read from the secondary index, if it covers the filter predicate. Otherwise
+   * the whole table is scanned.
+   *
+   * @param indexTable index table of the element table
+   * @param predicate accumulo predicate
+   * @param <T> epgm element type
+   * @return row ranges, empty if no element may match the query
+   * @throws IOException if reading the index fails
+   */
+  private <T extends Element> List<Range> getRanges(
+    String indexTable,
+    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate
+  ) throws IOException {
+    if (predicate == null) {
+      return Lists.newArrayList(new Range());
+    }
+    if (predicate.getQueryRanges() != null) {
+      return toRanges(predicate.getQueryRanges());
+    }
+    if (config.isSecondaryIndexEnabled() && predicate.getFilterPredicate() != null) {
+      List<byte[]> entries =
+        predicate.getFilterPredicate().getIndexEntries(config.getIndexHandler(), null);
+      if (entries != null) {
+        return toRanges(lookupIndex(indexTable, entries));
+      }
+    }
+    return Lists.newArrayList(new Range());
+  }
+
+  /**
+   * Read the ids of the elements referenced by secondary index entries. An accumulo batch
+   * scanner needs all ranges up front, so the ids are collected, which also removes duplicates
+   * of elements in several entries. The index may be stale, the filter predicate is still
+   * applied to the elements read by these ids.
+   *
+   * @param indexTable index table name
+   * @param entries rows of the index entries
+   * @return ids of the indexed elements
+   * @throws IOException if reading the index fails
+   */
+  private GradoopIdSet lookupIndex(
+    String indexTable,
+    List<byte[]> entries
+  ) throws IOException {
+    GradoopIdSet ids = new GradoopIdSet();
+    if (entries.isEmpty()) {
+      return ids;
+    }
+    List<Range> ranges = new ArrayList<>();
+    for (byte[] entry : entries) {
+      ranges.add(Range.exact(new Text(entry)));
+    }
+    AccumuloIndexHandler index = config.getIndexHandler();
+    BatchScanner scanner;
+    try {
+      scanner = conn.createBatchScanner(indexTable,
+        config.get(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS,
+          AccumuloDefault.AUTHORIZATION),
+        config.get(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+          AccumuloDefault.BATCH_SCANNER_THREADS));
+    } catch (TableNotFoundException e) {
+      throw new IOException(e);
+    }
+    try {
+      scanner.setRanges(Range.mergeOverlapping(ranges));
+      for (Map.Entry<Key, Value> cell : scanner) {
+        ids.add(index.getElementId(cell.getKey()));
+      }
+    } finally {
+      scanner.close();
+    }
+    return ids;
+  }
+
+  /**
+   * Convert element ids to exact row ranges of the element table.
+   *
+   * @param ids element ids
+   * @return merged row ranges
+   */
+  private List<Range> toRanges(Iterable<GradoopId> ids) {
+    List<Range> ranges = new ArrayList<>();
+    for (GradoopId id : ids) {
+      ranges.add(Range.exact(id.toString()));
+    }
+    return Range.mergeOverlapping(ranges);
+  }
+
+  /**
+   * Get the names of all tables used by this store instance.
+   *
+   * @return table names
+   */
+  private List<String> getTableNames() {
+    List<String> tables = Lists.newArrayList(
+      getVertexTableName(), getEdgeTableName(), getGraphHeadName());
+    if (config.isSecondaryIndexEnabled()) {
+      tables.add(config.getVertexIndexTable());
+      tables.add(config.getEdgeIndexTable());
+      tables.add(config.getGraphHeadIndexTable());
+    }
+    return tables;
+  }
+
   /**
    * Create tables (and their namespaces, if defined by table prefix) if not exists
    *
@@ -486,9 +638,7 @@ public class AccumuloEPGMStore implements
         //ignore if it is exists, maybe create by another process or thread
       }
     }
-    for (String table : new String[] {
-      getVertexTableName(), getEdgeTableName(), getGraphHeadName()
-    }) {
+    for (String table : getTableNames()) {
       try {
         if (!conn.tableOperations().exists(table)) {
           conn.tableOperations().create(table);
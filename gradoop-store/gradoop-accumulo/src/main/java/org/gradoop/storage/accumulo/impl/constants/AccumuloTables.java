@@ -35,11 +35,21 @@ public class AccumuloTables {
    */
   public static final String GRAPH = "graph";
 
+  /**
+   * suffix of the secondary index table names
+   */
+  public static final String INDEX_SUFFIX = "_index";
+
   /**
    * gradoop predicate options key
    */
   public static final String KEY_PREDICATE = "__filter__";
 
+  /**
+   * gradoop property projection options key
+   */
+  public static final String KEY_PROJECTION = "__projection__";
+
   /**
    * cf or cq constants key
    */
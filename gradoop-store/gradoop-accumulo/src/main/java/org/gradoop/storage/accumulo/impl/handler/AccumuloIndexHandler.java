@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.accumulo.impl.handler;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.data.Value;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Handles the secondary index tables of the element tables. An index table maps a label, an
+ * indexed property key and a property value to the elements with this label and property value.
+ * Labels alone are not indexed, since a label usually covers too many elements to read them by
+ * exact ranges instead of a scan.
+ *
+ * The row of an index entry consists of the label, the property key and the raw bytes of the
+ * property value. Each element of the entry is stored as column family of this row, so all
+ * elements of an entry are read by a single exact row range.
+ *
+ * Index entries are only added on write, i.e. they may refer to elements that were changed
+ * afterwards. Elements read by the index have to be checked against the query predicate.
+ */
+public class AccumuloIndexHandler implements Serializable {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Separator of the variable length parts of an index entry.
+   */
+  private static final int SEPARATOR = 0;
+
+  /**
+   * Empty cell value of index entries.
+   */
+  private static final byte[] EMPTY_VALUE = new byte[0];
+
+  /**
+   * Property keys to index.
+   */
+  private final HashSet<String> indexedPropertyKeys;
+
+  /**
+   * Creates a new index handler.
+   *
+   * @param indexedPropertyKeys property keys to index
+   */
+  public AccumuloIndexHandler(@Nonnull Set<String> indexedPropertyKeys) {
+    this.indexedPropertyKeys = new HashSet<>(indexedPropertyKeys);
+  }
+
+  /**
+   * Get the indexed property keys.
+   *
+   * @return indexed property keys
+   */
+  public Set<String> getIndexedPropertyKeys() {
+    return Collections.unmodifiableSet(indexedPropertyKeys);
+  }
+
+  /**
+   * Checks if values of the given property key are indexed.
+   *
+   * @param propertyKey property key
+   * @return true, if the property is indexed
+   */
+  public boolean isIndexed(@Nonnull String propertyKey) {
+    return indexedPropertyKeys.contains(propertyKey);
+  }
+
+  /**
+   * Creates the index mutations of an element, one for each indexed property it has.
+   *
+   * @param record element to index
+   * @return mutations of all index entries of the element
+   */
+  public List<Mutation> createIndexMutations(@Nonnull Element record) {
+    List<Mutation> mutations = new ArrayList<>();
+    if (record.getLabel() == null || record.getProperties() == null) {
+      return mutations;
+    }
+    for (String key : indexedPropertyKeys) {
+      PropertyValue value = record.getPropertyValue(key);
+      if (value != null) {
+        Mutation mutation = new Mutation(getPropertyEntry(record.getLabel(), key, value));
+        mutation.put(record.getId().toString(), AccumuloTables.KEY.NONE, new Value(EMPTY_VALUE));
+        mutations.add(mutation);
+      }
+    }
+    return mutations;
+  }
+
+  /**
+   * Get the row of the index entry of a label, property key and value.
+   *
+   * @param label element label
+   * @param propertyKey indexed property key
+   * @param value property value
+   * @return row of the index entry
+   */
+  public byte[] getPropertyEntry(
+    @Nonnull String label,
+    @Nonnull String propertyKey,
+    @Nonnull PropertyValue value
+  ) {
+    ByteArrayOutputStream entry = new ByteArrayOutputStream();
+    byte[] labelBytes = label.getBytes(StandardCharsets.UTF_8);
+    byte[] keyBytes = propertyKey.getBytes(StandardCharsets.UTF_8);
+    byte[] valueBytes = value.getRawBytes();
+    entry.write(labelBytes, 0, labelBytes.length);
+    entry.write(SEPARATOR);
+    entry.write(keyBytes, 0, keyBytes.length);
+    entry.write(SEPARATOR);
+    entry.write(valueBytes, 0, valueBytes.length);
+    return entry.toByteArray();
+  }
+
+  /**
+   * Get the id of the element referenced by a cell of an index entry.
+   *
+   * @param key key of the index cell
+   * @return gradoop id of the element
+   */
+  public GradoopId getElementId(@Nonnull Key key) {
+    return GradoopId.fromString(key.getColumnFamily().toString());
+  }
+}
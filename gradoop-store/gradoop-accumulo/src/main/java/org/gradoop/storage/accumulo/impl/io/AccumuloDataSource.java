@@ -22,7 +22,6 @@ import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.accumulo.impl.AccumuloEPGMStore;
 import org.gradoop.storage.common.io.FilterableDataSource;
@@ -94,9 +93,22 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
     this.edgeQuery = edgeQuery;
   }
 
+  /**
+   * Scans the vertex and edge tables once and combines their content into a single new graph.
+   * The graph head table is not read.
+   *
+   * {@inheritDoc}
+   */
   @Override
   public LogicalGraph getLogicalGraph() {
-    return getGraphCollection().reduce(new ReduceCombination<>());
+    ExecutionEnvironment env = getFlinkConfig().getExecutionEnvironment();
+    return getFlinkConfig().getLogicalGraphFactory().fromDataSets(
+      /*vertex input format*/
+      env.createInput(new VertexInputFormat(getStore().getConfig().getAccumuloProperties(),
+        vertexQuery)),
+      /*edge input format*/
+      env.createInput(new EdgeInputFormat(getStore().getConfig().getAccumuloProperties(),
+        edgeQuery)));
   }
 
   @Override
@@ -40,6 +40,7 @@ import org.gradoop.storage.accumulo.impl.predicate.query.AccumuloQueryHolder;
 import org.gradoop.storage.accumulo.config.GradoopAccumuloConfig;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloDefault;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
+import org.gradoop.storage.accumulo.impl.iterator.tserver.BaseElementIterator;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
@@ -174,6 +175,10 @@ public abstract class BaseInputFormat<T extends EPGMElement> extends GenericInpu
       if (predicate != null && predicate.getReduceFilter() != null) {
         options.put(AccumuloTables.KEY_PREDICATE, predicate.getReduceFilter().encode());
       }
+      if (predicate != null && predicate.getProjection() != null) {
+        options.put(AccumuloTables.KEY_PROJECTION,
+          BaseElementIterator.encodeProjection(predicate.getProjection()));
+      }
       if (split.getSplitNumber() + 1 > ranges.size()) {
         scanner = null;
         iterator = Collections.emptyIterator();
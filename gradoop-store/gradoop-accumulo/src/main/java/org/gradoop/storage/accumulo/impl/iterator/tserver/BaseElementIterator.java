@@ -25,14 +25,20 @@ import org.apache.accumulo.core.util.Pair;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Accumulo Tablet Server Iterator
@@ -68,6 +74,11 @@ public abstract class BaseElementIterator<E extends Element> implements
    */
   private AccumuloElementFilter<E> filter;
 
+  /**
+   * Property keys returned to the client, null for all properties
+   */
+  private Set<String> projection;
+
   /**
    * Deserialize from key-value pair
    *
@@ -110,6 +121,34 @@ public abstract class BaseElementIterator<E extends Element> implements
     return filter;
   }
 
+  /**
+   * Encode a property projection as iterator option value. Each key is base64 encoded, so the
+   * separator can not occur within a key.
+   *
+   * @param propertyKeys projected property keys
+   * @return encoded projection
+   */
+  @Nonnull
+  public static String encodeProjection(@Nonnull Collection<String> propertyKeys) {
+    return propertyKeys.stream()
+      .map(key -> Base64.getEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8)))
+      .collect(Collectors.joining(","));
+  }
+
+  /**
+   * Decode a property projection from its iterator option value
+   *
+   * @param encoded encoded projection
+   * @return projected property keys
+   */
+  @Nonnull
+  public static Set<String> decodeProjection(@Nonnull String encoded) {
+    return Arrays.stream(encoded.split(","))
+      .filter(key -> !key.isEmpty())
+      .map(key -> new String(Base64.getDecoder().decode(key), StandardCharsets.UTF_8))
+      .collect(Collectors.toSet());
+  }
+
   @Override
   public void init(
     final SortedKeyValueIterator<Key, Value> source,
@@ -124,6 +163,12 @@ public abstract class BaseElementIterator<E extends Element> implements
     } else {
       this.filter = (AccumuloElementFilter<E>) t -> true;
     }
+    //read property projection
+    if (options != null && options.containsKey(AccumuloTables.KEY_PROJECTION)) {
+      this.projection = decodeProjection(options.get(AccumuloTables.KEY_PROJECTION));
+    } else {
+      this.projection = null;
+    }
   }
 
   @Override
@@ -193,6 +238,9 @@ public abstract class BaseElementIterator<E extends Element> implements
           next = readLine(source);
           if (next != null && !getFilter().test(next)) {
             next = null;
+          } else if (next != null && projection != null) {
+            //trim after filtering, the predicate may refer to properties not projected
+            next = ElementQuery.project(next, projection);
           }
         } catch (IOException err) {
           throw new RuntimeException(err);
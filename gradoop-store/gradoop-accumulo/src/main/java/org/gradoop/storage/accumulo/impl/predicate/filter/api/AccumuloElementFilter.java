@@ -16,6 +16,7 @@
 package org.gradoop.storage.accumulo.impl.predicate.filter.api;
 
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.accumulo.impl.handler.AccumuloIndexHandler;
 import org.gradoop.storage.accumulo.impl.predicate.filter.calculate.And;
 import org.gradoop.storage.accumulo.impl.predicate.filter.calculate.Not;
 import org.gradoop.storage.accumulo.impl.predicate.filter.calculate.Or;
@@ -25,6 +26,7 @@ import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopGraphHeadIterat
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopVertexIterator;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -33,6 +35,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Base64;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -115,4 +119,30 @@ public interface AccumuloElementFilter<T extends Element>
     return Not.of(this);
   }
 
+  /**
+   * Get the labels an element fulfilling this filter may have.
+   *
+   * @return possible element labels, or null if any label is possible
+   */
+  @Nullable
+  default Set<String> getIndexLabels() {
+    return null;
+  }
+
+  /**
+   * Get the rows of the secondary index entries, which cover all elements fulfilling this
+   * filter. The elements of these entries may still violate the filter.
+   *
+   * @param index secondary index handler
+   * @param labels possible labels of the elements, or null if any label is possible
+   * @return index entry rows, or null if the index can not be used to evaluate this filter
+   */
+  @Nullable
+  default List<byte[]> getIndexEntries(
+    @Nonnull AccumuloIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    return null;
+  }
+
 }
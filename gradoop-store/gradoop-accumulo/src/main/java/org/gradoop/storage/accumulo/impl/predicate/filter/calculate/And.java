@@ -16,11 +16,16 @@
 package org.gradoop.storage.accumulo.impl.predicate.filter.calculate;
 
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.accumulo.impl.handler.AccumuloIndexHandler;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -72,6 +77,35 @@ public final class And<T extends Element> implements AccumuloElementFilter<T> {
     return true;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getIndexLabels() {
+    // an element fulfilling the conjunction fulfills each predicate
+    return predicates.stream()
+      .map(AccumuloElementFilter::getIndexLabels)
+      .filter(Objects::nonNull)
+      .findFirst()
+      .orElse(null);
+  }
+
+  @Nullable
+  @Override
+  public List<byte[]> getIndexEntries(
+    @Nonnull AccumuloIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    Set<String> knownLabels = labels == null ? getIndexLabels() : labels;
+    // each predicate covers all elements, use the one with the fewest entries
+    List<byte[]> result = null;
+    for (AccumuloElementFilter<T> predicate : predicates) {
+      List<byte[]> entries = predicate.getIndexEntries(index, knownLabels);
+      if (entries != null && (result == null || entries.size() < result.size())) {
+        result = entries;
+      }
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" AND ");
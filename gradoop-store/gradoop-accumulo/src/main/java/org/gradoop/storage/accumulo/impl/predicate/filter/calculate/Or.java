@@ -16,11 +16,16 @@
 package org.gradoop.storage.accumulo.impl.predicate.filter.calculate;
 
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.accumulo.impl.handler.AccumuloIndexHandler;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -72,6 +77,38 @@ public final class Or<T extends Element> implements AccumuloElementFilter<T> {
     return false;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getIndexLabels() {
+    Set<String> labels = new HashSet<>();
+    for (AccumuloElementFilter<T> predicate : predicates) {
+      Set<String> predicateLabels = predicate.getIndexLabels();
+      if (predicateLabels == null) {
+        return null;
+      }
+      labels.addAll(predicateLabels);
+    }
+    return labels;
+  }
+
+  @Nullable
+  @Override
+  public List<byte[]> getIndexEntries(
+    @Nonnull AccumuloIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    // the index can only be used, if it covers the elements of each predicate
+    List<byte[]> result = new ArrayList<>();
+    for (AccumuloElementFilter<T> predicate : predicates) {
+      List<byte[]> entries = predicate.getIndexEntries(index, labels);
+      if (entries == null) {
+        return null;
+      }
+      result.addAll(entries);
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" OR ");
@@ -19,6 +19,9 @@ import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.common.predicate.filter.impl.LabelIn;
 
+import javax.annotation.Nonnull;
+import java.util.Set;
+
 /**
  * Accumulo label equality predicate implement
  *
@@ -42,4 +45,10 @@ public class AccumuloLabelIn<T extends Element>
     return t.getLabel() != null && getLabels().contains(t.getLabel());
   }
 
+  @Nonnull
+  @Override
+  public Set<String> getIndexLabels() {
+    return getLabels();
+  }
+
 }
@@ -16,10 +16,15 @@
 package org.gradoop.storage.accumulo.impl.predicate.filter.impl;
 
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.accumulo.impl.handler.AccumuloIndexHandler;
 import org.gradoop.storage.common.predicate.filter.impl.PropEquals;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Accumulo property equality implement
@@ -49,4 +54,19 @@ public class AccumuloPropEquals<T extends Element>
       t.getPropertyValue(getKey()).equals(getValue());
   }
 
+  @Nullable
+  @Override
+  public List<byte[]> getIndexEntries(
+    @Nonnull AccumuloIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    // property values are indexed per label
+    if (labels == null || !index.isIndexed(getKey())) {
+      return null;
+    }
+    return labels.stream()
+      .map(label -> index.getPropertyEntry(label, getKey(), getValue()))
+      .collect(Collectors.toList());
+  }
+
 }
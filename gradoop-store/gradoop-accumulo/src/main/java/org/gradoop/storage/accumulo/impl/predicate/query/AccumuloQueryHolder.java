@@ -27,8 +27,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +50,11 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
    */
   private final AccumuloElementFilter<T> reduceFilter;
 
+  /**
+   * Property keys returned from tserver, null for all properties
+   */
+  private final HashSet<String> projection;
+
   /**
    * Accumulo predicate instance, low level api for store implement
    *
@@ -55,15 +62,18 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
    * @param reduceFilter query reduce filter
    *                     only those in predicate should be return from tserver.
    *                     if null, return all in range
+   * @param projection property keys returned from tserver, if null, return all properties
    */
   private AccumuloQueryHolder(
     @Nullable List<Range> logicalRanges,
-    @Nullable AccumuloElementFilter<T> reduceFilter
+    @Nullable AccumuloElementFilter<T> reduceFilter,
+    @Nullable Set<String> projection
   ) {
     RangeWrapper wrapper = new RangeWrapper();
     wrapper.ranges = logicalRanges;
     this.queryRanges = wrapper.encrypt();
     this.reduceFilter = reduceFilter;
+    this.projection = projection == null ? null : new HashSet<>(projection);
   }
 
   /**
@@ -84,7 +94,8 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
       .collect(Collectors.toList()));
     return new AccumuloQueryHolder<>(
       query.getQueryRanges() == null ? null : ranges,
-      query.getFilterPredicate());
+      query.getFilterPredicate(),
+      query.getPropertyProjection());
   }
 
   /**
@@ -101,7 +112,7 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
     if (idRanges.isEmpty()) {
       throw new IllegalArgumentException("id range is empty");
     }
-    return new AccumuloQueryHolder<>(idRanges, reduceFilter);
+    return new AccumuloQueryHolder<>(idRanges, reduceFilter, null);
   }
 
   /**
@@ -122,6 +133,16 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
     return reduceFilter;
   }
 
+  /**
+   * Get property projection
+   *
+   * @return property keys returned from tserver, null for all properties
+   */
+  @Nullable
+  public Set<String> getProjection() {
+    return projection;
+  }
+
   @Override
   public String toString() {
     List<String> ranges = getQueryRanges() == null ? null :
@@ -130,7 +151,8 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
           it.getStartKey().getRow(),
           it.getEndKey().getRow()))
         .collect(Collectors.toList());
-    return String.format("range=%1$s, filter=%2$s", ranges, getReduceFilter());
+    return String.format("range=%1$s, filter=%2$s, projection=%3$s",
+      ranges, getReduceFilter(), getProjection());
   }
 
   /**
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.predicate;
+
+import org.apache.accumulo.core.client.Scanner;
+import org.apache.accumulo.core.security.Authorizations;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.storage.accumulo.config.GradoopAccumuloConfig;
+import org.gradoop.storage.accumulo.utils.AccumuloFilters;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
+import org.gradoop.storage.impl.accumulo.AccumuloTestSuite;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * accumulo graph store predicate test using the secondary indexes
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StoreIndexPredicateTest extends AccumuloStoreTestBase {
+
+  private static final String TEST01 = "index_predicate_01";
+  private static final String TEST02 = "index_predicate_02";
+  private static final String TEST03 = "index_predicate_03";
+  private static final String TEST04 = "index_predicate_04";
+
+  /**
+   * Get a store configuration with secondary indexes on the social network properties
+   *
+   * @param namespace store namespace
+   * @return store configuration
+   */
+  private static GradoopAccumuloConfig getIndexedConfig(String namespace) {
+    return AccumuloTestSuite.getAcConfig(namespace)
+      .enableSecondaryIndex("city", "since", "interest");
+  }
+
+  /**
+   * find vertices by label and indexed property equality
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void vertexIndexedPropEquals() throws Throwable {
+    doTest(getIndexedConfig(TEST01), (loader, store, config) -> {
+      try (Scanner index = store.createConnector()
+        .createScanner(store.getConfig().getVertexIndexTable(), Authorizations.EMPTY)) {
+        assertTrue("vertex index is empty", index.iterator().hasNext());
+      }
+
+      List<EPGMVertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> it.getLabel().equals("Person"))
+        .filter(it -> it.getPropertyValue("city").getString().equals("Dresden"))
+        .collect(Collectors.toList());
+
+      List<EPGMVertex> query = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<EPGMVertex>labelIn("Person")
+              .and(AccumuloFilters.propEquals("city", "Dresden"))))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateElementCollections(inputVertices, query);
+    });
+  }
+
+  /**
+   * find edges by label and a disjunction of indexed property equalities
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void edgeIndexedPropEqualsDisjunction() throws Throwable {
+    doTest(getIndexedConfig(TEST02), (loader, store, config) -> {
+      List<EPGMEdge> inputEdges = loader.getEdges().stream()
+        .filter(it -> it.getLabel().equals("knows") || it.getLabel().equals("hasModerator"))
+        .filter(it -> it.hasProperty("since"))
+        .filter(it -> it.getPropertyValue("since").getInt() == 2013 ||
+          it.getPropertyValue("since").getInt() == 2015)
+        .collect(Collectors.toList());
+
+      List<EPGMEdge> query = store
+        .getEdgeSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<EPGMEdge>labelIn("knows", "hasModerator")
+              .and(AccumuloFilters.<EPGMEdge>propEquals("since", 2013)
+                .or(AccumuloFilters.propEquals("since", 2015)))))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateElementCollections(inputEdges, query);
+    });
+  }
+
+  /**
+   * find graph heads by label and indexed property equality
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void graphIndexedPropEquals() throws Throwable {
+    doTest(getIndexedConfig(TEST03), (loader, store, config) -> {
+      List<EPGMGraphHead> inputGraphs = loader.getGraphHeads().stream()
+        .filter(it -> it.getLabel().equals("Community"))
+        .filter(it -> it.getPropertyValue("interest").getString().equals("Hadoop"))
+        .collect(Collectors.toList());
+
+      List<EPGMGraphHead> query = store
+        .getGraphSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<EPGMGraphHead>labelIn("Community")
+              .and(AccumuloFilters.propEquals("interest", "Hadoop"))))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateElementCollections(inputGraphs, query);
+    });
+  }
+
+  /**
+   * elements read by the index are still checked against the whole predicate
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void indexCandidatesAreFiltered() throws Throwable {
+    doTest(getIndexedConfig(TEST04), (loader, store, config) -> {
+      List<EPGMVertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> it.getLabel().equals("Person"))
+        .filter(it -> it.getPropertyValue("city").getString().equals("Leipzig"))
+        .filter(it -> it.getPropertyValue("gender").getString().equals("f"))
+        .collect(Collectors.toList());
+
+      List<EPGMVertex> query = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<EPGMVertex>labelIn("Person")
+              .and(AccumuloFilters.propEquals("city", "Leipzig"))
+              .and(AccumuloFilters.propEquals("gender", "f"))))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateElementCollections(inputVertices, query);
+    });
+  }
+
+}
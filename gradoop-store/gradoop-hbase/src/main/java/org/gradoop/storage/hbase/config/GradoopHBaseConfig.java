@@ -17,6 +17,7 @@ package org.gradoop.storage.hbase.config;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Durability;
 import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHeadFactory;
 import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
@@ -27,10 +28,14 @@ import org.gradoop.storage.hbase.impl.api.VertexHandler;
 import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
 import org.gradoop.storage.hbase.impl.handler.HBaseEdgeHandler;
 import org.gradoop.storage.hbase.impl.handler.HBaseGraphHeadHandler;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
 import org.gradoop.storage.hbase.impl.handler.HBaseVertexHandler;
 import org.gradoop.storage.hbase.utils.RegionSplitter;
 import org.gradoop.storage.hbase.utils.RowKeyDistributor;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -74,6 +79,22 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
    */
   private final EdgeHandler edgeHandler;
 
+  /**
+   * Size of the client side write buffer in bytes, a non-positive value disables the write buffer
+   * of the graph store.
+   */
+  private long writeBufferSize;
+
+  /**
+   * Write-ahead-log durability of written elements.
+   */
+  private Durability durability = Durability.USE_DEFAULT;
+
+  /**
+   * Secondary index handler, null if the secondary indexes are disabled.
+   */
+  private HBaseIndexHandler indexHandler;
+
   /**
    * Creates a new Configuration.
    *
@@ -128,6 +149,9 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
       graphTableName,
       vertexTableName,
       edgeTableName);
+    this.writeBufferSize = config.getWriteBufferSize();
+    this.durability = config.getDurability();
+    this.indexHandler = config.getIndexHandler();
   }
 
   /**
@@ -197,6 +221,33 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     return TableName.valueOf(graphTableName);
   }
 
+  /**
+   * Get the vertex index table name
+   *
+   * @return vertex index table name
+   */
+  public TableName getVertexIndexTableName() {
+    return TableName.valueOf(vertexTableName + HBaseConstants.TABLE_INDEX_SUFFIX);
+  }
+
+  /**
+   * Get the edge index table name
+   *
+   * @return edge index table name
+   */
+  public TableName getEdgeIndexTableName() {
+    return TableName.valueOf(edgeTableName + HBaseConstants.TABLE_INDEX_SUFFIX);
+  }
+
+  /**
+   * Get the graph index table name
+   *
+   * @return graph index table name
+   */
+  public TableName getGraphIndexTableName() {
+    return TableName.valueOf(graphTableName + HBaseConstants.TABLE_INDEX_SUFFIX);
+  }
+
   /**
    * Get graph head handler
    *
@@ -224,6 +275,88 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     return edgeHandler;
   }
 
+  /**
+   * Get the size of the client side write buffer
+   *
+   * @return write buffer size in bytes, a non-positive value if no write buffer is used
+   */
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  /**
+   * Get the write-ahead-log durability of written elements
+   *
+   * @return durability
+   */
+  public Durability getDurability() {
+    return durability;
+  }
+
+  /**
+   * Set the size of the client side write buffer. By default, the graph store writes each element
+   * synchronously. With a positive size, elements are sent to the region servers in batches, once
+   * the buffered mutations exceed this size or the buffer is flushed, and are not readable before.
+   * The data sink always writes in batches and uses the HBase default size if none is set.
+   *
+   * @param writeBufferSize write buffer size in bytes, a non-positive value disables the write
+   *                        buffer of the graph store
+   * @return this modified config
+   */
+  public GradoopHBaseConfig setWriteBufferSize(final long writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+    return this;
+  }
+
+  /**
+   * Set the write-ahead-log durability of written elements. Skipping or deferring the
+   * write-ahead-log speeds up bulk ingestion at the risk of losing recently written elements
+   * if a region server fails.
+   *
+   * @param durability durability of written elements
+   * @return this modified config
+   */
+  public GradoopHBaseConfig setDurability(final Durability durability) {
+    this.durability = checkNotNull(durability, "Durability was null");
+    return this;
+  }
+
+  /**
+   * Get the secondary index handler
+   *
+   * @return index handler, null if the secondary indexes are disabled
+   */
+  public HBaseIndexHandler getIndexHandler() {
+    return indexHandler;
+  }
+
+  /**
+   * Checks if secondary indexes are maintained for the element tables.
+   *
+   * @return true, if the secondary indexes are enabled
+   */
+  public boolean isSecondaryIndexEnabled() {
+    return indexHandler != null;
+  }
+
+  /**
+   * Enable secondary indexes for the element tables. Each element table gets an index table,
+   * which maps labels and values of the given property keys to the elements. Queries with a
+   * label and a property equality predicate on an indexed key read the matching elements by
+   * point gets instead of scanning the element table. Label predicates alone are evaluated by a
+   * scan, as they are usually not selective enough.
+   *
+   * The indexes are maintained when writing elements through the store or the data sinks. They
+   * are not updated for elements written before the indexes were enabled.
+   *
+   * @param indexedPropertyKeys property keys to index
+   * @return this modified config
+   */
+  public GradoopHBaseConfig enableSecondaryIndex(final String... indexedPropertyKeys) {
+    this.indexHandler = new HBaseIndexHandler(new HashSet<>(Arrays.asList(indexedPropertyKeys)));
+    return this;
+  }
+
   /**
    * Enable/Disable the usage of pre-splitting regions at the moment of table creation.
    * If the HBase table size grows, it should be created with pre-split regions in order to avoid
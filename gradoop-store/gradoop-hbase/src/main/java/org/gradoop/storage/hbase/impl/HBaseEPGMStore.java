@@ -16,13 +16,20 @@
 package org.gradoop.storage.hbase.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.RetriesExhaustedWithDetailsException;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Edge;
@@ -40,8 +47,10 @@ import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
 import org.gradoop.storage.hbase.impl.api.GraphHeadHandler;
 import org.gradoop.storage.hbase.impl.api.VertexHandler;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
 import org.gradoop.storage.hbase.impl.iterator.HBaseEdgeIterator;
 import org.gradoop.storage.hbase.impl.iterator.HBaseGraphIterator;
+import org.gradoop.storage.hbase.impl.iterator.HBaseIndexRowKeyIterator;
 import org.gradoop.storage.hbase.impl.iterator.HBaseVertexIterator;
 import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
@@ -49,13 +58,28 @@ import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Default HBase graph store that handles reading and writing vertices and
  * graphs from and to HBase.
  *
+ * By default, each element is written synchronously, i.e. it can be read once the write call
+ * returned. If a write buffer size is configured (see
+ * {@link GradoopHBaseConfig#setWriteBufferSize(long)}), elements are written through buffered
+ * writers instead and are only sent to the region servers once the buffer is full, the buffers
+ * are flushed (see {@link #flushWriteBuffers()}) or auto flush is enabled. Buffered elements can
+ * not be read before they were sent.
+ *
  * @see EPGMGraphPredictableOutput
  */
 public class HBaseEPGMStore implements
@@ -86,6 +110,28 @@ public class HBaseEPGMStore implements
    * HBase admin instance
    */
   private final Admin admin;
+  /**
+   * HBase table of the graph head index, null if the secondary indexes are disabled.
+   */
+  private final Table graphHeadIndexTable;
+  /**
+   * HBase table of the vertex index, null if the secondary indexes are disabled.
+   */
+  private final Table vertexIndexTable;
+  /**
+   * HBase table of the edge index, null if the secondary indexes are disabled.
+   */
+  private final Table edgeIndexTable;
+  /**
+   * Buffered writers by table name, created on the first write to a table if a write buffer size
+   * is configured.
+   */
+  private final Map<TableName, BufferedMutator> mutators = new HashMap<>();
+  /**
+   * Callback for failed asynchronous writes, failures are thrown on the next write or flush
+   * if null
+   */
+  private volatile BufferedMutator.ExceptionListener writeExceptionListener;
   /**
    * Auto flush flag, default false
    */
@@ -113,6 +159,21 @@ public class HBaseEPGMStore implements
     this.edgeTable = Preconditions.checkNotNull(edgeTable);
     this.config = Preconditions.checkNotNull(config);
     this.admin = Preconditions.checkNotNull(admin);
+
+    if (config.isSecondaryIndexEnabled()) {
+      Connection connection = admin.getConnection();
+      try {
+        this.graphHeadIndexTable = connection.getTable(config.getGraphIndexTableName());
+        this.vertexIndexTable = connection.getTable(config.getVertexIndexTableName());
+        this.edgeIndexTable = connection.getTable(config.getEdgeIndexTableName());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to open the secondary index tables", e);
+      }
+    } else {
+      this.graphHeadIndexTable = null;
+      this.vertexIndexTable = null;
+      this.edgeIndexTable = null;
+    }
   }
 
   @Override
@@ -143,10 +204,8 @@ public class HBaseEPGMStore implements
     // write graph to Put
     put = graphHeadHandler.writeGraphHead(put, graphHead);
     // write to table
-    graphHeadTable.put(put);
-    if (autoFlush) {
-      admin.flush(graphHeadTable.getName());
-    }
+    write(graphHeadTable, put);
+    writeIndex(graphHeadIndexTable, put);
   }
 
   @Override
@@ -157,10 +216,8 @@ public class HBaseEPGMStore implements
     // write vertex data to Put
     put = vertexHandler.writeVertex(put, vertexData);
     // write to table
-    vertexTable.put(put);
-    if (autoFlush) {
-      admin.flush(vertexTable.getName());
-    }
+    write(vertexTable, put);
+    writeIndex(vertexIndexTable, put);
   }
 
   @Override
@@ -171,10 +228,8 @@ public class HBaseEPGMStore implements
     Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
     // write edge data to Put
     put = edgeHandler.writeEdge(put, edgeData);
-    edgeTable.put(put);
-    if (autoFlush) {
-      admin.flush(edgeTable.getName());
-    }
+    write(edgeTable, put);
+    writeIndex(edgeIndexTable, put);
   }
 
   @Override
@@ -256,6 +311,12 @@ public class HBaseEPGMStore implements
     @Nullable ElementQuery<HBaseElementFilter<EPGMGraphHead>> query,
     int cacheSize
   ) throws IOException {
+    HBaseIndexRowKeyIterator rowKeys = lookupIndex(graphHeadIndexTable, query, cacheSize);
+    if (rowKeys != null) {
+      return new HBaseGraphIterator(
+        getRows(graphHeadTable, rowKeys, query, cacheSize), rowKeys, config.getGraphHeadHandler(), query);
+    }
+
     Scan scan = new Scan();
     scan.setCaching(cacheSize);
     scan.setMaxVersions(1);
@@ -264,7 +325,8 @@ public class HBaseEPGMStore implements
       attachFilter(query, scan, config.getGraphHeadHandler().isSpreadingByteUsed());
     }
 
-    return new HBaseGraphIterator(graphHeadTable.getScanner(scan), config.getGraphHeadHandler());
+    return new HBaseGraphIterator(
+      graphHeadTable.getScanner(scan), config.getGraphHeadHandler(), query);
   }
 
   @Nonnull
@@ -273,6 +335,12 @@ public class HBaseEPGMStore implements
     @Nullable ElementQuery<HBaseElementFilter<EPGMVertex>> query,
     int cacheSize
   ) throws IOException {
+    HBaseIndexRowKeyIterator rowKeys = lookupIndex(vertexIndexTable, query, cacheSize);
+    if (rowKeys != null) {
+      return new HBaseVertexIterator(
+        getRows(vertexTable, rowKeys, query, cacheSize), rowKeys, config.getVertexHandler(), query);
+    }
+
     Scan scan = new Scan();
     scan.setCaching(cacheSize);
     scan.setMaxVersions(1);
@@ -281,7 +349,8 @@ public class HBaseEPGMStore implements
       attachFilter(query, scan, config.getVertexHandler().isSpreadingByteUsed());
     }
 
-    return new HBaseVertexIterator(vertexTable.getScanner(scan), config.getVertexHandler());
+    return new HBaseVertexIterator(
+      vertexTable.getScanner(scan), config.getVertexHandler(), query);
   }
 
   @Nonnull
@@ -290,6 +359,12 @@ public class HBaseEPGMStore implements
     @Nullable ElementQuery<HBaseElementFilter<EPGMEdge>> query,
     int cacheSize
   ) throws IOException {
+    HBaseIndexRowKeyIterator rowKeys = lookupIndex(edgeIndexTable, query, cacheSize);
+    if (rowKeys != null) {
+      return new HBaseEdgeIterator(
+        getRows(edgeTable, rowKeys, query, cacheSize), rowKeys, config.getEdgeHandler(), query);
+    }
+
     Scan scan = new Scan();
     scan.setCaching(cacheSize);
     scan.setMaxVersions(1);
@@ -298,16 +373,51 @@ public class HBaseEPGMStore implements
       attachFilter(query, scan, config.getEdgeHandler().isSpreadingByteUsed());
     }
 
-    return new HBaseEdgeIterator(edgeTable.getScanner(scan), config.getEdgeHandler());
+    return new HBaseEdgeIterator(
+      edgeTable.getScanner(scan), config.getEdgeHandler(), query);
   }
 
+  /**
+   * Enable or disable auto flush. With auto flush enabled, buffered writers send each element to
+   * the region servers immediately. Without a write buffer size configured, elements are written
+   * synchronously regardless of this flag.
+   *
+   * @param autoFlush true, if buffered elements should be sent immediately
+   */
   @Override
   public void setAutoFlush(boolean autoFlush) {
     this.autoFlush = autoFlush;
   }
 
+  /**
+   * Set a callback for asynchronous write failures. Elements are sent to the region servers in
+   * batches if a write buffer size is configured, so a failed write is only detected after the
+   * write call returned. Without a callback, such failures are thrown by the next write or flush.
+   *
+   * @param listener write failure callback, or null to throw failures
+   */
+  public void setWriteExceptionListener(
+    @Nullable BufferedMutator.ExceptionListener listener
+  ) {
+    this.writeExceptionListener = listener;
+  }
+
+  /**
+   * Send all buffered elements to the region servers. In contrast to {@link #flush()}, this does
+   * not flush the memstores of the region servers. Without a write buffer size configured, there
+   * are no buffered elements.
+   *
+   * @throws IOException if sending the buffered elements fails
+   */
+  public void flushWriteBuffers() throws IOException {
+    for (BufferedMutator mutator : mutators.values()) {
+      mutator.flush();
+    }
+  }
+
   @Override
   public void flush() throws IOException {
+    flushWriteBuffers();
     admin.flush(vertexTable.getName());
     admin.flush(edgeTable.getName());
     admin.flush(graphHeadTable.getName());
@@ -315,13 +425,22 @@ public class HBaseEPGMStore implements
 
   @Override
   public void close() throws IOException {
+    for (BufferedMutator mutator : mutators.values()) {
+      mutator.close();
+    }
+    mutators.clear();
     vertexTable.close();
     edgeTable.close();
     graphHeadTable.close();
+    if (config.isSecondaryIndexEnabled()) {
+      graphHeadIndexTable.close();
+      vertexIndexTable.close();
+      edgeIndexTable.close();
+    }
   }
 
   /**
-   * First disable, then drop all three tables.
+   * First disable, then drop all three tables and their index tables.
    *
    * @throws IOException on error
    */
@@ -333,6 +452,16 @@ public class HBaseEPGMStore implements
     admin.deleteTable(vertexTable.getName());
     admin.deleteTable(edgeTable.getName());
     admin.deleteTable(graphHeadTable.getName());
+
+    if (config.isSecondaryIndexEnabled()) {
+      admin.disableTable(vertexIndexTable.getName());
+      admin.disableTable(edgeIndexTable.getName());
+      admin.disableTable(graphHeadIndexTable.getName());
+
+      admin.deleteTable(vertexIndexTable.getName());
+      admin.deleteTable(edgeIndexTable.getName());
+      admin.deleteTable(graphHeadIndexTable.getName());
+    }
   }
 
   /**
@@ -348,10 +477,181 @@ public class HBaseEPGMStore implements
     admin.truncateTable(getConfig().getGraphTableName(), true);
     admin.truncateTable(getConfig().getVertexTableName(), true);
     admin.truncateTable(getConfig().getEdgeTableName(), true);
+
+    if (config.isSecondaryIndexEnabled()) {
+      admin.disableTable(graphHeadIndexTable.getName());
+      admin.disableTable(vertexIndexTable.getName());
+      admin.disableTable(edgeIndexTable.getName());
+
+      admin.truncateTable(graphHeadIndexTable.getName(), true);
+      admin.truncateTable(vertexIndexTable.getName(), true);
+      admin.truncateTable(edgeIndexTable.getName(), true);
+    }
   }
 
   /**
-   * Attach a HBase filter represented by the given query to the given scan instance.
+   * Get the buffered writer for the given table, which is created on first use.
+   *
+   * @param table table to write
+   * @return buffered writer configured by the store configuration
+   * @throws IOException if creating the writer fails
+   */
+  private BufferedMutator getMutator(Table table) throws IOException {
+    BufferedMutator mutator = mutators.get(table.getName());
+    if (mutator == null) {
+      BufferedMutatorParams params = new BufferedMutatorParams(table.getName())
+        .listener(this::onWriteException)
+        .writeBufferSize(config.getWriteBufferSize());
+      mutator = admin.getConnection().getBufferedMutator(params);
+      mutators.put(table.getName(), mutator);
+    }
+    return mutator;
+  }
+
+  /**
+   * Write the given puts to a table. Without a write buffer size configured, the puts are written
+   * synchronously. Otherwise, they are added to the write buffer of the table, which is sent to
+   * the region servers once it is full, or immediately if auto flush is enabled.
+   *
+   * @param table table to write
+   * @param puts puts to write
+   * @throws IOException if writing the puts or sending the buffer fails
+   */
+  private void write(Table table, List<Put> puts) throws IOException {
+    for (Put put : puts) {
+      put.setDurability(config.getDurability());
+    }
+    if (config.getWriteBufferSize() <= 0) {
+      table.put(puts);
+      return;
+    }
+    BufferedMutator mutator = getMutator(table);
+    mutator.mutate(puts);
+    if (autoFlush) {
+      mutator.flush();
+    }
+  }
+
+  /**
+   * Write an element put to its table.
+   *
+   * @param table element table
+   * @param put element put
+   * @throws IOException if writing the put fails
+   */
+  private void write(Table table, Put put) throws IOException {
+    write(table, Collections.singletonList(put));
+  }
+
+  /**
+   * Write the index entries of an element to the given index table.
+   *
+   * @param indexTable index table, null if indexes are disabled
+   * @param elementPut put of the written element
+   * @throws IOException if writing the index entries fails
+   */
+  private void writeIndex(@Nullable Table indexTable, Put elementPut) throws IOException {
+    if (indexTable == null) {
+      return;
+    }
+    List<Put> indexPuts = config.getIndexHandler().createIndexPuts(elementPut);
+    if (!indexPuts.isEmpty()) {
+      write(indexTable, indexPuts);
+    }
+  }
+
+  /**
+   * Find the row keys of the elements covered by the filter of the given query in a secondary
+   * index. The index is only used for queries without id ranges, whose filter is selective,
+   * i.e. restricts the elements to a label and a value of an indexed property.
+   *
+   * @param indexTable index table, null if indexes are disabled
+   * @param query element query
+   * @param caching number of index rows fetched per request
+   * @param <T> element type
+   * @return row keys of the elements that may fulfill the query, or null if the index can not
+   * be used for the query
+   */
+  @Nullable
+  private <T extends Element> HBaseIndexRowKeyIterator lookupIndex(
+    @Nullable Table indexTable,
+    @Nullable ElementQuery<HBaseElementFilter<T>> query,
+    int caching
+  ) {
+    if (indexTable == null || query == null || query.getQueryRanges() != null ||
+      query.getFilterPredicate() == null) {
+      return null;
+    }
+    HBaseIndexHandler indexHandler = config.getIndexHandler();
+    List<byte[]> prefixes = query.getFilterPredicate().getIndexPrefixes(indexHandler, null);
+    if (prefixes == null) {
+      return null;
+    }
+    // scan each prefix once
+    Set<byte[]> uniquePrefixes = new TreeSet<>(Bytes.BYTES_COMPARATOR);
+    uniquePrefixes.addAll(prefixes);
+    return new HBaseIndexRowKeyIterator(indexTable, indexHandler, uniquePrefixes, caching);
+  }
+
+  /**
+   * Read the rows with the given keys by batches of point gets. The filter of the query is
+   * evaluated by the region servers, since the index may refer to elements that do no longer
+   * fulfill it.
+   *
+   * @param table element table
+   * @param rowKeys row keys to read
+   * @param query element query
+   * @param batchSize number of rows read per request
+   * @param <T> element type
+   * @return iterator over the non-empty rows
+   */
+  private <T extends Element> Iterator<Result> getRows(
+    Table table,
+    Iterator<byte[]> rowKeys,
+    ElementQuery<HBaseElementFilter<T>> query,
+    int batchSize
+  ) {
+    Iterator<List<byte[]>> batches = Iterators.partition(rowKeys, batchSize);
+    return Iterators.concat(Iterators.transform(batches, batch -> {
+      List<Get> gets = new ArrayList<>(batch.size());
+      for (byte[] rowKey : batch) {
+        Get get = new Get(rowKey);
+        get.setFilter(query.getFilterPredicate().toHBaseFilter(false));
+        // read the projected properties only, requires the filter to be attached before
+        if (query.getPropertyProjection() != null) {
+          HBaseFilterUtils.attachProjection(get, query.getPropertyProjection());
+        }
+        gets.add(get);
+      }
+      try {
+        return Arrays.stream(table.get(gets)).filter(result -> !result.isEmpty()).iterator();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }));
+  }
+
+  /**
+   * Called by the buffered writers on failed writes.
+   *
+   * @param exception write failure
+   * @param mutator buffered writer the failure occurred in
+   * @throws RetriesExhaustedWithDetailsException if no write failure callback is set
+   */
+  private void onWriteException(
+    RetriesExhaustedWithDetailsException exception,
+    BufferedMutator mutator
+  ) throws RetriesExhaustedWithDetailsException {
+    BufferedMutator.ExceptionListener listener = writeExceptionListener;
+    if (listener == null) {
+      throw exception;
+    }
+    listener.onException(exception, mutator);
+  }
+
+  /**
+   * Attach a HBase filter and the property projection represented by the given query to the
+   * given scan instance.
    *
    * @param query the query that represents a filter
    * @param scan the HBase scan instance on which the filter will be applied
@@ -378,6 +678,11 @@ public class HBaseEPGMStore implements
     if (!conjunctFilters.getFilters().isEmpty()) {
       scan.setFilter(conjunctFilters);
     }
+
+    // read the projected properties only, requires the filter to be attached before
+    if (query.getPropertyProjection() != null) {
+      HBaseFilterUtils.attachProjection(scan, query.getPropertyProjection());
+    }
   }
 
 }
@@ -60,4 +60,20 @@ public final class HBaseConstants {
    * Column identifier for target vertex identifier.
    */
   public static final String COL_TARGET = "t";
+  /**
+   * Table name suffix of the secondary index tables.
+   */
+  public static final String TABLE_INDEX_SUFFIX = "_index";
+  /**
+   * Column family name for secondary index entries.
+   */
+  public static final String CF_INDEX = "i";
+  /**
+   * Column identifier for the row key of an indexed element.
+   */
+  public static final String COL_ROW_KEY = "r";
+  /**
+   * Table descriptor key of the fingerprint of the dictionary used to encode property qualifiers.
+   */
+  public static final String KEY_DICTIONARY_FINGERPRINT = "gradoop.dictionary.fingerprint";
 }
@@ -29,6 +29,8 @@ import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
 import org.gradoop.storage.hbase.impl.api.GraphHeadHandler;
 import org.gradoop.storage.hbase.impl.api.VertexHandler;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
+import org.gradoop.storage.hbase.utils.PropertyKeyEncoder;
 
 import java.io.IOException;
 
@@ -91,6 +93,9 @@ public class HBaseEPGMStoreFactory {
       gradoopHBaseConfig.getEdgeTableName(),
       gradoopHBaseConfig.getGraphTableName()
     );
+    if (gradoopHBaseConfig.isSecondaryIndexEnabled()) {
+      createIndexTablesIfNotExists(connection.getAdmin(), gradoopHBaseConfig);
+    }
 
     Table graphDataTable = connection.getTable(gradoopHBaseConfig.getGraphTableName());
     Table vertexDataTable = connection.getTable(gradoopHBaseConfig.getVertexTableName());
@@ -179,18 +184,81 @@ public class HBaseEPGMStoreFactory {
   ) throws IOException {
 
     if (!admin.tableExists(vertexTableName)) {
-      vertexHandler.createTable(admin, new HTableDescriptor(vertexTableName));
+      vertexHandler.createTable(admin, createTableDescriptor(vertexTableName));
+    } else {
+      checkTableDescriptor(admin, vertexTableName);
     }
     if (!admin.tableExists(edgeTableName)) {
-      edgeHandler.createTable(admin, new HTableDescriptor(edgeTableName));
+      edgeHandler.createTable(admin, createTableDescriptor(edgeTableName));
+    } else {
+      checkTableDescriptor(admin, edgeTableName);
     }
     if (!admin.tableExists(graphTableName)) {
-      graphHeadHandler.createTable(admin, new HTableDescriptor(graphTableName));
+      graphHeadHandler.createTable(admin, createTableDescriptor(graphTableName));
+    } else {
+      checkTableDescriptor(admin, graphTableName);
+    }
+
+    admin.close();
+  }
+
+  /**
+   * Creates the secondary index tables of the graph store.
+   *
+   * @param admin HBase admin instance
+   * @param gradoopHBaseConfig Gradoop HBase configuration with enabled secondary indexes
+   * @throws IOException if checking for the existence of the tables fails
+   */
+  private static void createIndexTablesIfNotExists(
+    final Admin admin,
+    final GradoopHBaseConfig gradoopHBaseConfig
+  ) throws IOException {
+    HBaseIndexHandler indexHandler = gradoopHBaseConfig.getIndexHandler();
+
+    for (TableName indexTableName : new TableName[] {
+      gradoopHBaseConfig.getVertexIndexTableName(),
+      gradoopHBaseConfig.getEdgeIndexTableName(),
+      gradoopHBaseConfig.getGraphIndexTableName()}) {
+      if (!admin.tableExists(indexTableName)) {
+        indexHandler.createTable(admin, createTableDescriptor(indexTableName));
+      } else {
+        checkTableDescriptor(admin, indexTableName);
+      }
     }
 
     admin.close();
   }
 
+  /**
+   * Creates the descriptor of a new table. The descriptor records the fingerprint of the global
+   * dictionary, if any, which was used to encode the property qualifiers.
+   *
+   * @param tableName table name
+   * @return table descriptor
+   */
+  private static HTableDescriptor createTableDescriptor(final TableName tableName) {
+    HTableDescriptor tableDescriptor = new HTableDescriptor(tableName);
+    String fingerprint = PropertyKeyEncoder.getFingerprint();
+    if (fingerprint != null) {
+      tableDescriptor.setValue(HBaseConstants.KEY_DICTIONARY_FINGERPRINT, fingerprint);
+    }
+    return tableDescriptor;
+  }
+
+  /**
+   * Checks that an existing table was created with the installed global dictionary.
+   *
+   * @param admin HBase admin instance
+   * @param tableName table name
+   * @throws IOException if reading the table descriptor fails
+   * @throws IllegalStateException if the table was created with another dictionary
+   */
+  private static void checkTableDescriptor(final Admin admin, final TableName tableName)
+    throws IOException {
+    PropertyKeyEncoder.checkFingerprint(
+      admin.getTableDescriptor(tableName).getValue(HBaseConstants.KEY_DICTIONARY_FINGERPRINT));
+  }
+
   /**
    * Deletes the tables given tables.
    *
@@ -217,6 +285,16 @@ public class HBaseEPGMStoreFactory {
       deleteTable(admin, graphDataTableName);
     }
 
+    // secondary index tables, if the store was created with indexes
+    for (TableName tableName : new TableName[] {vertexDataTableName, edgeDataTableName,
+      graphDataTableName}) {
+      TableName indexTableName =
+        TableName.valueOf(tableName.getNameAsString() + HBaseConstants.TABLE_INDEX_SUFFIX);
+      if (admin.tableExists(indexTableName)) {
+        deleteTable(admin, indexTableName);
+      }
+    }
+
     admin.close();
   }
 
@@ -25,6 +25,7 @@ import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
 import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
 import org.gradoop.storage.hbase.impl.api.ElementHandler;
+import org.gradoop.storage.hbase.utils.PropertyKeyEncoder;
 import org.gradoop.storage.hbase.utils.RowKeyDistributor;
 
 import javax.annotation.Nonnull;
@@ -100,8 +101,9 @@ public abstract class HBaseElementHandler implements ElementHandler {
   public Put writeProperty(final Put put, Property property) {
     byte[] type = PropertyValueUtils.BytesUtils.getTypeByte(property.getValue());
     byte[] bytesWithoutType = PropertyValueUtils.BytesUtils.getRawBytesWithoutType(property.getValue());
-    put.addColumn(CF_PROPERTY_TYPE_BYTES, Bytes.toBytes(property.getKey()), type);
-    put.addColumn(CF_PROPERTY_VALUE_BYTES, Bytes.toBytes(property.getKey()), bytesWithoutType);
+    byte[] qualifier = PropertyKeyEncoder.encode(property.getKey());
+    put.addColumn(CF_PROPERTY_TYPE_BYTES, qualifier, type);
+    put.addColumn(CF_PROPERTY_VALUE_BYTES, qualifier, bytesWithoutType);
     return put;
   }
 
@@ -131,7 +133,7 @@ public abstract class HBaseElementHandler implements ElementHandler {
 
     for (Map.Entry<byte[], byte[]> propertyColumn : typeFamilyMap.entrySet()) {
       properties.set(
-        Bytes.toString(propertyColumn.getKey()),
+        PropertyKeyEncoder.decode(propertyColumn.getKey()),
         PropertyValueUtils.BytesUtils.createFromTypeValueBytes(
           propertyColumn.getValue(),
           valueFamilyMap.get(propertyColumn.getKey())));
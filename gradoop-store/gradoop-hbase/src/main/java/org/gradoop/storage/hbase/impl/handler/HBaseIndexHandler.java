@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.handler;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
+import org.gradoop.storage.hbase.utils.PropertyKeyEncoder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Handles the secondary index tables of the element tables. An index table maps a label, an
+ * indexed property key and a property value to the elements with this label and property value.
+ * Labels alone are not indexed, since a label usually covers too many elements to read them by
+ * point gets instead of a scan.
+ *
+ * An index row key consists of the index entry, followed by the gradoop id of the element. The
+ * row key of the element in the element table is stored as cell value. Therefore all elements of
+ * an entry can be found by a short prefix scan.
+ *
+ * Index entries are only added on write, i.e. they may refer to elements that were changed
+ * afterwards. Elements read by the index have to be checked against the query predicate.
+ */
+public class HBaseIndexHandler implements Serializable {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Byte representation of the index column family.
+   */
+  private static final byte[] CF_INDEX_BYTES = Bytes.toBytes(HBaseConstants.CF_INDEX);
+
+  /**
+   * Byte representation of the element row key column identifier.
+   */
+  private static final byte[] COL_ROW_KEY_BYTES = Bytes.toBytes(HBaseConstants.COL_ROW_KEY);
+
+  /**
+   * Byte representation of the meta data column family.
+   */
+  private static final byte[] CF_META_BYTES = Bytes.toBytes(HBaseConstants.CF_META);
+
+  /**
+   * Byte representation of the label column identifier.
+   */
+  private static final byte[] COL_LABEL_BYTES = Bytes.toBytes(HBaseConstants.COL_LABEL);
+
+  /**
+   * Byte representation of the property type column family.
+   */
+  private static final byte[] CF_PROPERTY_TYPE_BYTES =
+    Bytes.toBytes(HBaseConstants.CF_PROPERTY_TYPE);
+
+  /**
+   * Byte representation of the property value column family.
+   */
+  private static final byte[] CF_PROPERTY_VALUE_BYTES =
+    Bytes.toBytes(HBaseConstants.CF_PROPERTY_VALUE);
+
+  /**
+   * Marker of property index entries.
+   */
+  private static final byte PROPERTY_ENTRY = 'p';
+
+  /**
+   * Separator of the variable length parts of an index entry.
+   */
+  private static final byte SEPARATOR = 0;
+
+  /**
+   * Property keys to index.
+   */
+  private final HashSet<String> indexedPropertyKeys;
+
+  /**
+   * Creates a new index handler.
+   *
+   * @param indexedPropertyKeys property keys to index
+   */
+  public HBaseIndexHandler(@Nonnull Set<String> indexedPropertyKeys) {
+    this.indexedPropertyKeys = new HashSet<>(indexedPropertyKeys);
+  }
+
+  /**
+   * Get the indexed property keys.
+   *
+   * @return indexed property keys
+   */
+  public Set<String> getIndexedPropertyKeys() {
+    return Collections.unmodifiableSet(indexedPropertyKeys);
+  }
+
+  /**
+   * Checks if values of the given property key are indexed.
+   *
+   * @param propertyKey property key
+   * @return true, if the property is indexed
+   */
+  public boolean isIndexed(@Nonnull String propertyKey) {
+    return indexedPropertyKeys.contains(propertyKey);
+  }
+
+  /**
+   * Creates the index table.
+   *
+   * @param admin HBase admin
+   * @param tableDescriptor descriptor of the index table
+   * @throws IOException if creating the table fails
+   */
+  public void createTable(final Admin admin, final HTableDescriptor tableDescriptor)
+    throws IOException {
+    tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_INDEX));
+    admin.createTable(tableDescriptor);
+  }
+
+  /**
+   * Creates the index entries of an element from the put writing it to the element table. The
+   * label and the property values are read from the put, so that the index entries refer to
+   * the (salted) row key the element is actually written to.
+   *
+   * @param elementPut put of an element, as created by the element handlers
+   * @return puts of all index entries of the element
+   */
+  public List<Put> createIndexPuts(@Nonnull Put elementPut) {
+    List<Put> puts = new ArrayList<>();
+    byte[] rowKey = elementPut.getRow();
+    // the row key ends with the gradoop id of the element
+    byte[] id = Bytes.tail(rowKey, GradoopId.ID_SIZE);
+
+    List<Cell> labelCells = elementPut.get(CF_META_BYTES, COL_LABEL_BYTES);
+    if (labelCells.isEmpty()) {
+      return puts;
+    }
+    byte[] label = CellUtil.cloneValue(labelCells.get(0));
+
+    for (String propertyKey : indexedPropertyKeys) {
+      byte[] qualifier = PropertyKeyEncoder.encode(propertyKey);
+      List<Cell> typeCells = elementPut.get(CF_PROPERTY_TYPE_BYTES, qualifier);
+      List<Cell> valueCells = elementPut.get(CF_PROPERTY_VALUE_BYTES, qualifier);
+      if (!typeCells.isEmpty() && !valueCells.isEmpty()) {
+        // type byte followed by the value is the raw representation of the property value
+        byte[] rawValue = Bytes.add(
+          CellUtil.cloneValue(typeCells.get(0)), CellUtil.cloneValue(valueCells.get(0)));
+        // index rows contain the plain key, an encoded qualifier may contain the separator
+        puts.add(createIndexPut(
+          getPropertyPrefix(label, Bytes.toBytes(propertyKey), rawValue), id, rowKey));
+      }
+    }
+    return puts;
+  }
+
+  /**
+   * Get the index row prefix of all elements with the given label and property value.
+   *
+   * @param label element label
+   * @param propertyKey indexed property key
+   * @param value property value
+   * @return index row prefix
+   */
+  public byte[] getPropertyPrefix(
+    @Nonnull String label,
+    @Nonnull String propertyKey,
+    @Nonnull PropertyValue value
+  ) {
+    return getPropertyPrefix(
+      Bytes.toBytes(label), Bytes.toBytes(propertyKey), value.getRawBytes());
+  }
+
+  /**
+   * Reads the element row key from an index row found by a scan for the given prefix.
+   *
+   * @param result index row
+   * @param prefix index row prefix the row was found by
+   * @return element row key, or null if the row belongs to an entry which has the given prefix
+   * as a proper prefix, e.g. a longer string property value
+   */
+  @Nullable
+  public byte[] readRowKey(@Nonnull Result result, @Nonnull byte[] prefix) {
+    if (result.getRow().length != prefix.length + GradoopId.ID_SIZE) {
+      return null;
+    }
+    return result.getValue(CF_INDEX_BYTES, COL_ROW_KEY_BYTES);
+  }
+
+  /**
+   * Get the index row prefix of all elements with the given label and property value.
+   *
+   * @param label byte representation of the label
+   * @param propertyKey byte representation of the property key
+   * @param rawValue raw bytes of the property value, including its type byte
+   * @return index row prefix
+   */
+  private byte[] getPropertyPrefix(byte[] label, byte[] propertyKey, byte[] rawValue) {
+    return Bytes.add(
+      Bytes.add(new byte[] {PROPERTY_ENTRY}, label, new byte[] {SEPARATOR}),
+      Bytes.add(propertyKey, new byte[] {SEPARATOR}),
+      rawValue);
+  }
+
+  /**
+   * Creates the put of an index entry.
+   *
+   * @param prefix index entry
+   * @param id element id
+   * @param rowKey row key of the element in its table
+   * @return index put
+   */
+  private Put createIndexPut(byte[] prefix, byte[] id, byte[] rowKey) {
+    Put put = new Put(Bytes.add(prefix, id));
+    put.addColumn(CF_INDEX_BYTES, COL_ROW_KEY_BYTES, rowKey);
+    return put;
+  }
+}
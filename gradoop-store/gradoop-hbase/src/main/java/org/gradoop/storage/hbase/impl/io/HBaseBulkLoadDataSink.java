@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.mapreduce.HFileOutputFormat2;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
+import org.gradoop.storage.hbase.impl.io.functions.BuildEdgeMutation;
+import org.gradoop.storage.hbase.impl.io.functions.BuildGraphHeadMutation;
+import org.gradoop.storage.hbase.impl.io.functions.BuildIndexMutations;
+import org.gradoop.storage.hbase.impl.io.functions.BuildVertexMutation;
+import org.gradoop.storage.hbase.impl.io.functions.MutationToRegionRow;
+import org.gradoop.storage.hbase.impl.io.functions.RegionPartitioner;
+import org.gradoop.storage.hbase.impl.io.functions.RegionRowToCells;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes EPGM elements to HFiles and bulk loads them into HBase, bypassing the write path of
+ * the region servers. This is meant for the initial load of large graphs.
+ *
+ * Elements are partitioned by the regions of the target tables and sorted by their (salted)
+ * row keys, so that each task writes the HFiles of one region. Since the HFiles can only be
+ * loaded after they are written, {@link #bulkLoad()} has to be called after the Flink job
+ * was executed:
+ *
+ * <pre>
+ * sink.write(graph);
+ * env.execute();
+ * sink.bulkLoad();
+ * </pre>
+ */
+public class HBaseBulkLoadDataSink extends HBaseBase implements DataSink {
+
+  /**
+   * Directory the HFiles are written to before loading.
+   */
+  private final String stagingDirectory;
+
+  /**
+   * Creates a new HBase bulk load data sink.
+   *
+   * @param epgmStore store implementation
+   * @param flinkConfig gradoop flink execute config
+   * @param stagingDirectory directory the HFiles are written to, must not exist
+   */
+  public HBaseBulkLoadDataSink(
+    @Nonnull HBaseEPGMStore epgmStore,
+    @Nonnull GradoopFlinkConfig flinkConfig,
+    @Nonnull String stagingDirectory
+  ) {
+    super(epgmStore, flinkConfig);
+    this.stagingDirectory = stagingDirectory;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overWrite) throws IOException {
+    if (overWrite) {
+      getStore().truncateTables();
+    }
+
+    writeHFiles(graphCollection.getGraphHeads()
+        .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler())),
+      getHBaseConfig().getGraphTableName(), getHBaseConfig().getGraphIndexTableName());
+
+    writeHFiles(graphCollection.getVertices()
+        .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler())),
+      getHBaseConfig().getVertexTableName(), getHBaseConfig().getVertexIndexTableName());
+
+    writeHFiles(graphCollection.getEdges()
+        .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler())),
+      getHBaseConfig().getEdgeTableName(), getHBaseConfig().getEdgeIndexTableName());
+  }
+
+  /**
+   * Loads the HFiles written by the executed Flink job into the tables of the store and
+   * deletes the staging directory afterwards.
+   *
+   * @throws Exception if loading the HFiles fails
+   */
+  public void bulkLoad() throws Exception {
+    Configuration conf = HBaseConfiguration.create();
+    LoadIncrementalHFiles loader = new LoadIncrementalHFiles(conf);
+    Path stagingPath = new Path(stagingDirectory);
+    FileSystem fs = stagingPath.getFileSystem(conf);
+
+    try (Connection connection = ConnectionFactory.createConnection(conf);
+      Admin admin = connection.getAdmin()) {
+      for (TableName tableName : getTableNames()) {
+        Path tablePath = getStagingPath(tableName);
+        // no HFiles are written for empty element sets
+        if (!fs.exists(tablePath)) {
+          continue;
+        }
+        try (Table table = connection.getTable(tableName);
+          RegionLocator regionLocator = connection.getRegionLocator(tableName)) {
+          loader.doBulkLoad(tablePath, admin, table, regionLocator);
+        }
+      }
+    }
+
+    fs.delete(stagingPath, true);
+  }
+
+  /**
+   * Writes the HFiles of the given element mutations and, if the secondary indexes are enabled,
+   * of the index entries of the elements.
+   *
+   * @param mutations element mutations
+   * @param tableName name of the element table
+   * @param indexTableName name of the index table
+   * @throws IOException if fetching the table regions fails
+   */
+  private void writeHFiles(
+    DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    TableName tableName,
+    TableName indexTableName
+  ) throws IOException {
+    writeHFiles(mutations, tableName);
+
+    if (getHBaseConfig().isSecondaryIndexEnabled()) {
+      writeHFiles(mutations.flatMap(new BuildIndexMutations(
+        getHBaseConfig().getIndexHandler(), getHBaseConfig().getDurability())), indexTableName);
+    }
+  }
+
+  /**
+   * Writes the given element mutations to HFiles matching the regions of the given table.
+   *
+   * @param mutations element mutations
+   * @param tableName name of the table to load
+   * @throws IOException if fetching the table regions fails
+   */
+  private void writeHFiles(DataSet<Tuple2<GradoopId, Mutation>> mutations, TableName tableName)
+    throws IOException {
+    Job job = Job.getInstance(HBaseConfiguration.create());
+    byte[][] regionStartKeys;
+
+    try (Connection connection = ConnectionFactory.createConnection(job.getConfiguration());
+      Table table = connection.getTable(tableName);
+      RegionLocator regionLocator = connection.getRegionLocator(tableName)) {
+      // compression, bloom filter, block size and encoding of the column families
+      HFileOutputFormat2.configureIncrementalLoadMap(job, table);
+      regionStartKeys = regionLocator.getStartKeys();
+    }
+    FileOutputFormat.setOutputPath(job, getStagingPath(tableName));
+
+    int regionCount = regionStartKeys.length;
+
+    mutations
+      .map(new MutationToRegionRow(regionStartKeys))
+      .partitionCustom(new RegionPartitioner(), 0).setParallelism(regionCount)
+      .sortPartition(1, Order.ASCENDING).setParallelism(regionCount)
+      .flatMap(new RegionRowToCells()).setParallelism(regionCount)
+      .output(new HadoopOutputFormat<ImmutableBytesWritable, Cell>(new HFileOutputFormat2(), job))
+      .setParallelism(regionCount);
+  }
+
+  /**
+   * Get the names of all tables of the store, including the index tables if enabled.
+   *
+   * @return table names
+   */
+  private List<TableName> getTableNames() {
+    List<TableName> tableNames = new ArrayList<>(Arrays.asList(
+      getHBaseConfig().getGraphTableName(),
+      getHBaseConfig().getVertexTableName(),
+      getHBaseConfig().getEdgeTableName()));
+    if (getHBaseConfig().isSecondaryIndexEnabled()) {
+      tableNames.add(getHBaseConfig().getGraphIndexTableName());
+      tableNames.add(getHBaseConfig().getVertexIndexTableName());
+      tableNames.add(getHBaseConfig().getEdgeIndexTableName());
+    }
+    return tableNames;
+  }
+
+  /**
+   * Get the staging directory of the HFiles of a table.
+   *
+   * @param tableName table name
+   * @return staging path
+   */
+  private Path getStagingPath(TableName tableName) {
+    return new Path(stagingDirectory, tableName.getNameAsString());
+  }
+}
@@ -15,15 +15,21 @@
  */
 package org.gradoop.storage.hbase.impl.io;
 
+import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.hbase.impl.io.functions.BuildEdgeMutation;
 import org.gradoop.storage.hbase.impl.io.functions.BuildGraphHeadMutation;
+import org.gradoop.storage.hbase.impl.io.functions.BuildIndexMutations;
 import org.gradoop.storage.hbase.impl.io.functions.BuildVertexMutation;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
 
@@ -36,6 +42,11 @@ import java.io.IOException;
  */
 public class HBaseDataSink extends HBaseBase implements DataSink {
 
+  /**
+   * HBase configuration key of the client side write buffer size.
+   */
+  private static final String WRITE_BUFFER_SIZE_KEY = "hbase.client.write.buffer";
+
   /**
    * Creates a new HBase data sink.
    *
@@ -91,13 +102,10 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
     throws IOException {
 
     // write (graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName().getNameAsString());
-
-    collection.getGraphHeads()
-      .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(collection.getGraphHeads()
+        .map(new BuildGraphHeadMutation(
+          getHBaseConfig().getGraphHeadHandler(), getHBaseConfig().getDurability())),
+      getHBaseConfig().getGraphTableName(), getHBaseConfig().getGraphIndexTableName());
   }
 
   /**
@@ -110,13 +118,10 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
   private void writeVertices(final GraphCollection collection) throws IOException {
 
     // write (vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName().getNameAsString());
-
-    collection.getVertices()
-      .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(collection.getVertices()
+        .map(new BuildVertexMutation(
+          getHBaseConfig().getVertexHandler(), getHBaseConfig().getDurability())),
+      getHBaseConfig().getVertexTableName(), getHBaseConfig().getVertexIndexTableName());
   }
 
   /**
@@ -129,12 +134,51 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
   private void writeEdges(final GraphCollection collection) throws IOException {
 
     // write (edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName().getNameAsString());
+    writeMutations(collection.getEdges()
+        .map(new BuildEdgeMutation(
+          getHBaseConfig().getEdgeHandler(), getHBaseConfig().getDurability())),
+      getHBaseConfig().getEdgeTableName(), getHBaseConfig().getEdgeIndexTableName());
+  }
+
+  /**
+   * Writes the given element mutations to the given table and, if the secondary indexes are
+   * enabled, the index entries of the elements to the given index table.
+   *
+   * @param mutations element mutations
+   * @param tableName name of the element table
+   * @param indexTableName name of the index table
+   * @throws IOException if fetching mapreduce instance failed
+   */
+  private void writeMutations(
+    DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    TableName tableName,
+    TableName indexTableName
+  ) throws IOException {
+    mutations.output(new HadoopOutputFormat<>(new TableOutputFormat<>(), createJob(tableName)));
+
+    if (getHBaseConfig().isSecondaryIndexEnabled()) {
+      mutations
+        .flatMap(new BuildIndexMutations(
+          getHBaseConfig().getIndexHandler(), getHBaseConfig().getDurability()))
+        .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), createJob(indexTableName)));
+    }
+  }
 
-    collection.getEdges()
-      .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+  /**
+   * Creates the mapreduce job writing to the given table. The {@link TableOutputFormat} writes
+   * through a buffered mutator, whose buffer size is taken from the HBase configuration.
+   *
+   * @param tableName name of the table to write
+   * @return mapreduce job instance
+   * @throws IOException if fetching mapreduce instance failed
+   */
+  private Job createJob(TableName tableName) throws IOException {
+    Job job = Job.getInstance();
+    job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, tableName.getNameAsString());
+    if (getHBaseConfig().getWriteBufferSize() > 0) {
+      job.getConfiguration()
+        .setLong(WRITE_BUFFER_SIZE_KEY, getHBaseConfig().getWriteBufferSize());
+    }
+    return job;
   }
 }
@@ -25,7 +25,6 @@ import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.tuple.ValueOf1;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.common.io.FilterableDataSource;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
@@ -99,39 +98,62 @@ public class HBaseDataSource extends HBaseBase
     this.edgeQuery = edgeQuery;
   }
 
+  /**
+   * Scans the vertex and edge tables once and combines their content into a single new graph.
+   * The graph head table is not read.
+   *
+   * {@inheritDoc}
+   */
   @Override
   public LogicalGraph getLogicalGraph() {
-    return getGraphCollection().reduce(new ReduceCombination<>());
+    return getFlinkConfig().getLogicalGraphFactory().fromDataSets(readVertices(), readEdges());
   }
 
   @Override
   public GraphCollection getGraphCollection() {
     GradoopFlinkConfig config = getFlinkConfig();
     GraphCollectionFactory factory = config.getGraphCollectionFactory();
-    HBaseEPGMStore store = getStore();
 
     DataSet<EPGMGraphHead> graphHeads = config.getExecutionEnvironment()
       .createInput(new GraphHeadTableInputFormat(
           getHBaseConfig().getGraphHeadHandler().applyQuery(graphHeadQuery),
-          store.getGraphHeadName()),
+          getStore().getGraphHeadName()),
         new TupleTypeInfo<>(TypeExtractor.createTypeInfo(factory.getGraphHeadFactory().getType())))
       .map(new ValueOf1<>());
 
-    DataSet<EPGMVertex> vertices = config.getExecutionEnvironment()
+    return factory.fromDataSets(graphHeads, readVertices(), readEdges());
+  }
+
+  /**
+   * Reads the vertices matching the vertex query from the vertex table.
+   *
+   * @return vertices
+   */
+  private DataSet<EPGMVertex> readVertices() {
+    GradoopFlinkConfig config = getFlinkConfig();
+    return config.getExecutionEnvironment()
       .createInput(new VertexTableInputFormat(
           getHBaseConfig().getVertexHandler().applyQuery(vertexQuery),
-          store.getVertexTableName()),
-        new TupleTypeInfo<>(TypeExtractor.createTypeInfo(factory.getVertexFactory().getType())))
+          getStore().getVertexTableName()),
+        new TupleTypeInfo<>(TypeExtractor.createTypeInfo(
+          config.getLogicalGraphFactory().getVertexFactory().getType())))
       .map(new ValueOf1<>());
+  }
 
-    DataSet<EPGMEdge> edges = config.getExecutionEnvironment()
+  /**
+   * Reads the edges matching the edge query from the edge table.
+   *
+   * @return edges
+   */
+  private DataSet<EPGMEdge> readEdges() {
+    GradoopFlinkConfig config = getFlinkConfig();
+    return config.getExecutionEnvironment()
       .createInput(new EdgeTableInputFormat(
           getHBaseConfig().getEdgeHandler().applyQuery(edgeQuery),
-          store.getEdgeTableName()),
-        new TupleTypeInfo<>(TypeExtractor.createTypeInfo(factory.getEdgeFactory().getType())))
+          getStore().getEdgeTableName()),
+        new TupleTypeInfo<>(TypeExtractor.createTypeInfo(
+          config.getLogicalGraphFactory().getEdgeFactory().getType())))
       .map(new ValueOf1<>());
-
-    return factory.fromDataSets(graphHeads, vertices, edges);
   }
 
   @Nonnull
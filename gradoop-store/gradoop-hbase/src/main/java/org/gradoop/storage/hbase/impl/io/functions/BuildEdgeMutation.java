@@ -18,6 +18,7 @@ package org.gradoop.storage.hbase.impl.io.functions;
 import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.client.Durability;
 import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -45,13 +46,29 @@ public class BuildEdgeMutation extends RichMapFunction<EPGMEdge, Tuple2<GradoopI
    */
   private final EdgeHandler edgeHandler;
 
+  /**
+   * Write-ahead-log durability of the created mutations.
+   */
+  private final Durability durability;
+
   /**
    * Creates rich map function.
    *
    * @param edgeHandler edge data handler
    */
   public BuildEdgeMutation(EdgeHandler edgeHandler) {
+    this(edgeHandler, Durability.USE_DEFAULT);
+  }
+
+  /**
+   * Creates rich map function.
+   *
+   * @param edgeHandler edge data handler
+   * @param durability write-ahead-log durability of the created mutations
+   */
+  public BuildEdgeMutation(EdgeHandler edgeHandler, Durability durability) {
     this.edgeHandler = edgeHandler;
+    this.durability = durability;
   }
 
   @Override
@@ -59,6 +76,7 @@ public class BuildEdgeMutation extends RichMapFunction<EPGMEdge, Tuple2<GradoopI
     GradoopId key = edge.getId();
     Put put = new Put(edgeHandler.getRowKey(edge.getId()));
     put = edgeHandler.writeEdge(put, edge);
+    put.setDurability(durability);
 
     reuseTuple.f0 = key;
     reuseTuple.f1 = put;
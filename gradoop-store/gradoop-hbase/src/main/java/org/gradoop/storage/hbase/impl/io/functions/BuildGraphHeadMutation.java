@@ -18,6 +18,7 @@ package org.gradoop.storage.hbase.impl.io.functions;
 import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.client.Durability;
 import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -46,13 +47,29 @@ public class BuildGraphHeadMutation extends
    */
   private final GraphHeadHandler graphHeadHandler;
 
+  /**
+   * Write-ahead-log durability of the created mutations.
+   */
+  private final Durability durability;
+
   /**
    * Creates rich map function.
    *
    * @param graphHeadHandler graph data handler
    */
   public BuildGraphHeadMutation(GraphHeadHandler graphHeadHandler) {
+    this(graphHeadHandler, Durability.USE_DEFAULT);
+  }
+
+  /**
+   * Creates rich map function.
+   *
+   * @param graphHeadHandler graph data handler
+   * @param durability write-ahead-log durability of the created mutations
+   */
+  public BuildGraphHeadMutation(GraphHeadHandler graphHeadHandler, Durability durability) {
     this.graphHeadHandler = graphHeadHandler;
+    this.durability = durability;
   }
 
   @Override
@@ -66,6 +83,7 @@ public class BuildGraphHeadMutation extends
     GradoopId key = graphHead.getId();
     Put put = new Put(graphHeadHandler.getRowKey(graphHead.getId()));
     put = graphHeadHandler.writeGraphHead(put, graphHead);
+    put.setDurability(durability);
 
     reuseTuple.f0 = key;
     reuseTuple.f1 = put;
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
+
+/**
+ * Creates the HBase {@link Mutation}s of the secondary index entries of an element from the
+ * {@link Put} writing the element, using the index handler.
+ */
+public class BuildIndexMutations implements
+  FlatMapFunction<Tuple2<GradoopId, Mutation>, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Index handler to create the index entries.
+   */
+  private final HBaseIndexHandler indexHandler;
+
+  /**
+   * Write-ahead-log durability of the created mutations.
+   */
+  private final Durability durability;
+
+  /**
+   * Creates the flat map function.
+   *
+   * @param indexHandler index handler
+   * @param durability write-ahead-log durability of the created mutations
+   */
+  public BuildIndexMutations(HBaseIndexHandler indexHandler, Durability durability) {
+    this.indexHandler = indexHandler;
+    this.durability = durability;
+  }
+
+  @Override
+  public void flatMap(Tuple2<GradoopId, Mutation> elementMutation,
+    Collector<Tuple2<GradoopId, Mutation>> out) {
+    for (Put indexPut : indexHandler.createIndexPuts((Put) elementMutation.f1)) {
+      indexPut.setDurability(durability);
+      out.collect(Tuple2.of(elementMutation.f0, indexPut));
+    }
+  }
+}
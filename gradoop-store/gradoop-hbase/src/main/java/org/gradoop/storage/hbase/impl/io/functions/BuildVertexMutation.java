@@ -18,6 +18,7 @@ package org.gradoop.storage.hbase.impl.io.functions;
 import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.client.Durability;
 import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -44,13 +45,29 @@ public class BuildVertexMutation extends RichMapFunction<EPGMVertex, Tuple2<Grad
    */
   private final VertexHandler vertexHandler;
 
+  /**
+   * Write-ahead-log durability of the created mutations.
+   */
+  private final Durability durability;
+
   /**
    * Creates rich map function.
    *
    * @param vertexHandler vertex data handler
    */
   public BuildVertexMutation(VertexHandler vertexHandler) {
+    this(vertexHandler, Durability.USE_DEFAULT);
+  }
+
+  /**
+   * Creates rich map function.
+   *
+   * @param vertexHandler vertex data handler
+   * @param durability write-ahead-log durability of the created mutations
+   */
+  public BuildVertexMutation(VertexHandler vertexHandler, Durability durability) {
     this.vertexHandler = vertexHandler;
+    this.durability = durability;
   }
 
   @Override
@@ -64,6 +81,7 @@ public class BuildVertexMutation extends RichMapFunction<EPGMVertex, Tuple2<Grad
     GradoopId key = vertex.getId();
     Put put = new Put(vertexHandler.getRowKey(vertex.getId()));
     put = vertexHandler.writeVertex(put, vertex);
+    put.setDurability(durability);
 
     reuseTuple.f0 = key;
     reuseTuple.f1 = put;
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serializes the cells of an element {@link Mutation} for bulk loading.
+ *
+ * The result tuple contains the index of the region the row belongs to, a sort key of the row
+ * and the serialized cells of the row, ordered as they have to be written to a HFile.
+ * The sort key is the row key with flipped sign bits, so that the signed byte array order
+ * of Flink equals the unsigned row key order of HBase.
+ */
+public class MutationToRegionRow implements
+  MapFunction<Tuple2<GradoopId, Mutation>, Tuple3<Integer, byte[], byte[]>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Sorted start keys of the table regions, the first one is empty.
+   */
+  private final byte[][] regionStartKeys;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple3<Integer, byte[], byte[]> reuseTuple;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param regionStartKeys sorted start keys of the table regions
+   */
+  public MutationToRegionRow(byte[][] regionStartKeys) {
+    this.regionStartKeys = regionStartKeys;
+    this.reuseTuple = new Tuple3<>();
+  }
+
+  @Override
+  public Tuple3<Integer, byte[], byte[]> map(Tuple2<GradoopId, Mutation> mutation)
+    throws Exception {
+    byte[] row = mutation.f1.getRow();
+
+    List<Cell> cells = new ArrayList<>();
+    mutation.f1.getFamilyCellMap().values().forEach(cells::addAll);
+    cells.sort(KeyValue.COMPARATOR);
+
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(byteStream)) {
+      for (Cell cell : cells) {
+        KeyValue.write(KeyValueUtil.ensureKeyValue(cell), out);
+      }
+    }
+
+    reuseTuple.f0 = getRegionIndex(row);
+    reuseTuple.f1 = toSortKey(row);
+    reuseTuple.f2 = byteStream.toByteArray();
+    return reuseTuple;
+  }
+
+  /**
+   * Finds the region containing the given row.
+   *
+   * @param row row key
+   * @return index of the region start key
+   */
+  private int getRegionIndex(byte[] row) {
+    int index = Arrays.binarySearch(regionStartKeys, row, Bytes.BYTES_COMPARATOR);
+    // not found: the region starting before the insertion point contains the row
+    return index >= 0 ? index : Math.max(0, -index - 2);
+  }
+
+  /**
+   * Flips the sign bit of each byte of the row key.
+   *
+   * @param row row key
+   * @return sort key
+   */
+  private static byte[] toSortKey(byte[] row) {
+    byte[] sortKey = new byte[row.length];
+    for (int i = 0; i < row.length; i++) {
+      sortKey[i] = (byte) (row[i] ^ 0x80);
+    }
+    return sortKey;
+  }
+}
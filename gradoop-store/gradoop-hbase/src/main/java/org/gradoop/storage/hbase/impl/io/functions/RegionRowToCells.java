@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+
+/**
+ * Deserializes the cells of a row created by {@link MutationToRegionRow} in HFile order.
+ */
+public class RegionRowToCells implements
+  FlatMapFunction<Tuple3<Integer, byte[], byte[]>, Tuple2<ImmutableBytesWritable, Cell>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  @Override
+  public void flatMap(Tuple3<Integer, byte[], byte[]> regionRow,
+    Collector<Tuple2<ImmutableBytesWritable, Cell>> out) throws Exception {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(regionRow.f2))) {
+      while (in.available() > 0) {
+        KeyValue cell = KeyValue.create(in);
+        out.collect(Tuple2.of(new ImmutableBytesWritable(cell.getRowArray(),
+          cell.getRowOffset(), cell.getRowLength()), cell));
+      }
+    }
+  }
+}
@@ -25,6 +25,7 @@ import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Base class for common functionality of HBase input formats
@@ -34,7 +35,8 @@ import javax.annotation.Nonnull;
 abstract class BaseTableInputFormat<E extends Element> extends TableInputFormat<Tuple1<E>> {
 
   /**
-   * Attach a HBase filter represented by the given query to the given scan instance.
+   * Attach a HBase filter and the property projection represented by the given query to the
+   * given scan instance.
    *
    * @param query the query that represents a filter
    * @param scan the HBase scan instance on which the filter will be applied
@@ -60,5 +62,22 @@ abstract class BaseTableInputFormat<E extends Element> extends TableInputFormat<
     if (!conjunctFilters.getFilters().isEmpty()) {
       scan.setFilter(conjunctFilters);
     }
+
+    // read the projected properties only, requires the filter to be attached before
+    if (query.getPropertyProjection() != null) {
+      HBaseFilterUtils.attachProjection(scan, query.getPropertyProjection());
+    }
+  }
+
+  /**
+   * Remove the properties of an element which were read to evaluate the filter of the given query
+   * only, but are not part of its property projection.
+   *
+   * @param element the element read from HBase
+   * @param query the query the element was read with, may be null
+   * @return the given element
+   */
+  E applyProjection(@Nonnull E element, @Nullable ElementQuery<HBaseElementFilter<E>> query) {
+    return query == null ? element : query.applyProjection(element);
   }
 }
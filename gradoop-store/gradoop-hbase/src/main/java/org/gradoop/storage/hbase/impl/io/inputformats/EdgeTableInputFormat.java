@@ -73,6 +73,7 @@ public class EdgeTableInputFormat extends BaseTableInputFormat<EPGMEdge> {
 
   @Override
   protected Tuple1<EPGMEdge> mapResultToTuple(Result result) {
-    return new Tuple1<>(edgeHandler.readEdge(result));
+    return new Tuple1<>(
+      applyProjection(edgeHandler.readEdge(result), edgeHandler.getQuery()));
   }
 }
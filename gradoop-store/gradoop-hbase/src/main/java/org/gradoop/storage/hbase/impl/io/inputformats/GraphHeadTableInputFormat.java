@@ -74,6 +74,7 @@ public class GraphHeadTableInputFormat extends BaseTableInputFormat<EPGMGraphHea
 
   @Override
   protected Tuple1<EPGMGraphHead> mapResultToTuple(Result result) {
-    return new Tuple1<>(graphHeadHandler.readGraphHead(result));
+    return new Tuple1<>(
+      applyProjection(graphHeadHandler.readGraphHead(result), graphHeadHandler.getQuery()));
   }
 }
@@ -73,6 +73,7 @@ public class VertexTableInputFormat extends BaseTableInputFormat<EPGMVertex> {
 
   @Override
   protected Tuple1<EPGMVertex> mapResultToTuple(Result result) {
-    return new Tuple1<>(vertexHandler.readVertex(result));
+    return new Tuple1<>(
+      applyProjection(vertexHandler.readVertex(result), vertexHandler.getQuery()));
   }
 }
@@ -19,8 +19,13 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Iterator;
 
 /**
@@ -29,15 +34,20 @@ import java.util.Iterator;
 public class HBaseEdgeIterator implements ClosableIterator<EPGMEdge> {
 
   /**
-   * HBase result scanner
+   * HBase result scanner, or the index scan if the rows were read by point gets
    */
-  private final ResultScanner scanner;
+  private final Closeable scanner;
 
   /**
    * Gradoop edge handler
    */
   private final EdgeHandler handler;
 
+  /**
+   * Query the edges were read with, may be null
+   */
+  private final ElementQuery<HBaseElementFilter<EPGMEdge>> query;
+
   /**
    * Inner result iterator
    */
@@ -55,14 +65,52 @@ public class HBaseEdgeIterator implements ClosableIterator<EPGMEdge> {
    * @param handler element handler for gradoop
    */
   public HBaseEdgeIterator(ResultScanner scanner, EdgeHandler handler) {
+    this(scanner, handler, null);
+  }
+
+  /**
+   * HBase EPGMGraphHead Iterator
+   *
+   * @param scanner HBase result scanner
+   * @param handler element handler for gradoop
+   * @param query query the edges were read with, may be null
+   */
+  public HBaseEdgeIterator(
+    ResultScanner scanner,
+    EdgeHandler handler,
+    @Nullable ElementQuery<HBaseElementFilter<EPGMEdge>> query
+  ) {
     this.scanner = scanner;
     this.handler = handler;
     this.it = scanner.iterator();
+    this.query = query;
+  }
+
+  /**
+   * Creates an iterator over rows read by point gets.
+   *
+   * @param results rows to iterate
+   * @param indexScan index scan the row keys of the rows were read by
+   * @param handler element handler for gradoop
+   * @param query query the edges were read with, may be null
+   */
+  public HBaseEdgeIterator(
+    Iterator<Result> results,
+    Closeable indexScan,
+    EdgeHandler handler,
+    @Nullable ElementQuery<HBaseElementFilter<EPGMEdge>> query
+  ) {
+    this.scanner = indexScan;
+    this.handler = handler;
+    this.it = results;
+    this.query = query;
   }
 
   @Override
-  public void close() {
-    scanner.close();
+  public void close() throws IOException {
+    if (scanner != null) {
+      scanner.close();
+    }
   }
 
   @Override
@@ -77,6 +125,8 @@ public class HBaseEdgeIterator implements ClosableIterator<EPGMEdge> {
 
   @Override
   public EPGMEdge next() {
-    return handler.readEdge(result);
+    EPGMEdge element = handler.readEdge(result);
+    // remove properties read for the filter only
+    return query == null ? element : query.applyProjection(element);
   }
 }
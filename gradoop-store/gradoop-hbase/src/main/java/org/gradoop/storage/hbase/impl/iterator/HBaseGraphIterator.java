@@ -19,8 +19,13 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.hbase.impl.api.GraphHeadHandler;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Iterator;
 
 /**
@@ -29,15 +34,20 @@ import java.util.Iterator;
 public class HBaseGraphIterator implements ClosableIterator<EPGMGraphHead> {
 
   /**
-   * HBase result scanner
+   * HBase result scanner, or the index scan if the rows were read by point gets
    */
-  private final ResultScanner scanner;
+  private final Closeable scanner;
 
   /**
    * Gradoop graph head handler
    */
   private final GraphHeadHandler handler;
 
+  /**
+   * Query the graph heads were read with, may be null
+   */
+  private final ElementQuery<HBaseElementFilter<EPGMGraphHead>> query;
+
   /**
    * inner result iterator_
    */
@@ -57,15 +67,53 @@ public class HBaseGraphIterator implements ClosableIterator<EPGMGraphHead> {
   public HBaseGraphIterator(
     ResultScanner scanner,
     GraphHeadHandler handler
+  ) {
+    this(scanner, handler, null);
+  }
+
+  /**
+   * HBase EPGMGraphHead Iterator
+   *
+   * @param scanner HBase result scanner
+   * @param handler element handler for gradoop
+   * @param query query the graph heads were read with, may be null
+   */
+  public HBaseGraphIterator(
+    ResultScanner scanner,
+    GraphHeadHandler handler,
+    @Nullable ElementQuery<HBaseElementFilter<EPGMGraphHead>> query
   ) {
     this.scanner = scanner;
     this.handler = handler;
     this.it = scanner.iterator();
+    this.query = query;
+  }
+
+  /**
+   * Creates an iterator over rows read by point gets.
+   *
+   * @param results rows to iterate
+   * @param indexScan index scan the row keys of the rows were read by
+   * @param handler element handler for gradoop
+   * @param query query the graph heads were read with, may be null
+   */
+  public HBaseGraphIterator(
+    Iterator<Result> results,
+    Closeable indexScan,
+    GraphHeadHandler handler,
+    @Nullable ElementQuery<HBaseElementFilter<EPGMGraphHead>> query
+  ) {
+    this.scanner = indexScan;
+    this.handler = handler;
+    this.it = results;
+    this.query = query;
   }
 
   @Override
-  public void close() {
-    scanner.close();
+  public void close() throws IOException {
+    if (scanner != null) {
+      scanner.close();
+    }
   }
 
   @Override
@@ -80,6 +128,8 @@ public class HBaseGraphIterator implements ClosableIterator<EPGMGraphHead> {
 
   @Override
   public EPGMGraphHead next() {
-    return handler.readGraphHead(result);
+    EPGMGraphHead element = handler.readGraphHead(result);
+    // remove properties read for the filter only
+    return query == null ? element : query.applyProjection(element);
   }
 }
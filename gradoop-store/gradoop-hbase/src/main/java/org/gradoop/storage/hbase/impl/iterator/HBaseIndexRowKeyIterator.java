@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.iterator;
+
+import com.google.common.collect.AbstractIterator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Iterator over the element row keys of the secondary index entries with the given prefixes.
+ * The entries of each prefix are read by a prefix scan, which is only opened when the entries of
+ * the previous prefix are consumed. Thus the row keys are streamed to the caller instead of being
+ * collected on the client first.
+ *
+ * Row keys are de-duplicated over all prefixes, since index entries may be outdated and an element
+ * may thus be found by several prefixes, even by prefixes of different labels or values.
+ */
+public class HBaseIndexRowKeyIterator extends AbstractIterator<byte[]> implements Closeable {
+
+  /**
+   * Index table to scan
+   */
+  private final Table indexTable;
+
+  /**
+   * Secondary index handler
+   */
+  private final HBaseIndexHandler indexHandler;
+
+  /**
+   * Index row prefixes to scan
+   */
+  private final Iterator<byte[]> prefixes;
+
+  /**
+   * Number of index rows fetched per request
+   */
+  private final int caching;
+
+  /**
+   * Prefix of the current scan
+   */
+  private byte[] prefix;
+
+  /**
+   * Current scan, null if no scan is open
+   */
+  private ResultScanner scanner;
+
+  /**
+   * Row keys returned so far
+   */
+  private final Set<byte[]> returnedRowKeys = new TreeSet<>(Bytes.BYTES_COMPARATOR);
+
+  /**
+   * Creates a new iterator.
+   *
+   * @param indexTable index table to scan
+   * @param indexHandler secondary index handler
+   * @param prefixes index row prefixes, as created by the index handler
+   * @param caching number of index rows fetched per request
+   */
+  public HBaseIndexRowKeyIterator(
+    Table indexTable,
+    HBaseIndexHandler indexHandler,
+    Collection<byte[]> prefixes,
+    int caching
+  ) {
+    this.indexTable = indexTable;
+    this.indexHandler = indexHandler;
+    this.prefixes = prefixes.iterator();
+    this.caching = caching;
+  }
+
+  @Override
+  protected byte[] computeNext() {
+    try {
+      while (true) {
+        if (scanner != null) {
+          Result result = scanner.next();
+          if (result == null) {
+            scanner.close();
+            scanner = null;
+          } else {
+            byte[] rowKey = indexHandler.readRowKey(result, prefix);
+            if (rowKey != null && returnedRowKeys.add(rowKey)) {
+              return rowKey;
+            }
+          }
+        } else if (prefixes.hasNext()) {
+          prefix = prefixes.next();
+          Scan scan = new Scan();
+          scan.setRowPrefixFilter(prefix);
+          scan.setCaching(caching);
+          scanner = indexTable.getScanner(scan);
+        } else {
+          return endOfData();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (scanner != null) {
+      scanner.close();
+      scanner = null;
+    }
+  }
+}
@@ -15,6 +15,8 @@
  */
 package org.gradoop.storage.hbase.impl.predicate.filter;
 
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.filter.BinaryComparator;
 import org.apache.hadoop.hbase.filter.CompareFilter;
 import org.apache.hadoop.hbase.filter.Filter;
@@ -30,11 +32,13 @@ import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
 import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.storage.hbase.utils.PropertyKeyEncoder;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.regex.Pattern;
 
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_META;
@@ -168,7 +172,7 @@ public class HBaseFilterUtils {
 
     SingleColumnValueFilter valueFilter = new SingleColumnValueFilter(
       CF_PROPERTY_VALUE_BYTES,
-      Bytes.toBytesBinary(key),
+      PropertyKeyEncoder.encode(key),
       compareOp,
       PropertyValueUtils.BytesUtils.getRawBytesWithoutType(value));
 
@@ -177,7 +181,7 @@ public class HBaseFilterUtils {
 
     SingleColumnValueFilter typeFilter = new SingleColumnValueFilter(
       CF_PROPERTY_TYPE_BYTES,
-      Bytes.toBytesBinary(key),
+      PropertyKeyEncoder.encode(key),
       compareOp,
       PropertyValueUtils.BytesUtils.getTypeByte(value));
 
@@ -208,7 +212,7 @@ public class HBaseFilterUtils {
 
     SingleColumnValueFilter valueFilter = new SingleColumnValueFilter(
       CF_PROPERTY_VALUE_BYTES,
-      Bytes.toBytesBinary(key),
+      PropertyKeyEncoder.encode(key),
       compareOp,
       new RegexStringComparator(reg.pattern()));
 
@@ -217,7 +221,7 @@ public class HBaseFilterUtils {
 
     SingleColumnValueFilter typeFilter = new SingleColumnValueFilter(
       CF_PROPERTY_TYPE_BYTES,
-      Bytes.toBytesBinary(key),
+      PropertyKeyEncoder.encode(key),
       compareOp,
       new byte[] {Type.STRING.getTypeByte()});
 
@@ -263,7 +267,7 @@ public class HBaseFilterUtils {
 
     SingleColumnValueFilter valueFilter = new SingleColumnValueFilter(
       CF_PROPERTY_VALUE_BYTES,
-      Bytes.toBytesBinary(key),
+      PropertyKeyEncoder.encode(key),
       compareOp,
       new BinaryComparator(PropertyValueUtils.BytesUtils.getRawBytesWithoutType(min)));
 
@@ -272,7 +276,7 @@ public class HBaseFilterUtils {
 
     SingleColumnValueFilter typeFilter = new SingleColumnValueFilter(
       CF_PROPERTY_TYPE_BYTES,
-      Bytes.toBytesBinary(key),
+      PropertyKeyEncoder.encode(key),
       negate ? CompareFilter.CompareOp.NOT_EQUAL : CompareFilter.CompareOp.EQUAL,
       PropertyValueUtils.BytesUtils.getTypeByte(min));
 
@@ -283,4 +287,76 @@ public class HBaseFilterUtils {
     filterList.addFilter(typeFilter);
     return filterList;
   }
+
+  /**
+   * Restricts the columns read by the given scan to the meta data columns and the columns of the
+   * given property keys. HBase filters only see the columns selected by a scan, thus the property
+   * columns tested by the filter already attached to the scan are selected as well.
+   *
+   * @param scan the HBase scan instance to restrict
+   * @param propertyKeys the property keys to read
+   */
+  public static void attachProjection(@Nonnull Scan scan, @Nonnull Set<String> propertyKeys) {
+    scan.addFamily(CF_META_BYTES);
+    addPropertyColumns(scan::addColumn, propertyKeys, scan.getFilter());
+  }
+
+  /**
+   * Restricts the columns read by the given get to the meta data columns and the columns of the
+   * given property keys, see {@link #attachProjection(Scan, Set)}.
+   *
+   * @param get the HBase get instance to restrict
+   * @param propertyKeys the property keys to read
+   */
+  public static void attachProjection(@Nonnull Get get, @Nonnull Set<String> propertyKeys) {
+    get.addFamily(CF_META_BYTES);
+    addPropertyColumns(get::addColumn, propertyKeys, get.getFilter());
+  }
+
+  /**
+   * Selects the columns of the given property keys and the property columns tested by the given
+   * filter.
+   *
+   * @param addColumn adds a column, given by family and qualifier, to a scan or get
+   * @param propertyKeys the property keys to read
+   * @param filter the attached filter, may be null
+   */
+  private static void addPropertyColumns(BiConsumer<byte[], byte[]> addColumn,
+    Set<String> propertyKeys, Filter filter) {
+    for (String key : propertyKeys) {
+      addPropertyColumns(addColumn, PropertyKeyEncoder.encode(key));
+    }
+    addFilteredPropertyColumns(addColumn, filter);
+  }
+
+  /**
+   * Selects the property columns tested by the given filter and all filters it contains.
+   *
+   * @param addColumn adds a column, given by family and qualifier, to a scan or get
+   * @param filter the filter, may be null
+   */
+  private static void addFilteredPropertyColumns(BiConsumer<byte[], byte[]> addColumn,
+    Filter filter) {
+    if (filter instanceof FilterList) {
+      for (Filter child : ((FilterList) filter).getFilters()) {
+        addFilteredPropertyColumns(addColumn, child);
+      }
+    } else if (filter instanceof SingleColumnValueFilter) {
+      SingleColumnValueFilter columnFilter = (SingleColumnValueFilter) filter;
+      if (!Bytes.equals(CF_META_BYTES, columnFilter.getFamily())) {
+        addPropertyColumns(addColumn, columnFilter.getQualifier());
+      }
+    }
+  }
+
+  /**
+   * Selects the type and value column of a property.
+   *
+   * @param addColumn adds a column, given by family and qualifier, to a scan or get
+   * @param qualifier the property key as column qualifier
+   */
+  private static void addPropertyColumns(BiConsumer<byte[], byte[]> addColumn, byte[] qualifier) {
+    addColumn.accept(CF_PROPERTY_TYPE_BYTES, qualifier);
+    addColumn.accept(CF_PROPERTY_VALUE_BYTES, qualifier);
+  }
 }
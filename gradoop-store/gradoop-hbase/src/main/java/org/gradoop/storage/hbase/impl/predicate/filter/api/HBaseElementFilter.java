@@ -18,12 +18,16 @@ package org.gradoop.storage.hbase.impl.predicate.filter.api;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
 import org.gradoop.storage.hbase.impl.predicate.filter.calculate.And;
 import org.gradoop.storage.hbase.impl.predicate.filter.calculate.Not;
 import org.gradoop.storage.hbase.impl.predicate.filter.calculate.Or;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
 
 /**
  * HBase Element Filter interface to chain predicates
@@ -60,4 +64,30 @@ public interface HBaseElementFilter<T extends Element>
    */
   @Nonnull
   Filter toHBaseFilter(boolean negate);
+
+  /**
+   * Get the labels an element fulfilling this filter may have.
+   *
+   * @return possible element labels, or null if any label is possible
+   */
+  @Nullable
+  default Set<String> getIndexLabels() {
+    return null;
+  }
+
+  /**
+   * Get the row prefixes of the secondary index entries, which cover all elements fulfilling
+   * this filter. The elements of these entries may still violate the filter.
+   *
+   * @param index secondary index handler
+   * @param labels possible labels of the elements, or null if any label is possible
+   * @return index row prefixes, or null if the index can not be used to evaluate this filter
+   */
+  @Nullable
+  default List<byte[]> getIndexPrefixes(
+    @Nonnull HBaseIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    return null;
+  }
 }
@@ -18,12 +18,16 @@ package org.gradoop.storage.hbase.impl.predicate.filter.calculate;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -80,6 +84,45 @@ public final class And<T extends Element> implements HBaseElementFilter<T> {
     return filterList;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getIndexLabels() {
+    // an element fulfilling the conjunction fulfills each predicate
+    return predicates.stream()
+      .map(HBaseElementFilter::getIndexLabels)
+      .filter(Objects::nonNull)
+      .findFirst()
+      .orElse(null);
+  }
+
+  @Nullable
+  @Override
+  public List<byte[]> getIndexPrefixes(
+    @Nonnull HBaseIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    Set<String> knownLabels = labels == null ? getIndexLabels() : labels;
+    // each predicate covers all elements, use the most selective, i.e. longest prefixes
+    List<byte[]> result = null;
+    for (HBaseElementFilter<T> predicate : predicates) {
+      List<byte[]> prefixes = predicate.getIndexPrefixes(index, knownLabels);
+      if (prefixes != null && (result == null || minLength(prefixes) > minLength(result))) {
+        result = prefixes;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the length of the shortest prefix.
+   *
+   * @param prefixes index row prefixes
+   * @return minimum length
+   */
+  private static int minLength(List<byte[]> prefixes) {
+    return prefixes.stream().mapToInt(prefix -> prefix.length).min().orElse(0);
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" AND ");
@@ -18,12 +18,16 @@ package org.gradoop.storage.hbase.impl.predicate.filter.calculate;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -80,6 +84,38 @@ public final class Or<T extends Element> implements HBaseElementFilter<T> {
     return filterList;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getIndexLabels() {
+    Set<String> labels = new HashSet<>();
+    for (HBaseElementFilter<T> predicate : predicates) {
+      Set<String> predicateLabels = predicate.getIndexLabels();
+      if (predicateLabels == null) {
+        return null;
+      }
+      labels.addAll(predicateLabels);
+    }
+    return labels;
+  }
+
+  @Nullable
+  @Override
+  public List<byte[]> getIndexPrefixes(
+    @Nonnull HBaseIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    // the index can only be used, if it covers the elements of each predicate
+    List<byte[]> result = new ArrayList<>();
+    for (HBaseElementFilter<T> predicate : predicates) {
+      List<byte[]> prefixes = predicate.getIndexPrefixes(index, labels);
+      if (prefixes == null) {
+        return null;
+      }
+      result.addAll(prefixes);
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" OR ");
@@ -22,6 +22,7 @@ import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import java.util.Set;
 
 /**
  * HBase label equality predicate implementation
@@ -45,4 +46,10 @@ public class HBaseLabelIn<T extends Element> extends LabelIn<HBaseElementFilter<
   public Filter toHBaseFilter(boolean negate) {
     return HBaseFilterUtils.getLabelInFilter(getLabels(), negate);
   }
+
+  @Nonnull
+  @Override
+  public Set<String> getIndexLabels() {
+    return getLabels();
+  }
 }
@@ -18,10 +18,15 @@ package org.gradoop.storage.hbase.impl.predicate.filter.impl;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.common.predicate.filter.impl.PropEquals;
+import org.gradoop.storage.hbase.impl.handler.HBaseIndexHandler;
 import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * HBase property equality implementation
@@ -46,4 +51,19 @@ public class HBasePropEquals<T extends Element> extends PropEquals<HBaseElementF
   public Filter toHBaseFilter(boolean negate) {
     return HBaseFilterUtils.getPropEqualsFilter(getKey(), getValue(), negate);
   }
+
+  @Nullable
+  @Override
+  public List<byte[]> getIndexPrefixes(
+    @Nonnull HBaseIndexHandler index,
+    @Nullable Set<String> labels
+  ) {
+    // property values are indexed per label
+    if (labels == null || !index.isIndexed(getKey())) {
+      return null;
+    }
+    return labels.stream()
+      .map(label -> index.getPropertyPrefix(label, getKey(), getValue()))
+      .collect(Collectors.toList());
+  }
 }
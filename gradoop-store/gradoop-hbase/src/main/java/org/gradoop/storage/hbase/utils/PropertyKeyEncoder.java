@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.utils;
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Helper class converting property keys to the column qualifiers of the property columns and back.
+ *
+ * Without a global {@link ElementDictionary}, a qualifier is the UTF-8 representation of the key.
+ * If a dictionary is installed, keys contained in it are stored as a zero byte followed by their
+ * 2 byte id, which keeps the qualifier of every property cell short. Other keys are stored as
+ * before, unless they start with a zero byte themselves: those are prefixed by a zero byte and
+ * {@link ElementDictionary#NO_ID}.
+ *
+ * Encoded qualifiers are only meaningful with the dictionary that created them. A store therefore
+ * records the fingerprint of the dictionary in its tables and can only be opened with the same
+ * global dictionary installed (see {@link #checkFingerprint(String)}).
+ */
+public class PropertyKeyEncoder {
+
+  /**
+   * First byte of an encoded qualifier.
+   */
+  private static final byte ENCODED = 0;
+
+  /**
+   * Number of bytes of the prefix of an encoded qualifier.
+   */
+  private static final int PREFIX_SIZE = 1 + Bytes.SIZEOF_SHORT;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private PropertyKeyEncoder() {
+  }
+
+  /**
+   * Returns the column qualifier of a property key.
+   *
+   * @param key property key
+   * @return column qualifier
+   */
+  public static byte[] encode(@Nonnull String key) {
+    byte[] keyBytes = Bytes.toBytes(key);
+    ElementDictionary dictionary = ElementDictionary.getGlobal();
+    if (dictionary == null) {
+      return keyBytes;
+    }
+    int id = dictionary.getId(key);
+    if (id == ElementDictionary.NO_ID && (keyBytes.length == 0 || keyBytes[0] != ENCODED)) {
+      return keyBytes;
+    }
+    byte[] prefix = {ENCODED, (byte) (id >>> Byte.SIZE), (byte) id};
+    return id == ElementDictionary.NO_ID ? Bytes.add(prefix, keyBytes) : prefix;
+  }
+
+  /**
+   * Returns the property key of a column qualifier created by {@link #encode(String)}.
+   *
+   * @param qualifier column qualifier
+   * @return property key
+   */
+  public static String decode(@Nonnull byte[] qualifier) {
+    if (ElementDictionary.getGlobal() == null || qualifier.length < PREFIX_SIZE ||
+      qualifier[0] != ENCODED) {
+      return Bytes.toString(qualifier);
+    }
+    int id = Bytes.toShort(qualifier, 1) & 0xFFFF;
+    return id == ElementDictionary.NO_ID ?
+      Bytes.toString(qualifier, PREFIX_SIZE, qualifier.length - PREFIX_SIZE) :
+      ElementDictionary.resolve(id);
+  }
+
+  /**
+   * Returns the fingerprint of the global dictionary as stored in the table descriptors.
+   *
+   * @return hex fingerprint or {@code null} if no dictionary is installed
+   */
+  public static String getFingerprint() {
+    ElementDictionary dictionary = ElementDictionary.getGlobal();
+    return dictionary == null ? null : Long.toHexString(dictionary.getFingerprint());
+  }
+
+  /**
+   * Checks that the qualifiers of a table can be read and written with the global dictionary.
+   *
+   * @param tableFingerprint fingerprint stored in the table descriptor or {@code null} if the table
+   *                         was created without dictionary
+   * @throws IllegalStateException if the global dictionary is not the one the table was created
+   * with
+   */
+  public static void checkFingerprint(String tableFingerprint) {
+    if (tableFingerprint != null) {
+      ElementDictionary.checkFingerprint(Long.parseUnsignedLong(tableFingerprint, 16));
+    } else if (ElementDictionary.getGlobal() != null) {
+      throw new IllegalStateException(
+        "Table was created without dictionary, but a global dictionary is installed");
+    }
+  }
+}
@@ -16,6 +16,7 @@
 package org.gradoop.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
+import org.apache.hadoop.hbase.client.Durability;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
@@ -30,10 +31,13 @@ import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.util.AsciiGraphLoader;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
+import org.gradoop.storage.hbase.impl.factory.HBaseEPGMStoreFactory;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -144,6 +148,81 @@ public class HBaseEPGMStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Writes graph, vertex and edge data through a small write buffer without write-ahead-log,
+   * sends the buffers to the region servers and reads/validates the data.
+   *
+   * @throws IOException on failure
+   */
+  @Test
+  public void writeBufferedReadTest() throws IOException {
+    String prefix = "buffered.";
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = openEPGMStore(prefix, GradoopHBaseConfig.getDefaultConfig()
+      .setWriteBufferSize(1024)
+      .setDurability(Durability.SKIP_WAL));
+    List<Exception> writeExceptions = new ArrayList<>();
+    graphStore.setWriteExceptionListener((e, mutator) -> writeExceptions.add(e));
+    graphStore.setAutoFlush(false);
+
+    AsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader = getSocialNetworkLoader();
+
+    for (EPGMGraphHead graphHead : loader.getGraphHeads()) {
+      graphStore.writeGraphHead(graphHead);
+    }
+    for (EPGMVertex vertex : loader.getVertices()) {
+      graphStore.writeVertex(vertex);
+    }
+    for (EPGMEdge edge : loader.getEdges()) {
+      graphStore.writeEdge(edge);
+    }
+
+    // send buffered elements
+    graphStore.flushWriteBuffers();
+
+    for (EPGMGraphHead graphHead : loader.getGraphHeads()) {
+      validateGraphHead(graphStore, graphHead);
+    }
+    for (EPGMVertex vertex : loader.getVertices()) {
+      validateVertex(graphStore, vertex);
+    }
+    for (EPGMEdge edge : loader.getEdges()) {
+      validateEdge(graphStore, edge);
+    }
+    assertTrue(writeExceptions.isEmpty());
+
+    graphStore.close();
+  }
+
+  /**
+   * Checks that elements written without a write buffer can be read immediately, without auto
+   * flush or flushing the store.
+   *
+   * @throws IOException on failure
+   */
+  @Test
+  public void writeUnbufferedReadTest() throws IOException {
+    HBaseEPGMStore graphStore = createEmptyEPGMStore("unbuffered.");
+    graphStore.setAutoFlush(false);
+
+    AsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader = getSocialNetworkLoader();
+
+    for (EPGMGraphHead graphHead : loader.getGraphHeads()) {
+      graphStore.writeGraphHead(graphHead);
+      validateGraphHead(graphStore, graphHead);
+    }
+    for (EPGMVertex vertex : loader.getVertices()) {
+      graphStore.writeVertex(vertex);
+      validateVertex(graphStore, vertex);
+    }
+    for (EPGMEdge edge : loader.getEdges()) {
+      graphStore.writeEdge(edge);
+      validateEdge(graphStore, edge);
+    }
+
+    graphStore.close();
+  }
+
   /**
    * Stores social network data, loads it again and checks for element data
    * equality.
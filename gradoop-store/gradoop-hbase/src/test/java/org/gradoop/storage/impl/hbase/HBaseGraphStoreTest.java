@@ -17,10 +17,12 @@ package org.gradoop.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
 import org.gradoop.common.model.api.entities.Identifiable;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
@@ -62,7 +64,7 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
    */
   @BeforeClass
   public static void setUp() throws IOException {
-    epgmStores = new HBaseEPGMStore[3];
+    epgmStores = new HBaseEPGMStore[4];
 
     epgmStores[0] = openEPGMStore("HBaseGraphStoreTest.");
     writeSocialGraphToStore(epgmStores[0]);
@@ -76,6 +78,12 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     spreadingConfig.useSpreadingByte(32);
     epgmStores[2] = openEPGMStore("HBaseGraphStoreSpreadingByteTest.", spreadingConfig);
     writeSocialGraphToStore(epgmStores[2]);
+
+    final GradoopHBaseConfig indexConfig = GradoopHBaseConfig.getDefaultConfig();
+    indexConfig.useSpreadingByte(32);
+    indexConfig.enableSecondaryIndex(PROP_NAME, PROP_INTEREST, PROP_VERTEX_COUNT);
+    epgmStores[3] = openEPGMStore("HBaseGraphStoreSecondaryIndexTest.", indexConfig);
+    writeSocialGraphToStore(epgmStores[3]);
   }
 
   /**
@@ -94,13 +102,14 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
   }
 
   /**
-   * Parameters for tests. 0 => default store config; 1 => pre-split regions; 2 => spreading byte
+   * Parameters for tests. 0 => default store config; 1 => pre-split regions; 2 => spreading byte;
+   * 3 => spreading byte and secondary indexes
    *
    * @return the integer to choose the epgm store to test
    */
   @DataProvider(name = "store index")
   public static Object[][] storeIndexProvider() {
-    return new Object[][] {{0}, {1}, {2}};
+    return new Object[][] {{0}, {1}, {2}, {3}};
   }
 
   /**
@@ -119,6 +128,10 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
       assertTrue(epgmStores[storeIndex].getConfig().getEdgeHandler().isSpreadingByteUsed());
       assertTrue(epgmStores[storeIndex].getConfig().getGraphHeadHandler().isSpreadingByteUsed());
       break;
+    case 3:
+      assertTrue(epgmStores[storeIndex].getConfig().isSecondaryIndexEnabled());
+      assertTrue(epgmStores[storeIndex].getConfig().getIndexHandler().isIndexed(PROP_NAME));
+      break;
     default:
     }
   }
@@ -591,4 +604,73 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     validateElementCollections(vertices, vertexResult);
     validateElementCollections(edges, edgeResult);
   }
+
+  /**
+   * Test the getGraphSpace() method with a disjunction of property predicates on different keys,
+   * which may be fulfilled by the same element
+   *
+   * @throws IOException on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testGetGraphSpaceWithOverlappingPredicates(int storeIndex) throws IOException {
+    PropertyValue vertexCount = PropertyValue.create(3);
+    List<EPGMGraphHead> graphHeads = getSocialGraphHeads()
+      .stream()
+      .filter(g -> g.getLabel().equals("Community"))
+      .filter(g -> g.getPropertyValue(PROP_INTEREST).getString().equals("Hadoop") ||
+        g.getPropertyValue(PROP_VERTEX_COUNT).equals(vertexCount))
+      .collect(Collectors.toList());
+
+    // the community interested in Hadoop has 3 vertices, it must be read once only
+    List<EPGMGraphHead> graphHeadResult = epgmStores[storeIndex].getGraphSpace(
+      Query.elements()
+        .fromAll()
+        .where(HBaseFilters.<EPGMGraphHead>labelIn("Community")
+          .and(HBaseFilters.<EPGMGraphHead>propEquals(PROP_INTEREST, "Hadoop")
+            .or(HBaseFilters.<EPGMGraphHead>propEquals(PROP_VERTEX_COUNT, vertexCount))
+            .or(HBaseFilters.propEquals(PROP_INTEREST, "Hadoop")))))
+      .readRemainsAndClose();
+
+    assertEquals(graphHeads.size(), 2);
+    assertEquals(graphHeadResult.size(), 2);
+    validateElementCollections(graphHeads, graphHeadResult);
+  }
+
+  /**
+   * Test that an element is read once, if the secondary index contains an outdated entry for it
+   * and the query matches both the outdated and the current entry
+   *
+   * @throws IOException on failure
+   */
+  @Test
+  public void testGetVertexSpaceWithOutdatedIndexEntries() throws IOException {
+    final GradoopHBaseConfig indexConfig = GradoopHBaseConfig.getDefaultConfig();
+    indexConfig.enableSecondaryIndex(PROP_NAME);
+    HBaseEPGMStore store = openEPGMStore("HBaseGraphStoreOutdatedIndexTest.", indexConfig);
+    try {
+      EPGMVertex vertex = new EPGMVertex(GradoopId.get(), "Person", Properties.create(),
+        new GradoopIdSet());
+      vertex.setProperty(PROP_NAME, "Alice");
+      store.writeVertex(vertex);
+      store.flush();
+      // the index entry of the old name remains
+      vertex.setProperty(PROP_NAME, "Bob");
+      store.writeVertex(vertex);
+      store.flush();
+
+      List<EPGMVertex> vertexResult = store.getVertexSpace(
+        Query.elements()
+          .fromAll()
+          .where(HBaseFilters.<EPGMVertex>labelIn("Person")
+            .and(HBaseFilters.<EPGMVertex>propEquals(PROP_NAME, "Alice")
+              .or(HBaseFilters.propEquals(PROP_NAME, "Bob")))))
+        .readRemainsAndClose();
+
+      assertEquals(vertexResult.size(), 1);
+      assertEquals(vertexResult.get(0).getPropertyValue(PROP_NAME).getString(), "Bob");
+    } finally {
+      store.dropTables();
+      store.close();
+    }
+  }
 }
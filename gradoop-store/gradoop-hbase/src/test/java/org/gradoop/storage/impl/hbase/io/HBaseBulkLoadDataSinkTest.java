@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
+import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
+import org.gradoop.storage.hbase.impl.io.HBaseBulkLoadDataSink;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import static org.gradoop.common.GradoopTestUtils.validateElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateGraphElementCollections;
+import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.openEPGMStore;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Test class for {@link HBaseBulkLoadDataSink}
+ */
+public class HBaseBulkLoadDataSinkTest extends GradoopFlinkTestBase {
+
+  /**
+   * Parameters for tests. 0 => default store config; 1 => pre-split regions; 2 => spreading byte
+   *
+   * @return the integer to choose the epgm store to test
+   */
+  @DataProvider(name = "store index")
+  public static Object[][] storeIndexProvider() {
+    return new Object[][] {{0}, {1}, {2}};
+  }
+
+  /**
+   * Test writing a graph to HFiles and bulk loading them into the store.
+   *
+   * @param storeIndex index of the store configuration to test
+   * @throws Exception on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testBulkLoad(int storeIndex) throws Exception {
+    GradoopHBaseConfig config = GradoopHBaseConfig.getDefaultConfig();
+    if (storeIndex == 1) {
+      config.enablePreSplitRegions(32);
+    } else if (storeIndex == 2) {
+      config.useSpreadingByte(32);
+    }
+    HBaseEPGMStore store = openEPGMStore("HBaseBulkLoadTest" + storeIndex + ".", config);
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(getConfig());
+    InputStream inputStream = getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+    loader.initDatabaseFromStream(inputStream);
+
+    File stagingDirectory =
+      new File(Files.createTempDirectory("hfiles").toFile(), "staging");
+    HBaseBulkLoadDataSink sink =
+      new HBaseBulkLoadDataSink(store, getConfig(), stagingDirectory.toURI().toString());
+
+    sink.write(getConfig().getGraphCollectionFactory()
+      .fromCollections(loader.getGraphHeads(), loader.getVertices(), loader.getEdges()));
+    getExecutionEnvironment().execute();
+    sink.bulkLoad();
+
+    assertFalse(stagingDirectory.exists());
+
+    validateElementCollections(
+      loader.getGraphHeads(),
+      store.getGraphSpace().readRemainsAndClose());
+    validateElementCollections(
+      loader.getVertices(),
+      store.getVertexSpace().readRemainsAndClose());
+    validateGraphElementCollections(
+      loader.getVertices(),
+      store.getVertexSpace().readRemainsAndClose());
+    validateElementCollections(
+      loader.getEdges(),
+      store.getEdgeSpace().readRemainsAndClose());
+    validateGraphElementCollections(
+      loader.getEdges(),
+      store.getEdgeSpace().readRemainsAndClose());
+
+    store.dropTables();
+    store.close();
+  }
+}
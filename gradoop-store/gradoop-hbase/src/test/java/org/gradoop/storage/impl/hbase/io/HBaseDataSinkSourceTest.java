@@ -28,6 +28,7 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
@@ -500,6 +501,78 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
     validateGraphElementCollections(edges, loadedEdges);
   }
 
+  /**
+   * Test reading vertices from {@link HBaseDataSource} with a property projection, where the
+   * predicate refers to a property that is not projected
+   *
+   * @throws Exception on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testReadWithProjection(int storeIndex) throws Exception {
+    PropertyValue propertyValueCity = PropertyValue.create("Leipzig");
+
+    List<EPGMVertex> vertices = Lists.newArrayList(getSocialVertices())
+      .stream()
+      .filter(v -> v.hasProperty(PROP_CITY))
+      .filter(v -> v.getPropertyValue(PROP_CITY).equals(propertyValueCity))
+      .collect(Collectors.toList());
+
+    HBaseDataSource hBaseDataSource = new HBaseDataSource(epgmStores[storeIndex], getConfig());
+
+    ElementQuery<HBaseElementFilter<EPGMVertex>> query = Query.elements().fromAll()
+      .where(HBaseFilters.propEquals(PROP_CITY, propertyValueCity));
+    hBaseDataSource = hBaseDataSource.applyVertexPredicate(query.withProjection(PROP_NAME));
+
+    List<EPGMVertex> loadedVertices = hBaseDataSource.getGraphCollection().getVertices().collect();
+
+    assertEquals(
+      loadedVertices.stream().map(Identifiable::getId).collect(Collectors.toSet()),
+      vertices.stream().map(Identifiable::getId).collect(Collectors.toSet()));
+    for (EPGMVertex vertex : loadedVertices) {
+      assertTrue(vertex.hasProperty(PROP_NAME));
+      assertEquals(vertex.getPropertyCount(), 1);
+    }
+  }
+
+  /**
+   * Test reading vertices from {@link HBaseDataSource} with a property projection, where a
+   * nested predicate refers to multiple properties that are not projected
+   *
+   * @throws Exception on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testReadWithProjectionAndNestedPredicate(int storeIndex) throws Exception {
+    PropertyValue propertyValueCity = PropertyValue.create("Dresden");
+    PropertyValue propertyValueAge = PropertyValue.create(35);
+
+    List<EPGMVertex> vertices = Lists.newArrayList(getSocialVertices())
+      .stream()
+      .filter(v -> (v.hasProperty(PROP_CITY) &&
+        v.getPropertyValue(PROP_CITY).equals(propertyValueCity)) ||
+        (v.hasProperty(PROP_AGE) && v.getPropertyValue(PROP_AGE).compareTo(propertyValueAge) >= 0))
+      .collect(Collectors.toList());
+
+    HBaseDataSource hBaseDataSource = new HBaseDataSource(epgmStores[storeIndex], getConfig());
+
+    ElementQuery<HBaseElementFilter<EPGMVertex>> query = Query.elements().fromAll()
+      .where(HBaseFilters.<EPGMVertex>propEquals(PROP_CITY, propertyValueCity)
+        .or(HBaseFilters.propLargerThan(PROP_AGE, propertyValueAge, true)));
+    hBaseDataSource = hBaseDataSource.applyVertexPredicate(query.withProjection(PROP_NAME));
+
+    List<EPGMVertex> loadedVertices = hBaseDataSource.getGraphCollection().getVertices().collect();
+
+    assertFalse(vertices.isEmpty());
+    assertEquals(
+      loadedVertices.stream().map(Identifiable::getId).collect(Collectors.toSet()),
+      vertices.stream().map(Identifiable::getId).collect(Collectors.toSet()));
+    for (EPGMVertex vertex : loadedVertices) {
+      assertTrue(vertex.hasProperty(PROP_NAME));
+      assertFalse(vertex.hasProperty(PROP_CITY));
+      assertFalse(vertex.hasProperty(PROP_AGE));
+      assertEquals(vertex.getPropertyCount(), 1);
+    }
+  }
+
   /**
    * Test reading a graph collection from {@link HBaseDataSource}
    * with a {@link HBasePropLargerThan} predicate on each graph element
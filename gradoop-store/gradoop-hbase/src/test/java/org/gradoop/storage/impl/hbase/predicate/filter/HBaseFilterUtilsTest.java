@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.predicate.filter;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
+import org.gradoop.storage.hbase.utils.HBaseFilters;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_META;
+import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_PROPERTY_TYPE;
+import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_PROPERTY_VALUE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for {@link HBaseFilterUtils}
+ */
+public class HBaseFilterUtilsTest {
+
+  /**
+   * Test that a projection selects the property columns tested by a filter, even if the
+   * filtered keys are not projected
+   */
+  @Test
+  public void testAttachProjectionSelectsFilteredColumns() {
+    HBaseElementFilter<EPGMVertex> filter = HBaseFilters.<EPGMVertex>propEquals("city", "Leipzig")
+      .or(HBaseFilters.<EPGMVertex>propLargerThan("age", 30, true)
+        .and(HBaseFilters.labelIn("Person")));
+
+    Scan scan = new Scan();
+    scan.setFilter(filter.toHBaseFilter(false));
+    HBaseFilterUtils.attachProjection(scan, Collections.singleton("name"));
+
+    assertTrue(scan.getFamilyMap().containsKey(Bytes.toBytes(CF_META)));
+    assertNull(scan.getFamilyMap().get(Bytes.toBytes(CF_META)));
+    Set<String> expectedColumns = new TreeSet<>();
+    Collections.addAll(expectedColumns, "age", "city", "name");
+    assertEquals(getColumns(scan.getFamilyMap(), CF_PROPERTY_TYPE), expectedColumns);
+    assertEquals(getColumns(scan.getFamilyMap(), CF_PROPERTY_VALUE), expectedColumns);
+  }
+
+  /**
+   * Test that a projection without filter only selects the projected property columns
+   */
+  @Test
+  public void testAttachProjectionWithoutFilter() {
+    Scan scan = new Scan();
+    HBaseFilterUtils.attachProjection(scan, Collections.singleton("name"));
+
+    assertEquals(getColumns(scan.getFamilyMap(), CF_PROPERTY_TYPE),
+      Collections.singleton("name"));
+    assertEquals(getColumns(scan.getFamilyMap(), CF_PROPERTY_VALUE),
+      Collections.singleton("name"));
+  }
+
+  /**
+   * Test that a projection of a get selects the filtered columns as well
+   */
+  @Test
+  public void testAttachProjectionToGet() {
+    Get get = new Get(Bytes.toBytes("row"));
+    get.setFilter(HBaseFilters.<EPGMVertex>propEquals("city", "Leipzig").toHBaseFilter(false));
+    HBaseFilterUtils.attachProjection(get, Collections.singleton("name"));
+
+    assertTrue(get.getFamilyMap().containsKey(Bytes.toBytes(CF_META)));
+    assertNull(get.getFamilyMap().get(Bytes.toBytes(CF_META)));
+    Set<String> expectedColumns = new TreeSet<>();
+    Collections.addAll(expectedColumns, "city", "name");
+    assertEquals(getColumns(get.getFamilyMap(), CF_PROPERTY_TYPE), expectedColumns);
+    assertEquals(getColumns(get.getFamilyMap(), CF_PROPERTY_VALUE), expectedColumns);
+  }
+
+  /**
+   * Returns the columns a scan or get selects from a column family.
+   *
+   * @param familyMap the selected columns by family
+   * @param family the column family
+   * @return the selected column qualifiers
+   */
+  private static Set<String> getColumns(Map<byte[], NavigableSet<byte[]>> familyMap,
+    String family) {
+    NavigableSet<byte[]> qualifiers = familyMap.get(Bytes.toBytes(family));
+    Set<String> columns = new TreeSet<>();
+    if (qualifiers != null) {
+      qualifiers.forEach(qualifier -> columns.add(Bytes.toString(qualifier)));
+    }
+    return columns;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.utils;
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.dictionary.ElementDictionary;
+import org.gradoop.storage.hbase.utils.PropertyKeyEncoder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for {@link PropertyKeyEncoder}
+ */
+public class PropertyKeyEncoderTest {
+
+  /**
+   * Removes the global dictionary installed by a test.
+   */
+  @AfterMethod
+  public void removeDictionary() {
+    ElementDictionary.setGlobal(null);
+  }
+
+  /**
+   * Test that qualifiers are the plain keys without dictionary
+   */
+  @Test
+  public void testEncodeWithoutDictionary() {
+    assertEquals(PropertyKeyEncoder.encode("name"), Bytes.toBytes("name"));
+    assertEquals(PropertyKeyEncoder.decode(Bytes.toBytes("name")), "name");
+    assertNull(PropertyKeyEncoder.getFingerprint());
+    PropertyKeyEncoder.checkFingerprint(null);
+  }
+
+  /**
+   * Test that keys of the dictionary are encoded as ids and others are kept
+   */
+  @Test
+  public void testEncodeWithDictionary() {
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", "name")));
+
+    byte[] qualifier = PropertyKeyEncoder.encode("name");
+    assertEquals(qualifier.length, 3);
+    assertEquals(PropertyKeyEncoder.decode(qualifier), "name");
+
+    assertEquals(PropertyKeyEncoder.encode("city"), Bytes.toBytes("city"));
+    assertEquals(PropertyKeyEncoder.decode(Bytes.toBytes("city")), "city");
+
+    String escaped = "\0name";
+    assertEquals(PropertyKeyEncoder.encode(escaped).length, 3 + escaped.length());
+    assertEquals(PropertyKeyEncoder.decode(PropertyKeyEncoder.encode(escaped)), escaped);
+  }
+
+  /**
+   * Test that a table can only be opened with the dictionary it was created with
+   */
+  @Test
+  public void testCheckFingerprint() {
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", "name")));
+    String fingerprint = PropertyKeyEncoder.getFingerprint();
+    PropertyKeyEncoder.checkFingerprint(fingerprint);
+
+    ElementDictionary.setGlobal(ElementDictionary.create(Arrays.asList("Person", "city")));
+    expectThrows(IllegalStateException.class,
+      () -> PropertyKeyEncoder.checkFingerprint(fingerprint));
+    expectThrows(IllegalStateException.class,
+      () -> PropertyKeyEncoder.checkFingerprint(null));
+
+    ElementDictionary.setGlobal(null);
+    expectThrows(IllegalStateException.class,
+      () -> PropertyKeyEncoder.checkFingerprint(fingerprint));
+  }
+}
@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 /**
  * Data source with support for filter push-down. A Source
  * extending this interface is able to filter records such
- * that the returned DataSet returns fewer records.
+ * that the returned DataSet returns fewer records. A property
+ * projection set on a query via {@link ElementQuery#withProjection}
+ * is pushed down as well, so only the selected properties are read.
  *
  * @param <GQuery> graph element filter
  * @param <VQuery> vertex element filter
@@ -15,14 +15,22 @@
  */
 package org.gradoop.storage.common.predicate.query;
 
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +40,7 @@ import java.util.stream.Collectors;
  * <ul>
  * <li>id range set (which define the query id range of result element)</li>
  * <li>element filter expression (which define should a result element be return from server)</li>
+ * <li>property projection (which define the property keys a result element is read with)</li>
  * </ul>
  *
  * @see Query#elements()
@@ -49,17 +58,97 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
    */
   private final FilterImpl filter;
 
+  /**
+   * property keys to read, all properties are read if null
+   */
+  private final HashSet<String> projection;
+
   /**
    * element query with range constructor
    * @param range element query range
    * @param filter filter definition
+   * @param projection property keys to read, may be null
    */
   private ElementQuery(
     @Nullable GradoopIdSet range,
-    @Nullable FilterImpl filter
+    @Nullable FilterImpl filter,
+    @Nullable HashSet<String> projection
   ) {
     this.ranges = range;
     this.filter = filter;
+    this.projection = projection;
+  }
+
+  /**
+   * Create a copy of this query, whose result elements are read with the given properties only.
+   * The stores read only the columns of these properties, if possible.
+   *
+   * @param propertyKeys property keys to read
+   * @return element query with property projection
+   */
+  @Nonnull
+  public ElementQuery<FilterImpl> withProjection(@Nonnull String... propertyKeys) {
+    return withProjection(Arrays.asList(propertyKeys));
+  }
+
+  /**
+   * Create a copy of this query, whose result elements are read with the given properties only.
+   * The stores read only the columns of these properties, if possible.
+   *
+   * @param propertyKeys property keys to read
+   * @return element query with property projection
+   */
+  @Nonnull
+  public ElementQuery<FilterImpl> withProjection(@Nonnull Collection<String> propertyKeys) {
+    return new ElementQuery<>(ranges, filter, new HashSet<>(propertyKeys));
+  }
+
+  /**
+   * get property projection
+   *
+   * @return property keys to read, null if all properties are read
+   */
+  @Nullable
+  public Set<String> getPropertyProjection() {
+    return projection == null ? null : Collections.unmodifiableSet(projection);
+  }
+
+  /**
+   * Remove all properties of the given element which are not part of the property projection.
+   * Stores apply this to elements that were read with additional properties, e.g. the ones
+   * needed to evaluate the filter predicate.
+   *
+   * @param element element read by this query
+   * @param <E> element type
+   * @return the given element
+   */
+  @Nonnull
+  public <E extends Element> E applyProjection(@Nonnull E element) {
+    return project(element, projection);
+  }
+
+  /**
+   * Remove all properties of the given element which are not contained in the given keys.
+   *
+   * @param element element to project
+   * @param propertyKeys property keys to keep, all are kept if null
+   * @param <E> element type
+   * @return the given element
+   */
+  @Nonnull
+  public static <E extends Element> E project(@Nonnull E element,
+    @Nullable Set<String> propertyKeys) {
+    Properties properties = element.getProperties();
+    if (propertyKeys != null && properties != null && !properties.isEmpty()) {
+      List<String> removed = new ArrayList<>();
+      for (String key : properties.getKeys()) {
+        if (!propertyKeys.contains(key)) {
+          removed.add(key);
+        }
+      }
+      removed.forEach(properties::remove);
+    }
+    return element;
   }
 
   /**
@@ -84,7 +173,8 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
 
   @Override
   public String toString() {
-    return String.format("QUERY ELEMENT FROM %1$s %2$s",
+    return String.format("QUERY ELEMENT %1$sFROM %2$s %3$s",
+      projection == null ? "" : ("SELECT " + String.join(",", projection) + " "),
       ranges == null ? "ALL" : ranges,
       filter == null ? "" : ("WHERE " + filter));
   }
@@ -167,7 +257,7 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
      */
     @Nonnull
     public <FilterImpl extends ElementFilter> ElementQuery<FilterImpl> noFilter() {
-      return new ElementQuery<>(range, null);
+      return new ElementQuery<>(range, null, null);
     }
 
     /**
@@ -181,7 +271,7 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
     public <FilterImpl extends ElementFilter> ElementQuery<FilterImpl> where(
       @Nonnull FilterImpl filter
     ) {
-      return new ElementQuery<>(range, filter);
+      return new ElementQuery<>(range, filter, null);
     }
 
   }
@@ -15,18 +15,21 @@
  */
 package org.gradoop.temporal.model.impl.pojo;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMElement;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.typeutils.TemporalElementTypeInfoFactory;
 
 import java.util.Objects;
 
 /**
  * Base class for all temporal elements. Contains interval definitions for transaction time and valid time.
  */
+@TypeInfo(TemporalElementTypeInfoFactory.class)
 public abstract class TemporalElement extends EPGMElement implements Element {
 
   /**
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.typeutils.EdgeSerializer;
+import org.gradoop.common.model.impl.typeutils.ElementSerializerSnapshot;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link TemporalEdge} edges. The time intervals are serialized as fixed size
+ * fields.
+ */
+public class TemporalEdgeSerializer extends EdgeSerializer<TemporalEdge> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public TemporalEdge createInstance() {
+    return new TemporalEdge();
+  }
+
+  @Override
+  public TemporalEdge copy(TemporalEdge from, TemporalEdge reuse) {
+    if (from == null) {
+      return null;
+    }
+    super.copy(from, reuse);
+    TemporalFields.copy(from, reuse);
+    return reuse;
+  }
+
+  @Override
+  protected void copyFixedSizeFields(int nullFields, DataInputView source, DataOutputView target)
+    throws IOException {
+    super.copyFixedSizeFields(nullFields, source, target);
+    TemporalFields.copy(source, target);
+  }
+
+  @Override
+  protected void writeFixedSizeFields(TemporalEdge record, int nullFields, DataOutputView target)
+    throws IOException {
+    super.writeFixedSizeFields(record, nullFields, target);
+    TemporalFields.write(record, target);
+  }
+
+  @Override
+  protected void readFixedSizeFields(TemporalEdge reuse, int nullFields, DataInputView source)
+    throws IOException {
+    super.readFixedSizeFields(reuse, nullFields, source);
+    TemporalFields.read(reuse, source);
+  }
+
+  @Override
+  public TypeSerializerSnapshot<TemporalEdge> snapshotConfiguration() {
+    return new TemporalEdgeSerializerSnapshot(this);
+  }
+
+  /**
+   * Serializer configuration snapshot for compatibility and format evolution.
+   */
+  public static final class TemporalEdgeSerializerSnapshot
+    extends ElementSerializerSnapshot<TemporalEdge> {
+
+    /**
+     * Creates a new snapshot.
+     */
+    public TemporalEdgeSerializerSnapshot() {
+      super(TemporalEdgeSerializer::new);
+    }
+
+    /**
+     * Creates a snapshot of the given serializer.
+     *
+     * @param serializer serializer
+     */
+    TemporalEdgeSerializerSnapshot(TemporalEdgeSerializer serializer) {
+      super(TemporalEdgeSerializer::new, serializer);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.typeutils;
+
+import org.gradoop.common.model.impl.typeutils.ElementSerializer;
+import org.gradoop.common.model.impl.typeutils.ElementTypeInfoFactory;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+
+/**
+ * Creates the type information for temporal elements.
+ *
+ * @param <T> temporal element type
+ */
+public class TemporalElementTypeInfoFactory<T extends TemporalElement>
+  extends ElementTypeInfoFactory<T> {
+
+  @Override
+  protected ElementSerializer<?> createSerializer(Class<?> typeClass) {
+    if (typeClass == TemporalVertex.class) {
+      return new TemporalVertexSerializer();
+    } else if (typeClass == TemporalEdge.class) {
+      return new TemporalEdgeSerializer();
+    } else if (typeClass == TemporalGraphHead.class) {
+      return new TemporalGraphHeadSerializer();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.typeutils;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+
+import java.io.IOException;
+
+/**
+ * Serializes the time intervals of temporal elements as fixed size fields of an element
+ * serializer. The timestamps are preceded by a byte marking {@code null} timestamps. Each of the
+ * four timestamps is written as a {@code long}, unless it is {@code null}.
+ */
+final class TemporalFields {
+
+  /**
+   * Flag marking a {@code null} transaction time start.
+   */
+  private static final int NULL_TX_FROM = 1;
+
+  /**
+   * Flag marking a {@code null} transaction time end.
+   */
+  private static final int NULL_TX_TO = 1 << 1;
+
+  /**
+   * Flag marking a {@code null} valid time start.
+   */
+  private static final int NULL_VALID_FROM = 1 << 2;
+
+  /**
+   * Flag marking a {@code null} valid time end.
+   */
+  private static final int NULL_VALID_TO = 1 << 3;
+
+  /**
+   * Number of timestamps per element.
+   */
+  private static final int TIMESTAMPS = 4;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private TemporalFields() {
+  }
+
+  /**
+   * Writes the timestamps of an element.
+   *
+   * @param element temporal element
+   * @param target output view
+   * @throws IOException if writing fails
+   */
+  static void write(TemporalElement element, DataOutputView target) throws IOException {
+    Tuple2<Long, Long> transactionTime = element.getTransactionTime();
+    Tuple2<Long, Long> validTime = element.getValidTime();
+    int nullFields = (transactionTime.f0 == null ? NULL_TX_FROM : 0) |
+      (transactionTime.f1 == null ? NULL_TX_TO : 0) |
+      (validTime.f0 == null ? NULL_VALID_FROM : 0) |
+      (validTime.f1 == null ? NULL_VALID_TO : 0);
+    target.writeByte(nullFields);
+    write(transactionTime.f0, target);
+    write(transactionTime.f1, target);
+    write(validTime.f0, target);
+    write(validTime.f1, target);
+  }
+
+  /**
+   * Reads the timestamps of an element.
+   *
+   * @param reuse temporal element to read into
+   * @param source input view
+   * @throws IOException if reading fails
+   */
+  static void read(TemporalElement reuse, DataInputView source) throws IOException {
+    int nullFields = source.readByte();
+    Tuple2<Long, Long> transactionTime = reuse.getTransactionTime();
+    transactionTime.f0 = read(nullFields, NULL_TX_FROM, source);
+    transactionTime.f1 = read(nullFields, NULL_TX_TO, source);
+    Tuple2<Long, Long> validTime = reuse.getValidTime();
+    validTime.f0 = read(nullFields, NULL_VALID_FROM, source);
+    validTime.f1 = read(nullFields, NULL_VALID_TO, source);
+  }
+
+  /**
+   * Copies the serialized timestamps of an element.
+   *
+   * @param source input view
+   * @param target output view
+   * @throws IOException if reading or writing fails
+   */
+  static void copy(DataInputView source, DataOutputView target) throws IOException {
+    int nullFields = source.readByte();
+    target.writeByte(nullFields);
+    target.write(source, (TIMESTAMPS - Integer.bitCount(nullFields)) * Long.BYTES);
+  }
+
+  /**
+   * Copies the timestamps of an element.
+   *
+   * @param from temporal element to copy from
+   * @param reuse temporal element to copy to
+   */
+  static void copy(TemporalElement from, TemporalElement reuse) {
+    reuse.getTransactionTime().f0 = from.getTransactionTime().f0;
+    reuse.getTransactionTime().f1 = from.getTransactionTime().f1;
+    reuse.getValidTime().f0 = from.getValidTime().f0;
+    reuse.getValidTime().f1 = from.getValidTime().f1;
+  }
+
+  /**
+   * Writes a single timestamp, unless it is {@code null}.
+   *
+   * @param timestamp timestamp or {@code null}
+   * @param target output view
+   * @throws IOException if writing fails
+   */
+  private static void write(Long timestamp, DataOutputView target) throws IOException {
+    if (timestamp != null) {
+      target.writeLong(timestamp);
+    }
+  }
+
+  /**
+   * Reads a single timestamp.
+   *
+   * @param nullFields flags marking {@code null} timestamps
+   * @param flag flag of the timestamp
+   * @param source input view
+   * @return timestamp or {@code null}
+   * @throws IOException if reading fails
+   */
+  private static Long read(int nullFields, int flag, DataInputView source) throws IOException {
+    return (nullFields & flag) == 0 ? source.readLong() : null;
+  }
+}
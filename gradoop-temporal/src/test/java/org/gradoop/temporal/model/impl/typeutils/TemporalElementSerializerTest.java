@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2021 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.typeutils.ElementTypeInfo;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+/**
+ * Tests of the serializers for temporal elements.
+ */
+public class TemporalElementSerializerTest {
+
+  /**
+   * Provides temporal elements with and without time intervals.
+   *
+   * @return temporal elements
+   */
+  @DataProvider
+  public static Object[][] elements() {
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(GradoopId.get());
+    Properties properties = Properties.create();
+    properties.set("key", 42L);
+    return new Object[][] {
+      {new TemporalVertex(GradoopId.get(), "A", properties, graphIds, 1L, 2L)},
+      {new TemporalVertex()},
+      {new TemporalEdge(GradoopId.get(), "e", GradoopId.get(), GradoopId.get(), properties,
+        graphIds, 3L, TemporalElement.DEFAULT_TIME_TO)},
+      {new TemporalEdge()},
+      {new TemporalGraphHead(GradoopId.get(), "G", properties, null, 5L)},
+      {new TemporalGraphHead()}
+    };
+  }
+
+  /**
+   * Test that the dedicated serializers are used for temporal elements.
+   *
+   * @param element temporal element
+   */
+  @Test(dataProvider = "elements")
+  public void testTypeInformation(TemporalElement element) {
+    assertTrue(TypeInformation.of(element.getClass()) instanceof ElementTypeInfo);
+  }
+
+  /**
+   * Test serialization, deserialization and copying of serialized elements.
+   *
+   * @param element temporal element
+   * @throws Exception on failure
+   */
+  @Test(dataProvider = "elements")
+  @SuppressWarnings("unchecked")
+  public void testSerializeAndDeserialize(TemporalElement element) throws Exception {
+    TypeSerializer<TemporalElement> serializer =
+      ((TypeInformation<TemporalElement>) TypeInformation.of(element.getClass()))
+        .createSerializer(new ExecutionConfig());
+
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(element, out);
+    DataInputDeserializer in = new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+    assertEqualElements(element, serializer.deserialize(in));
+    assertEquals(0, in.available());
+
+    in.setBuffer(out.getSharedBuffer(), 0, out.length());
+    DataOutputSerializer copy = new DataOutputSerializer(out.length());
+    serializer.copy(in, copy);
+    assertTrue(Arrays.equals(out.getCopyOfBuffer(), copy.getCopyOfBuffer()));
+
+    assertEqualElements(element, serializer.copy(element));
+  }
+
+  /**
+   * Asserts that two temporal elements contain the same data.
+   *
+   * @param expected expected element
+   * @param actual actual element
+   */
+  private static void assertEqualElements(TemporalElement expected, TemporalElement actual) {
+    assertEquals(expected.getClass(), actual.getClass());
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals(expected.getProperties(), actual.getProperties());
+    assertEquals(expected.getTransactionTime(), actual.getTransactionTime());
+    assertEquals(expected.getValidTime(), actual.getValidTime());
+  }
+}